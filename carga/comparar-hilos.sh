@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Compara el throughput de PersonaController con el pool de workers
+# y con hilos virtuales, con el mismo pool JDBC (quarkus.datasource.jdbc.max-size=16).
+#
+#   mvn package -DskipTests && carga/comparar-hilos.sh
+#
+# Necesita k6 y jq en el PATH. Los resúmenes quedan en target/carga-*.json,
+# los pinnings detectados en target/carga-virtuales.log y una fila por modo
+# se agrega a carga/resultados.md.
+set -euo pipefail
+
+RUNNER=target/quarkus-app/quarkus-run.jar
+VUS=${VUS:-200}
+DURACION=${DURACION:-30s}
+# Segundos máximos esperando a que la aplicación responda
+ESPERA_MAXIMA=${ESPERA_MAXIMA:-60}
+
+correr() {
+    local modo=$1 virtuales=$2
+    java -Dquarkus.virtual-threads.enabled="$virtuales" \
+         -Dquarkus.datasource.jdbc.max-size=16 \
+         -Dquarkus.hibernate-orm.log.sql=false \
+         -jar "$RUNNER" > "target/carga-$modo.log" 2>&1 &
+    local pid=$! intentos=0
+    until curl -sf http://localhost:8080/persona/idpersona/1 > /dev/null; do
+        intentos=$((intentos + 1))
+        if ! kill -0 "$pid" 2> /dev/null || [ "$intentos" -ge "$ESPERA_MAXIMA" ]; then
+            echo "La aplicación ($modo) no arrancó en ${ESPERA_MAXIMA}s, ver target/carga-$modo.log" >&2
+            kill "$pid" 2> /dev/null || true
+            exit 1
+        fi
+        sleep 1
+    done
+
+    k6 run -q -e VUS="$VUS" -e DURACION="$DURACION" \
+        --summary-export "target/carga-$modo.json" carga/persona.js
+    kill "$pid" && wait "$pid" || true
+}
+
+correr workers false
+correr virtuales true
+
+PINNINGS=$(grep -c 'Hilo virtual pinneado' target/carga-virtuales.log || true)
+for modo in workers virtuales; do
+    resumen=target/carga-$modo.json
+    printf '%-10s %s req/s\n' "$modo" "$(jq '.metrics.http_reqs.rate' "$resumen")"
+    printf '| %s | %s | %s | %s | %.0f | %.1f | %.1f | %s |\n' \
+        "$(date +%F)" "$(nproc)" "$modo" "$VUS" \
+        "$(jq '.metrics.http_reqs.rate' "$resumen")" \
+        "$(jq '.metrics.http_req_duration["p(50)"]' "$resumen")" \
+        "$(jq '.metrics.http_req_duration["p(99)"]' "$resumen")" \
+        "$([ "$modo" = virtuales ] && echo "$PINNINGS" || echo -)" >> carga/resultados.md
+done
+echo "pinnings: $PINNINGS"
@@ -0,0 +1,31 @@
+// Prueba de carga de PersonaController (k6: https://k6.io)
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=200 carga/persona.js
+//
+// Mezcla de lecturas y escrituras parecida al tráfico real (~90% lecturas).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    vus: Number(__ENV.VUS || 200),
+    duration: __ENV.DURACION || '30s',
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export default function () {
+    const r = Math.random();
+    if (r < 0.6) {
+        const id = 1 + Math.floor(Math.random() * 10);
+        check(http.get(`${BASE_URL}/persona/idpersona/${id}`), { 'GET id 200': (res) => res.status === 200 });
+    } else if (r < 0.9) {
+        const sexo = Math.random() < 0.5 ? 'M' : 'F';
+        check(http.get(`${BASE_URL}/persona/sexo/${sexo}`), { 'GET sexo 200': (res) => res.status === 200 });
+    } else {
+        const body = JSON.stringify({ nombre: 'Carga', apellido: 'Prueba', edad: 30, sexo: 'F' });
+        check(http.post(`${BASE_URL}/persona`, body, JSON_HEADERS), { 'POST 201': (res) => res.status === 201 });
+    }
+}
@@ -0,0 +1,43 @@
+package org.jpurquilla.benchmark;
+
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos de prueba compartidos por los benchmarks.
+ * Los valores son fijos para que los resultados sean comparables entre corridas.
+ */
+final class Datos {
+    private static final String[] NOMBRES = {"Juan", "María", "Carlos", "Ana", "Roberto", "Laura", "Diego", "Sofía"};
+    private static final String[] APELLIDOS = {"Pérez", "García", "López", "Martínez", "Hernández", "Ramírez"};
+
+    private Datos() {
+    }
+
+    static Persona persona(long id) {
+        int i = (int) id;
+        return new Persona(id,
+                NOMBRES[i % NOMBRES.length],
+                APELLIDOS[i % APELLIDOS.length],
+                i % 2 == 0 ? Sexo.MASCULINO : Sexo.FEMENINO,
+                18 + i % 60);
+    }
+
+    static List<Persona> personas(int cantidad) {
+        List<Persona> personas = new ArrayList<>(cantidad);
+        for (int i = 1; i <= cantidad; i++) {
+            personas.add(persona(i));
+        }
+        return personas;
+    }
+
+    static PersonaRequestDTO request(int i) {
+        Persona persona = persona(i);
+        return new PersonaRequestDTO(persona.getNombre(), persona.getApellido(),
+                persona.getEdad(), persona.getSexo().getCodigo());
+    }
+}
@@ -0,0 +1,111 @@
+package org.jpurquilla.benchmark;
+
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.framework.adapters.output.columnar.TablaPersonas;
+import org.jpurquilla.framework.adapters.output.persistence.PersonaJpaEntity;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Memoria retenida por N personas en cada representación (no es un benchmark JMH).
+ *
+ * - List<PersonaJpaEntity>: lo que retiene el adaptador JPA al leer la tabla
+ *   (sin contar el snapshot de dirty-checking ni el contexto de persistencia)
+ * - List<Persona>: el dominio, con un Long, un Integer y dos String por fila
+ * - TablaPersonas: las columnas de ColumnarPersonaRepository
+ *
+ * Los textos se crean por fila (como los devuelve JDBC), no se comparten literales.
+ *
+ * Uso (después de mvn -Pjmh test-compile):
+ *   mvn -Pjmh dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.jpurquilla.benchmark.HuellaMemoria [filas]
+ */
+public final class HuellaMemoria {
+    private static final String[] NOMBRES = {"Juan", "María", "Carlos", "Ana", "Roberto", "Laura", "Diego", "Sofía"};
+    private static final String[] APELLIDOS = {"Pérez", "García", "López", "Martínez", "Hernández", "Ramírez"};
+    private static final Instant MODIFICADO = Instant.parse("2024-05-01T10:15:30.123456Z");
+
+    private HuellaMemoria() {
+    }
+
+    public static void main(String[] args) {
+        int filas = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        medir("List<PersonaJpaEntity>", filas, () -> lista(filas, HuellaMemoria::entidad));
+        medir("List<Persona>", filas, () -> lista(filas, HuellaMemoria::persona));
+        medir("TablaPersonas", filas, () -> {
+            TablaPersonas tabla = new TablaPersonas();
+            tabla.cargar(vistas(filas));
+            return tabla;
+        });
+    }
+
+    private static void medir(String nombre, int filas, Supplier<Object> crear) {
+        long antes = usado();
+        Object retenido = crear.get();
+        long despues = usado();
+        long bytes = despues - antes;
+        System.out.printf("%-24s %,12d bytes  %6.1f MB/millón  %6.1f B/fila%n", nombre, bytes,
+                bytes * (1_000_000.0 / filas) / (1024 * 1024), (double) bytes / filas);
+        // Sin esto el JIT puede dar por muerto a "retenido" antes de la segunda medición
+        Reference.reachabilityFence(retenido);
+    }
+
+    private static long usado() {
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return memoria.getHeapMemoryUsage().getUsed();
+    }
+
+    private static <T> List<T> lista(int filas, IntFunction<T> crear) {
+        List<T> lista = new ArrayList<>(filas);
+        for (int i = 1; i <= filas; i++) {
+            lista.add(crear.apply(i));
+        }
+        return lista;
+    }
+
+    private static PersonaJpaEntity entidad(int i) {
+        return new PersonaJpaEntity((long) i, new String(NOMBRES[i % NOMBRES.length]),
+                new String(APELLIDOS[i % APELLIDOS.length]), 18 + i % 60, i % 2 == 0 ? "M" : "F",
+                1L, MODIFICADO.plusMillis(i));
+    }
+
+    private static Persona persona(int i) {
+        Persona persona = Datos.persona(i);
+        persona.setNombre(new String(persona.getNombre()));
+        persona.setApellido(new String(persona.getApellido()));
+        persona.setVersion(1L);
+        persona.setModificado(MODIFICADO.plusMillis(i));
+        return persona;
+    }
+
+    private static Iterator<PersonaVista> vistas(int filas) {
+        return new Iterator<>() {
+            private int i = 1;
+
+            @Override
+            public boolean hasNext() {
+                return i <= filas;
+            }
+
+            @Override
+            public PersonaVista next() {
+                PersonaJpaEntity entidad = entidad(i++);
+                return new PersonaVista(entidad.getId(), entidad.getNombre(), entidad.getApellido(),
+                        entidad.getEdad(), entidad.getSexo(), entidad.getVersion(), entidad.getModificado());
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package org.jpurquilla.benchmark;
+
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
+import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
+import org.jpurquilla.framework.adapters.input.mapper.PersonaInputMapper;
+import org.jpurquilla.framework.adapters.output.mapper.PersonaOutputMapper;
+import org.jpurquilla.framework.adapters.output.persistence.PersonaJpaEntity;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de cada conversión del flujo DTO ↔ Dominio ↔ JPA (MapStruct).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeoBenchmark {
+    private PersonaInputMapper personaInputMapper;
+    private PersonaOutputMapper personaOutputMapper;
+    private PersonaRequestDTO request;
+    private Persona persona;
+    private PersonaJpaEntity jpaEntity;
+
+    @Setup
+    public void setup() {
+        personaInputMapper = Mappers.getMapper(PersonaInputMapper.class);
+        personaOutputMapper = Mappers.getMapper(PersonaOutputMapper.class);
+        request = Datos.request(1);
+        persona = Datos.persona(1);
+        jpaEntity = personaOutputMapper.toJpaEntity(persona);
+    }
+
+    @Benchmark
+    public Persona requestADominio() {
+        return personaInputMapper.toPersonaDomain(request);
+    }
+
+    @Benchmark
+    public PersonaResponseDTO dominioAResponse() {
+        return personaInputMapper.toDtoResponse(persona);
+    }
+
+    @Benchmark
+    public PersonaJpaEntity dominioAJpa() {
+        return personaOutputMapper.toJpaEntity(persona);
+    }
+
+    @Benchmark
+    public Persona jpaADominio() {
+        return personaOutputMapper.toDomain(jpaEntity);
+    }
+
+    /**
+     * Ida y vuelta completa de una lectura: JPA → Dominio → DTO.
+     */
+    @Benchmark
+    public PersonaResponseDTO jpaAResponse() {
+        return personaInputMapper.toDtoResponse(personaOutputMapper.toDomain(jpaEntity));
+    }
+}
@@ -0,0 +1,81 @@
+package org.jpurquilla.benchmark;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import org.jpurquilla.application.port.output.PersonaActualizada;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+import org.jpurquilla.framework.adapters.output.persistence.PersonaRepositoryAdapter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CRUD de PersonaRepositoryAdapter contra H2 embebida.
+ *
+ * Necesita el contenedor de Quarkus levantado (Panache se enriquece al
+ * compilar la app), por eso NO se corre con forks: lo lanza
+ * PersonaRepositoryAdapterBenchmarkTest dentro de un @QuarkusTest.
+ * Cada operación abre su propia transacción, como lo hace el controller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PersonaRepositoryAdapterBenchmark {
+    private static final int FILAS = 1000;
+
+    private PersonaRepositoryAdapter repositorio;
+    private long idExistente;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        repositorio = Arc.container().instance(PersonaRepositoryAdapter.class).get();
+        List<Persona> guardadas = QuarkusTransaction.requiringNew()
+                .call(() -> repositorio.saveAll(Datos.personas(FILAS).stream()
+                        .peek(persona -> persona.setId(null))
+                        .toList()));
+        idExistente = guardadas.get(guardadas.size() / 2).getId();
+    }
+
+    @Benchmark
+    public Optional<Persona> findById() {
+        return QuarkusTransaction.requiringNew().call(() -> repositorio.findById(idExistente));
+    }
+
+    @Benchmark
+    public List<Persona> findBySexo() {
+        return QuarkusTransaction.requiringNew().call(() -> repositorio.findBySexo(Sexo.FEMENINO));
+    }
+
+    @Benchmark
+    public List<Persona> findPage() {
+        return QuarkusTransaction.requiringNew().call(() -> repositorio.findPage(idExistente, 100));
+    }
+
+    @Benchmark
+    public Optional<PersonaActualizada> update() {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            Persona persona = Datos.persona(idExistente);
+            persona.setEdad((int) (System.nanoTime() % 100));
+            return repositorio.update(persona);
+        });
+    }
+
+    /**
+     * Alta y baja en la misma medición para que la tabla no crezca.
+     */
+    @Benchmark
+    public Optional<PersonaVista> saveYDeleteById() {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            Persona persona = Datos.persona(1);
+            persona.setId(null);
+            Persona guardada = repositorio.save(persona);
+            return repositorio.deleteById(guardada.getId());
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package org.jpurquilla.benchmark;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Lanza PersonaRepositoryAdapterBenchmark dentro de la JVM de Quarkus.
+ *
+ * forks(0): el benchmark usa el contenedor CDI y la H2 de esta JVM.
+ * Solo se compila y corre con el perfil jmh (mvn -Pjmh test).
+ */
+@QuarkusTest
+class PersonaRepositoryAdapterBenchmarkTest {
+
+    @Test
+    void repositorio() throws RunnerException {
+        Options opciones = new OptionsBuilder()
+                .include(PersonaRepositoryAdapterBenchmark.class.getSimpleName())
+                .forks(0)
+                .addProfiler("gc")
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-repositorio.json")
+                .build();
+        new Runner(opciones).run();
+    }
+}
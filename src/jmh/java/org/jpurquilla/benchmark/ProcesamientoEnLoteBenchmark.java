@@ -0,0 +1,70 @@
+package org.jpurquilla.benchmark;
+
+import org.jpurquilla.application.service.ProcesadorEnLote;
+import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
+import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
+import org.jpurquilla.framework.adapters.input.mapper.PersonaInputMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProcesadorEnLote: request → Persona, erroresDeValidacion() y Persona → response
+ * sobre un lote completo, con 1, 2, 4 y 8 hilos de ForkJoinPool.
+ *
+ * hilos=0 es la referencia: el mismo trabajo en el hilo del benchmark, sin
+ * pool (umbral mayor que el lote). hilos=1 pasa por un pool propio de un
+ * hilo (el atajo "sin con quién repartir" es solo para el commonPool): contra
+ * hilos=0 se ve cuánto cuesta repartir; contra 2, 4 y 8, cuánto escala con
+ * los núcleos. Un elemento de cada 10 es inválido (dos errores).
+ *
+ * El escalado solo se ve con al menos tantos núcleos como hilos: los números
+ * de src/jmh/baseline son de 1 vCPU y no lo miden.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcesamientoEnLoteBenchmark {
+    @Param({"0", "1", "2", "4", "8"})
+    private int hilos;
+
+    @Param({"100000"})
+    private int cantidad;
+
+    private PersonaInputMapper personaInputMapper;
+    private ProcesadorEnLote procesador;
+    private List<PersonaRequestDTO> requests;
+
+    @Setup
+    public void setup() {
+        personaInputMapper = Mappers.getMapper(PersonaInputMapper.class);
+        procesador = hilos == 0
+                ? new ProcesadorEnLote(0, Integer.MAX_VALUE)
+                : new ProcesadorEnLote(hilos, 1024);
+        requests = new ArrayList<>(cantidad);
+        for (int i = 1; i <= cantidad; i++) {
+            PersonaRequestDTO request = Datos.request(i);
+            if (i % 10 == 0) {
+                request.setNombre("J");
+                request.setEdad(200);
+            }
+            requests.add(request);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        procesador.cerrar();
+    }
+
+    @Benchmark
+    public List<ProcesadorEnLote.Resultado<PersonaResponseDTO>> validarYMapear() {
+        return procesador.validar(requests, personaInputMapper::toPersonaDomain, personaInputMapper::toDtoResponse);
+    }
+}
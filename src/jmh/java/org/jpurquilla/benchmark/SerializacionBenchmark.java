@@ -0,0 +1,105 @@
+package org.jpurquilla.benchmark;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.core.MediaType;
+import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
+import org.jpurquilla.framework.adapters.input.json.PersonaJsonWriter;
+import org.jpurquilla.framework.adapters.input.json.SerializadorJson;
+import org.jpurquilla.framework.adapters.input.mapper.PersonaInputMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de la respuesta de GET /persona y GET /persona/sexo/{sexo}.
+ *
+ * - listaAJson: JSON-B (Yasson, el proveedor de quarkus-rest-jsonb) a String
+ * - jsonbASalida / directoASalida: JSON-B contra PersonaJsonWriter (persona.json.serializador=directo),
+ *   ambos escribiendo a un OutputStream como en una respuesta REST.
+ *   Se miden en ops/s; el contador "bytes" da los bytes/s y -prof gc las asignaciones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacionBenchmark {
+    private static final Annotation[] SIN_ANOTACIONES = new Annotation[0];
+
+    @Param({"10", "1000"})
+    private int cantidad;
+
+    private Jsonb jsonb;
+    private List<PersonaResponseDTO> respuesta;
+    private PersonaJsonWriter personaJsonWriter;
+    private ByteArrayOutputStream salida;
+
+    /**
+     * Bytes escritos por iteración (JMH los reporta como bytes/s).
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reiniciar() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        PersonaInputMapper personaInputMapper = Mappers.getMapper(PersonaInputMapper.class);
+        jsonb = JsonbBuilder.create();
+        Instant modificado = Instant.parse("2025-01-01T12:00:00Z");
+        respuesta = Datos.personas(cantidad).stream()
+                .map(personaInputMapper::toDtoResponse)
+                .peek(dto -> {
+                    dto.setVersion(0L);
+                    dto.setModificado(modificado);
+                })
+                .toList();
+        personaJsonWriter = new PersonaJsonWriter(new SerializadorJson(jsonb, SerializadorJson.Modo.DIRECTO));
+        salida = new ByteArrayOutputStream(cantidad * 160);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        jsonb.close();
+    }
+
+    @Benchmark
+    public String listaAJson() {
+        return jsonb.toJson(respuesta);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int jsonbASalida(Bytes bytes) {
+        salida.reset();
+        jsonb.toJson(respuesta, salida);
+        bytes.bytes += salida.size();
+        return salida.size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int directoASalida(Bytes bytes) throws IOException {
+        salida.reset();
+        personaJsonWriter.writeTo(respuesta, List.class, List.class, SIN_ANOTACIONES,
+                MediaType.APPLICATION_JSON_TYPE, null, salida);
+        bytes.bytes += salida.size();
+        return salida.size();
+    }
+}
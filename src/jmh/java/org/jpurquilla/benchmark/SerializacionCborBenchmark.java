@@ -0,0 +1,146 @@
+package org.jpurquilla.benchmark;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.core.MediaType;
+import org.jpurquilla.framework.adapters.input.cbor.Cbor;
+import org.jpurquilla.framework.adapters.input.cbor.LectorCbor;
+import org.jpurquilla.framework.adapters.input.cbor.PersonaCborWriter;
+import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
+import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
+import org.jpurquilla.framework.adapters.input.json.PersonaJsonWriter;
+import org.jpurquilla.framework.adapters.input.json.SerializadorJson;
+import org.jpurquilla.framework.adapters.input.mapper.PersonaInputMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON contra CBOR (Accept / Content-Type: application/cbor).
+ *
+ * - jsonALista / cborALista: codificar la respuesta de GET /persona
+ *   (PersonaJsonWriter en modo directo contra PersonaCborWriter)
+ * - jsonAPersona / cborAPersona: decodificar el cuerpo de POST /persona
+ *   (Yasson contra LectorCbor)
+ *
+ * En ops/s; el contador "bytes" da bytes/s, así que bytes ÷ ops es el
+ * tamaño del payload de cada formato.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacionCborBenchmark {
+    private static final Annotation[] SIN_ANOTACIONES = new Annotation[0];
+
+    @Param({"10", "1000"})
+    private int cantidad;
+
+    private Jsonb jsonb;
+    private List<PersonaResponseDTO> respuesta;
+    private PersonaJsonWriter personaJsonWriter;
+    private PersonaCborWriter personaCborWriter;
+    private ByteArrayOutputStream salida;
+    private byte[] requestJson;
+    private byte[] requestCbor;
+
+    /**
+     * Bytes escritos o leídos por iteración (JMH los reporta como bytes/s).
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reiniciar() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        PersonaInputMapper personaInputMapper = Mappers.getMapper(PersonaInputMapper.class);
+        jsonb = JsonbBuilder.create();
+        Instant modificado = Instant.parse("2025-01-01T12:00:00Z");
+        respuesta = Datos.personas(cantidad).stream()
+                .map(personaInputMapper::toDtoResponse)
+                .peek(dto -> {
+                    dto.setVersion(0L);
+                    dto.setModificado(modificado);
+                })
+                .toList();
+        personaJsonWriter = new PersonaJsonWriter(new SerializadorJson(jsonb, SerializadorJson.Modo.DIRECTO));
+        personaCborWriter = new PersonaCborWriter();
+        salida = new ByteArrayOutputStream(cantidad * 160);
+
+        // El mismo request en los dos formatos (CBOR escrito a mano: mapa de 4 claves)
+        PersonaRequestDTO request = Datos.request(1);
+        requestJson = jsonb.toJson(request).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream cbor = new ByteArrayOutputStream();
+        cbor.write(0xa4);
+        textoCbor(cbor, "apellido");
+        textoCbor(cbor, request.getApellido());
+        textoCbor(cbor, "edad");
+        cbor.write(request.getEdad() < 24 ? request.getEdad() : 0x18);
+        if (request.getEdad() >= 24) {
+            cbor.write(request.getEdad());
+        }
+        textoCbor(cbor, "nombre");
+        textoCbor(cbor, request.getNombre());
+        textoCbor(cbor, "sexo");
+        textoCbor(cbor, request.getSexo());
+        requestCbor = cbor.toByteArray();
+    }
+
+    private static void textoCbor(ByteArrayOutputStream cbor, String texto) throws IOException {
+        byte[] utf8 = texto.getBytes(StandardCharsets.UTF_8);
+        cbor.write(0x60 | utf8.length);
+        cbor.write(utf8);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        jsonb.close();
+    }
+
+    @Benchmark
+    public int jsonALista(Bytes bytes) throws IOException {
+        salida.reset();
+        personaJsonWriter.writeTo(respuesta, List.class, List.class, SIN_ANOTACIONES,
+                MediaType.APPLICATION_JSON_TYPE, null, salida);
+        bytes.bytes += salida.size();
+        return salida.size();
+    }
+
+    @Benchmark
+    public int cborALista(Bytes bytes) throws IOException {
+        salida.reset();
+        personaCborWriter.writeTo(respuesta, List.class, List.class, SIN_ANOTACIONES,
+                Cbor.APPLICATION_CBOR_TYPE, null, salida);
+        bytes.bytes += salida.size();
+        return salida.size();
+    }
+
+    @Benchmark
+    public PersonaRequestDTO jsonAPersona(Bytes bytes) {
+        bytes.bytes += requestJson.length;
+        return jsonb.fromJson(new ByteArrayInputStream(requestJson), PersonaRequestDTO.class);
+    }
+
+    @Benchmark
+    public PersonaRequestDTO cborAPersona(Bytes bytes) throws IOException {
+        bytes.bytes += requestCbor.length;
+        return new LectorCbor(new ByteArrayInputStream(requestCbor)).leerPersona();
+    }
+}
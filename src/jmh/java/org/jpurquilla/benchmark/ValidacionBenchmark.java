@@ -0,0 +1,65 @@
+package org.jpurquilla.benchmark;
+
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.exceptions.PersonaValidationException;
+import org.jpurquilla.domain.vo.ErrorValidacion;
+import org.jpurquilla.domain.vo.Sexo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reglas de dominio: Persona.validar(), Persona.erroresDeValidacion() y Sexo.fromCodigo().
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidacionBenchmark {
+    private Persona valida;
+    private Persona invalida;
+    private String codigo;
+
+    @Setup
+    public void setup() {
+        valida = Datos.persona(1);
+        invalida = Datos.persona(2);
+        invalida.setEdad(200);
+        codigo = " f ";
+    }
+
+    @Benchmark
+    public Persona validarPersonaValida() {
+        valida.validar();
+        return valida;
+    }
+
+    /**
+     * Camino de error: incluye crear la excepción (y su stack trace).
+     */
+    @Benchmark
+    public PersonaValidationException validarPersonaInvalida() {
+        try {
+            invalida.validar();
+            return null;
+        } catch (PersonaValidationException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Mismo caso inválido sin excepción: la lista de errores (ProcesadorEnLote).
+     */
+    @Benchmark
+    public List<ErrorValidacion> erroresPersonaInvalida() {
+        return invalida.erroresDeValidacion();
+    }
+
+    @Benchmark
+    public Sexo sexoFromCodigo() {
+        return Sexo.fromCodigo(codigo);
+    }
+}
@@ -1,10 +1,16 @@
 package org.jpurquilla.application.port.input;
 
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.application.port.output.VersionColeccion;
 import org.jpurquilla.domain.entity.Persona;
 import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
 import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * PUERTO DE ENTRADA: PersonaInputPort
@@ -38,43 +44,129 @@ public interface PersonaInputPort {
     Persona crear(Persona persona);
 
     /**
-     * Caso de Uso 2: Buscar una Persona por ID
+     * Caso de Uso 1b: Crear varias Personas
      *
-     * @param id el identificador de la persona
-     * @return la persona si existe
-     * @throws PersonaNotFoundException si no existe
+     * Valida cada persona y guarda las válidas en lote.
+     * Una persona inválida no impide que se guarden las demás.
+     *
+     * @param personas las personas de dominio a crear
+     * @return un resultado por persona (creada con ID o rechazada con motivo),
+     *         en el mismo orden que la entrada
      */
-    Persona buscarPorId(Long id);
+    List<ResultadoCreacion> crearEnLote(List<Persona> personas);
 
     /**
      * Caso de Uso 3: Actualizar una Persona
      *
      * @param id el identificador de la persona a actualizar
      * @param datosNuevos la persona con los datos nuevos
-     *                     (ya mapeada desde DTO)
+     *                     (ya mapeada desde DTO; con versión si el cliente envió If-Match)
      * @return la persona actualizada
      * @throws PersonaNotFoundException si no existe
      * @throws PersonaValidationException si los datos son inválidos
+     * @throws PersonaVersionConflictException si la persona ya no está en la versión indicada
      */
     Persona actualizar(Long id, Persona datosNuevos);
 
     /**
-     * Caso de Uso 4: Obtener todas las Personas
+     * Caso de Uso 5b: Buscar Personas con filtros combinados
+     *
+     * @param filtro prefijos de nombre/apellido, rango de edad, sexo, orden y límite
+     * @return las personas que cumplen todos los filtros
+     * @throws PersonaValidationException si el rango de edad es inválido
+     */
+    List<Persona> buscar(FiltroPersona filtro);
+
+    /**
+     * Casos de Uso 2, 4 y 5: consultas de solo lectura (por ID, páginas, todas, por sexo)
+     *
+     * Devuelven PersonaVista, que ya tiene la forma de la respuesta:
+     * no pasan por Persona ni por la entity JPA.
+     *
+     * @param id el identificador de la persona
+     * @return la vista de la persona si existe
+     * @throws PersonaNotFoundException si no existe
+     */
+    PersonaVista consultarPorId(Long id);
+
+    /**
+     * Igual que consultarPorId() para varios IDs a la vez, con una consulta
+     * "IN (...)" en vez de una por ID. Sirve de base para agrupar en lotes
+     * las búsquedas individuales (estilo DataLoader).
+     *
+     * @param ids los identificadores (puede haber repetidos)
+     * @return un resultado por ID, en el mismo orden; los que no existen
+     *         vienen como no encontrados (sin excepción)
+     */
+    List<ResultadoBusqueda> consultarPorIds(List<Long> ids);
+
+    /**
+     * @param despuesDeId el cursor: último ID recibido (null = primera página)
+     * @param limite el tamaño máximo de la página
+     * @return las vistas con ID mayor al cursor, ordenadas por ID
+     */
+    List<PersonaVista> consultarPagina(Long despuesDeId, int limite);
+
+    /**
+     * El stream debe consumirse dentro de una transacción y cerrarse.
      *
-     * @return lista de todas las personas
+     * @return stream de todas las vistas
      */
-    List<Persona> obtenerTodas();
+    Stream<PersonaVista> consultarTodasEnStream();
 
     /**
-     * Caso de Uso 5: Buscar Personas por Sexo
+     * @param sexoString "M" o "F"
+     * @return lista de vistas con ese sexo
+     */
+    List<PersonaVista> consultarPorSexo(String sexoString);
+
+    /**
+     * Autocompletado: personas cuyo nombre o apellido contiene las palabras
+     * del texto (al inicio o dentro de una palabra), las más relevantes primero.
      *
-     * Este método sigue recibiendo String porque es un PARÁMETRO DE FILTRO,
-     * no un objeto completo. Es diferente a crear/actualizar.
+     * @param texto lo que escribió el usuario
+     * @param limite el máximo de personas a devolver
+     * @return lista de vistas ordenada por relevancia
+     * @throws PersonaValidationException si el texto está vacío
+     */
+    List<PersonaVista> consultarPorNombre(String texto, int limite);
+
+    /**
+     * Versión de la colección de todas las personas (para su ETag)
+     *
+     * @return la versión, sin traer las filas
+     */
+    VersionColeccion versionDeTodas();
+
+    /**
+     * Versión de la colección de personas de un sexo
      *
      * @param sexoString "M" o "F"
-     * @return lista de personas con ese sexo
+     * @return la versión, sin traer las filas
+     */
+    VersionColeccion versionPorSexo(String sexoString);
+
+    /**
+     * Caso de Uso 7: Totales demográficos
+     *
+     * Total, cantidad por sexo, por rango de edad y edad promedio.
+     * Se leen de contadores mantenidos en cada escritura: no recorre la tabla.
+     *
+     * @return los totales de todas las personas
+     */
+    EstadisticasPersonas obtenerEstadisticas();
+
+    /**
+     * Caso de Uso 8: Leer cambios (creadas, actualizadas, eliminadas)
+     *
+     * Para consumidores que reconstruyen su estado de forma incremental:
+     * guardan el último offset procesado y piden los siguientes.
+     *
+     * @param despuesDeOffset el último offset ya procesado (0 = desde el inicio)
+     * @param limite el máximo de eventos a devolver
+     * @return los eventos siguientes, ordenados por offset
      */
-    List<Persona> buscarPorSexo(String sexoString);
+    List<EventoPersona> obtenerEventos(long despuesDeOffset, int limite);
 
     /**
      * Caso de Uso 6: Eliminar una Persona por ID
@@ -83,7 +175,9 @@ public interface PersonaInputPort {
      * no un objeto completo.
      *
      * @param id el identificador de la persona a eliminar
+     * @param versionEsperada la versión que leyó el cliente (null = sin condición)
      * @throws PersonaNotFoundException si no existe
+     * @throws PersonaVersionConflictException si la persona ya no está en esa versión
      */
-    void eliminar(Long id);
+    void eliminar(Long id, Long versionEsperada);
 }
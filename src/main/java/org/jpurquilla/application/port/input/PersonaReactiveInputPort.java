@@ -0,0 +1,53 @@
+package org.jpurquilla.application.port.input;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.jpurquilla.domain.entity.Persona;
+
+/**
+ * PUERTO DE ENTRADA (no bloqueante): PersonaReactiveInputPort
+ *
+ * Los mismos 6 casos de uso de PersonaInputPort, en versión Uni/Multi.
+ * Los errores de dominio (PersonaValidationException, PersonaNotFoundException)
+ * llegan como fallo del Uni en lugar de lanzarse.
+ *
+ * ¿Quién la implementa?
+ * - PersonaReactiveService en application/service/
+ */
+public interface PersonaReactiveInputPort {
+    /**
+     * @param persona la persona de dominio completa
+     * @return la persona guardada con ID asignado
+     */
+    Uni<Persona> crear(Persona persona);
+
+    /**
+     * @param id el identificador de la persona
+     * @return la persona (falla con PersonaNotFoundException si no existe)
+     */
+    Uni<Persona> buscarPorId(Long id);
+
+    /**
+     * @param id el identificador de la persona a actualizar
+     * @param datosNuevos la persona con los datos nuevos
+     * @return la persona actualizada
+     */
+    Uni<Persona> actualizar(Long id, Persona datosNuevos);
+
+    /**
+     * @return todas las personas
+     */
+    Multi<Persona> obtenerTodas();
+
+    /**
+     * @param sexoString "M" o "F"
+     * @return las personas con ese sexo
+     */
+    Multi<Persona> buscarPorSexo(String sexoString);
+
+    /**
+     * @param id el identificador de la persona a eliminar
+     * @return completa vacío (falla con PersonaNotFoundException si no existe)
+     */
+    Uni<Void> eliminar(Long id);
+}
@@ -0,0 +1,17 @@
+package org.jpurquilla.application.port.input;
+
+import org.jpurquilla.application.port.output.PersonaVista;
+
+/**
+ * Resultado por ID de una búsqueda de varias personas.
+ *
+ * Cada ID pedido tiene su resultado, en el mismo orden: ENCONTRADA
+ * (con la vista) o NO ENCONTRADA (persona = null). Un ID que no existe
+ * no es un error de la búsqueda completa.
+ */
+public record ResultadoBusqueda(Long id, PersonaVista persona) {
+
+    public boolean isEncontrada() {
+        return persona != null;
+    }
+}
@@ -0,0 +1,52 @@
+package org.jpurquilla.application.port.input;
+
+import org.jpurquilla.domain.entity.Persona;
+
+/**
+ * Resultado por elemento de un alta masiva.
+ *
+ * Cada elemento del lote termina CREADO (con la persona y su ID)
+ * o RECHAZADO (con el motivo). Un elemento inválido no detiene el lote.
+ */
+public class ResultadoCreacion {
+    private final int indice;
+    private final Persona persona;
+    private final String error;
+
+    private ResultadoCreacion(int indice, Persona persona, String error) {
+        this.indice = indice;
+        this.persona = persona;
+        this.error = error;
+    }
+
+    public static ResultadoCreacion creada(int indice, Persona persona) {
+        return new ResultadoCreacion(indice, persona, null);
+    }
+
+    public static ResultadoCreacion rechazada(int indice, String error) {
+        return new ResultadoCreacion(indice, null, error);
+    }
+
+    /**
+     * Crea el mismo resultado con otra posición (útil al juntar sub-lotes).
+     */
+    public ResultadoCreacion conIndice(int nuevoIndice) {
+        return new ResultadoCreacion(nuevoIndice, persona, error);
+    }
+
+    public boolean isCreada() {
+        return error == null;
+    }
+
+    public int getIndice() {
+        return indice;
+    }
+
+    public Persona getPersona() {
+        return persona;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
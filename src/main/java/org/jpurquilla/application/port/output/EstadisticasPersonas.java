@@ -0,0 +1,28 @@
+package org.jpurquilla.application.port.output;
+
+import org.jpurquilla.domain.vo.RangoEdad;
+import org.jpurquilla.domain.vo.Sexo;
+
+import java.util.Map;
+
+/**
+ * Totales demográficos de las personas.
+ *
+ * Se guarda la suma de edades (y no el promedio) para poder
+ * sumar y restar personas sin perder precisión.
+ *
+ * @param total número de personas
+ * @param sumaEdades suma de todas las edades
+ * @param porSexo cantidad por sexo (todos los valores de Sexo, aunque sean 0)
+ * @param porRangoEdad cantidad por rango de edad (todos los rangos, aunque sean 0)
+ */
+public record EstadisticasPersonas(long total, long sumaEdades,
+                                   Map<Sexo, Long> porSexo, Map<RangoEdad, Long> porRangoEdad) {
+
+    /**
+     * @return la edad promedio, o null si no hay personas
+     */
+    public Double edadPromedio() {
+        return total > 0 ? (double) sumaEdades / total : null;
+    }
+}
@@ -0,0 +1,40 @@
+package org.jpurquilla.application.port.output;
+
+import org.jpurquilla.domain.entity.Persona;
+
+import java.time.Instant;
+
+/**
+ * Evento de cambio de una persona (creada, actualizada o eliminada).
+ *
+ * @param offset posición en el flujo de eventos (null hasta que se publica);
+ *               crece en el mismo orden en que se confirman las transacciones
+ * @param tipo qué pasó
+ * @param personaId la persona afectada
+ * @param ocurrido cuándo se generó
+ * @param persona el estado después del cambio (null si fue eliminada)
+ */
+public record EventoPersona(Long offset, Tipo tipo, Long personaId, Instant ocurrido, PersonaVista persona) {
+
+    public enum Tipo {
+        CREADA, ACTUALIZADA, ELIMINADA
+    }
+
+    public static EventoPersona creada(Persona persona) {
+        return new EventoPersona(null, Tipo.CREADA, persona.getId(), Instant.now(), vista(persona));
+    }
+
+    public static EventoPersona actualizada(Persona persona) {
+        return new EventoPersona(null, Tipo.ACTUALIZADA, persona.getId(), Instant.now(), vista(persona));
+    }
+
+    public static EventoPersona eliminada(Long id) {
+        return new EventoPersona(null, Tipo.ELIMINADA, id, Instant.now(), null);
+    }
+
+    private static PersonaVista vista(Persona persona) {
+        return new PersonaVista(persona.getId(), persona.getNombre(), persona.getApellido(), persona.getEdad(),
+                persona.getSexo() != null ? persona.getSexo().getCodigo() : null,
+                persona.getVersion(), persona.getModificado());
+    }
+}
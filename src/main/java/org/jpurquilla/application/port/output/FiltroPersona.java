@@ -0,0 +1,132 @@
+package org.jpurquilla.application.port.output;
+
+import org.jpurquilla.domain.vo.Sexo;
+
+/**
+ * Criterios de búsqueda de personas.
+ *
+ * Todos los filtros son opcionales (null = sin filtrar) y se combinan con AND.
+ * El repositorio debe resolverlos en la BD, no en memoria.
+ *
+ * Ejemplo:
+ * FiltroPersona.builder().prefijoNombre("Ju").edadMinima(20).sexo(Sexo.MASCULINO)
+ *         .orden(FiltroPersona.Orden.EDAD, true).limite(50).build()
+ */
+public class FiltroPersona {
+    /**
+     * Campos por los que se puede ordenar.
+     */
+    public enum Orden {
+        ID, NOMBRE, APELLIDO, EDAD
+    }
+
+    private final String prefijoNombre;
+    private final String prefijoApellido;
+    private final Integer edadMinima;
+    private final Integer edadMaxima;
+    private final Sexo sexo;
+    private final Orden orden;
+    private final boolean descendente;
+    private final int limite;
+
+    private FiltroPersona(Builder builder) {
+        this.prefijoNombre = builder.prefijoNombre;
+        this.prefijoApellido = builder.prefijoApellido;
+        this.edadMinima = builder.edadMinima;
+        this.edadMaxima = builder.edadMaxima;
+        this.sexo = builder.sexo;
+        this.orden = builder.orden;
+        this.descendente = builder.descendente;
+        this.limite = builder.limite;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getPrefijoNombre() {
+        return prefijoNombre;
+    }
+
+    public String getPrefijoApellido() {
+        return prefijoApellido;
+    }
+
+    public Integer getEdadMinima() {
+        return edadMinima;
+    }
+
+    public Integer getEdadMaxima() {
+        return edadMaxima;
+    }
+
+    public Sexo getSexo() {
+        return sexo;
+    }
+
+    public Orden getOrden() {
+        return orden;
+    }
+
+    public boolean isDescendente() {
+        return descendente;
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public static class Builder {
+        private String prefijoNombre;
+        private String prefijoApellido;
+        private Integer edadMinima;
+        private Integer edadMaxima;
+        private Sexo sexo;
+        private Orden orden = Orden.ID;
+        private boolean descendente;
+        private int limite = 100;
+
+        private Builder() {
+        }
+
+        public Builder prefijoNombre(String prefijoNombre) {
+            this.prefijoNombre = prefijoNombre;
+            return this;
+        }
+
+        public Builder prefijoApellido(String prefijoApellido) {
+            this.prefijoApellido = prefijoApellido;
+            return this;
+        }
+
+        public Builder edadMinima(Integer edadMinima) {
+            this.edadMinima = edadMinima;
+            return this;
+        }
+
+        public Builder edadMaxima(Integer edadMaxima) {
+            this.edadMaxima = edadMaxima;
+            return this;
+        }
+
+        public Builder sexo(Sexo sexo) {
+            this.sexo = sexo;
+            return this;
+        }
+
+        public Builder orden(Orden orden, boolean descendente) {
+            this.orden = orden;
+            this.descendente = descendente;
+            return this;
+        }
+
+        public Builder limite(int limite) {
+            this.limite = limite;
+            return this;
+        }
+
+        public FiltroPersona build() {
+            return new FiltroPersona(this);
+        }
+    }
+}
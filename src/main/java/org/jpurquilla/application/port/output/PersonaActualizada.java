@@ -0,0 +1,16 @@
+package org.jpurquilla.application.port.output;
+
+import org.jpurquilla.domain.entity.Persona;
+
+/**
+ * Resultado de PersonaRepository.update(): la persona como quedó y como estaba.
+ *
+ * El almacén obtiene la fila anterior al modificarla (bloqueada hasta el
+ * commit, nadie la cambia en el medio), así los decoradores (contadores, caché) saben qué restar o invalidar sin
+ * volver a leerla.
+ *
+ * @param anterior la fila antes del UPDATE
+ * @param persona la persona después del UPDATE (con su nueva versión)
+ */
+public record PersonaActualizada(PersonaVista anterior, Persona persona) {
+}
@@ -0,0 +1,46 @@
+package org.jpurquilla.application.port.output;
+
+import java.util.List;
+
+/**
+ * PUERTO DE SALIDA: PersonaEventos
+ *
+ * Flujo de eventos de cambio de personas (change data capture).
+ *
+ * ¿Quién la implementa?
+ * - PersonaEventosAdapter en framework/adapters/output/eventos/
+ *   (outbox transaccional: una tabla en la misma BD)
+ *
+ * ¿Por qué un outbox y no publicar directo a un broker?
+ * - El evento se guarda en la MISMA transacción que el cambio:
+ *   si el cambio se revierte, el evento también; nunca queda uno sin el otro
+ * - Los consumidores leen desde un offset y pueden retomar donde quedaron
+ *
+ * Publican las escrituras de PersonaService (/persona, gRPC, importación).
+ * Los endpoints reactivos usan otra BD y no publican eventos.
+ */
+public interface PersonaEventos {
+    /**
+     * Agrega un evento al flujo, dentro de la transacción en curso.
+     *
+     * @param evento el evento (sin offset, se asigna al publicar)
+     */
+    void publicar(EventoPersona evento);
+
+    /**
+     * Agrega varios eventos al flujo, en orden, dentro de la transacción en curso.
+     *
+     * @param eventos los eventos (sin offset)
+     */
+    void publicarTodos(List<EventoPersona> eventos);
+
+    /**
+     * Lee eventos confirmados a partir de un offset.
+     *
+     * @param despuesDeOffset el último offset ya procesado (0 = desde el inicio)
+     * @param limite el máximo de eventos a devolver
+     * @return los eventos con offset mayor, ordenados por offset; se detiene
+     *         antes de un offset que todavía puede confirmarse (ver PersonaEventosAdapter)
+     */
+    List<EventoPersona> leerDesde(long despuesDeOffset, int limite);
+}
@@ -0,0 +1,62 @@
+package org.jpurquilla.application.port.output;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+
+/**
+ * PUERTO DE SALIDA (no bloqueante): PersonaReactiveRepository
+ *
+ * Mismo contrato que PersonaRepository, pero cada operación devuelve
+ * un Uni (un resultado futuro) o un Multi (varios resultados) de Mutiny.
+ *
+ * ¿Por qué otro puerto y no cambiar PersonaRepository?
+ * - Los Use Cases bloqueantes siguen funcionando igual
+ * - Un adaptador reactivo no bloquea el hilo mientras espera a la BD,
+ *   así pocos hilos (event loop) atienden muchas conexiones
+ *
+ * ¿Quién la implementa?
+ * - PersonaReactiveRepositoryAdapter en framework/adapters/output/reactive/
+ */
+public interface PersonaReactiveRepository {
+    /**
+     * @param persona la persona a guardar (sin ID, se genera)
+     * @return la persona con el ID asignado por la BD
+     */
+    Uni<Persona> save(Persona persona);
+
+    /**
+     * @param id el identificador
+     * @return la persona, o null si no existe
+     */
+    Uni<Persona> findById(Long id);
+
+    /**
+     * @param persona la persona con datos actualizados (debe tener ID)
+     * @return true si se actualizó, false si no existía
+     */
+    Uni<Boolean> update(Persona persona);
+
+    /**
+     * @return todas las personas ordenadas por ID
+     */
+    Multi<Persona> findAll();
+
+    /**
+     * @param sexo el sexo a filtrar
+     * @return las personas con ese sexo
+     */
+    Multi<Persona> findBySexo(Sexo sexo);
+
+    /**
+     * @param id el identificador de la persona a eliminar
+     * @return true si se eliminó, false si no existía
+     */
+    Uni<Boolean> deleteById(Long id);
+
+    /**
+     * @return el total de personas en la BD
+     */
+    Uni<Long> count();
+}
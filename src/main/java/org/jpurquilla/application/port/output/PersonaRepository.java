@@ -3,8 +3,10 @@ package org.jpurquilla.application.port.output;
 import org.jpurquilla.domain.entity.Persona;
 import org.jpurquilla.domain.vo.Sexo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * PUERTO DE SALIDA: PersonaRepository
@@ -38,6 +40,18 @@ public interface PersonaRepository {
      */
     Persona save(Persona persona);
 
+    /**
+     * Caso de Uso 1b: Crear varias Personas
+     *
+     * Persiste un lote de personas en la misma unidad de trabajo,
+     * para que la BD reciba los INSERT agrupados (JDBC batch).
+     * Las personas deben estar validadas antes.
+     *
+     * @param personas las personas a guardar (sin ID)
+     * @return las personas con su ID, en el mismo orden
+     */
+    List<Persona> saveAll(List<Persona> personas);
+
     /**
      * Caso de Uso 2: Buscar por ID
      *
@@ -48,15 +62,32 @@ public interface PersonaRepository {
      */
     Optional<Persona> findById(Long id);
 
+    /**
+     * Caso de Uso 2b: Buscar varias por ID
+     *
+     * Busca todas las personas de la colección con consultas "id IN (...)"
+     * (por tramos si son muchas), en vez de una consulta por ID.
+     *
+     * @param ids los identificadores (sin repetidos)
+     * @return las personas que existen, en cualquier orden
+     *         (los IDs que no existen no aparecen)
+     */
+    List<Persona> findAllById(Collection<Long> ids);
+
     /**
      * Caso de Uso 3: Actualizar
      *
      * Actualiza una persona existente en la BD.
+     * Es una sola sentencia UPDATE: no hace falta buscarla antes.
+     * Incrementa la versión y la fecha de modificación.
+     *
+     * Si la persona trae versión, solo se actualiza si la BD sigue en esa versión.
      *
      * @param persona la persona con datos actualizados (debe tener ID)
-     * @return la persona después de actualizar
+     * @return Optional con la persona después de actualizar (con su nueva versión)
+     *         y la fila que reemplazó; vacío si no existía o la versión no coincide
      */
-    Persona update(Persona persona);
+    Optional<PersonaActualizada> update(Persona persona);
 
     /**
      * Caso de Uso 4: Obtener todas
@@ -67,6 +98,29 @@ public interface PersonaRepository {
      */
     List<Persona> findAll();
 
+    /**
+     * Caso de Uso 4b: Obtener una página (keyset)
+     *
+     * Obtiene las personas cuyo ID es mayor que el cursor, ordenadas por ID.
+     * No usa OFFSET: el costo es el mismo en la primera página y en la última.
+     *
+     * @param despuesDeId el último ID de la página anterior (null = desde el inicio)
+     * @param limite el máximo de personas a devolver
+     * @return lista de personas ordenada por ID
+     */
+    List<Persona> findPage(Long despuesDeId, int limite);
+
+    /**
+     * Caso de Uso 4c: Recorrer todas en stream
+     *
+     * Recorre todas las personas ordenadas por ID sin cargarlas en memoria.
+     * Necesita una transacción abierta mientras se consume
+     * y quien lo llama debe cerrarlo (try-with-resources).
+     *
+     * @return stream de todas las personas
+     */
+    Stream<Persona> streamAll();
+
     /**
      * Caso de Uso 5: Buscar por Sexo
      *
@@ -77,15 +131,116 @@ public interface PersonaRepository {
      */
     List<Persona> findBySexo(Sexo sexo);
 
+    /**
+     * Caso de Uso 5b: Buscar con filtros
+     *
+     * Combina prefijo de nombre/apellido, rango de edad y sexo, con orden y límite.
+     * El filtrado y el orden se hacen en la BD (sobre índices).
+     *
+     * @param filtro los criterios de búsqueda
+     * @return las personas que cumplen los filtros, ordenadas
+     */
+    List<Persona> findByFiltro(FiltroPersona filtro);
+
+    /**
+     * LECTURAS PROYECTADAS (solo lectura)
+     *
+     * Variantes de findById/findPage/streamAll/findBySexo que devuelven
+     * PersonaVista en vez de Persona. La BD devuelve solo las columnas y
+     * se arma un objeto por fila: sin entity gestionada ni mapeo a dominio.
+     * Úsalas cuando el resultado no se va a modificar.
+     *
+     * @param id el identificador
+     * @return Optional con la vista si existe, vacío si no
+     */
+    Optional<PersonaVista> findVistaById(Long id);
+
+    /**
+     * Igual que findAllById(), proyectado.
+     *
+     * @param ids los identificadores (sin repetidos)
+     * @return las vistas que existen, en cualquier orden
+     */
+    List<PersonaVista> findVistasById(Collection<Long> ids);
+
+    /**
+     * Igual que findPage(), proyectado.
+     *
+     * @param despuesDeId el último ID de la página anterior (null = desde el inicio)
+     * @param limite el máximo de personas a devolver
+     * @return lista de vistas ordenada por ID
+     */
+    List<PersonaVista> findVistaPage(Long despuesDeId, int limite);
+
+    /**
+     * Igual que streamAll(), proyectado.
+     * Necesita una transacción abierta y quien lo llama debe cerrarlo.
+     *
+     * @return stream de todas las vistas ordenadas por ID
+     */
+    Stream<PersonaVista> streamVistas();
+
+    /**
+     * Igual que findBySexo(), proyectado.
+     *
+     * @param sexo el sexo a filtrar
+     * @return lista de vistas con ese sexo
+     */
+    List<PersonaVista> findVistasBySexo(Sexo sexo);
+
+    /**
+     * Caso de Uso 5c: Buscar por nombre (autocompletado)
+     *
+     * Cada palabra del texto debe aparecer (al inicio o dentro de una
+     * palabra) en el nombre o en el apellido, sin distinguir mayúsculas.
+     * Con el índice de nombres (IndiceNombresPersonaRepository) tampoco
+     * distingue acentos y ordena por relevancia; sin él, ordena por ID.
+     *
+     * @param texto lo que escribió el usuario (una o más palabras)
+     * @param limite el máximo de personas a devolver
+     * @return las vistas que coinciden, las más relevantes primero
+     */
+    List<PersonaVista> findVistasByNombre(String texto, int limite);
+
     /**
      * Caso de Uso 6: Eliminar por ID
      *
      * Elimina una persona de la BD.
+     * Es una sola sentencia DELETE: no hace falta buscarla antes.
      *
      * @param id el identificador de la persona a eliminar
-     * @return true si se eliminó, false si no existía
+     * @return la fila eliminada, vacío si no existía
+     */
+    Optional<PersonaVista> deleteById(Long id);
+
+    /**
+     * Caso de Uso 6b: Eliminar por ID si sigue en la versión indicada
+     *
+     * @param id el identificador de la persona a eliminar
+     * @param version la versión que se espera que tenga
+     * @return la fila eliminada, vacío si no existía o la versión no coincide
+     */
+    Optional<PersonaVista> deleteByIdAndVersion(Long id, Long version);
+
+    /**
+     * Método auxiliar: ¿Existe la persona?
+     *
+     * Distingue "no existe" de "cambió de versión" cuando un UPDATE/DELETE
+     * condicionado no afecta filas.
+     *
+     * @param id el identificador
+     * @return true si existe
+     */
+    boolean existsById(Long id);
+
+    /**
+     * Método auxiliar: Totales demográficos
+     *
+     * Cantidad por sexo, por rango de edad y suma de edades.
+     *
+     * @return los totales de todas las personas
      */
-    boolean deleteById(Long id);
+    EstadisticasPersonas estadisticasDemograficas();
 
     /**
      * Método auxiliar: Contar personas
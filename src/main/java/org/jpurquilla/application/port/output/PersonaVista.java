@@ -0,0 +1,21 @@
+package org.jpurquilla.application.port.output;
+
+import java.time.Instant;
+
+/**
+ * MODELO DE LECTURA: PersonaVista
+ *
+ * Proyección de solo lectura de una persona, tal como se devuelve al cliente.
+ *
+ * ¿Por qué no usar Persona?
+ * - Persona es el modelo de ESCRITURA: mutable y con reglas de validación
+ * - Para leer no hace falta nada de eso
+ * - El adaptador de salida la construye directamente desde la consulta
+ *   (SELECT new ...), sin entity JPA ni mapeos intermedios: un objeto por fila
+ *
+ * El sexo va como código ("M"/"F") porque es lo que se serializa.
+ * version y modificado alimentan ETag y Last-Modified.
+ */
+public record PersonaVista(Long id, String nombre, String apellido, Integer edad, String sexo,
+                           Long version, Instant modificado) {
+}
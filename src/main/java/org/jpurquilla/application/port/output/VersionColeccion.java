@@ -0,0 +1,14 @@
+package org.jpurquilla.application.port.output;
+
+/**
+ * Versión de un conjunto de personas (para el ETag de las colecciones).
+ *
+ * Cambia con cualquier escritura confirmada sobre el conjunto
+ * (alta, modificación o baja): "cambios" solo crece.
+ *
+ * @param origen identifica al proceso que lleva la cuenta (distinto en cada
+ *               arranque): una versión de otro proceso nunca coincide
+ * @param cambios escrituras confirmadas sobre el conjunto desde el arranque
+ */
+public record VersionColeccion(long origen, long cambios) {
+}
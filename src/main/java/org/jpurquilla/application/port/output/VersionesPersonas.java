@@ -0,0 +1,27 @@
+package org.jpurquilla.application.port.output;
+
+import org.jpurquilla.domain.vo.Sexo;
+
+/**
+ * PUERTO DE SALIDA: VersionesPersonas
+ *
+ * Versión de las colecciones de personas, para el ETag de
+ * GET /persona y GET /persona/sexo/{sexo}.
+ *
+ * ¿Quién la implementa?
+ * - ContadoresPersonaRepository en framework/adapters/output/estadisticas/
+ *   (un contador en memoria que sube con cada escritura confirmada)
+ *
+ * ¿Por qué no se calcula en la BD?
+ * - Un resumen de la tabla (count, suma de versiones, mayor ID) recorre
+ *   todas las filas en cada GET, y además puede repetirse después de
+ *   cambios distintos (un DELETE y un UPDATE que se compensan)
+ * - El contador es O(1) y nunca vuelve a un valor anterior
+ */
+public interface VersionesPersonas {
+    /**
+     * @param sexo el sexo, o null para todas las personas
+     * @return la versión actual de esa colección
+     */
+    VersionColeccion versionColeccion(Sexo sexo);
+}
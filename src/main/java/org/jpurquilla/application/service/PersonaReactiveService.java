@@ -0,0 +1,62 @@
+package org.jpurquilla.application.service;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.jpurquilla.application.port.input.PersonaReactiveInputPort;
+import org.jpurquilla.application.port.output.PersonaReactiveRepository;
+import org.jpurquilla.application.usecase.reactive.*;
+import org.jpurquilla.domain.entity.Persona;
+
+/**
+ * SERVICIO DE APLICACIÓN (no bloqueante): PersonaReactiveService
+ *
+ * Igual que PersonaService: orquesta los 6 Use Cases reactivos
+ * y no tiene anotaciones (lo instancia ReactiveConfig en framework).
+ */
+public class PersonaReactiveService implements PersonaReactiveInputPort {
+    private final CrearPersonaReactiveUseCase crearPersonaUseCase;
+    private final BuscarPersonaPorIdReactiveUseCase buscarPersonaPorIdUseCase;
+    private final ActualizarPersonaReactiveUseCase actualizarPersonaUseCase;
+    private final BuscarTodasLasPersonasReactiveUseCase buscarTodasLasPersonasUseCase;
+    private final BuscarPersonaPorSexoReactiveUseCase buscarPersonaPorSexoUseCase;
+    private final EliminarPersonaReactiveUseCase eliminarPersonaUseCase;
+
+    public PersonaReactiveService(PersonaReactiveRepository personaRepository) {
+        this.crearPersonaUseCase = new CrearPersonaReactiveUseCase(personaRepository);
+        this.buscarPersonaPorIdUseCase = new BuscarPersonaPorIdReactiveUseCase(personaRepository);
+        this.actualizarPersonaUseCase = new ActualizarPersonaReactiveUseCase(personaRepository);
+        this.buscarTodasLasPersonasUseCase = new BuscarTodasLasPersonasReactiveUseCase(personaRepository);
+        this.buscarPersonaPorSexoUseCase = new BuscarPersonaPorSexoReactiveUseCase(personaRepository);
+        this.eliminarPersonaUseCase = new EliminarPersonaReactiveUseCase(personaRepository);
+    }
+
+    @Override
+    public Uni<Persona> crear(Persona persona) {
+        return crearPersonaUseCase.ejecutar(persona);
+    }
+
+    @Override
+    public Uni<Persona> buscarPorId(Long id) {
+        return buscarPersonaPorIdUseCase.ejecutar(id);
+    }
+
+    @Override
+    public Uni<Persona> actualizar(Long id, Persona datosNuevos) {
+        return actualizarPersonaUseCase.ejecutar(id, datosNuevos);
+    }
+
+    @Override
+    public Multi<Persona> obtenerTodas() {
+        return buscarTodasLasPersonasUseCase.ejecutar();
+    }
+
+    @Override
+    public Multi<Persona> buscarPorSexo(String sexoString) {
+        return buscarPersonaPorSexoUseCase.ejecutar(sexoString);
+    }
+
+    @Override
+    public Uni<Void> eliminar(Long id) {
+        return eliminarPersonaUseCase.ejecutar(id);
+    }
+}
@@ -1,13 +1,23 @@
 package org.jpurquilla.application.service;
 
 import org.jpurquilla.application.port.input.PersonaInputPort;
+import org.jpurquilla.application.port.input.ResultadoBusqueda;
+import org.jpurquilla.application.port.input.ResultadoCreacion;
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.PersonaEventos;
+import org.jpurquilla.application.port.output.FiltroPersona;
 import org.jpurquilla.application.port.output.PersonaRepository;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.application.port.output.VersionColeccion;
+import org.jpurquilla.application.port.output.VersionesPersonas;
 import org.jpurquilla.application.usecase.*;
 import org.jpurquilla.domain.entity.Persona;
 import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
 import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 
 /**
@@ -36,19 +46,32 @@ import java.util.List;
 public class PersonaService implements PersonaInputPort {
     // inyección manual: todos los Use Cases se reciben en el constructor
     private final CrearPersonaUseCase crearPersonaUseCase;
+    private final CrearPersonasEnLoteUseCase crearPersonasEnLoteUseCase;
     private final BuscarPersonaPorIdUseCase buscarPersonaPorIdUseCase;
     private final ActualizarPersonaUseCase actualizarPersonaUseCase;
     private final BuscarTodasLasPersonasUseCase buscarTodasLasPersonasUseCase;
+    private final BuscarPersonasPaginadasUseCase buscarPersonasPaginadasUseCase;
     private final BuscarPersonaPorSexoUseCase buscarPersonaPorSexoUseCase;
+    private final BuscarPersonasPorFiltroUseCase buscarPersonasPorFiltroUseCase;
+    private final BuscarPersonasPorNombreUseCase buscarPersonasPorNombreUseCase;
     private final EliminarPersonaUseCase eliminarPersonaUseCase;
+    private final ObtenerEstadisticasUseCase obtenerEstadisticasUseCase;
+    private final ObtenerEventosUseCase obtenerEventosUseCase;
 
-    public PersonaService(PersonaRepository personaRepository) {
-        this.crearPersonaUseCase = new CrearPersonaUseCase(personaRepository);
+    public PersonaService(PersonaRepository personaRepository, PersonaEventos personaEventos,
+                          VersionesPersonas versionesPersonas) {
+        this.crearPersonaUseCase = new CrearPersonaUseCase(personaRepository, personaEventos);
+        this.crearPersonasEnLoteUseCase = new CrearPersonasEnLoteUseCase(personaRepository, personaEventos);
         this.buscarPersonaPorIdUseCase = new BuscarPersonaPorIdUseCase(personaRepository);
-        this.actualizarPersonaUseCase = new ActualizarPersonaUseCase(personaRepository);
-        this.buscarTodasLasPersonasUseCase = new BuscarTodasLasPersonasUseCase(personaRepository);
-        this.buscarPersonaPorSexoUseCase = new BuscarPersonaPorSexoUseCase(personaRepository);
-        this.eliminarPersonaUseCase = new EliminarPersonaUseCase(personaRepository);
+        this.actualizarPersonaUseCase = new ActualizarPersonaUseCase(personaRepository, personaEventos);
+        this.buscarTodasLasPersonasUseCase = new BuscarTodasLasPersonasUseCase(personaRepository, versionesPersonas);
+        this.buscarPersonasPaginadasUseCase = new BuscarPersonasPaginadasUseCase(personaRepository);
+        this.buscarPersonaPorSexoUseCase = new BuscarPersonaPorSexoUseCase(personaRepository, versionesPersonas);
+        this.buscarPersonasPorFiltroUseCase = new BuscarPersonasPorFiltroUseCase(personaRepository);
+        this.buscarPersonasPorNombreUseCase = new BuscarPersonasPorNombreUseCase(personaRepository);
+        this.eliminarPersonaUseCase = new EliminarPersonaUseCase(personaRepository, personaEventos);
+        this.obtenerEstadisticasUseCase = new ObtenerEstadisticasUseCase(personaRepository);
+        this.obtenerEventosUseCase = new ObtenerEventosUseCase(personaEventos);
     }
 
     @Override
@@ -57,8 +80,8 @@ public class PersonaService implements PersonaInputPort {
     }
 
     @Override
-    public Persona buscarPorId(Long id) {
-        return buscarPersonaPorIdUseCase.ejecutar(id);
+    public List<ResultadoCreacion> crearEnLote(List<Persona> personas) {
+        return crearPersonasEnLoteUseCase.ejecutar(personas);
     }
 
     @Override
@@ -67,17 +90,62 @@ public class PersonaService implements PersonaInputPort {
     }
 
     @Override
-    public List<Persona> obtenerTodas() {
-        return buscarTodasLasPersonasUseCase.ejecutar();
+    public List<Persona> buscar(FiltroPersona filtro) {
+        return buscarPersonasPorFiltroUseCase.ejecutar(filtro);
     }
 
     @Override
-    public List<Persona> buscarPorSexo(String sexo) {
-        return buscarPersonaPorSexoUseCase.ejecutar(sexo);
+    public PersonaVista consultarPorId(Long id) {
+        return buscarPersonaPorIdUseCase.ejecutarVista(id);
     }
 
     @Override
-    public void eliminar(Long id) {
-        eliminarPersonaUseCase.ejecutar(id);
+    public List<ResultadoBusqueda> consultarPorIds(List<Long> ids) {
+        return buscarPersonaPorIdUseCase.ejecutarVistas(ids);
+    }
+
+    @Override
+    public List<PersonaVista> consultarPagina(Long despuesDeId, int limite) {
+        return buscarPersonasPaginadasUseCase.ejecutarVista(despuesDeId, limite);
+    }
+
+    @Override
+    public Stream<PersonaVista> consultarTodasEnStream() {
+        return buscarTodasLasPersonasUseCase.ejecutarVistaEnStream();
+    }
+
+    @Override
+    public List<PersonaVista> consultarPorSexo(String sexo) {
+        return buscarPersonaPorSexoUseCase.ejecutarVista(sexo);
+    }
+
+    @Override
+    public List<PersonaVista> consultarPorNombre(String texto, int limite) {
+        return buscarPersonasPorNombreUseCase.ejecutar(texto, limite);
+    }
+
+    @Override
+    public VersionColeccion versionDeTodas() {
+        return buscarTodasLasPersonasUseCase.ejecutarVersion();
+    }
+
+    @Override
+    public VersionColeccion versionPorSexo(String sexo) {
+        return buscarPersonaPorSexoUseCase.ejecutarVersion(sexo);
+    }
+
+    @Override
+    public EstadisticasPersonas obtenerEstadisticas() {
+        return obtenerEstadisticasUseCase.ejecutar();
+    }
+
+    @Override
+    public List<EventoPersona> obtenerEventos(long despuesDeOffset, int limite) {
+        return obtenerEventosUseCase.ejecutar(despuesDeOffset, limite);
+    }
+
+    @Override
+    public void eliminar(Long id, Long versionEsperada) {
+        eliminarPersonaUseCase.ejecutar(id, versionEsperada);
     }
 }
@@ -0,0 +1,181 @@
+package org.jpurquilla.application.service;
+
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.exceptions.PersonaValidationException;
+import org.jpurquilla.domain.vo.ErrorValidacion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * SERVICIO DE APLICACIÓN: ProcesadorEnLote
+ *
+ * Convierte y valida lotes grandes repartiendo los elementos en un
+ * ForkJoinPool. Solo lo usa POST /persona/lote, que recibe la lista entera
+ * de una vez. ImportadorPersonas y el crearEnLote de gRPC no: leen de a
+ * sub-lotes de persona.lote.tamanio-commit a medida que llegan y validan en
+ * CrearPersonasEnLoteUseCase, en el hilo que lee (ahí manda la BD).
+ *
+ * - La lista se parte por la mitad hasta tramos de "umbral" elementos;
+ *   cada hilo procesa tramos contiguos y los libres le roban a los ocupados
+ * - Cada elemento escribe SU posición de la lista de resultados (creada ya
+ *   con el tamaño final: set() no cambia su estructura): la salida queda en
+ *   el mismo orden que la entrada, sin ordenar ni sincronizar
+ * - Lotes de hasta "umbral" elementos, o el commonPool de un solo hilo (1 o
+ *   2 núcleos), se procesan en el hilo que llama: repartir cuesta más de lo
+ *   que se gana. Un pool propio se usa siempre, aunque sea de un hilo: lo
+ *   pidió la configuración (y así se puede medir el costo de repartir)
+ * - Junta TODOS los errores de cada elemento (Persona.erroresDeValidacion()),
+ *   no solo el primero
+ *
+ * Las funciones que recibe se llaman desde varios hilos a la vez: no deben
+ * tener estado compartido (los mappers de MapStruct no lo tienen).
+ *
+ * Como PersonaService, no depende de Quarkus: lo crea ApplicationConfig.
+ */
+public class ProcesadorEnLote {
+    private final ForkJoinPool pool;
+    private final boolean propio;
+    private final int umbral;
+
+    /**
+     * @param paralelismo hilos del pool propio, o 0 para usar ForkJoinPool.commonPool()
+     * @param umbral tamaño de tramo a partir del cual se deja de partir
+     */
+    public ProcesadorEnLote(int paralelismo, int umbral) {
+        if (paralelismo < 0 || umbral < 1) {
+            throw new IllegalArgumentException("paralelismo >= 0 y umbral >= 1");
+        }
+        this.propio = paralelismo > 0;
+        this.pool = propio ? new ForkJoinPool(paralelismo) : ForkJoinPool.commonPool();
+        this.umbral = umbral;
+    }
+
+    /**
+     * Convierte cada entrada a Persona, la valida y, si es válida, la
+     * convierte a la salida.
+     *
+     * Un error de conversión (IllegalArgumentException o
+     * PersonaValidationException, como un sexo desconocido) rechaza solo
+     * ese elemento.
+     *
+     * @param entradas los elementos (por ejemplo, PersonaRequestDTO)
+     * @param aDominio entrada → Persona
+     * @param salida Persona válida → resultado (Function.identity() para quedarse con la Persona)
+     * @return un resultado por entrada, en el mismo orden
+     */
+    public <E, R> List<Resultado<R>> validar(List<E> entradas,
+                                             Function<? super E, Persona> aDominio,
+                                             Function<? super Persona, ? extends R> salida) {
+        List<E> indexable = indexable(entradas);
+        List<Resultado<R>> resultados = new ArrayList<>(Collections.nCopies(indexable.size(), null));
+        repartir(indexable.size(), i -> resultados.set(i, validarUna(indexable.get(i), aDominio, salida)));
+        return resultados;
+    }
+
+    /**
+     * Libera los hilos del pool propio (el commonPool no se toca).
+     */
+    public void cerrar() {
+        if (propio) {
+            pool.shutdown();
+        }
+    }
+
+    public int getParalelismo() {
+        return pool.getParallelism();
+    }
+
+    private static <E, R> Resultado<R> validarUna(E entrada,
+                                                  Function<? super E, Persona> aDominio,
+                                                  Function<? super Persona, ? extends R> salida) {
+        Persona persona;
+        try {
+            persona = aDominio.apply(entrada);
+        } catch (IllegalArgumentException | PersonaValidationException e) {
+            return Resultado.rechazado(List.of(new ErrorValidacion(null, e.getMessage())));
+        }
+        List<ErrorValidacion> errores = persona.erroresDeValidacion();
+        if (!errores.isEmpty()) {
+            return Resultado.rechazado(errores);
+        }
+        return Resultado.valido(salida.apply(persona));
+    }
+
+    // Ejecuta tarea(0..cantidad-1): en el hilo actual si es poco o el commonPool no tiene con quién repartir
+    private void repartir(int cantidad, IntConsumer tarea) {
+        if (cantidad <= umbral || !propio && pool.getParallelism() < 2) {
+            for (int i = 0; i < cantidad; i++) {
+                tarea.accept(i);
+            }
+            return;
+        }
+        pool.invoke(new Tramo(0, cantidad, tarea));
+    }
+
+    private final class Tramo extends RecursiveAction {
+        private final int desde;
+        private final int hasta;
+        private final IntConsumer tarea;
+
+        Tramo(int desde, int hasta, IntConsumer tarea) {
+            this.desde = desde;
+            this.hasta = hasta;
+            this.tarea = tarea;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= umbral) {
+                for (int i = desde; i < hasta; i++) {
+                    tarea.accept(i);
+                }
+                return;
+            }
+            int mitad = (desde + hasta) >>> 1;
+            invokeAll(new Tramo(desde, mitad, tarea), new Tramo(mitad, hasta, tarea));
+        }
+    }
+
+    // get(i) tiene que ser O(1): una LinkedList se copia
+    private static <E> List<E> indexable(List<E> entradas) {
+        return entradas instanceof RandomAccess ? entradas : new ArrayList<>(entradas);
+    }
+
+    /**
+     * Resultado de un elemento: el valor si es válido, o todos sus errores.
+     *
+     * @param valor la salida (null si fue rechazado)
+     * @param errores los errores (vacía si es válido)
+     */
+    public record Resultado<R>(R valor, List<ErrorValidacion> errores) {
+
+        static <R> Resultado<R> valido(R valor) {
+            return new Resultado<>(valor, List.of());
+        }
+
+        static <R> Resultado<R> rechazado(List<ErrorValidacion> errores) {
+            return new Resultado<>(null, errores);
+        }
+
+        public boolean isValido() {
+            return errores.isEmpty();
+        }
+
+        /**
+         * @return los errores en un texto, separados por "; " (null si es válido)
+         */
+        public String motivo() {
+            return isValido() ? null : errores.stream()
+                    .map(ErrorValidacion::descripcion)
+                    .collect(Collectors.joining("; "));
+        }
+    }
+}
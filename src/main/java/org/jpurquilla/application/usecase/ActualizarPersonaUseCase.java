@@ -1,33 +1,43 @@
 package org.jpurquilla.application.usecase;
 
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.PersonaActualizada;
+import org.jpurquilla.application.port.output.PersonaEventos;
 import org.jpurquilla.application.port.output.PersonaRepository;
 import org.jpurquilla.domain.entity.Persona;
 import org.jpurquilla.domain.exceptions.PersonaNotFoundException;
-import org.jpurquilla.domain.vo.Sexo;
+import org.jpurquilla.domain.exceptions.PersonaVersionConflictException;
 
 public class ActualizarPersonaUseCase {
     private final PersonaRepository personaRepository;
+    private final PersonaEventos personaEventos;
 
     /**
      * Constructor: inyección manual de dependencias
      *
      * @param repository el puerto de persistencia
+     * @param personaEventos el puerto de eventos de cambio
      */
-    public ActualizarPersonaUseCase(PersonaRepository personaRepository) {
+    public ActualizarPersonaUseCase(PersonaRepository personaRepository, PersonaEventos personaEventos) {
         this.personaRepository = personaRepository;
+        this.personaEventos = personaEventos;
     }
 
     /**
      * Ejecuta el caso de uso: Actualizar Persona
      *
      * @param id el identificador de la persona a actualizar
-     * @param datosNuevos la persona con los datos nuevos (mapeada desde DTO)
-     * @return la persona actualizada
+     * @param datosNuevos la persona con los datos nuevos (mapeada desde DTO);
+     *                    si trae versión, solo se actualiza si la persona sigue en esa versión
+     * @return la persona actualizada, con su nueva versión
+     * @throws PersonaNotFoundException si no existe
+     * @throws PersonaVersionConflictException si la versión no coincide
      */
     public Persona ejecutar(Long id, Persona datosNuevos) {
-        // Buscar la persona existente
-        Persona persona = personaRepository.findById(id)
-                .orElseThrow(() -> new PersonaNotFoundException(id));
+        // No se busca antes: el UPDATE informa si la persona existía
+        Persona persona = new Persona();
+        persona.setId(id);
+        persona.setVersion(datosNuevos.getVersion());
 
         // Actualizar con los nuevos datos
         persona.actualizar(
@@ -40,7 +50,21 @@ public class ActualizarPersonaUseCase {
         // Validar
         persona.validar();
 
-        // Guardar
-        return personaRepository.update(persona);
+        // Guardar (un solo UPDATE)
+        Persona actualizada = personaRepository.update(persona)
+                .map(PersonaActualizada::persona)
+                .orElseThrow(() -> noActualizada(id, persona.getVersion()));
+
+        // Publicar el cambio (misma transacción)
+        personaEventos.publicar(EventoPersona.actualizada(actualizada));
+        return actualizada;
+    }
+
+    // El UPDATE no afectó filas: o no existe, o cambió de versión
+    private RuntimeException noActualizada(Long id, Long versionEsperada) {
+        if (versionEsperada != null && personaRepository.existsById(id)) {
+            return new PersonaVersionConflictException(id, versionEsperada);
+        }
+        return new PersonaNotFoundException(id);
     }
 }
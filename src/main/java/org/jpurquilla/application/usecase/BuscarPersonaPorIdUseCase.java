@@ -1,9 +1,16 @@
 package org.jpurquilla.application.usecase;
 
+import org.jpurquilla.application.port.input.ResultadoBusqueda;
 import org.jpurquilla.application.port.output.PersonaRepository;
-import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.application.port.output.PersonaVista;
 import org.jpurquilla.domain.exceptions.PersonaNotFoundException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
 public class BuscarPersonaPorIdUseCase {
     private final PersonaRepository personaRepository;
 
@@ -17,14 +24,38 @@ public class BuscarPersonaPorIdUseCase {
     }
 
     /**
-     * Ejecuta el caso de uso: Buscar por ID
+     * Ejecuta el caso de uso: Buscar por ID (solo lectura, proyectado)
      *
      * @param id el identificador de la persona
-     * @return la persona si existe
+     * @return la vista de la persona si existe
      * @throws PersonaNotFoundException si no existe
      */
-    public Persona ejecutar(Long id) {
-        return personaRepository.findById(id)
+    public PersonaVista ejecutarVista(Long id) {
+        return personaRepository.findVistaById(id)
                 .orElseThrow(() -> new PersonaNotFoundException(id));
     }
+
+    /**
+     * Ejecuta el caso de uso: Buscar varias por ID (solo lectura, proyectado)
+     *
+     * Una sola búsqueda en el repositorio para todos los IDs (sin repetidos),
+     * en vez de una por ID. Luego se ordena según el pedido.
+     *
+     * @param ids los identificadores, en el orden deseado (puede haber repetidos)
+     * @return un resultado por ID pedido, en el mismo orden
+     */
+    public List<ResultadoBusqueda> ejecutarVistas(List<Long> ids) {
+        List<PersonaVista> encontradas = personaRepository.findVistasById(new LinkedHashSet<>(ids));
+
+        Map<Long, PersonaVista> porId = new HashMap<>(encontradas.size() * 2);
+        for (PersonaVista persona : encontradas) {
+            porId.put(persona.id(), persona);
+        }
+
+        List<ResultadoBusqueda> resultados = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            resultados.add(new ResultadoBusqueda(id, porId.get(id)));
+        }
+        return resultados;
+    }
 }
@@ -1,26 +1,41 @@
 package org.jpurquilla.application.usecase;
 
 import org.jpurquilla.application.port.output.PersonaRepository;
-import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.application.port.output.VersionColeccion;
+import org.jpurquilla.application.port.output.VersionesPersonas;
 import org.jpurquilla.domain.vo.Sexo;
 
 import java.util.List;
 
 public class BuscarPersonaPorSexoUseCase {
     private final PersonaRepository personaRepository;
+    private final VersionesPersonas versionesPersonas;
 
-    public BuscarPersonaPorSexoUseCase(PersonaRepository personaRepository) {
+    public BuscarPersonaPorSexoUseCase(PersonaRepository personaRepository, VersionesPersonas versionesPersonas) {
         this.personaRepository = personaRepository;
+        this.versionesPersonas = versionesPersonas;
     }
 
     /**
-     * Ejecuta el caso de uso: Buscar por Sexo
+     * Ejecuta el caso de uso: Buscar por Sexo (solo lectura, proyectado)
      *
      * @param sexoString "M" o "F"
-     * @return lista de personas con ese sexo
+     * @return lista de vistas con ese sexo
      */
-    public List<Persona> ejecutar(String sexoString) {
+    public List<PersonaVista> ejecutarVista(String sexoString) {
         Sexo sexo = Sexo.fromCodigo(sexoString);
-        return personaRepository.findBySexo(sexo);
+        return personaRepository.findVistasBySexo(sexo);
+    }
+
+    /**
+     * Versión de la colección de personas de un sexo (sin traer las filas)
+     *
+     * @param sexoString "M" o "F"
+     * @return la versión, que cambia con cada escritura confirmada sobre ese sexo
+     */
+    public VersionColeccion ejecutarVersion(String sexoString) {
+        Sexo sexo = Sexo.fromCodigo(sexoString);
+        return versionesPersonas.versionColeccion(sexo);
     }
 }
@@ -0,0 +1,25 @@
+package org.jpurquilla.application.usecase;
+
+import org.jpurquilla.application.port.output.PersonaRepository;
+import org.jpurquilla.application.port.output.PersonaVista;
+
+import java.util.List;
+
+public class BuscarPersonasPaginadasUseCase {
+    private final PersonaRepository personaRepository;
+
+    public BuscarPersonasPaginadasUseCase(PersonaRepository personaRepository) {
+        this.personaRepository = personaRepository;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Obtener una página (solo lectura, proyectado)
+     *
+     * @param despuesDeId el último ID de la página anterior (null = primera página)
+     * @param limite el tamaño máximo de la página
+     * @return las vistas siguientes al cursor, ordenadas por ID
+     */
+    public List<PersonaVista> ejecutarVista(Long despuesDeId, int limite) {
+        return personaRepository.findVistaPage(despuesDeId, limite);
+    }
+}
@@ -0,0 +1,33 @@
+package org.jpurquilla.application.usecase;
+
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaRepository;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.exceptions.PersonaValidationException;
+
+import java.util.List;
+
+public class BuscarPersonasPorFiltroUseCase {
+    private final PersonaRepository personaRepository;
+
+    public BuscarPersonasPorFiltroUseCase(PersonaRepository personaRepository) {
+        this.personaRepository = personaRepository;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Buscar con filtros combinados
+     *
+     * @param filtro prefijos de nombre/apellido, rango de edad, sexo y orden
+     * @return las personas que cumplen todos los filtros (hasta filtro.limite)
+     * @throws PersonaValidationException si el rango de edad es inválido
+     */
+    public List<Persona> ejecutar(FiltroPersona filtro) {
+        // Validar el rango
+        if (filtro.getEdadMinima() != null && filtro.getEdadMaxima() != null
+                && filtro.getEdadMinima() > filtro.getEdadMaxima()) {
+            throw new PersonaValidationException("edad", "La edad mínima no puede ser mayor que la máxima");
+        }
+
+        return personaRepository.findByFiltro(filtro);
+    }
+}
@@ -0,0 +1,37 @@
+package org.jpurquilla.application.usecase;
+
+import org.jpurquilla.application.port.output.PersonaRepository;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.domain.exceptions.PersonaValidationException;
+
+import java.util.List;
+
+public class BuscarPersonasPorNombreUseCase {
+    // Más largo que cualquier nombre + apellido: no hay nada que autocompletar
+    private static final int LARGO_MAXIMO = 100;
+
+    private final PersonaRepository personaRepository;
+
+    public BuscarPersonasPorNombreUseCase(PersonaRepository personaRepository) {
+        this.personaRepository = personaRepository;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Buscar por nombre (autocompletado)
+     *
+     * @param texto lo que escribió el usuario (una o más palabras)
+     * @param limite el máximo de personas a devolver
+     * @return las vistas que coinciden, las más relevantes primero
+     * @throws PersonaValidationException si el texto está vacío o es demasiado largo
+     */
+    public List<PersonaVista> ejecutar(String texto, int limite) {
+        if (texto == null || texto.isBlank()) {
+            throw new PersonaValidationException("q", "El texto a buscar no puede estar vacío");
+        }
+        if (texto.length() > LARGO_MAXIMO) {
+            throw new PersonaValidationException("q", "El texto a buscar no puede superar " + LARGO_MAXIMO + " caracteres");
+        }
+
+        return personaRepository.findVistasByNombre(texto.strip(), limite);
+    }
+}
@@ -1,24 +1,37 @@
 package org.jpurquilla.application.usecase;
 
 import org.jpurquilla.application.port.output.PersonaRepository;
-import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.application.port.output.VersionColeccion;
+import org.jpurquilla.application.port.output.VersionesPersonas;
 
-import java.util.List;
+import java.util.stream.Stream;
 
 public class BuscarTodasLasPersonasUseCase {
     private final PersonaRepository personaRepository;
+    private final VersionesPersonas versionesPersonas;
 
 
-    public BuscarTodasLasPersonasUseCase(PersonaRepository personaRepository) {
+    public BuscarTodasLasPersonasUseCase(PersonaRepository personaRepository, VersionesPersonas versionesPersonas) {
         this.personaRepository = personaRepository;
+        this.versionesPersonas = versionesPersonas;
     }
 
     /**
-     * Ejecuta el caso de uso: Obtener todas
+     * Ejecuta el caso de uso: Obtener todas en stream (solo lectura, proyectado)
      *
-     * @return lista de todas las personas
+     * @return stream de todas las vistas (debe cerrarse)
      */
-    public List<Persona> ejecutar() {
-        return personaRepository.findAll();
+    public Stream<PersonaVista> ejecutarVistaEnStream() {
+        return personaRepository.streamVistas();
+    }
+
+    /**
+     * Versión de la colección de todas las personas (sin traer las filas)
+     *
+     * @return la versión, que cambia con cada escritura confirmada
+     */
+    public VersionColeccion ejecutarVersion() {
+        return versionesPersonas.versionColeccion(null);
     }
 }
@@ -1,5 +1,7 @@
 package org.jpurquilla.application.usecase;
 
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.PersonaEventos;
 import org.jpurquilla.application.port.output.PersonaRepository;
 import org.jpurquilla.domain.entity.Persona;
 import org.jpurquilla.domain.vo.Sexo;
@@ -10,15 +12,18 @@ import org.jpurquilla.domain.vo.Sexo;
 */
 public class CrearPersonaUseCase {
     private final PersonaRepository personaRepository;
+    private final PersonaEventos personaEventos;
 
     /**
      * Constructor: inyección manual de dependencias
      * El Controller es responsable de inyectar el repositorio
      *
      * @param repository el puerto de persistencia
+     * @param personaEventos el puerto de eventos de cambio
      */
-    public CrearPersonaUseCase(PersonaRepository personaRepository) {
+    public CrearPersonaUseCase(PersonaRepository personaRepository, PersonaEventos personaEventos) {
         this.personaRepository = personaRepository;
+        this.personaEventos = personaEventos;
     }
 
     /**
@@ -32,7 +37,11 @@ public class CrearPersonaUseCase {
         persona.validar();
 
         // Guardar
-        return personaRepository.save(persona);
+        Persona guardada = personaRepository.save(persona);
+
+        // Publicar el cambio (misma transacción)
+        personaEventos.publicar(EventoPersona.creada(guardada));
+        return guardada;
     }
 
 }
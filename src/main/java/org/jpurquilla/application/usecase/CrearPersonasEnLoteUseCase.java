@@ -0,0 +1,64 @@
+package org.jpurquilla.application.usecase;
+
+import org.jpurquilla.application.port.input.ResultadoCreacion;
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.PersonaEventos;
+import org.jpurquilla.application.port.output.PersonaRepository;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.ErrorValidacion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class CrearPersonasEnLoteUseCase {
+    private final PersonaRepository personaRepository;
+    private final PersonaEventos personaEventos;
+
+    public CrearPersonasEnLoteUseCase(PersonaRepository personaRepository, PersonaEventos personaEventos) {
+        this.personaRepository = personaRepository;
+        this.personaEventos = personaEventos;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Crear Personas en lote
+     *
+     * 1. Valida TODO el lote (las inválidas quedan rechazadas con todos sus errores)
+     * 2. Guarda las válidas con una sola llamada al repositorio
+     * 3. Publica un evento CREADA por cada una (misma transacción)
+     *
+     * @param personas las personas de dominio (mapeadas desde DTO)
+     * @return un resultado por persona, en el mismo orden que la entrada
+     */
+    public List<ResultadoCreacion> ejecutar(List<Persona> personas) {
+        ResultadoCreacion[] resultados = new ResultadoCreacion[personas.size()];
+        List<Persona> validas = new ArrayList<>(personas.size());
+        List<Integer> indicesValidas = new ArrayList<>(personas.size());
+
+        // Validar (todos los errores de cada una, no solo el primero)
+        for (int i = 0; i < personas.size(); i++) {
+            Persona persona = personas.get(i);
+            List<ErrorValidacion> errores = persona.erroresDeValidacion();
+            if (errores.isEmpty()) {
+                validas.add(persona);
+                indicesValidas.add(i);
+            } else {
+                resultados[i] = ResultadoCreacion.rechazada(i, errores.stream()
+                        .map(ErrorValidacion::descripcion)
+                        .collect(Collectors.joining("; ")));
+            }
+        }
+
+        // Guardar
+        if (!validas.isEmpty()) {
+            List<Persona> guardadas = personaRepository.saveAll(validas);
+            for (int j = 0; j < guardadas.size(); j++) {
+                int indice = indicesValidas.get(j);
+                resultados[indice] = ResultadoCreacion.creada(indice, guardadas.get(j));
+            }
+            personaEventos.publicarTodos(guardadas.stream().map(EventoPersona::creada).toList());
+        }
+
+        return List.of(resultados);
+    }
+}
@@ -1,14 +1,19 @@
 package org.jpurquilla.application.usecase;
 
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.PersonaEventos;
 import org.jpurquilla.application.port.output.PersonaRepository;
 import org.jpurquilla.domain.exceptions.PersonaNotFoundException;
+import org.jpurquilla.domain.exceptions.PersonaVersionConflictException;
 
 public class EliminarPersonaUseCase {
     private final PersonaRepository personaRepository;
+    private final PersonaEventos personaEventos;
 
 
-    public EliminarPersonaUseCase(PersonaRepository personaRepository) {
+    public EliminarPersonaUseCase(PersonaRepository personaRepository, PersonaEventos personaEventos) {
         this.personaRepository = personaRepository;
+        this.personaEventos = personaEventos;
     }
 
     /**
@@ -18,12 +23,38 @@ public class EliminarPersonaUseCase {
      * @throws PersonaNotFoundException si no existe
      */
     public void ejecutar(Long id) {
-        boolean existe = personaRepository.findById(id).isPresent();
+        // Un solo DELETE: si no borró ninguna fila, la persona no existía
+        boolean eliminada = personaRepository.deleteById(id).isPresent();
 
-        if (!existe) {
+        if (!eliminada) {
             throw new PersonaNotFoundException(id);
         }
 
-        personaRepository.deleteById(id);
+        // Publicar el cambio (misma transacción)
+        personaEventos.publicar(EventoPersona.eliminada(id));
+    }
+
+    /**
+     * Ejecuta el caso de uso: Eliminar si sigue en la versión indicada
+     *
+     * @param id el identificador de la persona a eliminar
+     * @param versionEsperada la versión que leyó el cliente
+     * @throws PersonaNotFoundException si no existe
+     * @throws PersonaVersionConflictException si la versión no coincide
+     */
+    public void ejecutar(Long id, Long versionEsperada) {
+        if (versionEsperada == null) {
+            ejecutar(id);
+            return;
+        }
+
+        if (personaRepository.deleteByIdAndVersion(id, versionEsperada).isEmpty()) {
+            if (personaRepository.existsById(id)) {
+                throw new PersonaVersionConflictException(id, versionEsperada);
+            }
+            throw new PersonaNotFoundException(id);
+        }
+
+        personaEventos.publicar(EventoPersona.eliminada(id));
     }
 }
@@ -0,0 +1,21 @@
+package org.jpurquilla.application.usecase;
+
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.PersonaRepository;
+
+public class ObtenerEstadisticasUseCase {
+    private final PersonaRepository personaRepository;
+
+    public ObtenerEstadisticasUseCase(PersonaRepository personaRepository) {
+        this.personaRepository = personaRepository;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Obtener totales demográficos
+     *
+     * @return total, cantidad por sexo, por rango de edad y edad promedio
+     */
+    public EstadisticasPersonas ejecutar() {
+        return personaRepository.estadisticasDemograficas();
+    }
+}
@@ -0,0 +1,25 @@
+package org.jpurquilla.application.usecase;
+
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.PersonaEventos;
+
+import java.util.List;
+
+public class ObtenerEventosUseCase {
+    private final PersonaEventos personaEventos;
+
+    public ObtenerEventosUseCase(PersonaEventos personaEventos) {
+        this.personaEventos = personaEventos;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Leer cambios desde un offset
+     *
+     * @param despuesDeOffset el último offset ya procesado (0 = desde el inicio)
+     * @param limite el máximo de eventos a devolver
+     * @return los eventos siguientes, ordenados por offset
+     */
+    public List<EventoPersona> ejecutar(long despuesDeOffset, int limite) {
+        return personaEventos.leerDesde(despuesDeOffset, limite);
+    }
+}
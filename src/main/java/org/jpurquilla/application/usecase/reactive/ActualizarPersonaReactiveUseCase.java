@@ -0,0 +1,41 @@
+package org.jpurquilla.application.usecase.reactive;
+
+import io.smallrye.mutiny.Uni;
+import org.jpurquilla.application.port.output.PersonaReactiveRepository;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.exceptions.PersonaNotFoundException;
+
+public class ActualizarPersonaReactiveUseCase {
+    private final PersonaReactiveRepository personaRepository;
+
+    public ActualizarPersonaReactiveUseCase(PersonaReactiveRepository personaRepository) {
+        this.personaRepository = personaRepository;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Actualizar Persona (no bloqueante)
+     *
+     * Valida los datos nuevos y ejecuta un solo UPDATE.
+     * Si no actualizó ninguna fila, la persona no existía.
+     *
+     * @param id el identificador de la persona a actualizar
+     * @param datosNuevos la persona con los datos nuevos (mapeada desde DTO)
+     * @return la persona actualizada
+     */
+    public Uni<Persona> ejecutar(Long id, Persona datosNuevos) {
+        Persona persona = new Persona(id, datosNuevos.getNombre(), datosNuevos.getApellido(),
+                datosNuevos.getSexo(), datosNuevos.getEdad());
+
+        return Uni.createFrom().item(persona)
+                // Validar
+                .invoke(Persona::validar)
+                // Guardar
+                .chain(personaRepository::update)
+                .map(actualizada -> {
+                    if (!actualizada) {
+                        throw new PersonaNotFoundException(id);
+                    }
+                    return persona;
+                });
+    }
+}
@@ -0,0 +1,25 @@
+package org.jpurquilla.application.usecase.reactive;
+
+import io.smallrye.mutiny.Uni;
+import org.jpurquilla.application.port.output.PersonaReactiveRepository;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.exceptions.PersonaNotFoundException;
+
+public class BuscarPersonaPorIdReactiveUseCase {
+    private final PersonaReactiveRepository personaRepository;
+
+    public BuscarPersonaPorIdReactiveUseCase(PersonaReactiveRepository personaRepository) {
+        this.personaRepository = personaRepository;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Buscar por ID (no bloqueante)
+     *
+     * @param id el identificador de la persona
+     * @return la persona (falla con PersonaNotFoundException si no existe)
+     */
+    public Uni<Persona> ejecutar(Long id) {
+        return personaRepository.findById(id)
+                .onItem().ifNull().failWith(() -> new PersonaNotFoundException(id));
+    }
+}
@@ -0,0 +1,25 @@
+package org.jpurquilla.application.usecase.reactive;
+
+import io.smallrye.mutiny.Multi;
+import org.jpurquilla.application.port.output.PersonaReactiveRepository;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+
+public class BuscarPersonaPorSexoReactiveUseCase {
+    private final PersonaReactiveRepository personaRepository;
+
+    public BuscarPersonaPorSexoReactiveUseCase(PersonaReactiveRepository personaRepository) {
+        this.personaRepository = personaRepository;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Buscar por Sexo (no bloqueante)
+     *
+     * @param sexoString "M" o "F"
+     * @return las personas con ese sexo
+     */
+    public Multi<Persona> ejecutar(String sexoString) {
+        return Multi.createFrom().item(() -> Sexo.fromCodigo(sexoString))
+                .flatMap(personaRepository::findBySexo);
+    }
+}
@@ -0,0 +1,22 @@
+package org.jpurquilla.application.usecase.reactive;
+
+import io.smallrye.mutiny.Multi;
+import org.jpurquilla.application.port.output.PersonaReactiveRepository;
+import org.jpurquilla.domain.entity.Persona;
+
+public class BuscarTodasLasPersonasReactiveUseCase {
+    private final PersonaReactiveRepository personaRepository;
+
+    public BuscarTodasLasPersonasReactiveUseCase(PersonaReactiveRepository personaRepository) {
+        this.personaRepository = personaRepository;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Obtener todas (no bloqueante)
+     *
+     * @return todas las personas
+     */
+    public Multi<Persona> ejecutar() {
+        return personaRepository.findAll();
+    }
+}
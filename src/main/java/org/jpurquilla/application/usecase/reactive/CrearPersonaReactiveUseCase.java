@@ -0,0 +1,27 @@
+package org.jpurquilla.application.usecase.reactive;
+
+import io.smallrye.mutiny.Uni;
+import org.jpurquilla.application.port.output.PersonaReactiveRepository;
+import org.jpurquilla.domain.entity.Persona;
+
+public class CrearPersonaReactiveUseCase {
+    private final PersonaReactiveRepository personaRepository;
+
+    public CrearPersonaReactiveUseCase(PersonaReactiveRepository personaRepository) {
+        this.personaRepository = personaRepository;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Crear Persona (no bloqueante)
+     *
+     * @param persona la persona de dominio (ya mapeada desde DTO)
+     * @return la persona guardada con ID
+     */
+    public Uni<Persona> ejecutar(Persona persona) {
+        // Validar (si falla, el Uni falla con PersonaValidationException)
+        return Uni.createFrom().item(persona)
+                .invoke(Persona::validar)
+                // Guardar
+                .chain(personaRepository::save);
+    }
+}
@@ -0,0 +1,31 @@
+package org.jpurquilla.application.usecase.reactive;
+
+import io.smallrye.mutiny.Uni;
+import org.jpurquilla.application.port.output.PersonaReactiveRepository;
+import org.jpurquilla.domain.exceptions.PersonaNotFoundException;
+
+public class EliminarPersonaReactiveUseCase {
+    private final PersonaReactiveRepository personaRepository;
+
+    public EliminarPersonaReactiveUseCase(PersonaReactiveRepository personaRepository) {
+        this.personaRepository = personaRepository;
+    }
+
+    /**
+     * Ejecuta el caso de uso: Eliminar (no bloqueante)
+     *
+     * Un solo DELETE: si no borró ninguna fila, la persona no existía.
+     *
+     * @param id el identificador de la persona a eliminar
+     * @return completa vacío (falla con PersonaNotFoundException si no existe)
+     */
+    public Uni<Void> ejecutar(Long id) {
+        return personaRepository.deleteById(id)
+                .invoke(eliminada -> {
+                    if (!eliminada) {
+                        throw new PersonaNotFoundException(id);
+                    }
+                })
+                .replaceWithVoid();
+    }
+}
@@ -1,8 +1,12 @@
 package org.jpurquilla.domain.entity;
 
 import org.jpurquilla.domain.exceptions.PersonaValidationException;
+import org.jpurquilla.domain.vo.ErrorValidacion;
 import org.jpurquilla.domain.vo.Sexo;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -12,8 +16,9 @@ import java.util.Objects;
  *
  * ¿QUÉ TIENE?
  * - Campos: id, nombre, apellido, edad, sexo
+ * - Control de cambios: version y modificado (los asigna la persistencia)
  * - Constructores: vacío, con parámetros, completo
- * - Validación: método validar()
+ * - Validación: métodos validar() y erroresDeValidacion()
  * - Comportamiento: método actualizar()
  * - Getters y setters
  *
@@ -38,6 +43,9 @@ public class Persona {
     private String apellido;
     private Sexo sexo;
     private Integer edad;
+    // Se incrementa en cada modificación; sirve para detectar escrituras concurrentes
+    private Long version;
+    private Instant modificado;
 
     public Persona() {
     }
@@ -67,40 +75,62 @@ public class Persona {
      *
      * Se llama desde los Use Cases ANTES de guardar.
      *
-     * Si hay error, lanza PersonaValidationException (excepción de dominio).
+     * Si hay error, lanza PersonaValidationException (excepción de dominio)
+     * con el PRIMERO (en orden: nombre, apellido, edad, sexo).
      * El GlobalExceptionHandler la captura y la convierte en HTTP 400.
      */
     public void validar() {
-        // Validar nombre
-        if (nombre == null || nombre.isBlank()) {
-            throw new PersonaValidationException("nombre", "No puede estar vacío");
+        List<ErrorValidacion> errores = erroresDeValidacion();
+        if (!errores.isEmpty()) {
+            ErrorValidacion primero = errores.get(0);
+            throw new PersonaValidationException(primero.campo(), primero.mensaje());
         }
+    }
 
-        if (nombre.length() < 2) {
-            throw new PersonaValidationException("nombre", "Debe tener al menos 2 caracteres");
-        }
+    /**
+     * Las mismas reglas que validar(), pero devuelve TODOS los errores
+     * (a lo sumo uno por campo) en vez de lanzar el primero.
+     * Útil en lotes: el cliente corrige todo de una vez.
+     *
+     * @return los errores en orden nombre, apellido, edad, sexo (vacía si es válida)
+     */
+    public List<ErrorValidacion> erroresDeValidacion() {
+        List<ErrorValidacion> errores = new ArrayList<>(0);
 
-        // Validar apellido
-        if (apellido == null || apellido.isBlank()) {
-            throw new PersonaValidationException("apellido", "No puede estar vacío");
-        }
+        // Validar nombre
+        agregar(errores, "nombre", revisarTexto(nombre));
 
-        if (apellido.length() < 2) {
-            throw new PersonaValidationException("apellido", "Debe tener al menos 2 caracteres");
-        }
+        // Validar apellido
+        agregar(errores, "apellido", revisarTexto(apellido));
 
         // Validar edad
         if (edad == null) {
-            throw new PersonaValidationException("edad", "No puede ser nula");
-        }
-
-        if (edad < 0 || edad > 150) {
-            throw new PersonaValidationException("edad", "Debe estar entre 0 y 150");
+            agregar(errores, "edad", "No puede ser nula");
+        } else if (edad < 0 || edad > 150) {
+            agregar(errores, "edad", "Debe estar entre 0 y 150");
         }
 
         // Validar sexo
         if (sexo == null) {
-            throw new PersonaValidationException("sexo", "No puede ser nulo");
+            agregar(errores, "sexo", "No puede ser nulo");
+        }
+        return errores;
+    }
+
+    // Reglas comunes de nombre y apellido; null si cumple
+    private static String revisarTexto(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return "No puede estar vacío";
+        }
+        if (texto.length() < 2) {
+            return "Debe tener al menos 2 caracteres";
+        }
+        return null;
+    }
+
+    private static void agregar(List<ErrorValidacion> errores, String campo, String mensaje) {
+        if (mensaje != null) {
+            errores.add(new ErrorValidacion(campo, mensaje));
         }
     }
 
@@ -160,6 +190,22 @@ public class Persona {
         this.edad = edad;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getModificado() {
+        return modificado;
+    }
+
+    public void setModificado(Instant modificado) {
+        this.modificado = modificado;
+    }
+
     @Override
     public String toString() {
         return "Persona{" +
@@ -168,6 +214,7 @@ public class Persona {
                 ", apellido='" + apellido + '\'' +
                 ", sexo=" + sexo +
                 ", edad=" + edad +
+                ", version=" + version +
                 '}';
     }
 }
@@ -1,5 +1,7 @@
 package org.jpurquilla.domain.exceptions;
 
+import org.jpurquilla.domain.vo.ErrorValidacion;
+
 /**
  * Excepción de Dominio: PersonaValidationException
  *
@@ -25,6 +27,6 @@ public class PersonaValidationException extends RuntimeException{
      * Ejemplo: "Validación fallida en 'edad': Debe estar entre 0 y 150"
      */
     public PersonaValidationException(String campo, String mensaje) {
-        super("Validación fallida en '" + campo + "': " + mensaje);
+        super(new ErrorValidacion(campo, mensaje).descripcion());
     }
 }
@@ -0,0 +1,20 @@
+package org.jpurquilla.domain.exceptions;
+
+/**
+ * Excepción de Dominio: PersonaVersionConflictException
+ *
+ * Se lanza cuando se intenta modificar o eliminar una persona indicando
+ * la versión que se leyó, y la persona ya cambió desde entonces
+ * (otra petición la modificó primero).
+ *
+ * El GlobalExceptionHandler la convierte en HTTP 412 Precondition Failed.
+ */
+public class PersonaVersionConflictException extends RuntimeException {
+    public PersonaVersionConflictException(String mensaje) {
+        super(mensaje);
+    }
+
+    public PersonaVersionConflictException(Long id, Long versionEsperada) {
+        super("Persona con ID " + id + " fue modificada: ya no está en la versión " + versionEsperada);
+    }
+}
@@ -0,0 +1,21 @@
+package org.jpurquilla.domain.vo;
+
+/**
+ * Value Object de Dominio: ErrorValidacion
+ *
+ * Una regla de negocio que la Persona no cumple (ver Persona.erroresDeValidacion()).
+ *
+ * @param campo el campo que falla ("nombre", "edad", ...), o null si el error
+ *              no es de un campo (por ejemplo, al convertir la entrada)
+ * @param mensaje el motivo ("Debe estar entre 0 y 150")
+ */
+public record ErrorValidacion(String campo, String mensaje) {
+
+    /**
+     * @return el mismo texto que PersonaValidationException:
+     *         "Validación fallida en 'edad': Debe estar entre 0 y 150"
+     */
+    public String descripcion() {
+        return campo == null ? mensaje : "Validación fallida en '" + campo + "': " + mensaje;
+    }
+}
@@ -0,0 +1,46 @@
+package org.jpurquilla.domain.vo;
+
+/**
+ * Enum de Dominio: RangoEdad
+ *
+ * Rangos de edad para los totales demográficos.
+ * Cubren todo el rango válido de edad (0-150, ver Persona.validar()).
+ */
+public enum RangoEdad {
+    MENOR_DE_18("0-17", 0, 17),
+    DE_18_A_29("18-29", 18, 29),
+    DE_30_A_44("30-44", 30, 44),
+    DE_45_A_64("45-64", 45, 64),
+    DESDE_65("65+", 65, Integer.MAX_VALUE);
+
+    private final String etiqueta;   // Como se muestra: "18-29"
+    private final int desde;
+    private final int hasta;
+
+    RangoEdad(String etiqueta, int desde, int hasta) {
+        this.etiqueta = etiqueta;
+        this.desde = desde;
+        this.hasta = hasta;
+    }
+
+    public String getEtiqueta() {
+        return etiqueta;
+    }
+
+    /**
+     * Devuelve el rango al que pertenece una edad.
+     * Ejemplo: 30 → RangoEdad.DE_30_A_44
+     *
+     * @param edad la edad (0 o mayor)
+     * @return el rango que la contiene
+     * @throws IllegalArgumentException si la edad es negativa
+     */
+    public static RangoEdad de(int edad) {
+        for (RangoEdad rango : values()) {
+            if (edad >= rango.desde && edad <= rango.hasta) {
+                return rango;
+            }
+        }
+        throw new IllegalArgumentException("Edad fuera de rango: " + edad);
+    }
+}
@@ -0,0 +1,92 @@
+package org.jpurquilla.framework.adapters.coalescencia;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa lecturas idénticas concurrentes en una sola ejecución (single-flight).
+ *
+ * El primer hilo que pide una clave ejecuta la lectura; los que piden la
+ * misma clave mientras tanto esperan y reciben el mismo resultado (o la
+ * misma excepción). Al terminar, la clave se libera: la siguiente petición
+ * vuelve a leer. No es una caché, solo une las lecturas que se solapan.
+ *
+ * La clave se libera ANTES de publicar el resultado, para que una petición
+ * que llega después de terminada la lectura no reciba un valor viejo.
+ *
+ * El resultado se comparte entre hilos: solo sirve para valores inmutables.
+ *
+ * @param <K> la clave de la lectura (debe implementar equals/hashCode)
+ * @param <V> el resultado
+ */
+public class AgrupadorLecturas<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> enCurso = new ConcurrentHashMap<>();
+    private final LongAdder ejecutadas = new LongAdder();
+    private final LongAdder agrupadas = new LongAdder();
+
+    /**
+     * @param clave identifica la lectura
+     * @param lectura la lectura a ejecutar si no hay otra igual en curso
+     * @return el resultado de la lectura (propia o de otro hilo)
+     */
+    public V ejecutar(K clave, Supplier<V> lectura) {
+        CompletableFuture<V> propia = new CompletableFuture<>();
+        CompletableFuture<V> existente = enCurso.putIfAbsent(clave, propia);
+        if (existente != null) {
+            agrupadas.increment();
+            return esperar(existente);
+        }
+
+        ejecutadas.increment();
+        V valor;
+        try {
+            valor = lectura.get();
+        } catch (RuntimeException | Error e) {
+            enCurso.remove(clave, propia);
+            propia.completeExceptionally(e);
+            throw e;
+        }
+        enCurso.remove(clave, propia);
+        propia.complete(valor);
+        return valor;
+    }
+
+    /**
+     * Lecturas que fueron a la BD.
+     */
+    public long ejecutadas() {
+        return ejecutadas.sum();
+    }
+
+    /**
+     * Peticiones que esperaron la lectura de otro hilo en vez de ir a la BD.
+     */
+    public long agrupadas() {
+        return agrupadas.sum();
+    }
+
+    /**
+     * Claves con una lectura en curso en este momento.
+     */
+    public int enCurso() {
+        return enCurso.size();
+    }
+
+    // Devuelve el resultado del otro hilo o relanza su excepción tal cual
+    private static <V> V esperar(CompletableFuture<V> lectura) {
+        try {
+            return lectura.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+}
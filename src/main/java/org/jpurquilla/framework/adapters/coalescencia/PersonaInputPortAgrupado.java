@@ -0,0 +1,169 @@
+package org.jpurquilla.framework.adapters.coalescencia;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.jpurquilla.application.port.input.PersonaInputPort;
+import org.jpurquilla.application.port.input.ResultadoBusqueda;
+import org.jpurquilla.application.port.input.ResultadoCreacion;
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.application.port.output.VersionColeccion;
+import org.jpurquilla.domain.entity.Persona;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de PersonaInputPort que agrupa lecturas concurrentes idénticas.
+ *
+ * Cuando muchos clientes piden a la vez la misma persona (o el mismo sexo),
+ * solo una petición ejecuta BuscarPersonaPorIdUseCase / BuscarPersonaPorSexoUseCase
+ * y las demás reciben su resultado. Ver AgrupadorLecturas.
+ *
+ * ¿Qué se agrupa?
+ * - consultarPorId y consultarPorSexo: devuelven PersonaVista (inmutable),
+ *   así que el resultado se puede compartir entre peticiones
+ * - buscarPorId / buscarPorSexo NO: devuelven Persona, que es mutable
+ *
+ * Si el que llama tiene una transacción activa, la lectura no se agrupa:
+ * debe ver sus propios cambios, no el resultado de otra transacción.
+ *
+ * MÉTRICAS (Prometheus en /q/metrics):
+ * - persona.coalescencia.lecturas{operacion, resultado=ejecutada|agrupada}
+ * - persona.coalescencia.ratio{operacion}: agrupadas / total
+ * - persona.coalescencia.en_curso{operacion}: lecturas en curso
+ */
+public class PersonaInputPortAgrupado implements PersonaInputPort {
+    private static final String LECTURAS = "persona.coalescencia.lecturas";
+    private static final String RATIO = "persona.coalescencia.ratio";
+    private static final String EN_CURSO = "persona.coalescencia.en_curso";
+
+    private final PersonaInputPort delegado;
+    private final TransactionSynchronizationRegistry transacciones;
+    private final AgrupadorLecturas<Long, PersonaVista> porId = new AgrupadorLecturas<>();
+    private final AgrupadorLecturas<String, List<PersonaVista>> porSexo = new AgrupadorLecturas<>();
+
+    public PersonaInputPortAgrupado(PersonaInputPort delegado,
+                                    TransactionSynchronizationRegistry transacciones,
+                                    MeterRegistry registry) {
+        this.delegado = delegado;
+        this.transacciones = transacciones;
+        registrarMetricas(registry, "consultarPorId", porId);
+        registrarMetricas(registry, "consultarPorSexo", porSexo);
+    }
+
+    @Override
+    public PersonaVista consultarPorId(Long id) {
+        if (enTransaccion()) {
+            return delegado.consultarPorId(id);
+        }
+        return porId.ejecutar(id, () -> delegado.consultarPorId(id));
+    }
+
+    @Override
+    public List<PersonaVista> consultarPorSexo(String sexoString) {
+        if (enTransaccion() || sexoString == null) {
+            return delegado.consultarPorSexo(sexoString);
+        }
+        return porSexo.ejecutar(sexoString,
+                () -> Collections.unmodifiableList(delegado.consultarPorSexo(sexoString)));
+    }
+
+    @Override
+    public List<PersonaVista> consultarPorNombre(String texto, int limite) {
+        return delegado.consultarPorNombre(texto, limite);
+    }
+
+    @Override
+    public Persona crear(Persona persona) {
+        return delegado.crear(persona);
+    }
+
+    @Override
+    public List<ResultadoCreacion> crearEnLote(List<Persona> personas) {
+        return delegado.crearEnLote(personas);
+    }
+
+    @Override
+    public Persona actualizar(Long id, Persona datosNuevos) {
+        return delegado.actualizar(id, datosNuevos);
+    }
+
+    @Override
+    public List<Persona> buscar(FiltroPersona filtro) {
+        return delegado.buscar(filtro);
+    }
+
+    @Override
+    public List<ResultadoBusqueda> consultarPorIds(List<Long> ids) {
+        return delegado.consultarPorIds(ids);
+    }
+
+    @Override
+    public List<PersonaVista> consultarPagina(Long despuesDeId, int limite) {
+        return delegado.consultarPagina(despuesDeId, limite);
+    }
+
+    @Override
+    public Stream<PersonaVista> consultarTodasEnStream() {
+        return delegado.consultarTodasEnStream();
+    }
+
+    @Override
+    public VersionColeccion versionDeTodas() {
+        return delegado.versionDeTodas();
+    }
+
+    @Override
+    public VersionColeccion versionPorSexo(String sexoString) {
+        return delegado.versionPorSexo(sexoString);
+    }
+
+    @Override
+    public EstadisticasPersonas obtenerEstadisticas() {
+        return delegado.obtenerEstadisticas();
+    }
+
+    @Override
+    public List<EventoPersona> obtenerEventos(long despuesDeOffset, int limite) {
+        return delegado.obtenerEventos(despuesDeOffset, limite);
+    }
+
+    @Override
+    public void eliminar(Long id, Long versionEsperada) {
+        delegado.eliminar(id, versionEsperada);
+    }
+
+    private boolean enTransaccion() {
+        return transacciones != null && transacciones.getTransactionStatus() == Status.STATUS_ACTIVE;
+    }
+
+    private static void registrarMetricas(MeterRegistry registry, String operacion, AgrupadorLecturas<?, ?> agrupador) {
+        FunctionCounter.builder(LECTURAS, agrupador, AgrupadorLecturas::ejecutadas)
+                .tag("operacion", operacion)
+                .tag("resultado", "ejecutada")
+                .register(registry);
+        FunctionCounter.builder(LECTURAS, agrupador, AgrupadorLecturas::agrupadas)
+                .tag("operacion", operacion)
+                .tag("resultado", "agrupada")
+                .register(registry);
+        Gauge.builder(RATIO, agrupador, PersonaInputPortAgrupado::ratio)
+                .tag("operacion", operacion)
+                .register(registry);
+        Gauge.builder(EN_CURSO, agrupador, AgrupadorLecturas::enCurso)
+                .tag("operacion", operacion)
+                .register(registry);
+    }
+
+    private static double ratio(AgrupadorLecturas<?, ?> agrupador) {
+        long agrupadas = agrupador.agrupadas();
+        long total = agrupadas + agrupador.ejecutadas();
+        return total == 0 ? 0 : (double) agrupadas / total;
+    }
+}
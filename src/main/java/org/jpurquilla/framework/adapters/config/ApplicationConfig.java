@@ -1,13 +1,39 @@
 package org.jpurquilla.framework.adapters.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.configuration.MemorySize;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Singleton;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jpurquilla.application.port.input.PersonaInputPort;
+import org.jpurquilla.application.port.output.PersonaEventos;
 import org.jpurquilla.application.port.output.PersonaRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
 import org.jpurquilla.application.service.PersonaService;
+import org.jpurquilla.application.service.ProcesadorEnLote;
+import org.jpurquilla.framework.adapters.coalescencia.PersonaInputPortAgrupado;
+import org.jpurquilla.framework.adapters.diferida.AltasDiferidas;
+import org.jpurquilla.framework.adapters.diferida.PersonaInputPortDiferido;
+import org.jpurquilla.framework.adapters.metrics.MetricasPersona;
+import org.jpurquilla.framework.adapters.metrics.PersonaInputPortMedido;
+import org.jpurquilla.framework.adapters.output.archivo.ArchivoPersonaRepository;
+import org.jpurquilla.framework.adapters.output.busqueda.IndiceNombresPersonaRepository;
+import org.jpurquilla.framework.adapters.output.cache.CachingPersonaRepository;
+import org.jpurquilla.framework.adapters.output.columnar.ColumnarPersonaRepository;
+import org.jpurquilla.framework.adapters.output.estadisticas.ContadoresPersonaRepository;
+
+import java.nio.file.Path;
+import java.time.Duration;
 
 @ApplicationScoped
 public class ApplicationConfig {
+    static final String ALMACEN_COLUMNAR = "columnar";
+    static final String ALMACEN_ARCHIVO = "archivo";
+
     private final PersonaRepository personaRepository;
 
     public ApplicationConfig(PersonaRepository personaRepository) {
@@ -15,24 +41,207 @@ public class ApplicationConfig {
     }
 
     /**
-     * ÚNICO @Produces: PersonaInputPort
+     * @Produces: CachingPersonaRepository
+     *
+     * Envuelve el adaptador de persistencia con la caché de lecturas.
+     * @Typed evita que Quarkus lo vea también como PersonaRepository
+     * (habría dos candidatos para el mismo puerto).
+     *
+     * @return el repositorio con caché (decorador del adaptador real)
+     */
+    @Produces
+    @Singleton
+    @Typed(CachingPersonaRepository.class)
+    public CachingPersonaRepository personaRepositoryConCache(
+            TransactionSynchronizationRegistry transacciones,
+            @ConfigProperty(name = "persona.cache.max-entradas", defaultValue = "10000") long maxEntradas,
+            @ConfigProperty(name = "persona.cache.ttl", defaultValue = "10M") Duration ttl) {
+        return new CachingPersonaRepository(personaRepository, transacciones, maxEntradas, ttl);
+    }
+
+    /**
+     * @Produces: ColumnarPersonaRepository
+     *
+     * Envuelve el adaptador de persistencia con la tabla columnar en memoria.
+     * Solo se crea (y se carga, ver CargaAlmacenColumnar) con persona.almacen=columnar.
+     *
+     * @return el repositorio en memoria (decorador del adaptador real)
+     */
+    @Produces
+    @Singleton
+    @Typed(ColumnarPersonaRepository.class)
+    public ColumnarPersonaRepository personaRepositoryColumnar(TransactionSynchronizationRegistry transacciones) {
+        return new ColumnarPersonaRepository(personaRepository, transacciones);
+    }
+
+    /**
+     * @Produces: ArchivoPersonaRepository
+     *
+     * Persistencia en archivos mapeados en memoria, en lugar del adaptador JPA.
+     * Solo se crea (y se abre, ver MantenimientoAlmacenArchivo) con persona.almacen=archivo.
+     *
+     * @return el repositorio en archivo (no envuelve al adaptador JPA: lo reemplaza)
+     */
+    @Produces
+    @Singleton
+    @Typed(ArchivoPersonaRepository.class)
+    public ArchivoPersonaRepository personaRepositoryArchivo(
+            TransactionSynchronizationRegistry transacciones,
+            @ConfigProperty(name = "persona.archivo.directorio", defaultValue = "data/personas") Path directorio,
+            @ConfigProperty(name = "persona.archivo.tamanio-segmento", defaultValue = "64M") MemorySize tamanioSegmento,
+            @ConfigProperty(name = "persona.archivo.sincronizar", defaultValue = "true") boolean sincronizar) {
+        return new ArchivoPersonaRepository(directorio, tamanioSegmento.asLongValue(), sincronizar, transacciones);
+    }
+
+    /**
+     * @Produces: IndiceNombresPersonaRepository
      *
-     * Produce PersonaService que implementa PersonaInputPort.
-     * PersonaService instancia los 6 Use Cases internamente.
+     * Envuelve el repositorio de lecturas (según persona.almacen) con el índice
+     * de nombres en memoria para el autocompletado (findVistasByNombre).
+     * Solo se crea (y se reconstruye, ver ReconstruccionIndiceNombres) con
+     * persona.busqueda.indice.habilitado=true.
+     *
+     * @return el repositorio con índice de nombres (decorador del repositorio con caché, columnar o en archivo)
+     */
+    @Produces
+    @Singleton
+    @Typed(IndiceNombresPersonaRepository.class)
+    public IndiceNombresPersonaRepository personaRepositoryConIndiceNombres(
+            Instance<CachingPersonaRepository> personaRepositoryConCache,
+            Instance<ColumnarPersonaRepository> personaRepositoryColumnar,
+            Instance<ArchivoPersonaRepository> personaRepositoryArchivo,
+            TransactionSynchronizationRegistry transacciones,
+            @ConfigProperty(name = "persona.almacen", defaultValue = "jpa") String almacen) {
+        return new IndiceNombresPersonaRepository(
+                almacen(almacen, personaRepositoryConCache, personaRepositoryColumnar, personaRepositoryArchivo),
+                transacciones);
+    }
+
+    /**
+     * @Produces: ContadoresPersonaRepository
+     *
+     * Envuelve el repositorio de lecturas con los contadores demográficos
+     * y la versión de las colecciones (VersionesPersonas, para los ETag).
+     * Orden según persona.almacen:
+     * - jpa:      Contadores → Índice de nombres → Caché → Adaptador JPA
+     * - columnar: Contadores → Índice de nombres → Columnar → Adaptador JPA
+     * - archivo:  Contadores → Índice de nombres → Archivo
+     * Sin el índice (persona.busqueda.indice.habilitado=false), Contadores
+     * envuelve directamente al almacén.
+     * ReconciliacionContadores lo carga al arrancar y lo reconcilia periódicamente.
+     *
+     * @return el repositorio con contadores
+     */
+    @Produces
+    @Singleton
+    @Typed(ContadoresPersonaRepository.class)
+    public ContadoresPersonaRepository personaRepositoryConContadores(
+            Instance<IndiceNombresPersonaRepository> personaRepositoryConIndiceNombres,
+            Instance<CachingPersonaRepository> personaRepositoryConCache,
+            Instance<ColumnarPersonaRepository> personaRepositoryColumnar,
+            Instance<ArchivoPersonaRepository> personaRepositoryArchivo,
+            TransactionSynchronizationRegistry transacciones,
+            @ConfigProperty(name = "persona.almacen", defaultValue = "jpa") String almacen,
+            @ConfigProperty(name = "persona.busqueda.indice.habilitado", defaultValue = "true") boolean indiceNombres) {
+        PersonaRepository repositorio = indiceNombres
+                ? personaRepositoryConIndiceNombres.get()
+                : almacen(almacen, personaRepositoryConCache, personaRepositoryColumnar, personaRepositoryArchivo);
+        return new ContadoresPersonaRepository(repositorio, transacciones);
+    }
+
+    // Solo se pide (y se crea) el almacén elegido
+    private static PersonaRepository almacen(String almacen,
+                                             Instance<CachingPersonaRepository> personaRepositoryConCache,
+                                             Instance<ColumnarPersonaRepository> personaRepositoryColumnar,
+                                             Instance<ArchivoPersonaRepository> personaRepositoryArchivo) {
+        return switch (almacen) {
+            case ALMACEN_COLUMNAR -> personaRepositoryColumnar.get();
+            case ALMACEN_ARCHIVO -> personaRepositoryArchivo.get();
+            default -> personaRepositoryConCache.get();
+        };
+    }
+
+    /**
+     * @Produces: ProcesadorEnLote
+     *
+     * Mapeo y validación en paralelo de lotes grandes (POST /persona/lote).
+     * Con persona.lote.paralelismo=0 usa ForkJoinPool.commonPool() (un hilo
+     * por núcleo menos uno, más el que llama); con N > 0, un pool propio de N
+     * hilos que se libera al apagar (cerrarProcesadorEnLote).
+     * Lotes de hasta persona.lote.umbral-paralelo elementos no se reparten.
+     */
+    @Produces
+    @Singleton
+    public ProcesadorEnLote procesadorEnLote(
+            @ConfigProperty(name = "persona.lote.paralelismo", defaultValue = "0") int paralelismo,
+            @ConfigProperty(name = "persona.lote.umbral-paralelo", defaultValue = "1024") int umbral) {
+        return new ProcesadorEnLote(paralelismo, umbral);
+    }
+
+    void cerrarProcesadorEnLote(@Disposes ProcesadorEnLote procesador) {
+        procesador.cerrar();
+    }
+
+    /**
+     * @Produces: PersonaService
+     *
+     * El servicio sin decoradores: new PersonaService(personaRepositoryConContadores,
+     * personaEventos, personaRepositoryConContadores) (los contadores también dan la
+     * versión de las colecciones). PersonaService instancia los Use Cases internamente.
+     * @Typed evita que Quarkus lo vea también como PersonaInputPort; AltasDiferidas
+     * lo inyecta así para guardar sus lotes sin pasar por los decoradores.
+     *
+     * @return el servicio de aplicación
+     */
+    @Produces
+    @Singleton
+    @Typed(PersonaService.class)
+    public PersonaService personaServiceSinDecorar(ContadoresPersonaRepository personaRepositoryConContadores,
+                                                   PersonaEventos personaEventos) {
+        return new PersonaService(personaRepositoryConContadores, personaEventos, personaRepositoryConContadores);
+    }
+
+    /**
+     * @Produces: PersonaInputPort
+     *
+     * Produce PersonaService (como PersonaInputPort) con sus decoradores.
      *
      * FLUJO:
      * 1. PersonaController necesita PersonaInputPort
      * 2. Quarkus busca productor
      * 3. Encuentra este método
-     * 4. Ejecuta: new PersonaService(personaRepository)
-     * 5. PersonaService.__init__() crea los 6 Use Cases
-     * 6. Inyecta PersonaService en PersonaController
+     * 4. Recibe PersonaService (ver personaServiceSinDecorar)
+     * 5. PersonaService.__init__() ya creó los Use Cases
+     * 6. Lo envuelve en PersonaInputPortAgrupado (lecturas concurrentes idénticas
+     *    en una sola consulta), si persona.coalescencia.habilitada
+     * 7. Lo envuelve en PersonaInputPortDiferido (altas encoladas y guardadas
+     *    en lotes por AltasDiferidas), si persona.diferida.habilitada
+     * 8. Lo envuelve en PersonaInputPortMedido (latencia por caso de uso)
+     * 9. Inyecta el resultado en PersonaController
+     *
+     * Orden: Medido → Diferido → Agrupado → PersonaService. La latencia medida
+     * incluye la espera de las peticiones agrupadas y de los lotes.
      *
      * @return una instancia de PersonaService (como PersonaInputPort)
      */
     @Produces
     @ApplicationScoped
-    public PersonaInputPort personaService() {
-        return new PersonaService(personaRepository);
+    public PersonaInputPort personaService(PersonaService personaService,
+                                           MetricasPersona metricas,
+                                           TransactionSynchronizationRegistry transacciones,
+                                           MeterRegistry registry,
+                                           @ConfigProperty(name = "persona.coalescencia.habilitada", defaultValue = "true") boolean coalescencia,
+                                           Instance<AltasDiferidas> altasDiferidas,
+                                           @ConfigProperty(name = "persona.diferida.habilitada", defaultValue = "false") boolean diferida,
+                                           @ConfigProperty(name = "persona.diferida.confirmacion", defaultValue = "commit") PersonaInputPortDiferido.Confirmacion confirmacion,
+                                           @ConfigProperty(name = "persona.diferida.espera-maxima", defaultValue = "30s") Duration esperaMaxima) {
+        PersonaInputPort servicio = personaService;
+        if (coalescencia) {
+            servicio = new PersonaInputPortAgrupado(servicio, transacciones, registry);
+        }
+        if (diferida) {
+            servicio = new PersonaInputPortDiferido(servicio, altasDiferidas.get(), confirmacion, esperaMaxima);
+        }
+        return new PersonaInputPortMedido(servicio, metricas);
     }
 }
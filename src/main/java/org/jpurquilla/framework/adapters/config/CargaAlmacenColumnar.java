@@ -0,0 +1,43 @@
+package org.jpurquilla.framework.adapters.config;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jpurquilla.framework.adapters.output.columnar.ColumnarPersonaRepository;
+
+import java.time.Duration;
+
+/**
+ * Carga la tabla columnar al arrancar, si persona.almacen=columnar.
+ *
+ * Corre antes que ReconciliacionContadores (prioridad menor): los contadores
+ * se calculan sobre la tabla ya cargada.
+ */
+@ApplicationScoped
+public class CargaAlmacenColumnar {
+    private final Instance<ColumnarPersonaRepository> repositorio;
+    private final String almacen;
+    private final Duration timeout;
+
+    public CargaAlmacenColumnar(Instance<ColumnarPersonaRepository> repositorio,
+                                @ConfigProperty(name = "persona.almacen", defaultValue = "jpa") String almacen,
+                                @ConfigProperty(name = "persona.columnar.carga.timeout", defaultValue = "1H") Duration timeout) {
+        this.repositorio = repositorio;
+        this.almacen = almacen;
+        this.timeout = timeout;
+    }
+
+    void alIniciar(@Observes @Priority(1) StartupEvent evento) {
+        if (!ApplicationConfig.ALMACEN_COLUMNAR.equals(almacen)) {
+            return;
+        }
+        // Recorre toda la tabla: la transacción por defecto cortaría una carga grande
+        QuarkusTransaction.requiringNew()
+                .timeout((int) timeout.toSeconds())
+                .run(repositorio.get()::cargar);
+    }
+}
@@ -0,0 +1,55 @@
+package org.jpurquilla.framework.adapters.config;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.vertx.http.runtime.filters.Filters;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Tope de tamaño del body para todo lo que no es una importación.
+ *
+ * quarkus.http.limits.max-body-size es uno solo para toda la aplicación, y
+ * POST /persona/importaciones necesita uno muy grande: lee el archivo a
+ * medida que llega y guarda de a persona.lote.tamanio-commit líneas.
+ * Los demás endpoints (p. ej. POST /persona/lote) arman el body completo en
+ * memoria, así que siguen limitados a persona.http.max-cuerpo: si el
+ * Content-Length lo supera se responde 413 antes de leer el body.
+ * Un body sin Content-Length (chunked) solo tiene el tope global.
+ */
+@ApplicationScoped
+public class LimiteCuerpoHttp {
+    private static final String IMPORTACIONES = "/persona/importaciones";
+    // Antes de los handlers de Quarkus REST
+    private static final int PRIORIDAD = 100;
+
+    private final long maximo;
+
+    public LimiteCuerpoHttp(@ConfigProperty(name = "persona.http.max-cuerpo", defaultValue = "10M") MemorySize maximo) {
+        this.maximo = maximo.asLongValue();
+    }
+
+    void registrar(@Observes Filters filtros) {
+        filtros.register(this::filtrar, PRIORIDAD);
+    }
+
+    private void filtrar(RoutingContext contexto) {
+        String largo = contexto.request().getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (largo != null && !contexto.normalizedPath().startsWith(IMPORTACIONES) && excede(largo)) {
+            contexto.response().setStatusCode(413).end();
+            return;
+        }
+        contexto.next();
+    }
+
+    private boolean excede(String largo) {
+        try {
+            return Long.parseLong(largo.trim()) > maximo;
+        } catch (NumberFormatException e) {
+            // Vert.x ya rechaza un Content-Length inválido
+            return false;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.jpurquilla.framework.adapters.config;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.jpurquilla.framework.adapters.output.eventos.EventoPersonaJpaRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Borra del outbox los eventos más viejos que persona.eventos.retencion.
+ *
+ * Un consumidor que quede atrás más que la retención pierde esos eventos
+ * y debe reconstruir su estado desde GET /persona.
+ * Los offsets no se reutilizan: la secuencia del outbox no se reinicia.
+ */
+@ApplicationScoped
+public class LimpiezaEventos {
+    private static final Logger LOG = Logger.getLogger(LimpiezaEventos.class);
+
+    private final EventoPersonaJpaRepository eventoRepository;
+    private final Duration retencion;
+
+    public LimpiezaEventos(EventoPersonaJpaRepository eventoRepository,
+                           @ConfigProperty(name = "persona.eventos.retencion", defaultValue = "7D") Duration retencion) {
+        this.eventoRepository = eventoRepository;
+        this.retencion = retencion;
+    }
+
+    @Scheduled(every = "1h", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    @Transactional
+    void limpiar() {
+        long borrados = eventoRepository.eliminarAnterioresA(Instant.now().minus(retencion));
+        if (borrados > 0) {
+            LOG.infof("Outbox de personas: %d eventos vencidos eliminados", borrados);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.jpurquilla.framework.adapters.config;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.jpurquilla.framework.adapters.output.archivo.ArchivoPersonaRepository;
+
+import java.util.Optional;
+
+/**
+ * Abre y compacta el almacén en archivo, si persona.almacen=archivo.
+ *
+ * - Al arrancar: mapea la bitácora y arma la tabla en memoria. Corre antes
+ *   que ReconciliacionContadores (prioridad menor), que la necesita cargada.
+ *   Avisa si el outbox de eventos está en una H2 en memoria: las personas
+ *   sobreviven al reinicio y los eventos no (los offsets vuelven a empezar)
+ * - Cada persona.archivo.compactacion.intervalo: reescribe la bitácora si los
+ *   registros reemplazados o dados de baja superan persona.archivo.compactacion.proporcion
+ */
+@ApplicationScoped
+public class MantenimientoAlmacenArchivo {
+    private static final Logger LOG = Logger.getLogger(MantenimientoAlmacenArchivo.class);
+
+    private final Instance<ArchivoPersonaRepository> repositorio;
+    private final boolean activo;
+    private final double proporcion;
+    private final Optional<String> urlBaseDeDatos;
+
+    public MantenimientoAlmacenArchivo(Instance<ArchivoPersonaRepository> repositorio,
+                                       @ConfigProperty(name = "persona.almacen", defaultValue = "jpa") String almacen,
+                                       @ConfigProperty(name = "persona.archivo.compactacion.proporcion", defaultValue = "0.5") double proporcion,
+                                       @ConfigProperty(name = "quarkus.datasource.jdbc.url") Optional<String> urlBaseDeDatos) {
+        this.repositorio = repositorio;
+        this.activo = ApplicationConfig.ALMACEN_ARCHIVO.equals(almacen);
+        this.proporcion = proporcion;
+        this.urlBaseDeDatos = urlBaseDeDatos;
+    }
+
+    void alIniciar(@Observes @Priority(1) StartupEvent evento) {
+        if (activo) {
+            repositorio.get().abrir();
+            if (urlBaseDeDatos.filter(url -> url.startsWith("jdbc:h2:mem:")).isPresent()) {
+                LOG.warn("persona.almacen=archivo con el outbox de eventos en una H2 en memoria: "
+                        + "al reiniciar se pierden los eventos y los offsets vuelven a empezar");
+            }
+        }
+    }
+
+    @Scheduled(every = "{persona.archivo.compactacion.intervalo}", delayed = "{persona.archivo.compactacion.intervalo}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void compactar() {
+        if (activo) {
+            repositorio.get().compactar(proporcion);
+        }
+    }
+}
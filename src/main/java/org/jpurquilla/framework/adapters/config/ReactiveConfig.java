@@ -0,0 +1,37 @@
+package org.jpurquilla.framework.adapters.config;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import org.jpurquilla.application.port.input.PersonaReactiveInputPort;
+import org.jpurquilla.application.port.output.PersonaReactiveRepository;
+import org.jpurquilla.application.service.PersonaReactiveService;
+
+/**
+ * Configuración del camino no bloqueante.
+ *
+ * Igual que ApplicationConfig, pero solo existe con
+ * persona.reactivo.habilitado=true (se decide al compilar).
+ *
+ * Usa la misma BD que el camino bloqueante (datasource por defecto, en
+ * PostgreSQL con el perfil "reactivo") y un PersonaReactiveService sin
+ * decoradores: sus escrituras publican en el outbox pero no pasan por la
+ * caché, los contadores ni el índice de nombres de /persona (el perfil
+ * apaga la caché y el índice, ver application.properties).
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "persona.reactivo.habilitado", stringValue = "true")
+public class ReactiveConfig {
+
+    /**
+     * @Produces: PersonaReactiveInputPort
+     *
+     * @param personaReactiveRepository el adaptador reactivo
+     * @return una instancia de PersonaReactiveService
+     */
+    @Produces
+    @ApplicationScoped
+    public PersonaReactiveInputPort personaReactiveService(PersonaReactiveRepository personaReactiveRepository) {
+        return new PersonaReactiveService(personaReactiveRepository);
+    }
+}
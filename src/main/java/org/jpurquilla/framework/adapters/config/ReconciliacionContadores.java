@@ -0,0 +1,37 @@
+package org.jpurquilla.framework.adapters.config;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.transaction.Transactional;
+import org.jpurquilla.framework.adapters.output.estadisticas.ContadoresPersonaRepository;
+
+/**
+ * Carga y reconcilia los contadores demográficos con la BD.
+ *
+ * - Al arrancar: los contadores empiezan vacíos, se cargan con un GROUP BY
+ *   (import.sql ya se ejecutó cuando llega StartupEvent)
+ * - Cada persona.estadisticas.reconciliacion: se recalculan y reemplazan,
+ *   corrigiendo cualquier desvío del mantenimiento incremental
+ */
+@ApplicationScoped
+public class ReconciliacionContadores {
+    private final ContadoresPersonaRepository repositorio;
+
+    public ReconciliacionContadores(ContadoresPersonaRepository repositorio) {
+        this.repositorio = repositorio;
+    }
+
+    @Transactional
+    void alIniciar(@Observes StartupEvent evento) {
+        repositorio.reconciliar();
+    }
+
+    @Scheduled(every = "{persona.estadisticas.reconciliacion}", delayed = "{persona.estadisticas.reconciliacion}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    @Transactional
+    void reconciliar() {
+        repositorio.reconciliar();
+    }
+}
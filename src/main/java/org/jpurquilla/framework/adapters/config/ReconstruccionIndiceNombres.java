@@ -0,0 +1,43 @@
+package org.jpurquilla.framework.adapters.config;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jpurquilla.framework.adapters.output.busqueda.IndiceNombresPersonaRepository;
+
+import java.time.Duration;
+
+/**
+ * Arma el índice de nombres al arrancar, si persona.busqueda.indice.habilitado.
+ *
+ * Corre después de CargaAlmacenColumnar y MantenimientoAlmacenArchivo
+ * (prioridad por defecto): con esos almacenes el índice se arma desde la
+ * memoria, sin ir a la BD.
+ */
+@ApplicationScoped
+public class ReconstruccionIndiceNombres {
+    private final Instance<IndiceNombresPersonaRepository> repositorio;
+    private final boolean habilitado;
+    private final Duration timeout;
+
+    public ReconstruccionIndiceNombres(Instance<IndiceNombresPersonaRepository> repositorio,
+                                       @ConfigProperty(name = "persona.busqueda.indice.habilitado", defaultValue = "true") boolean habilitado,
+                                       @ConfigProperty(name = "persona.busqueda.indice.timeout", defaultValue = "1H") Duration timeout) {
+        this.repositorio = repositorio;
+        this.habilitado = habilitado;
+        this.timeout = timeout;
+    }
+
+    void alIniciar(@Observes StartupEvent evento) {
+        if (!habilitado) {
+            return;
+        }
+        // Recorre toda la tabla: la transacción por defecto cortaría un índice grande
+        QuarkusTransaction.requiringNew()
+                .timeout((int) timeout.toSeconds())
+                .run(repositorio.get()::reconstruir);
+    }
+}
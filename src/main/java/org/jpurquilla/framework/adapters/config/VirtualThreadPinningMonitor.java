@@ -0,0 +1,89 @@
+package org.jpurquilla.framework.adapters.config;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Detecta cuando un hilo virtual queda "pinneado" a su hilo portador.
+ *
+ * ¿Qué es pinning?
+ * - Un hilo virtual que se bloquea dentro de un bloque synchronized
+ *   (o en código nativo) no puede soltar el hilo portador
+ * - Con pocos portadores (uno por núcleo), unos pocos pinneados frenan todo
+ * - H2 y algunos drivers JDBC usan synchronized, por eso conviene medirlo
+ *
+ * Escucha el evento JFR jdk.VirtualThreadPinned y registra cada caso que
+ * dure más que persona.hilos-virtuales.umbral-pinning, con el origen.
+ * Solo corre si quarkus.virtual-threads.enabled=true.
+ */
+@ApplicationScoped
+public class VirtualThreadPinningMonitor {
+    private static final Logger LOG = Logger.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String EVENTO_PINNING = "jdk.VirtualThreadPinned";
+    private static final int FRAMES_REPORTADOS = 5;
+
+    private final boolean hilosVirtuales;
+    private final Duration umbral;
+    private final AtomicLong eventos = new AtomicLong();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @ConfigProperty(name = "quarkus.virtual-threads.enabled", defaultValue = "false") boolean hilosVirtuales,
+            @ConfigProperty(name = "persona.hilos-virtuales.umbral-pinning", defaultValue = "20ms") Duration umbral) {
+        this.hilosVirtuales = hilosVirtuales;
+        this.umbral = umbral;
+    }
+
+    void iniciar(@Observes StartupEvent evento) {
+        if (!hilosVirtuales) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENTO_PINNING).withThreshold(umbral).withStackTrace();
+        stream.onEvent(EVENTO_PINNING, this::reportar);
+        stream.startAsync();
+        LOG.infof("Monitor de pinning de hilos virtuales activo (umbral %s)", umbral);
+    }
+
+    void detener(@Observes ShutdownEvent evento) {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * @return cantidad de pinnings detectados desde el arranque
+     */
+    public long eventos() {
+        return eventos.get();
+    }
+
+    private void reportar(RecordedEvent evento) {
+        eventos.incrementAndGet();
+        LOG.warnf("Hilo virtual pinneado %d ms en:%n%s", evento.getDuration().toMillis(), origen(evento));
+    }
+
+    private static String origen(RecordedEvent evento) {
+        if (evento.getStackTrace() == null) {
+            return "  (sin stack trace)";
+        }
+        List<RecordedFrame> frames = evento.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(FRAMES_REPORTADOS)
+                .map(frame -> "  at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
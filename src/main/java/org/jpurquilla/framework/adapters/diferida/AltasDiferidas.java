@@ -0,0 +1,250 @@
+package org.jpurquilla.framework.adapters.diferida;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Reception;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.jpurquilla.application.port.input.PersonaInputPort;
+import org.jpurquilla.application.port.input.ResultadoCreacion;
+import org.jpurquilla.application.service.PersonaService;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.exceptions.PersonaValidationException;
+import org.jpurquilla.framework.adapters.exceptions.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Cola de altas con escritura diferida y commit agrupado (group commit).
+ *
+ * Cada POST /persona encola su persona (ya validada) y un único hilo escritor
+ * las guarda en lotes con PersonaService.crearEnLote(): una transacción,
+ * INSERT agrupados (JDBC batch) y un solo commit por lote, en lugar de una
+ * transacción y una conexión por petición. Recibe PersonaService y no
+ * PersonaInputPort: el puerto producido ya incluye el decorador diferido
+ * (las altas volverían a la cola).
+ *
+ * ¿CUÁNDO SE ESCRIBE UN LOTE?
+ * - Cuando hay persona.diferida.tamanio-lote personas pendientes, o
+ * - Cuando la más antigua lleva persona.diferida.latencia-maxima en la cola
+ * La latencia agregada a cada alta queda acotada por latencia-maxima más
+ * el tiempo de escribir un lote.
+ *
+ * COLA:
+ * ConcurrentLinkedQueue (sin candados) acotada con un contador atómico:
+ * con persona.diferida.capacidad pendientes, encolar() lanza
+ * ServiceUnavailableException (503) en vez de acumular sin límite.
+ * Con la cola vacía el escritor duerme sin plazo y marca "dormido": quien
+ * encola lo despierta si lo ve dormido (o si ya hay un lote completo).
+ * Como la marca se pone ANTES de volver a mirar la cola, o el escritor ve
+ * la persona nueva o quien la encoló ve la marca: no se pierde el aviso.
+ *
+ * ERRORES:
+ * Si el lote falla al guardar (p. ej. una restricción de la BD), sus
+ * personas se reintentan una por una, cada una en su transacción: una fila
+ * mala no hace fallar a las demás. Cualquier otro error (incluso un Error)
+ * completa las altas pendientes del lote con ese error y el hilo sigue.
+ *
+ * Al detener la aplicación se escribe lo que quede en la cola. Un alta que
+ * se encola mientras el escritor termina no queda colgada: quien la encoló
+ * vuelve a mirar "detenida" y la retira (503), y lo que siga en la cola
+ * después de que el escritor terminó (o no terminó a tiempo) se falla.
+ *
+ * MÉTRICAS (Prometheus en /q/metrics):
+ * - persona.diferida.pendientes: personas en la cola
+ * - persona.diferida.lote: personas por lote escrito
+ * - persona.diferida.altas{resultado=rechazada|fallida}: cola llena / error al guardar
+ */
+@ApplicationScoped
+public class AltasDiferidas {
+    private static final Logger LOG = Logger.getLogger(AltasDiferidas.class);
+    private static final String ALTAS = "persona.diferida.altas";
+
+    private final PersonaInputPort personaService;
+    private final int tamanioLote;
+    private final long latenciaMaxima;
+    private final int capacidad;
+    private final Queue<Pendiente> cola = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendientes = new AtomicInteger();
+    private final DistributionSummary lotes;
+    private final Counter rechazadas;
+    private final Counter fallidas;
+    private volatile boolean detenida;
+    private volatile boolean dormido;
+    private Thread escritor;
+
+    public AltasDiferidas(PersonaService personaService,
+                          MeterRegistry registry,
+                          @ConfigProperty(name = "persona.diferida.tamanio-lote", defaultValue = "500") int tamanioLote,
+                          @ConfigProperty(name = "persona.diferida.latencia-maxima", defaultValue = "5ms") Duration latenciaMaxima,
+                          @ConfigProperty(name = "persona.diferida.capacidad", defaultValue = "10000") int capacidad) {
+        this.personaService = personaService;
+        this.tamanioLote = tamanioLote;
+        this.latenciaMaxima = latenciaMaxima.toNanos();
+        this.capacidad = capacidad;
+        this.lotes = DistributionSummary.builder("persona.diferida.lote").register(registry);
+        this.rechazadas = Counter.builder(ALTAS).tag("resultado", "rechazada").register(registry);
+        this.fallidas = Counter.builder(ALTAS).tag("resultado", "fallida").register(registry);
+        Gauge.builder("persona.diferida.pendientes", pendientes, AtomicInteger::get).register(registry);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        escritor = Thread.ofPlatform()
+                .name("persona-altas-diferidas")
+                .daemon()
+                .start(this::escribirLotes);
+    }
+
+    /**
+     * Encola una persona (ya validada) para guardarla en el próximo lote.
+     *
+     * @param persona la persona a crear
+     * @return se completa con la persona guardada (con ID) cuando el lote
+     *         se confirma, o con el error si no se pudo guardar
+     * @throws ServiceUnavailableException si la cola está llena
+     */
+    public CompletableFuture<Persona> encolar(Persona persona) {
+        if (detenida) {
+            throw new ServiceUnavailableException("La aplicación se está deteniendo");
+        }
+        int enCola = pendientes.incrementAndGet();
+        if (enCola > capacidad) {
+            pendientes.decrementAndGet();
+            rechazadas.increment();
+            throw new ServiceUnavailableException("Cola de altas llena (" + capacidad + " pendientes)");
+        }
+        Pendiente pendiente = new Pendiente(persona, System.nanoTime(), new CompletableFuture<>());
+        cola.offer(pendiente);
+        // Pasó el chequeo pero el escritor pudo terminar antes del offer: si sigue en la cola, se retira
+        if (detenida && cola.remove(pendiente)) {
+            pendientes.decrementAndGet();
+            rechazadas.increment();
+            throw new ServiceUnavailableException("La aplicación se está deteniendo");
+        }
+        // Sin plazo solo duerme con "dormido"; con un lote incompleto, hasta la latencia máxima
+        if (dormido || enCola >= tamanioLote) {
+            LockSupport.unpark(escritor);
+        }
+        return pendiente.resultado();
+    }
+
+    void alDetener(@Observes(notifyObserver = Reception.IF_EXISTS) ShutdownEvent evento) throws InterruptedException {
+        detenida = true;
+        LockSupport.unpark(escritor);
+        if (!escritor.join(Duration.ofSeconds(30))) {
+            LOG.warnf("Altas diferidas sin escribir al detener: %d", pendientes.get());
+        }
+        ServiceUnavailableException error = new ServiceUnavailableException("La aplicación se detuvo antes de guardar el alta");
+        Pendiente pendiente;
+        while ((pendiente = cola.poll()) != null) {
+            pendientes.decrementAndGet();
+            fallar(pendiente, error);
+        }
+    }
+
+    private void escribirLotes() {
+        List<Pendiente> lote = new ArrayList<>(tamanioLote);
+        while (true) {
+            Pendiente primera = cola.peek();
+            if (primera == null) {
+                if (detenida) {
+                    return;
+                }
+                dormido = true;
+                // Volver a mirar DESPUÉS de marcar: lo encolado antes de la marca se ve aquí
+                if (cola.isEmpty() && !detenida) {
+                    LockSupport.park(this);
+                }
+                dormido = false;
+                continue;
+            }
+            long espera = primera.encolada() + latenciaMaxima - System.nanoTime();
+            if (espera > 0 && pendientes.get() < tamanioLote && !detenida) {
+                LockSupport.parkNanos(this, espera);
+                continue;
+            }
+
+            Pendiente pendiente;
+            while (lote.size() < tamanioLote && (pendiente = cola.poll()) != null) {
+                lote.add(pendiente);
+            }
+            pendientes.addAndGet(-lote.size());
+            try {
+                escribir(lote);
+            } catch (Throwable e) {
+                // No debería llegar aquí (escribir() ya resuelve cada alta), salvo un Error:
+                // se fallan las que quedaron sin resolver y el hilo sigue vivo
+                LOG.error("Error inesperado al escribir un lote de altas diferidas", e);
+                for (Pendiente p : lote) {
+                    if (!p.resultado().isDone()) {
+                        fallar(p, e);
+                    }
+                }
+            }
+            lote.clear();
+        }
+    }
+
+    private void escribir(List<Pendiente> lote) {
+        List<Persona> personas = new ArrayList<>(lote.size());
+        for (Pendiente pendiente : lote) {
+            personas.add(pendiente.persona());
+        }
+        lotes.record(lote.size());
+
+        List<ResultadoCreacion> resultados;
+        try {
+            resultados = QuarkusTransaction.requiringNew().call(() -> personaService.crearEnLote(personas));
+        } catch (RuntimeException e) {
+            if (lote.size() == 1) {
+                fallar(lote.get(0), e);
+            } else {
+                LOG.debugf(e, "Lote de %d altas fallido, se reintentan una por una", lote.size());
+                lote.forEach(this::escribirUna);
+            }
+            return;
+        }
+
+        for (int i = 0; i < lote.size(); i++) {
+            ResultadoCreacion resultado = resultados.get(i);
+            if (resultado.isCreada()) {
+                lote.get(i).resultado().complete(resultado.getPersona());
+            } else {
+                fallar(lote.get(i), new PersonaValidationException(resultado.getError()));
+            }
+        }
+    }
+
+    private void escribirUna(Pendiente pendiente) {
+        try {
+            pendiente.resultado().complete(
+                    QuarkusTransaction.requiringNew().call(() -> personaService.crear(pendiente.persona())));
+        } catch (RuntimeException e) {
+            fallar(pendiente, e);
+        }
+    }
+
+    private void fallar(Pendiente pendiente, Throwable error) {
+        fallidas.increment();
+        LOG.warnf("Alta diferida no guardada: %s", error.getMessage());
+        pendiente.resultado().completeExceptionally(error);
+    }
+
+    private record Pendiente(Persona persona, long encolada, CompletableFuture<Persona> resultado) {
+    }
+}
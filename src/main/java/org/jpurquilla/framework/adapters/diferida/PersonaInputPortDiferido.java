@@ -0,0 +1,160 @@
+package org.jpurquilla.framework.adapters.diferida;
+
+import org.jpurquilla.application.port.input.PersonaInputPort;
+import org.jpurquilla.application.port.input.ResultadoBusqueda;
+import org.jpurquilla.application.port.input.ResultadoCreacion;
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.application.port.output.VersionColeccion;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.framework.adapters.exceptions.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de PersonaInputPort que difiere las altas individuales.
+ *
+ * crear() valida la persona (misma validación que CrearPersonaUseCase, así
+ * los errores siguen siendo un 400 inmediato) y la encola en AltasDiferidas,
+ * que la guarda junto con otras en un solo commit. El resto de los métodos
+ * se delegan sin cambios.
+ *
+ * CONFIRMACIÓN (persona.diferida.confirmacion):
+ * - COMMIT: crear() espera a que el lote se confirme y devuelve la persona
+ *   con ID y versión. Mismo contrato que sin diferir, con más latencia.
+ *   Espera a lo sumo persona.diferida.espera-maxima (latencia-maxima más
+ *   lo que tarde en escribirse el lote): si el escritor no confirmó para
+ *   entonces (BD trabada, hilo detenido) responde 503 en vez de retener
+ *   el hilo de la petición. El alta sigue en la cola y puede guardarse
+ *   después: el cliente no debe asumir que no se creó
+ * - ENCOLADO: crear() vuelve al encolar y devuelve la persona SIN ID. Si el
+ *   lote falla o la aplicación se cae antes de escribirlo, el alta se pierde
+ *   (solo queda en el log y en persona.diferida.altas{resultado=fallida})
+ *
+ * La persona se guarda en la transacción del lote, no en la del que llama:
+ * crear() no participa de la transacción activa (si la hay).
+ */
+public class PersonaInputPortDiferido implements PersonaInputPort {
+
+    public enum Confirmacion {
+        COMMIT,
+        ENCOLADO
+    }
+
+    private final PersonaInputPort delegado;
+    private final AltasDiferidas altas;
+    private final Confirmacion confirmacion;
+    private final long esperaMaxima;
+
+    public PersonaInputPortDiferido(PersonaInputPort delegado, AltasDiferidas altas, Confirmacion confirmacion,
+                                    Duration esperaMaxima) {
+        this.delegado = delegado;
+        this.altas = altas;
+        this.confirmacion = confirmacion;
+        this.esperaMaxima = esperaMaxima.toNanos();
+    }
+
+    @Override
+    public Persona crear(Persona persona) {
+        persona.validar();
+        CompletableFuture<Persona> guardada = altas.encolar(persona);
+        if (confirmacion == Confirmacion.ENCOLADO) {
+            return persona;
+        }
+        try {
+            return guardada.get(esperaMaxima, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // El error original (validación, BD), como si se hubiera guardado sin diferir
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("El alta no se confirmó a tiempo; puede guardarse más tarde", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Espera del alta interrumpida", e);
+        }
+    }
+
+    @Override
+    public List<ResultadoCreacion> crearEnLote(List<Persona> personas) {
+        return delegado.crearEnLote(personas);
+    }
+
+    @Override
+    public Persona actualizar(Long id, Persona datosNuevos) {
+        return delegado.actualizar(id, datosNuevos);
+    }
+
+    @Override
+    public List<Persona> buscar(FiltroPersona filtro) {
+        return delegado.buscar(filtro);
+    }
+
+    @Override
+    public PersonaVista consultarPorId(Long id) {
+        return delegado.consultarPorId(id);
+    }
+
+    @Override
+    public List<ResultadoBusqueda> consultarPorIds(List<Long> ids) {
+        return delegado.consultarPorIds(ids);
+    }
+
+    @Override
+    public List<PersonaVista> consultarPagina(Long despuesDeId, int limite) {
+        return delegado.consultarPagina(despuesDeId, limite);
+    }
+
+    @Override
+    public Stream<PersonaVista> consultarTodasEnStream() {
+        return delegado.consultarTodasEnStream();
+    }
+
+    @Override
+    public List<PersonaVista> consultarPorSexo(String sexoString) {
+        return delegado.consultarPorSexo(sexoString);
+    }
+
+    @Override
+    public List<PersonaVista> consultarPorNombre(String texto, int limite) {
+        return delegado.consultarPorNombre(texto, limite);
+    }
+
+    @Override
+    public VersionColeccion versionDeTodas() {
+        return delegado.versionDeTodas();
+    }
+
+    @Override
+    public VersionColeccion versionPorSexo(String sexoString) {
+        return delegado.versionPorSexo(sexoString);
+    }
+
+    @Override
+    public EstadisticasPersonas obtenerEstadisticas() {
+        return delegado.obtenerEstadisticas();
+    }
+
+    @Override
+    public List<EventoPersona> obtenerEventos(long despuesDeOffset, int limite) {
+        return delegado.obtenerEventos(despuesDeOffset, limite);
+    }
+
+    @Override
+    public void eliminar(Long id, Long versionEsperada) {
+        delegado.eliminar(id, versionEsperada);
+    }
+}
@@ -12,6 +12,7 @@ import org.jboss.logging.Logger;
 import jakarta.annotation.Priority;
 import org.jpurquilla.domain.exceptions.PersonaValidationException;
 import org.jpurquilla.domain.exceptions.PersonaNotFoundException;
+import org.jpurquilla.domain.exceptions.PersonaVersionConflictException;
 
 
 import java.util.List;
@@ -82,6 +83,70 @@ public class GlobalExceptionHandler  {
         }
     }
 
+    /**
+     * MANEJADOR 2b: PersonaVersionConflictException (412 Precondition Failed)
+     *
+     * Se lanza cuando el If-Match de un PUT/DELETE ya no coincide con la versión actual.
+     * El cliente debe volver a leer la persona y reintentar.
+     */
+    @Provider
+    public static class PersonaVersionConflictExceptionMapper implements ExceptionMapper<PersonaVersionConflictException> {
+
+        /**
+         * Convierte PersonaVersionConflictException → ErrorResponseDTO (412)
+         *
+         * @param exception la excepción de conflicto de versión
+         * @return Response HTTP 412 con ErrorResponseDTO
+         */
+        @Override
+        public Response toResponse(PersonaVersionConflictException exception) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                    412,
+                    "Precondition Failed",
+                    exception.getMessage(),
+                    "/api/personas"
+            );
+
+            return Response
+                    .status(Response.Status.PRECONDITION_FAILED)
+                    .entity(error)
+                    .build();
+        }
+    }
+
+    /**
+     * MANEJADOR 2c: ServiceUnavailableException (503 Service Unavailable)
+     *
+     * Se lanza cuando la cola de altas diferidas está llena o el lote no se
+     * confirma a tiempo (ver AltasDiferidas y PersonaInputPortDiferido).
+     * Retry-After le indica al cliente cuándo reintentar.
+     */
+    @Provider
+    public static class ServiceUnavailableExceptionMapper implements ExceptionMapper<ServiceUnavailableException> {
+
+        /**
+         * Convierte ServiceUnavailableException → ErrorResponseDTO (503)
+         *
+         * @param exception la excepción de servicio saturado
+         * @return Response HTTP 503 con ErrorResponseDTO
+         */
+        @Override
+        public Response toResponse(ServiceUnavailableException exception) {
+            ErrorResponseDTO error = new ErrorResponseDTO(
+                    503,
+                    "Service Unavailable",
+                    exception.getMessage(),
+                    "/api/personas"
+            );
+
+            return Response
+                    .status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", 1)
+                    .entity(error)
+                    .build();
+        }
+    }
+
     /**
      * MANEJADOR 3: ConstraintViolationException (400 Bad Request)
      *
@@ -0,0 +1,17 @@
+package org.jpurquilla.framework.adapters.exceptions;
+
+/**
+ * Excepción personalizada para servicio saturado (HTTP 503)
+ *
+ * El cliente puede reintentar más tarde (Retry-After).
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,52 @@
+package org.jpurquilla.framework.adapters.input.cbor;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Constantes de CBOR (RFC 8949) usadas por EscritorCbor y LectorCbor.
+ *
+ * Cada dato empieza con un byte inicial: 3 bits de tipo mayor y 5 bits de
+ * información adicional (el valor si es < 24, o cuántos bytes lo siguen).
+ */
+public final class Cbor {
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final MediaType APPLICATION_CBOR_TYPE = new MediaType("application", "cbor");
+
+    // Tipos mayores (ya desplazados a los 3 bits altos)
+    static final int ENTERO = 0x00;
+    static final int NEGATIVO = 0x20;
+    static final int BYTES = 0x40;
+    static final int TEXTO = 0x60;
+    static final int ARREGLO = 0x80;
+    static final int MAPA = 0xa0;
+    static final int ETIQUETA = 0xc0;
+    static final int SIMPLE = 0xe0;
+
+    // Información adicional
+    static final int UN_BYTE = 24;
+    static final int DOS_BYTES = 25;
+    static final int CUATRO_BYTES = 26;
+    static final int OCHO_BYTES = 27;
+    static final int INDEFINIDO = 31;
+
+    static final int FALSO = 0xf4;
+    static final int VERDADERO = 0xf5;
+    static final int NULO = 0xf6;
+    static final int INDEFINIDO_SIMPLE = 0xf7;
+    static final int CORTE = 0xff;
+
+    // Etiqueta 0: fecha/hora como texto RFC 3339
+    static final int ETIQUETA_FECHA_TEXTO = 0;
+
+    private Cbor() {
+    }
+
+    /**
+     * application/cbor exacto (con o sin parámetros).
+     */
+    public static boolean esCbor(MediaType mediaType) {
+        return mediaType != null
+                && "application".equalsIgnoreCase(mediaType.getType())
+                && "cbor".equalsIgnoreCase(mediaType.getSubtype());
+    }
+}
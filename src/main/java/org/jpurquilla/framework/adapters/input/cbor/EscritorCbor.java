@@ -0,0 +1,237 @@
+package org.jpurquilla.framework.adapters.input.cbor;
+
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.framework.adapters.exceptions.ErrorResponseDTO;
+import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
+import org.jpurquilla.framework.adapters.input.json.FechaIso;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Escritura CBOR de las respuestas de personas y de error.
+ *
+ * MISMA FORMA que el JSON: un mapa con las mismas claves de texto, en el
+ * mismo orden, omitiendo las null. Así cualquier decodificador CBOR genérico
+ * (Jackson, cbor2, etc.) obtiene el mismo objeto que con JSON.
+ * - Enteros: tipo 0/1, en el mínimo de bytes (edad 30 ocupa 1 byte)
+ * - Instant: etiqueta 0 (fecha RFC 3339 en texto, igual que en JSON)
+ *
+ * Acumula en un byte[] propio y lo pasa al OutputStream al vaciar().
+ * No es thread-safe: una instancia por respuesta.
+ */
+public final class EscritorCbor {
+    private static final int VACIAR_DESDE = 8192;
+
+    private final OutputStream destino;
+    private byte[] buffer = new byte[512];
+    private int posicion;
+    // Espacio para formatear fechas sin crear Strings (siempre ASCII)
+    private final char[] fecha = new char[FechaIso.LARGO_MAXIMO];
+
+    public EscritorCbor(OutputStream destino) {
+        this.destino = destino;
+    }
+
+    public void escribir(PersonaResponseDTO persona) throws IOException {
+        cabecera(Cbor.MAPA, uno(persona.getApellido()) + uno(persona.getEdad()) + uno(persona.getId())
+                + uno(persona.getModificado()) + uno(persona.getNombre()) + uno(persona.getSexo())
+                + uno(persona.getVersion()));
+        texto("apellido", persona.getApellido());
+        numero("edad", persona.getEdad());
+        numero("id", persona.getId());
+        instante("modificado", persona.getModificado());
+        texto("nombre", persona.getNombre());
+        texto("sexo", persona.getSexo());
+        numero("version", persona.getVersion());
+        terminarElemento();
+    }
+
+    public void escribir(PersonaVista persona) throws IOException {
+        cabecera(Cbor.MAPA, uno(persona.apellido()) + uno(persona.edad()) + uno(persona.id())
+                + uno(persona.modificado()) + uno(persona.nombre()) + uno(persona.sexo())
+                + uno(persona.version()));
+        texto("apellido", persona.apellido());
+        numero("edad", persona.edad());
+        numero("id", persona.id());
+        instante("modificado", persona.modificado());
+        texto("nombre", persona.nombre());
+        texto("sexo", persona.sexo());
+        numero("version", persona.version());
+        terminarElemento();
+    }
+
+    public void escribir(ErrorResponseDTO error) throws IOException {
+        String timestamp = error.getTimestamp() != null ? formatear(error.getTimestamp()) : null;
+        cabecera(Cbor.MAPA, 1 + uno(error.getDetails()) + uno(error.getError()) + uno(error.getMessage())
+                + uno(error.getPath()) + uno(timestamp));
+        if (error.getDetails() != null) {
+            texto("details");
+            textos(error.getDetails());
+        }
+        texto("error", error.getError());
+        texto("message", error.getMessage());
+        texto("path", error.getPath());
+        texto("status");
+        entero(error.getStatus());
+        texto("timestamp", timestamp);
+        terminarElemento();
+    }
+
+    /**
+     * Comienzo de un arreglo de tamaño conocido.
+     */
+    public void inicioArreglo(int elementos) {
+        cabecera(Cbor.ARREGLO, elementos);
+    }
+
+    /**
+     * Comienzo de un arreglo de tamaño desconocido (streaming); se cierra con fin().
+     */
+    public void inicioArregloIndefinido() {
+        asegurar(1);
+        buffer[posicion++] = (byte) (Cbor.ARREGLO | Cbor.INDEFINIDO);
+    }
+
+    public void fin() {
+        asegurar(1);
+        buffer[posicion++] = (byte) Cbor.CORTE;
+    }
+
+    /**
+     * Pasa lo acumulado al OutputStream (no hace flush del OutputStream).
+     */
+    public void vaciar() throws IOException {
+        if (posicion > 0) {
+            destino.write(buffer, 0, posicion);
+            posicion = 0;
+        }
+    }
+
+    private void terminarElemento() throws IOException {
+        if (posicion >= VACIAR_DESDE) {
+            vaciar();
+        }
+    }
+
+    // Cuenta las claves del mapa: los campos null no se escriben
+    private static int uno(Object valor) {
+        return valor != null ? 1 : 0;
+    }
+
+    private void texto(String clave, String valor) {
+        if (valor != null) {
+            texto(clave);
+            texto(valor);
+        }
+    }
+
+    private void numero(String clave, Number valor) {
+        if (valor != null) {
+            texto(clave);
+            entero(valor.longValue());
+        }
+    }
+
+    private void instante(String clave, Instant valor) {
+        if (valor != null) {
+            texto(clave);
+            cabecera(Cbor.ETIQUETA, Cbor.ETIQUETA_FECHA_TEXTO);
+            int largo = FechaIso.escribir(valor, fecha, 0);
+            if (largo < 0) {
+                texto(DateTimeFormatter.ISO_INSTANT.format(valor));
+                return;
+            }
+            cabecera(Cbor.TEXTO, largo);
+            asegurar(largo);
+            for (int i = 0; i < largo; i++) {
+                buffer[posicion++] = (byte) fecha[i];
+            }
+        }
+    }
+
+    private void textos(List<String> textos) {
+        cabecera(Cbor.ARREGLO, textos.size());
+        for (String texto : textos) {
+            if (texto == null) {
+                asegurar(1);
+                buffer[posicion++] = (byte) Cbor.NULO;
+            } else {
+                texto(texto);
+            }
+        }
+    }
+
+    // Texto UTF-8; si es ASCII (el caso común) se copia sin pasar por getBytes()
+    private void texto(String valor) {
+        int largo = valor.length();
+        boolean ascii = true;
+        for (int i = 0; i < largo && ascii; i++) {
+            ascii = valor.charAt(i) < 0x80;
+        }
+        if (!ascii) {
+            byte[] utf8 = valor.getBytes(StandardCharsets.UTF_8);
+            cabecera(Cbor.TEXTO, utf8.length);
+            asegurar(utf8.length);
+            System.arraycopy(utf8, 0, buffer, posicion, utf8.length);
+            posicion += utf8.length;
+            return;
+        }
+        cabecera(Cbor.TEXTO, largo);
+        asegurar(largo);
+        for (int i = 0; i < largo; i++) {
+            buffer[posicion++] = (byte) valor.charAt(i);
+        }
+    }
+
+    private void entero(long valor) {
+        if (valor < 0) {
+            // -1 - n, sin desbordar en Long.MIN_VALUE
+            cabecera(Cbor.NEGATIVO, ~valor);
+        } else {
+            cabecera(Cbor.ENTERO, valor);
+        }
+    }
+
+    // Byte inicial + argumento en el mínimo de bytes (big-endian)
+    private void cabecera(int tipoMayor, long argumento) {
+        asegurar(9);
+        if (argumento < Cbor.UN_BYTE) {
+            buffer[posicion++] = (byte) (tipoMayor | argumento);
+        } else if (argumento <= 0xff) {
+            buffer[posicion++] = (byte) (tipoMayor | Cbor.UN_BYTE);
+            buffer[posicion++] = (byte) argumento;
+        } else if (argumento <= 0xffff) {
+            buffer[posicion++] = (byte) (tipoMayor | Cbor.DOS_BYTES);
+            bigEndian(argumento, 2);
+        } else if (argumento <= 0xffffffffL) {
+            buffer[posicion++] = (byte) (tipoMayor | Cbor.CUATRO_BYTES);
+            bigEndian(argumento, 4);
+        } else {
+            buffer[posicion++] = (byte) (tipoMayor | Cbor.OCHO_BYTES);
+            bigEndian(argumento, 8);
+        }
+    }
+
+    private void bigEndian(long valor, int bytes) {
+        for (int i = bytes - 1; i >= 0; i--) {
+            buffer[posicion++] = (byte) (valor >>> (8 * i));
+        }
+    }
+
+    private void asegurar(int espacio) {
+        if (posicion + espacio > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, posicion + espacio));
+        }
+    }
+
+    private static String formatear(LocalDateTime valor) {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(valor);
+    }
+}
@@ -0,0 +1,208 @@
+package org.jpurquilla.framework.adapters.input.cbor;
+
+import org.jpurquilla.domain.exceptions.PersonaValidationException;
+import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lectura CBOR de PersonaRequestDTO.
+ *
+ * Espera un mapa con las mismas claves que el JSON (nombre, apellido, edad, sexo).
+ * - Acepta mapas de tamaño definido o indefinido
+ * - edad como entero; los textos como texto UTF-8; cualquier campo puede ser null
+ * - Las claves desconocidas se saltan, sea cual sea su valor
+ *
+ * Un cuerpo mal formado termina en PersonaValidationException (400), igual
+ * que un JSON con tipos incorrectos. Las restricciones del DTO (@NotBlank,
+ * @Min...) se validan después, igual que con JSON.
+ */
+public final class LectorCbor {
+    // Límite para textos y anidamiento: un cuerpo malicioso no puede pedir memoria sin tope
+    static final int MAX_TEXTO = 64 * 1024;
+    static final int MAX_PROFUNDIDAD = 32;
+
+    private final InputStream origen;
+
+    public LectorCbor(InputStream origen) {
+        this.origen = origen;
+    }
+
+    public PersonaRequestDTO leerPersona() throws IOException {
+        int inicial = leerByte();
+        if ((inicial & 0xe0) != Cbor.MAPA) {
+            throw invalido("se esperaba un mapa");
+        }
+        long entradas = argumento(inicial);
+        PersonaRequestDTO dto = new PersonaRequestDTO();
+        for (long i = 0; entradas < 0 || i < entradas; i++) {
+            int byteClave = leerByte();
+            if (entradas < 0 && byteClave == Cbor.CORTE) {
+                break;
+            }
+            if ((byteClave & 0xe0) != Cbor.TEXTO) {
+                throw invalido("las claves deben ser texto");
+            }
+            String clave = texto(byteClave);
+            switch (clave) {
+                case "nombre" -> dto.setNombre(textoONulo());
+                case "apellido" -> dto.setApellido(textoONulo());
+                case "sexo" -> dto.setSexo(textoONulo());
+                case "edad" -> dto.setEdad(enteroONulo());
+                default -> saltar(leerByte(), 0);
+            }
+        }
+        return dto;
+    }
+
+    private String textoONulo() throws IOException {
+        int inicial = leerByte();
+        if (inicial == Cbor.NULO || inicial == Cbor.INDEFINIDO_SIMPLE) {
+            return null;
+        }
+        if ((inicial & 0xe0) != Cbor.TEXTO) {
+            throw invalido("se esperaba texto");
+        }
+        return texto(inicial);
+    }
+
+    private Integer enteroONulo() throws IOException {
+        int inicial = leerByte();
+        if (inicial == Cbor.NULO || inicial == Cbor.INDEFINIDO_SIMPLE) {
+            return null;
+        }
+        int tipo = inicial & 0xe0;
+        if (tipo != Cbor.ENTERO && tipo != Cbor.NEGATIVO) {
+            throw invalido("edad debe ser un entero");
+        }
+        long valor = argumento(inicial);
+        if (valor < 0 || valor > Integer.MAX_VALUE) {
+            throw invalido("edad fuera de rango");
+        }
+        return tipo == Cbor.ENTERO ? (int) valor : (int) (-1 - valor);
+    }
+
+    // Texto de largo definido o indefinido (concatenación de trozos definidos)
+    private String texto(int inicial) throws IOException {
+        long largo = argumento(inicial);
+        if (largo >= 0) {
+            return new String(leerBytes(largo), StandardCharsets.UTF_8);
+        }
+        StringBuilder texto = new StringBuilder();
+        int trozo;
+        while ((trozo = leerByte()) != Cbor.CORTE) {
+            if ((trozo & 0xe0) != Cbor.TEXTO || argumento(trozo) < 0) {
+                throw invalido("trozo de texto inválido");
+            }
+            texto.append(new String(leerBytes(argumento(trozo)), StandardCharsets.UTF_8));
+            if (texto.length() > MAX_TEXTO) {
+                throw invalido("texto demasiado largo");
+            }
+        }
+        return texto.toString();
+    }
+
+    // Salta un dato completo de cualquier tipo
+    private void saltar(int inicial, int profundidad) throws IOException {
+        if (profundidad > MAX_PROFUNDIDAD) {
+            throw invalido("anidamiento demasiado profundo");
+        }
+        int tipo = inicial & 0xe0;
+        long argumento = argumento(inicial);
+        switch (tipo) {
+            case Cbor.ENTERO, Cbor.NEGATIVO -> {
+            }
+            case Cbor.BYTES, Cbor.TEXTO -> {
+                if (argumento >= 0) {
+                    origen.skipNBytes(argumento);
+                } else {
+                    int trozo;
+                    while ((trozo = leerByte()) != Cbor.CORTE) {
+                        saltar(trozo, profundidad + 1);
+                    }
+                }
+            }
+            case Cbor.ARREGLO, Cbor.MAPA -> {
+                long elementos = argumento < 0 ? -1 : (tipo == Cbor.MAPA ? argumento * 2 : argumento);
+                for (long i = 0; elementos < 0 || i < elementos; i++) {
+                    int siguiente = leerByte();
+                    if (elementos < 0 && siguiente == Cbor.CORTE) {
+                        break;
+                    }
+                    saltar(siguiente, profundidad + 1);
+                }
+            }
+            case Cbor.ETIQUETA -> saltar(leerByte(), profundidad + 1);
+            default -> {
+                // SIMPLE: true/false/null/undefined o flotantes; el argumento ya se consumió
+            }
+        }
+    }
+
+    /**
+     * Lee el argumento que sigue al byte inicial.
+     *
+     * @return el valor (sin signo), o -1 si el largo es indefinido
+     */
+    private long argumento(int inicial) throws IOException {
+        int adicional = inicial & 0x1f;
+        if (adicional < Cbor.UN_BYTE) {
+            return adicional;
+        }
+        return switch (adicional) {
+            case Cbor.UN_BYTE -> leerByte();
+            case Cbor.DOS_BYTES -> bigEndian(2);
+            case Cbor.CUATRO_BYTES -> bigEndian(4);
+            case Cbor.OCHO_BYTES -> {
+                long valor = bigEndian(8);
+                // En SIMPLE son los 8 bytes de un double: cualquier valor es válido
+                if (valor < 0 && (inicial & 0xe0) != Cbor.SIMPLE) {
+                    throw invalido("entero fuera de rango");
+                }
+                yield valor;
+            }
+            case Cbor.INDEFINIDO -> {
+                int tipo = inicial & 0xe0;
+                if (tipo == Cbor.ENTERO || tipo == Cbor.NEGATIVO || tipo == Cbor.ETIQUETA) {
+                    throw invalido("largo indefinido no permitido");
+                }
+                yield -1;
+            }
+            default -> throw invalido("información adicional reservada");
+        };
+    }
+
+    private long bigEndian(int bytes) throws IOException {
+        long valor = 0;
+        for (int i = 0; i < bytes; i++) {
+            valor = (valor << 8) | leerByte();
+        }
+        return valor;
+    }
+
+    private byte[] leerBytes(long largo) throws IOException {
+        if (largo > MAX_TEXTO) {
+            throw invalido("texto demasiado largo");
+        }
+        byte[] bytes = origen.readNBytes((int) largo);
+        if (bytes.length < largo) {
+            throw new EOFException();
+        }
+        return bytes;
+    }
+
+    private int leerByte() throws IOException {
+        int leido = origen.read();
+        if (leido < 0) {
+            throw new EOFException();
+        }
+        return leido;
+    }
+
+    private static PersonaValidationException invalido(String motivo) {
+        return new PersonaValidationException("Cuerpo CBOR inválido: " + motivo);
+    }
+}
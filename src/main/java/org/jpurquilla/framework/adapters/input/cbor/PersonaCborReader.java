@@ -0,0 +1,41 @@
+package org.jpurquilla.framework.adapters.input.cbor;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+import org.jpurquilla.domain.exceptions.PersonaValidationException;
+import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * MessageBodyReader de PersonaRequestDTO en application/cbor (POST /persona).
+ */
+@Provider
+@Consumes(Cbor.APPLICATION_CBOR)
+public class PersonaCborReader implements MessageBodyReader<PersonaRequestDTO> {
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == PersonaRequestDTO.class && Cbor.esCbor(mediaType);
+    }
+
+    @Override
+    public PersonaRequestDTO readFrom(Class<PersonaRequestDTO> type, Type genericType, Annotation[] annotations,
+                                      MediaType mediaType, MultivaluedMap<String, String> headers,
+                                      InputStream entrada) throws IOException {
+        try {
+            // LectorCbor lee de a un byte: sin buffer sería una llamada al stream por byte
+            return new LectorCbor(new BufferedInputStream(entrada, 1024)).leerPersona();
+        } catch (EOFException e) {
+            throw new PersonaValidationException("Cuerpo CBOR inválido: termina antes de tiempo");
+        }
+    }
+}
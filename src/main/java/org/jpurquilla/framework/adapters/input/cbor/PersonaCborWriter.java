@@ -0,0 +1,71 @@
+package org.jpurquilla.framework.adapters.input.cbor;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.framework.adapters.exceptions.ErrorResponseDTO;
+import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * MessageBodyWriter en application/cbor para los mismos tipos que
+ * PersonaJsonWriter: PersonaResponseDTO, PersonaVista, ErrorResponseDTO
+ * y colecciones de los dos primeros (reconocidas por su tipo genérico).
+ */
+@Provider
+@Produces(Cbor.APPLICATION_CBOR)
+public class PersonaCborWriter implements MessageBodyWriter<Object> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        if (!Cbor.esCbor(mediaType)) {
+            return false;
+        }
+        if (type == PersonaVista.class || type == PersonaResponseDTO.class || type == ErrorResponseDTO.class) {
+            return true;
+        }
+        return Collection.class.isAssignableFrom(type)
+                && genericType instanceof ParameterizedType parametrizado
+                && parametrizado.getActualTypeArguments()[0] instanceof Class<?> elemento
+                && (elemento == PersonaVista.class || elemento == PersonaResponseDTO.class);
+    }
+
+    @Override
+    public void writeTo(Object entidad, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> headers,
+                        OutputStream salida) throws IOException {
+        EscritorCbor escritor = new EscritorCbor(salida);
+        if (entidad instanceof Collection<?> elementos) {
+            escritor.inicioArreglo(elementos.size());
+            for (Object elemento : elementos) {
+                escribir(escritor, elemento);
+            }
+        } else {
+            escribir(escritor, entidad);
+        }
+        escritor.vaciar();
+        salida.flush();
+    }
+
+    private static void escribir(EscritorCbor escritor, Object elemento) throws IOException {
+        if (elemento instanceof PersonaVista vista) {
+            escritor.escribir(vista);
+        } else if (elemento instanceof PersonaResponseDTO dto) {
+            escritor.escribir(dto);
+        } else if (elemento instanceof ErrorResponseDTO error) {
+            escritor.escribir(error);
+        } else {
+            throw new IllegalArgumentException("Tipo no soportado: "
+                    + (elemento == null ? "null" : elemento.getClass().getName()));
+        }
+    }
+}
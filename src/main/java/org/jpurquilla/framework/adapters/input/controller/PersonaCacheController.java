@@ -0,0 +1,34 @@
+package org.jpurquilla.framework.adapters.input.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import org.jpurquilla.framework.adapters.input.dto.CacheEstadisticasResponseDTO;
+import org.jpurquilla.framework.adapters.output.cache.CachingPersonaRepository;
+
+@Path("/persona/cache")
+public class PersonaCacheController {
+    private final CachingPersonaRepository personaRepositoryConCache;
+
+    public PersonaCacheController(CachingPersonaRepository personaRepositoryConCache) {
+        this.personaRepositoryConCache = personaRepositoryConCache;
+    }
+
+    /**
+     * GET /persona/cache
+     * Contadores de aciertos, fallos y desalojos de la caché de lecturas
+     *
+     * @return Response 200 con CacheEstadisticasResponseDTO
+     */
+    @GET
+    public CacheEstadisticasResponseDTO estadisticas() {
+        CacheStats stats = personaRepositoryConCache.estadisticas();
+        return new CacheEstadisticasResponseDTO(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                personaRepositoryConCache.entradas(),
+                stats.hitRate()
+        );
+    }
+}
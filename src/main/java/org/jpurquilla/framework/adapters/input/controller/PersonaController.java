@@ -1,26 +1,133 @@
 package org.jpurquilla.framework.adapters.input.controller;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jpurquilla.application.port.input.PersonaInputPort;
+import org.jpurquilla.application.port.input.ResultadoBusqueda;
+import org.jpurquilla.application.port.input.ResultadoCreacion;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.application.port.output.VersionColeccion;
+import org.jpurquilla.application.service.ProcesadorEnLote;
 import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+import org.jpurquilla.framework.adapters.input.cbor.Cbor;
+import org.jpurquilla.framework.adapters.input.cbor.EscritorCbor;
+import org.jpurquilla.framework.adapters.input.dto.EstadisticasResponseDTO;
 import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
 import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
+import org.jpurquilla.framework.adapters.input.exportacion.FormatoExportacion;
+import org.jpurquilla.framework.adapters.input.json.SerializadorJson;
 import org.jpurquilla.framework.adapters.input.mapper.PersonaInputMapper;
+import org.jpurquilla.framework.adapters.metrics.MetricasPersona;
+import org.jpurquilla.framework.adapters.input.sse.DifusorEventos;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.transaction.Transactional;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.jpurquilla.domain.exceptions.PersonaValidationException;
+import org.jpurquilla.domain.exceptions.PersonaVersionConflictException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
+/**
+ * HILOS VIRTUALES:
+ * Con @RunOnVirtualThread cada petición (y su @Transactional) corre en un
+ * hilo virtual; mientras espera a la BD libera el hilo portador.
+ * Se activa/desactiva sin recompilar con quarkus.virtual-threads.enabled:
+ * en false estos métodos vuelven al pool de workers.
+ *
+ * LECTURAS:
+ * GET por ID, GET /persona, GET /sexo/{sexo} y GET /nombres devuelven PersonaVista
+ * (proyección de la BD, misma forma JSON que PersonaResponseDTO):
+ * un objeto por fila, sin entity JPA ni mapeos Dominio → DTO.
+ *
+ * PETICIONES CONDICIONALES:
+ * - Una persona: ETag = "<version>" y Last-Modified = modificado.
+ *   Con If-None-Match / If-Modified-Since vigentes responde 304 sin cuerpo.
+ * - Colecciones: ETag "<origen>-<cambios>" de un contador en memoria que sube
+ *   con cada escritura confirmada (VersionesPersonas); si coincide, 304 sin
+ *   consultar la BD.
+ *   No llevan Last-Modified: un DELETE no cambia la fecha máxima.
+ * - PUT/DELETE con If-Match: solo se aplican si la persona sigue en esa
+ *   versión; si no, 412 Precondition Failed.
+ * - Cada representación tiene su ETag: el CBOR lleva el sufijo "-cbor"
+ *   ("<version>-cbor"), así un ETag fuerte nunca corresponde a dos cuerpos
+ *   distintos. If-Match acepta el ETag de cualquiera de las dos.
+ *
+ * FORMATOS:
+ * POST /persona, GET por ID, GET /persona, GET /sexo/{sexo} y GET /nombres
+ * aceptan y devuelven JSON o CBOR (application/cbor) según Content-Type / Accept.
+ * El CBOR tiene la misma forma que el JSON (ver EscritorCbor). Las respuestas
+ * llevan Vary: Accept para que un cache no mezcle las dos representaciones.
+ */
 @Path("/persona")
+@RunOnVirtualThread
 public class PersonaController {
+    static final int LIMITE_POR_DEFECTO = 100;
+    static final int LIMITE_MAXIMO = 1000;
+    static final int LIMITE_SUGERENCIAS = 10;
+    // ETag de la representación CBOR: "<etag JSON>-cbor"
+    private static final String SUFIJO_CBOR = "-cbor";
+    static final String CABECERA_SIGUIENTE_CURSOR = "X-Next-Cursor";
+
     private final PersonaInputPort personaService;
     private final PersonaInputMapper personaInputMapper;
+    private final ProcesadorEnLote procesadorEnLote;
+    private final SerializadorJson serializador;
+    private final int tamanioCommitLote;
+    private final DifusorEventos difusorEventos;
+    private final Duration timeoutExportacion;
+    private final MetricasPersona metricas;
+    private final boolean altasDiferidas;
 
 
-    public PersonaController(PersonaInputPort personaService, PersonaInputMapper personaInputMapper) {
+    public PersonaController(PersonaInputPort personaService, PersonaInputMapper personaInputMapper,
+                             ProcesadorEnLote procesadorEnLote, SerializadorJson serializador,
+                             @ConfigProperty(name = "persona.lote.tamanio-commit", defaultValue = "500") int tamanioCommitLote,
+                             DifusorEventos difusorEventos,
+                             @ConfigProperty(name = "persona.exportacion.timeout", defaultValue = "1H") Duration timeoutExportacion,
+                             MetricasPersona metricas,
+                             @ConfigProperty(name = "persona.diferida.habilitada", defaultValue = "false") boolean altasDiferidas) {
         this.personaService = personaService;
         this.personaInputMapper = personaInputMapper;
+        this.procesadorEnLote = procesadorEnLote;
+        this.serializador = serializador;
+        this.tamanioCommitLote = tamanioCommitLote;
+        this.difusorEventos = difusorEventos;
+        this.timeoutExportacion = timeoutExportacion;
+        this.metricas = metricas;
+        this.altasDiferidas = altasDiferidas;
     }
 
     /**
@@ -40,52 +147,215 @@ public class PersonaController {
      * 7. Mapea Persona → PersonaResponseDTO
      * 8. Devuelve 201 Created
      *
+     * Con persona.diferida.habilitada el servicio encola la persona y la guarda
+     * en un lote (ver AltasDiferidas). Con persona.diferida.confirmacion=encolado
+     * vuelve antes de guardarla, sin ID: se responde 202 Accepted.
+     * La transacción la abre entonces el escritor de lotes: esta petición no
+     * abre ninguna (no retiene una transacción mientras espera el commit).
+     *
      * @param dto los datos de la persona a crear
-     * @return Response 201 con PersonaResponseDTO
+     * @return Response 201 con PersonaResponseDTO (202 si el alta quedó encolada)
      */
     @POST
-    @Transactional
-    public Response crear(PersonaRequestDTO dto) {
+    @Consumes({MediaType.APPLICATION_JSON, Cbor.APPLICATION_CBOR})
+    @Produces({MediaType.APPLICATION_JSON, Cbor.APPLICATION_CBOR})
+    public Response crear(PersonaRequestDTO dto, @Context HttpHeaders headers) {
         // 1. Mapear DTO → Persona de dominio
         Persona persona = personaInputMapper.toPersonaDomain(dto);
 
         // 2. Llamar al servicio
         // Si hay excepción, GlobalExceptionHandler la captura
-        Persona personaGuardada = personaService.crear(persona);
+        Persona personaGuardada = altasDiferidas
+                ? personaService.crear(persona)
+                : QuarkusTransaction.requiringNew().call(() -> personaService.crear(persona));
 
         // 3. Mapear Persona → DTO respuesta
         PersonaResponseDTO response = personaInputMapper.toDtoResponse(personaGuardada);
 
+        // Alta diferida sin esperar el commit: todavía no tiene ID
+        if (personaGuardada.getId() == null) {
+            return Response.accepted(response).build();
+        }
+
         // 4. Devolver 201 Created
-        return Response
-                .status(Response.Status.CREATED)
+        boolean cbor = aceptaCbor(headers);
+        return conVersion(Response.status(Response.Status.CREATED), response.getVersion(), response.getModificado(), cbor)
                 .entity(response)
+                .type(tipo(cbor))
                 .build();
     }
 
+    /**
+     * POST /persona/lote
+     * Crear muchas personas en una sola petición
+     *
+     * FLUJO:
+     * 1. Recibe List<PersonaRequestDTO>
+     * 2. Mapea DTO → Persona y valida TODA la lista en paralelo
+     *    (ProcesadorEnLote, fuera de la transacción): un sexo inválido o una
+     *    persona inválida rechaza solo ese elemento, con todos sus errores
+     * 3. Parte las válidas en sub-lotes de persona.lote.tamanio-commit
+     * 4. Por cada sub-lote, en su PROPIA transacción:
+     *    - servicio.crearEnLote() guarda con INSERT agrupados (JDBC batch)
+     *    - Commit
+     * 5. Si un sub-lote falla al guardar, sus elementos quedan RECHAZADOS
+     *    y los sub-lotes ya confirmados se mantienen
+     * 6. Devuelve 200 con un resultado por elemento, en el orden enviado
+     *
+     * @param dtos las personas a crear
+     * @return Response 200 con List<ResultadoLoteResponseDTO>
+     */
+    @POST
+    @Path("/lote")
+    public Response crearEnLote(List<PersonaRequestDTO> dtos) {
+        // Mapeo y validación se miden una vez por lote, no por elemento
+        List<ProcesadorEnLote.Resultado<Persona>> preparadas = metricas.medirSinChequeadas(
+                "mapeo", "ProcesadorEnLote", "validar",
+                () -> procesadorEnLote.validar(dtos, personaInputMapper::toPersonaDomain, Function.identity()));
+        List<ResultadoCreacion> resultados = new ArrayList<>(dtos.size());
+
+        for (int inicio = 0; inicio < preparadas.size(); inicio += tamanioCommitLote) {
+            int fin = Math.min(inicio + tamanioCommitLote, preparadas.size());
+            resultados.addAll(crearSubLote(preparadas.subList(inicio, fin), inicio));
+        }
+
+        return Response.ok(resultados.stream()
+                        .map(personaInputMapper::toResultadoLoteResponse)
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Guarda las válidas de un sub-lote en una transacción propia.
+     *
+     * @param preparadas el sub-lote ya mapeado y validado
+     * @param desplazamiento la posición del primer elemento en el lote completo
+     * @return un resultado por elemento del sub-lote, con índices globales
+     */
+    private List<ResultadoCreacion> crearSubLote(List<ProcesadorEnLote.Resultado<Persona>> preparadas,
+                                                 int desplazamiento) {
+        ResultadoCreacion[] resultados = new ResultadoCreacion[preparadas.size()];
+        List<Persona> personas = new ArrayList<>(preparadas.size());
+        List<Integer> posiciones = new ArrayList<>(preparadas.size());
+
+        // 1. Separar las rechazadas al mapear o validar
+        for (int i = 0; i < preparadas.size(); i++) {
+            ProcesadorEnLote.Resultado<Persona> preparada = preparadas.get(i);
+            if (preparada.isValido()) {
+                personas.add(preparada.valor());
+                posiciones.add(i);
+            } else {
+                resultados[i] = ResultadoCreacion.rechazada(desplazamiento + i, preparada.motivo());
+            }
+        }
+        if (personas.isEmpty()) {
+            return List.of(resultados);
+        }
+
+        // 2. Guardar en una transacción propia
+        try {
+            List<ResultadoCreacion> guardados = QuarkusTransaction.requiringNew()
+                    .call(() -> personaService.crearEnLote(personas));
+            for (int j = 0; j < guardados.size(); j++) {
+                int posicion = posiciones.get(j);
+                resultados[posicion] = guardados.get(j).conIndice(desplazamiento + posicion);
+            }
+        } catch (RuntimeException e) {
+            for (int posicion : posiciones) {
+                resultados[posicion] = ResultadoCreacion.rechazada(desplazamiento + posicion,
+                        "Error al guardar el lote: " + e.getMessage());
+            }
+        }
+
+        return List.of(resultados);
+    }
+
     /**
      * GET /api/personas/{id}
      * Buscar una persona por ID
      *
      * FLUJO:
      * 1. Recibe ID
-     * 2. Llama servicio.buscarPorId(id)
+     * 2. Llama servicio.consultarPorId(id) (proyección de solo lectura)
      * 3. Si no existe → PersonaNotFoundException → GlobalExceptionHandler → 404
-     * 4. Mapea respuesta
-     * 5. Devuelve 200 OK
+     * 4. Si If-None-Match / If-Modified-Since siguen vigentes → 304 sin cuerpo
+     * 5. Devuelve 200 OK con ETag y Last-Modified
      *
      * @param id el identificador de la persona
-     * @return Response 200 con PersonaResponseDTO
+     * @param request la petición (para evaluar las precondiciones)
+     * @return Response 200 con PersonaVista, o 304
      */
     @GET
     @Path("/idpersona/{idpersona}")
-    public PersonaResponseDTO buscarPorId(@PathParam("idpersona") Long id) {
+    @Produces({MediaType.APPLICATION_JSON, Cbor.APPLICATION_CBOR})
+    public Response buscarPorId(@PathParam("idpersona") Long id, @Context Request request,
+                                @Context HttpHeaders headers) {
         // 1. Llamar al servicio
-        Persona persona = personaService.buscarPorId(id);
+        PersonaVista persona = personaService.consultarPorId(id);
 
-        // 2. Mapear respuesta
-        return personaInputMapper.toDtoResponse(persona);
+        // 2. ¿El cliente ya tiene esta versión (en esta representación)?
+        boolean cbor = aceptaCbor(headers);
+        EntityTag etag = etag(persona.version(), cbor);
+        Date ultimaModificacion = ultimaModificacion(persona.modificado());
+        Response.ResponseBuilder noModificada = ultimaModificacion != null
+                ? request.evaluatePreconditions(ultimaModificacion, etag)
+                : request.evaluatePreconditions(etag);
+        if (noModificada != null) {
+            return noModificada.build();
+        }
 
+        return conVersion(Response.ok(persona, tipo(cbor)), persona.version(), persona.modificado(), cbor)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    /**
+     * GET /persona/idpersona?ids=1,2,3
+     * Buscar varias personas por ID en una sola petición
+     *
+     * FLUJO:
+     * 1. Lee los IDs (separados por coma y/o ?ids= repetido), hasta 1000
+     * 2. Llama servicio.consultarPorIds(ids): consultas "IN (...)" por tramos,
+     *    en vez de N peticiones, N transacciones y N SELECT
+     * 3. Devuelve un resultado por ID, en el orden pedido; los que no existen
+     *    vienen con estado NO_ENCONTRADA (no es un 404)
+     *
+     * @param ids los IDs a buscar
+     * @return Response 200 con List<ResultadoBusquedaResponseDTO>
+     */
+    @GET
+    @Path("/idpersona")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response buscarPorIds(@QueryParam("ids") List<String> ids) {
+        List<ResultadoBusqueda> resultados = personaService.consultarPorIds(leerIds(ids));
+        return Response.ok(resultados.stream()
+                        .map(personaInputMapper::toResultadoBusquedaResponse)
+                        .toList())
+                .build();
+    }
+
+    // "1,2,3" y/o ?ids=1&ids=2 → [1, 2, 3]; un valor que no es número → 400
+    private static List<Long> leerIds(List<String> valores) {
+        List<Long> ids = new ArrayList<>();
+        for (String valor : valores) {
+            for (String parte : valor.split(",")) {
+                if (parte.isBlank()) {
+                    continue;
+                }
+                try {
+                    ids.add(Long.valueOf(parte.trim()));
+                } catch (NumberFormatException e) {
+                    throw new PersonaValidationException("ids", "'" + parte.trim() + "' no es un ID válido");
+                }
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new PersonaValidationException("ids", "Debe indicar al menos un ID");
+        }
+        if (ids.size() > LIMITE_MAXIMO) {
+            throw new PersonaValidationException("ids", "Máximo " + LIMITE_MAXIMO + " IDs por petición");
+        }
+        return ids;
     }
 
     /**
@@ -93,54 +363,268 @@ public class PersonaController {
      * Actualizar una persona
      *
      * FLUJO:
-     * 1. Recibe ID y PersonaRequestDTO
+     * 1. Recibe ID, PersonaRequestDTO y (opcional) If-Match
      * 2. Valida DTO automáticamente
-     * 3. Mapea DTO → Persona
+     * 3. Mapea DTO → Persona (con la versión del If-Match)
      * 4. Llama servicio.actualizar(id, persona)
      * 5. Si no existe → PersonaNotFoundException → 404
-     * 6. Si validación falla → PersonaValidationException → 400
-     * 7. Mapea respuesta
-     * 8. Devuelve 200 OK
+     * 6. Si la versión ya cambió → PersonaVersionConflictException → 412
+     * 7. Si validación falla → PersonaValidationException → 400
+     * 8. Mapea respuesta
+     * 9. Devuelve 200 OK con el nuevo ETag
      *
      * @param id el identificador de la persona a actualizar
+     * @param ifMatch el ETag que leyó el cliente (opcional)
      * @param dto los nuevos datos
      * @return Response 200 con PersonaResponseDTO
      */
     @PUT
     @Path("/idpersona/{idpersona}")
     @Transactional
-    public PersonaResponseDTO actualizar(@PathParam("idpersona") Long id,
-                                 PersonaRequestDTO dto ) {
+    public Response actualizar(@PathParam("idpersona") Long id,
+                               @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch,
+                               PersonaRequestDTO dto ) {
         // 1. Mapear DTO → Persona
         Persona datosNuevos = personaInputMapper.toPersonaDomain(dto);
+        datosNuevos.setVersion(versionEsperada(id, ifMatch));
 
         // 2. Llamar al servicio
         Persona personaActualizada = personaService.actualizar(id, datosNuevos);
 
         // 3. Mapear respuesta
-        return personaInputMapper.toDtoResponse(personaActualizada);
-
-
+        PersonaResponseDTO response = personaInputMapper.toDtoResponse(personaActualizada);
+        return conVersion(Response.ok(response), response.getVersion(), response.getModificado(), false).build();
     }
 
     /**
      * GET /api/personas
      * Obtener todas las personas
      *
+     * DOS MODOS:
+     * - Sin parámetros: devuelve el arreglo JSON completo en STREAMING.
+     *   Las filas se leen con un cursor y se escriben una a una,
+     *   la tabla nunca se materializa en memoria.
+     *   Con Accept: application/cbor, un arreglo CBOR de largo indefinido.
+     * - Con ?after=<id>&limit=<n>: paginación por cursor (keyset sobre el ID).
+     *   Si la página viene llena, la cabecera X-Next-Cursor trae el
+     *   valor de "after" para pedir la siguiente.
+     *
+     * En ambos modos el ETag es el de toda la tabla: se calcula ANTES de
+     * leer las filas, así un cambio concurrente nunca deja un ETag más
+     * nuevo que el cuerpo (a lo sumo, un 200 de más).
+     *
+     * @param after el último ID de la página anterior (opcional)
+     * @param limit el tamaño de la página (1..1000, por defecto 100)
+     * @param request la petición (para evaluar If-None-Match)
+     * @param headers las cabeceras (Accept decide JSON o CBOR en el modo streaming)
+     * @return Response 200 con List<PersonaVista>, o 304
+     */
+    @GET
+    @Produces({MediaType.APPLICATION_JSON, Cbor.APPLICATION_CBOR})
+    public Response obtenerTodas(@QueryParam("after") Long after,
+                                 @QueryParam("limit") @Min(1) @Max(LIMITE_MAXIMO) Integer limit,
+                                 @Context Request request,
+                                 @Context HttpHeaders headers) {
+        boolean cbor = aceptaCbor(headers);
+        EntityTag etag = etag(personaService.versionDeTodas(), cbor);
+        Response.ResponseBuilder noModificada = request.evaluatePreconditions(etag);
+        if (noModificada != null) {
+            return noModificada.build();
+        }
+
+        if (after == null && limit == null) {
+            if (cbor) {
+                return Response.ok(escribirTodasEnStreamCbor(), Cbor.APPLICATION_CBOR_TYPE)
+                        .tag(etag).header(HttpHeaders.VARY, HttpHeaders.ACCEPT).build();
+            }
+            return Response.ok(escribirTodasEnStream(), MediaType.APPLICATION_JSON)
+                    .tag(etag).header(HttpHeaders.VARY, HttpHeaders.ACCEPT).build();
+        }
+
+        int limite = limit != null ? limit : LIMITE_POR_DEFECTO;
+        List<PersonaVista> pagina = personaService.consultarPagina(after, limite);
+
+        Response.ResponseBuilder response = Response.ok(new GenericEntity<>(pagina) {}, tipo(cbor))
+                .tag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (pagina.size() == limite) {
+            response.header(CABECERA_SIGUIENTE_CURSOR, pagina.get(pagina.size() - 1).id());
+        }
+        return response.build();
+    }
+
+    /**
+     * Escribe "[{...},{...}]" directamente en la salida HTTP.
+     *
+     * El StreamingOutput se ejecuta DESPUÉS de que el método retorna,
+     * por eso abre su propia transacción (el cursor de Panache la necesita).
+     */
+    private StreamingOutput escribirTodasEnStream() {
+        return output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            SerializadorJson.EscritorPersona json = serializador.escritor(writer);
+            QuarkusTransaction.requiringNew().run(() -> {
+                try (Stream<PersonaVista> personas = personaService.consultarTodasEnStream()) {
+                    writer.write('[');
+                    boolean primera = true;
+                    for (PersonaVista persona : (Iterable<PersonaVista>) personas::iterator) {
+                        if (!primera) {
+                            writer.write(',');
+                        }
+                        json.escribir(persona);
+                        primera = false;
+                    }
+                    writer.write(']');
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+    }
+
+    /**
+     * Igual que escribirTodasEnStream(), en CBOR: un arreglo de largo
+     * indefinido (0x9f ... 0xff), así no hace falta contar las filas antes.
+     */
+    private StreamingOutput escribirTodasEnStreamCbor() {
+        return output -> {
+            EscritorCbor escritor = new EscritorCbor(output);
+            QuarkusTransaction.requiringNew().run(() -> {
+                try (Stream<PersonaVista> personas = personaService.consultarTodasEnStream()) {
+                    escritor.inicioArregloIndefinido();
+                    for (PersonaVista persona : (Iterable<PersonaVista>) personas::iterator) {
+                        escritor.escribir(persona);
+                    }
+                    escritor.fin();
+                    escritor.vaciar();
+                    output.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+    }
+
+    // ¿El cliente prefiere CBOR? Se toma el primer tipo aceptable (ya ordenado por q)
+    private static boolean aceptaCbor(HttpHeaders headers) {
+        for (MediaType aceptable : headers.getAcceptableMediaTypes()) {
+            if (Cbor.esCbor(aceptable)) {
+                return true;
+            }
+            if (aceptable.isCompatible(MediaType.APPLICATION_JSON_TYPE)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * GET /persona/exportar?formato=ndjson|csv
+     * Exportación completa de la tabla
+     *
      * FLUJO:
-     * 1. Llama servicio.obtenerTodas()
-     * 2. Mapea cada Persona → PersonaResponseDTO
-     * 3. Devuelve lista en 200 OK
+     * 1. Devuelve enseguida las cabeceras; el cuerpo se escribe después
+     * 2. Abre un cursor forward-only (proyección, fetch size 500) en su propia
+     *    transacción con timeout persona.exportacion.timeout (la de por defecto
+     *    cortaría exportaciones largas)
+     * 3. Escribe cada fila en el formato pedido y la descarta: memoria constante
+     * 4. Si el cliente acepta gzip (Accept-Encoding con q > 0), comprime al vuelo
+     * 5. Si falla a mitad de camino, escribe una línea de error del formato
+     *    (el 200 ya salió) y corta la respuesta
      *
-     * @return Response 200 con List<PersonaResponseDTO>
+     * @param formato ndjson (por defecto) o csv
+     * @param aceptaCodificacion cabecera Accept-Encoding
+     * @return Response 200 con el archivo en streaming
      */
     @GET
-    public List<PersonaResponseDTO> obtenerTodas() {
-        return  personaService.obtenerTodas().stream()
-                .map(personaInputMapper::toDtoResponse)
-                .toList();
+    @Path("/exportar")
+    public Response exportar(@QueryParam("formato") @DefaultValue("ndjson")
+                             @Pattern(regexp = "(?i)ndjson|csv", message = "Formato debe ser ndjson o csv") String formato,
+                             @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String aceptaCodificacion) {
+        FormatoExportacion formatoExportacion = FormatoExportacion.valueOf(formato.toUpperCase(Locale.ROOT));
+        boolean gzip = aceptaGzip(aceptaCodificacion);
 
+        Response.ResponseBuilder response = Response
+                .ok(escribirExportacion(formatoExportacion, gzip), formatoExportacion.getMediaType() + ";charset=UTF-8")
+                .header("Content-Disposition", "attachment; filename=\"personas." + formatoExportacion.getExtension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.build();
+    }
 
+    private StreamingOutput escribirExportacion(FormatoExportacion formato, boolean gzip) {
+        return output -> {
+            OutputStream destino = gzip ? new GZIPOutputStream(output, 64 * 1024) : output;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(destino, StandardCharsets.UTF_8), 64 * 1024);
+            SerializadorJson.EscritorPersona json = serializador.escritor(writer);
+            try {
+                QuarkusTransaction.requiringNew()
+                        .timeout((int) timeoutExportacion.toSeconds())
+                        .run(() -> {
+                            try (Stream<PersonaVista> personas = personaService.consultarTodasEnStream()) {
+                                formato.escribirEncabezado(writer);
+                                for (PersonaVista persona : (Iterable<PersonaVista>) personas::iterator) {
+                                    formato.escribir(writer, persona, json);
+                                }
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+            } catch (RuntimeException e) {
+                // El cliente ya recibió 200: la línea de error marca el archivo como incompleto
+                // (si lo que falló es la conexión, no llega y el corte se ve igual)
+                try {
+                    formato.escribirError(writer);
+                    writer.close();
+                } catch (IOException | RuntimeException ignorada) {
+                    e.addSuppressed(ignorada);
+                }
+                throw e;
+            }
+            // close() termina el gzip (trailer) y vacía los buffers
+            writer.close();
+        };
+    }
+
+    /**
+     * ¿Acepta gzip? Según los q de Accept-Encoding (RFC 9110 §12.5.3):
+     * "gzip;q=0" lo rechaza, "*" lo cubre si gzip no aparece, y no se
+     * comprime si el cliente pone "identity" con un q mayor.
+     */
+    static boolean aceptaGzip(String aceptaCodificacion) {
+        if (aceptaCodificacion == null || aceptaCodificacion.isBlank()) {
+            return false;
+        }
+        Double gzip = null;
+        Double comodin = null;
+        double identidad = 0;
+        for (String elemento : aceptaCodificacion.split(",")) {
+            String[] partes = elemento.split(";");
+            String codificacion = partes[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < partes.length; i++) {
+                String parametro = partes[i].trim().toLowerCase(Locale.ROOT);
+                if (parametro.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(parametro.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            switch (codificacion) {
+                case "gzip", "x-gzip" -> gzip = q;
+                case "*" -> comodin = q;
+                case "identity" -> identidad = q;
+                default -> {
+                }
+            }
+        }
+        double calidad = gzip != null ? gzip : comodin != null ? comodin : 0;
+        return calidad > 0 && calidad >= identidad;
     }
 
     /**
@@ -149,23 +633,177 @@ public class PersonaController {
      *
      * FLUJO:
      * 1. Recibe sexo (M o F)
-     * 2. Llama servicio.buscarPorSexo(sexo)
+     * 2. Llama servicio.consultarPorSexo(sexo) (proyección de solo lectura)
      * 3. Si sexo inválido → PersonaValidationException → 400
+     * 4. Si If-None-Match coincide con el ETag de la colección → 304 sin leer filas
+     * 5. Devuelve 200 OK con ETag
+     *
+     * @param sexo el sexo a filtrar (M o F)
+     * @param request la petición (para evaluar If-None-Match)
+     * @return Response 200 con List<PersonaVista>, o 304
+     */
+    @GET
+    @Path("/sexo/{sexo}")
+    @Produces({MediaType.APPLICATION_JSON, Cbor.APPLICATION_CBOR})
+    public Response buscarPorSexo(@PathParam("sexo") String sexo, @Context Request request,
+                                  @Context HttpHeaders headers) {
+        boolean cbor = aceptaCbor(headers);
+        EntityTag etag = etag(personaService.versionPorSexo(sexo), cbor);
+        Response.ResponseBuilder noModificada = request.evaluatePreconditions(etag);
+        if (noModificada != null) {
+            return noModificada.build();
+        }
+
+        List<PersonaVista> personas = personaService.consultarPorSexo(sexo);
+        return Response.ok(new GenericEntity<>(personas) {}, tipo(cbor))
+                .tag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    /**
+     * GET /persona/buscar
+     * Buscar personas combinando filtros (todos opcionales)
+     *
+     * Ejemplo: /persona/buscar?nombre=Ju&edadMin=20&edadMax=40&sexo=M&orden=edad&direccion=desc&limit=50
+     *
+     * FLUJO:
+     * 1. Valida los parámetros (rango, sexo M/F, campo de orden)
+     * 2. Arma el FiltroPersona
+     * 3. Llama servicio.buscar(filtro): el filtrado ocurre en la BD
      * 4. Mapea respuesta
      * 5. Devuelve 200 OK
      *
-     * @param sexo el sexo a filtrar (M o F)
+     * @param nombre prefijo del nombre (sensible a mayúsculas)
+     * @param apellido prefijo del apellido (sensible a mayúsculas)
+     * @param edadMin edad mínima (inclusive)
+     * @param edadMax edad máxima (inclusive)
+     * @param sexo M o F
+     * @param orden id, nombre, apellido o edad (por defecto id)
+     * @param direccion asc o desc (por defecto asc)
+     * @param limit máximo de resultados (1..1000, por defecto 100)
      * @return Response 200 con List<PersonaResponseDTO>
      */
     @GET
-    @Path("/sexo/{sexo}")
+    @Path("/buscar")
+    public List<PersonaResponseDTO> buscar(@QueryParam("nombre") String nombre,
+                                           @QueryParam("apellido") String apellido,
+                                           @QueryParam("edadMin") @Min(0) @Max(150) Integer edadMin,
+                                           @QueryParam("edadMax") @Min(0) @Max(150) Integer edadMax,
+                                           @QueryParam("sexo") @Pattern(regexp = "[MFmf]", message = "Sexo debe ser M o F") String sexo,
+                                           @QueryParam("orden") @DefaultValue("id")
+                                           @Pattern(regexp = "(?i)id|nombre|apellido|edad",
+                                                   message = "Orden debe ser id, nombre, apellido o edad") String orden,
+                                           @QueryParam("direccion") @DefaultValue("asc")
+                                           @Pattern(regexp = "(?i)asc|desc", message = "Dirección debe ser asc o desc") String direccion,
+                                           @QueryParam("limit") @Min(1) @Max(LIMITE_MAXIMO) Integer limit) {
+        FiltroPersona filtro = FiltroPersona.builder()
+                .prefijoNombre(nombre)
+                .prefijoApellido(apellido)
+                .edadMinima(edadMin)
+                .edadMaxima(edadMax)
+                .sexo(sexo != null ? Sexo.fromCodigo(sexo) : null)
+                .orden(FiltroPersona.Orden.valueOf(orden.toUpperCase(Locale.ROOT)), "desc".equalsIgnoreCase(direccion))
+                .limite(limit != null ? limit : LIMITE_POR_DEFECTO)
+                .build();
+
+        List<Persona> personas = personaService.buscar(filtro);
+        return metricas.medirSinChequeadas("mapeo", "PersonaInputMapper", "toDtoResponse",
+                () -> personas.stream().map(personaInputMapper::toDtoResponse).toList());
+    }
+
+    /**
+     * GET /persona/nombres
+     * Autocompletado por nombre o apellido
+     *
+     * Ejemplo: /persona/nombres?q=hernan&limit=10
+     *
+     * FLUJO:
+     * 1. Llama servicio.consultarPorNombre(q, limit): responde el índice de
+     *    nombres en memoria, sin recorrer la tabla
+     * 2. Cada palabra de q debe aparecer (al inicio o dentro de una palabra)
+     *    en el nombre o el apellido; sin distinguir mayúsculas ni acentos
+     *    ("perez" encuentra a "Pérez")
+     * 3. Devuelve 200 OK, los más relevantes primero: palabra completa,
+     *    luego prefijo, luego contenida; a igual relevancia, por ID
+     *
+     * @param q el texto escrito hasta ahora (obligatorio)
+     * @param limit máximo de resultados (1..100, por defecto 10)
+     * @return Response 200 con List<PersonaVista>
+     */
+    @GET
+    @Path("/nombres")
+    @Produces({MediaType.APPLICATION_JSON, Cbor.APPLICATION_CBOR})
+    public Response buscarPorNombre(@QueryParam("q") String q,
+                                    @QueryParam("limit") @Min(1) @Max(LIMITE_POR_DEFECTO) Integer limit) {
+        List<PersonaVista> personas = personaService.consultarPorNombre(q, limit != null ? limit : LIMITE_SUGERENCIAS);
+        return Response.ok(new GenericEntity<>(personas) {})
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .build();
+    }
 
-    public List<PersonaResponseDTO> buscarPorSexo(@PathParam("sexo") String sexo) {
+    /**
+     * GET /persona/estadisticas
+     * Totales demográficos
+     *
+     * FLUJO:
+     * 1. Llama servicio.obtenerEstadisticas()
+     * 2. Los totales salen de contadores en memoria (O(1), sin leer la tabla),
+     *    reconciliados periódicamente con la BD
+     * 3. Devuelve 200 OK
+     *
+     * @return Response 200 con EstadisticasResponseDTO
+     */
+    @GET
+    @Path("/estadisticas")
+    public EstadisticasResponseDTO obtenerEstadisticas() {
+        return personaInputMapper.toEstadisticasResponse(personaService.obtenerEstadisticas());
+    }
 
-        return personaService.buscarPorSexo(sexo).stream()
-                .map(personaInputMapper::toDtoResponse)
-                .toList();
+    /**
+     * GET /persona/eventos?desde=<offset>
+     * Flujo de cambios (Server-Sent Events)
+     *
+     * Cada evento SSE lleva:
+     * - id: el offset (el navegador lo reenvía como Last-Event-ID al reconectar)
+     * - event: CREADA, ACTUALIZADA o ELIMINADA
+     * - data: EventoPersona en JSON
+     *
+     * FLUJO:
+     * 1. Empieza después de Last-Event-ID, o de "desde", o desde el inicio (0)
+     * 2. Se suma a DifusorEventos: cada persona.eventos.intervalo UNA lectura del
+     *    outbox (hasta persona.eventos.lote eventos) se envía en orden a todos
+     *    los suscriptores al día
+     * 3. Un cliente atrasado se pone al día a razón de un lote por intervalo
+     * 4. Termina cuando el cliente se desconecta
+     *
+     * El método retorna enseguida: no ocupa un hilo por suscriptor
+     * mientras espera eventos.
+     *
+     * @param desde el último offset ya procesado por el cliente (opcional)
+     * @param ultimoEventoId cabecera Last-Event-ID (tiene prioridad sobre "desde")
+     * @param sink la conexión SSE
+     * @param sse fábrica de eventos SSE
+     */
+    @GET
+    @Path("/eventos")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void eventos(@QueryParam("desde") @Min(0) Long desde,
+                        @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String ultimoEventoId,
+                        @Context SseEventSink sink,
+                        @Context Sse sse) {
+        difusorEventos.suscribir(offsetInicial(desde, ultimoEventoId), sink, sse);
+    }
 
+    private static long offsetInicial(Long desde, String ultimoEventoId) {
+        if (ultimoEventoId != null && !ultimoEventoId.isBlank()) {
+            try {
+                return Long.parseLong(ultimoEventoId.trim());
+            } catch (NumberFormatException e) {
+                // Last-Event-ID no es nuestro: se usa "desde"
+            }
+        }
+        return desde != null ? desde : 0L;
     }
 
     /**
@@ -173,22 +811,83 @@ public class PersonaController {
      * Eliminar una persona
      *
      * FLUJO:
-     * 1. Recibe ID
-     * 2. Llama servicio.eliminar(id)
+     * 1. Recibe ID y (opcional) If-Match
+     * 2. Llama servicio.eliminar(id, versionEsperada)
      * 3. Si no existe → PersonaNotFoundException → 404
-     * 4. Devuelve 204 No Content
+     * 4. Si la versión ya cambió → PersonaVersionConflictException → 412
+     * 5. Devuelve 204 No Content
      *
      * @param id el identificador de la persona a eliminar
+     * @param ifMatch el ETag que leyó el cliente (opcional)
      * @return Response 204 No Content
      */
     @DELETE
     @Path("/idpersona/{idpersona}")
     @Transactional
-    public Response eliminar(@PathParam("idpersona") Long id) {
+    public Response eliminar(@PathParam("idpersona") Long id,
+                             @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch) {
         // 1. Llamar al servicio
-        personaService.eliminar(id);
+        personaService.eliminar(id, versionEsperada(id, ifMatch));
 
         // 2. Devolver 204 (sin contenido)
         return Response.noContent().build();
     }
+
+    private static EntityTag etag(Long version, boolean cbor) {
+        return new EntityTag(cbor ? version + SUFIJO_CBOR : String.valueOf(version));
+    }
+
+    private static EntityTag etag(VersionColeccion version, boolean cbor) {
+        String valor = Long.toHexString(version.origen()) + "-" + version.cambios();
+        return new EntityTag(cbor ? valor + SUFIJO_CBOR : valor);
+    }
+
+    private static MediaType tipo(boolean cbor) {
+        return cbor ? Cbor.APPLICATION_CBOR_TYPE : MediaType.APPLICATION_JSON_TYPE;
+    }
+
+    // HTTP-date tiene resolución de segundos: se trunca para que If-Modified-Since compare bien
+    private static Date ultimaModificacion(Instant modificado) {
+        return modificado != null ? Date.from(modificado.truncatedTo(ChronoUnit.SECONDS)) : null;
+    }
+
+    private static Response.ResponseBuilder conVersion(Response.ResponseBuilder response, Long version,
+                                                       Instant modificado, boolean cbor) {
+        if (version != null) {
+            response.tag(etag(version, cbor));
+        }
+        Date ultimaModificacion = ultimaModificacion(modificado);
+        if (ultimaModificacion != null) {
+            response.lastModified(ultimaModificacion);
+        }
+        return response;
+    }
+
+    /**
+     * Lee la versión esperada de la cabecera If-Match.
+     *
+     * - Sin cabecera o "*": sin condición (null)
+     * - "<version>" o "<version>-cbor": esa versión
+     * - Cualquier otro valor (ETag débil, lista, basura) nunca coincide
+     *   con un ETag de persona → 412
+     */
+    private static Long versionEsperada(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        // Se lee a mano: EntityTag.valueOf está deprecado (delega en el RuntimeDelegate)
+        String valor = ifMatch.trim();
+        if (valor.length() > 2 && valor.charAt(0) == '"' && valor.charAt(valor.length() - 1) == '"') {
+            String version = valor.substring(1, valor.length() - 1);
+            if (version.endsWith(SUFIJO_CBOR)) {
+                version = version.substring(0, version.length() - SUFIJO_CBOR.length());
+            }
+            try {
+                return Long.valueOf(version);
+            } catch (NumberFormatException e) {
+                // sigue abajo: no coincide con ninguna versión
+            }
+        }
+        throw new PersonaVersionConflictException("If-Match '" + ifMatch + "' no coincide con ninguna versión de la persona con ID " + id);
+    }
 }
@@ -0,0 +1,124 @@
+package org.jpurquilla.framework.adapters.input.controller;
+
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.jpurquilla.framework.adapters.input.dto.ImportacionResponseDTO;
+import org.jpurquilla.framework.adapters.input.importacion.EstadoImportacion;
+import org.jpurquilla.framework.adapters.input.importacion.FormatoImportacion;
+import org.jpurquilla.framework.adapters.input.importacion.ImportadorPersonas;
+import org.jpurquilla.framework.adapters.input.importacion.RegistroImportaciones;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+@Path("/persona/importaciones")
+@RunOnVirtualThread
+public class PersonaImportacionController {
+    private final ImportadorPersonas importador;
+    private final RegistroImportaciones registro;
+
+    public PersonaImportacionController(ImportadorPersonas importador, RegistroImportaciones registro) {
+        this.importador = importador;
+        this.registro = registro;
+    }
+
+    /**
+     * POST /persona/importaciones?formato=ndjson|csv
+     * Importar personas desde un archivo, leyéndolo a medida que llega
+     *
+     * Cada persona.lote.tamanio-commit líneas válidas se confirman en una
+     * transacción propia. Las líneas inválidas se rechazan sin detener la importación.
+     *
+     * Para retomar una importación cortada: volver a subir el mismo archivo
+     * con desdeLinea = ultimaLineaConfirmada de la respuesta (o de GET /{id}).
+     *
+     * @param formato ndjson (por defecto) o csv
+     * @param desdeLinea líneas de datos ya importadas que se saltan (0 = todas)
+     * @param id ID opcional para consultar el progreso mientras corre
+     * @param cuerpo el archivo
+     * @return Response 200 con ImportacionResponseDTO si terminó,
+     *         500 con el mismo DTO si un commit falló
+     */
+    @POST
+    @Consumes({"application/x-ndjson", "text/csv", MediaType.TEXT_PLAIN, MediaType.APPLICATION_OCTET_STREAM})
+    public Response importar(@QueryParam("formato") @DefaultValue("ndjson")
+                             @Pattern(regexp = "(?i)ndjson|csv", message = "Formato debe ser ndjson o csv") String formato,
+                             @QueryParam("desdeLinea") @DefaultValue("0")
+                             @Min(value = 0, message = "desdeLinea no puede ser negativo") long desdeLinea,
+                             @QueryParam("id") String id,
+                             InputStream cuerpo) {
+        FormatoImportacion formatoImportacion = FormatoImportacion.valueOf(formato.toUpperCase(Locale.ROOT));
+
+        EstadoImportacion estado;
+        try {
+            estado = registro.iniciar(id, formatoImportacion, desdeLinea);
+        } catch (IllegalStateException e) {
+            return Response.status(Response.Status.CONFLICT).entity(e.getMessage()).build();
+        }
+
+        importador.importar(new BufferedReader(new InputStreamReader(cuerpo, StandardCharsets.UTF_8)), estado);
+
+        Response.Status status = estado.getEstado() == EstadoImportacion.Estado.COMPLETADA
+                ? Response.Status.OK
+                : Response.Status.INTERNAL_SERVER_ERROR;
+        return Response.status(status).entity(toResponse(estado)).build();
+    }
+
+    /**
+     * GET /persona/importaciones
+     * Importaciones en curso y las últimas terminadas
+     *
+     * @return Response 200 con List<ImportacionResponseDTO>
+     */
+    @GET
+    public List<ImportacionResponseDTO> listar() {
+        return registro.todas().stream()
+                .map(PersonaImportacionController::toResponse)
+                .toList();
+    }
+
+    /**
+     * GET /persona/importaciones/{id}
+     * Progreso de una importación
+     *
+     * @return Response 200 con ImportacionResponseDTO, o 404 si no se conoce
+     */
+    @GET
+    @Path("/{id}")
+    public Response obtener(@PathParam("id") String id) {
+        return registro.buscar(id)
+                .map(estado -> Response.ok(toResponse(estado)).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    private static ImportacionResponseDTO toResponse(EstadoImportacion estado) {
+        return new ImportacionResponseDTO(
+                estado.getId(),
+                estado.getFormato().name().toLowerCase(Locale.ROOT),
+                estado.getEstado().name(),
+                estado.getDesdeLinea(),
+                estado.getLineasLeidas(),
+                estado.getUltimaLineaConfirmada(),
+                estado.getCreadas(),
+                estado.getRechazadas(),
+                estado.getErrores(),
+                estado.getMotivoFallo(),
+                estado.getIniciada(),
+                estado.getTerminada()
+        );
+    }
+}
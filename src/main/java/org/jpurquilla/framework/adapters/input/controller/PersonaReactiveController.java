@@ -0,0 +1,116 @@
+package org.jpurquilla.framework.adapters.input.controller;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Response;
+import org.jpurquilla.application.port.input.PersonaReactiveInputPort;
+import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
+import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
+import org.jpurquilla.framework.adapters.input.mapper.PersonaInputMapper;
+
+/**
+ * Mismas operaciones que PersonaController, en /reactivo/persona.
+ *
+ * Los métodos devuelven Uni/Multi, así Quarkus los ejecuta en el event loop:
+ * el hilo no se bloquea mientras espera a la BD.
+ * No hay @Transactional: el adaptador abre su propia transacción reactiva
+ * para cada escritura (la fila y su evento en el outbox).
+ *
+ * Mismos datos que PersonaController (misma BD), sin pasar por su caché,
+ * contadores ni índice de nombres (ver ReactiveConfig).
+ */
+@Path("/reactivo/persona")
+@IfBuildProperty(name = "persona.reactivo.habilitado", stringValue = "true")
+public class PersonaReactiveController {
+    private final PersonaReactiveInputPort personaService;
+    private final PersonaInputMapper personaInputMapper;
+
+    public PersonaReactiveController(PersonaReactiveInputPort personaService, PersonaInputMapper personaInputMapper) {
+        this.personaService = personaService;
+        this.personaInputMapper = personaInputMapper;
+    }
+
+    /**
+     * POST /reactivo/persona
+     *
+     * @param dto los datos de la persona a crear
+     * @return Response 201 con PersonaResponseDTO
+     */
+    @POST
+    public Uni<Response> crear(PersonaRequestDTO dto) {
+        return Uni.createFrom().item(() -> personaInputMapper.toPersonaDomain(dto))
+                .chain(personaService::crear)
+                .map(persona -> Response
+                        .status(Response.Status.CREATED)
+                        .entity(personaInputMapper.toDtoResponse(persona))
+                        .build());
+    }
+
+    /**
+     * GET /reactivo/persona/idpersona/{id}
+     *
+     * @param id el identificador de la persona
+     * @return PersonaResponseDTO (404 si no existe)
+     */
+    @GET
+    @Path("/idpersona/{idpersona}")
+    public Uni<PersonaResponseDTO> buscarPorId(@PathParam("idpersona") Long id) {
+        return personaService.buscarPorId(id)
+                .map(personaInputMapper::toDtoResponse);
+    }
+
+    /**
+     * PUT /reactivo/persona/idpersona/{id}
+     *
+     * @param id el identificador de la persona a actualizar
+     * @param dto los nuevos datos
+     * @return PersonaResponseDTO (404 si no existe)
+     */
+    @PUT
+    @Path("/idpersona/{idpersona}")
+    public Uni<PersonaResponseDTO> actualizar(@PathParam("idpersona") Long id, PersonaRequestDTO dto) {
+        return Uni.createFrom().item(() -> personaInputMapper.toPersonaDomain(dto))
+                .chain(datosNuevos -> personaService.actualizar(id, datosNuevos))
+                .map(personaInputMapper::toDtoResponse);
+    }
+
+    /**
+     * GET /reactivo/persona
+     * El Multi se escribe como arreglo JSON a medida que llegan las filas.
+     *
+     * @return Multi<PersonaResponseDTO>
+     */
+    @GET
+    public Multi<PersonaResponseDTO> obtenerTodas() {
+        return personaService.obtenerTodas()
+                .map(personaInputMapper::toDtoResponse);
+    }
+
+    /**
+     * GET /reactivo/persona/sexo/{sexo}
+     *
+     * @param sexo el sexo a filtrar (M o F)
+     * @return Multi<PersonaResponseDTO>
+     */
+    @GET
+    @Path("/sexo/{sexo}")
+    public Multi<PersonaResponseDTO> buscarPorSexo(@PathParam("sexo") String sexo) {
+        return personaService.buscarPorSexo(sexo)
+                .map(personaInputMapper::toDtoResponse);
+    }
+
+    /**
+     * DELETE /reactivo/persona/idpersona/{id}
+     *
+     * @param id el identificador de la persona a eliminar
+     * @return Response 204 (404 si no existe)
+     */
+    @DELETE
+    @Path("/idpersona/{idpersona}")
+    public Uni<Response> eliminar(@PathParam("idpersona") Long id) {
+        return personaService.eliminar(id)
+                .map(ignorado -> Response.noContent().build());
+    }
+}
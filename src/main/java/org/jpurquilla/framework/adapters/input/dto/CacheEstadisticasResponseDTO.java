@@ -0,0 +1,23 @@
+package org.jpurquilla.framework.adapters.input.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO de SALIDA: CacheEstadisticasResponseDTO
+ *
+ * Contadores de la caché de lecturas de personas.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEstadisticasResponseDTO {
+    private long aciertos;
+    private long fallos;
+    private long desalojos;
+    private long entradas;
+    private double tasaAciertos;
+}
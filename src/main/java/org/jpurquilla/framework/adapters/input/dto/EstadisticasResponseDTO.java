@@ -0,0 +1,26 @@
+package org.jpurquilla.framework.adapters.input.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * DTO de SALIDA: EstadisticasResponseDTO
+ *
+ * Totales demográficos de GET /persona/estadisticas.
+ * Las claves de los mapas son las que ve el cliente:
+ * sexo "M"/"F" y rangos "0-17", "18-29", ...
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadisticasResponseDTO {
+    private long total;
+    private Map<String, Long> porSexo;
+    private Map<String, Long> porRangoEdad;
+    private Double edadPromedio;
+}
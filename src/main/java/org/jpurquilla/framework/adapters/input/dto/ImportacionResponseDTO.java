@@ -0,0 +1,39 @@
+package org.jpurquilla.framework.adapters.input.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO de SALIDA: ImportacionResponseDTO
+ *
+ * Estado de una importación en /persona/importaciones.
+ * - estado: "EN_CURSO", "COMPLETADA" o "FALLIDA"
+ * - lineasLeidas: última línea de datos leída del archivo
+ * - ultimaLineaConfirmada: hasta dónde está resuelto; usar como desdeLinea para retomar
+ * - creadas / rechazadas: cantidad de personas guardadas y de líneas descartadas
+ * - errores: los primeros motivos de rechazo, con su número de línea
+ * - motivoFallo: por qué se detuvo (solo si estado = FALLIDA)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacionResponseDTO {
+    private String id;
+    private String formato;
+    private String estado;
+    private long desdeLinea;
+    private long lineasLeidas;
+    private long ultimaLineaConfirmada;
+    private long creadas;
+    private long rechazadas;
+    private List<String> errores;
+    private String motivoFallo;
+    private Instant iniciada;
+    private Instant terminada;
+}
@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
+
 /**
  * DTO de SALIDA: PersonaResponseDTO
  *
@@ -39,4 +41,7 @@ public class PersonaResponseDTO {
     private String apellido;
     private Integer edad;
     private String sexo;
+    // Control de cambios: el controller los expone también como ETag y Last-Modified
+    private Long version;
+    private Instant modificado;
 }
@@ -0,0 +1,28 @@
+package org.jpurquilla.framework.adapters.input.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.jpurquilla.application.port.output.PersonaVista;
+
+/**
+ * DTO de SALIDA: ResultadoBusquedaResponseDTO
+ *
+ * Resultado de un ID en GET /persona/idpersona?ids=...
+ * - id: el ID pedido
+ * - estado: "ENCONTRADA" o "NO_ENCONTRADA"
+ * - persona: la persona (solo si estado = ENCONTRADA)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoBusquedaResponseDTO {
+    public static final String ENCONTRADA = "ENCONTRADA";
+    public static final String NO_ENCONTRADA = "NO_ENCONTRADA";
+
+    private Long id;
+    private String estado;
+    private PersonaVista persona;
+}
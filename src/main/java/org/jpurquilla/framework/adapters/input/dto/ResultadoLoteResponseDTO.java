@@ -0,0 +1,29 @@
+package org.jpurquilla.framework.adapters.input.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO de SALIDA: ResultadoLoteResponseDTO
+ *
+ * Resultado de un elemento en POST /persona/lote.
+ * - indice: posición del elemento en el arreglo enviado
+ * - estado: "CREADA" o "RECHAZADA"
+ * - persona: la persona creada (solo si estado = CREADA)
+ * - error: el motivo del rechazo (solo si estado = RECHAZADA)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoLoteResponseDTO {
+    public static final String CREADA = "CREADA";
+    public static final String RECHAZADA = "RECHAZADA";
+
+    private int indice;
+    private String estado;
+    private PersonaResponseDTO persona;
+    private String error;
+}
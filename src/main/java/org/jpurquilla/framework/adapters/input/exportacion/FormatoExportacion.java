@@ -0,0 +1,111 @@
+package org.jpurquilla.framework.adapters.input.exportacion;
+
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.framework.adapters.input.json.SerializadorJson;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Formatos de GET /persona/exportar.
+ *
+ * Ambos escriben una persona por línea, sin estado entre filas:
+ * la memoria no crece con la cantidad de filas exportadas.
+ *
+ * Si la exportación falla a mitad de camino el 200 ya se envió: se escribe
+ * una última línea de error (escribirError) para que el archivo no parezca
+ * completo.
+ */
+public enum FormatoExportacion {
+    /**
+     * Un objeto JSON por línea (https://github.com/ndjson/ndjson-spec).
+     */
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public void escribirEncabezado(Writer writer) {
+        }
+
+        @Override
+        public void escribir(Writer writer, PersonaVista persona, SerializadorJson.EscritorPersona json) throws IOException {
+            json.escribir(persona);
+            writer.write('\n');
+        }
+
+        @Override
+        public void escribirError(Writer writer) throws IOException {
+            writer.write("{\"error\":\"" + EXPORTACION_INCOMPLETA + "\"}\n");
+        }
+    },
+
+    /**
+     * CSV (RFC 4180) con encabezado. Los textos se citan solo si hace falta.
+     */
+    CSV("text/csv", "csv") {
+        @Override
+        public void escribirEncabezado(Writer writer) throws IOException {
+            writer.write("id,nombre,apellido,edad,sexo,version,modificado\r\n");
+        }
+
+        @Override
+        public void escribir(Writer writer, PersonaVista persona, SerializadorJson.EscritorPersona json) throws IOException {
+            writer.write(String.valueOf(persona.id()));
+            writer.write(',');
+            writer.write(campoCsv(persona.nombre()));
+            writer.write(',');
+            writer.write(campoCsv(persona.apellido()));
+            writer.write(',');
+            writer.write(persona.edad() != null ? persona.edad().toString() : "");
+            writer.write(',');
+            writer.write(campoCsv(persona.sexo()));
+            writer.write(',');
+            writer.write(persona.version() != null ? persona.version().toString() : "");
+            writer.write(',');
+            writer.write(persona.modificado() != null ? persona.modificado().toString() : "");
+            writer.write("\r\n");
+        }
+
+        // "ERROR" en la columna id: ninguna fila válida tiene un id no numérico
+        @Override
+        public void escribirError(Writer writer) throws IOException {
+            writer.write("ERROR," + EXPORTACION_INCOMPLETA + ",,,,,\r\n");
+        }
+    };
+
+    private static final String EXPORTACION_INCOMPLETA = "exportación incompleta";
+
+    private final String mediaType;
+    private final String extension;
+
+    FormatoExportacion(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public abstract void escribirEncabezado(Writer writer) throws IOException;
+
+    public abstract void escribir(Writer writer, PersonaVista persona, SerializadorJson.EscritorPersona json) throws IOException;
+
+    /**
+     * Última línea cuando la exportación se corta por un error.
+     */
+    public abstract void escribirError(Writer writer) throws IOException;
+
+    // Cita el campo si tiene coma, comillas o salto de línea (las comillas se duplican)
+    private static String campoCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
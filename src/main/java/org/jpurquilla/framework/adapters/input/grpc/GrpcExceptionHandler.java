@@ -0,0 +1,70 @@
+package org.jpurquilla.framework.adapters.input.grpc;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.Status;
+import io.grpc.StatusException;
+import io.grpc.StatusRuntimeException;
+import io.quarkus.grpc.ExceptionHandler;
+import io.quarkus.grpc.ExceptionHandlerProvider;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jpurquilla.domain.exceptions.PersonaNotFoundException;
+import org.jpurquilla.domain.exceptions.PersonaValidationException;
+import org.jpurquilla.domain.exceptions.PersonaVersionConflictException;
+import org.jpurquilla.framework.adapters.exceptions.ServiceUnavailableException;
+
+/**
+ * MANEJADOR GLOBAL DE EXCEPCIONES gRPC
+ *
+ * Equivalente a GlobalExceptionHandler para el adaptador gRPC:
+ * - PersonaValidationException / IllegalArgumentException → INVALID_ARGUMENT (400 en REST)
+ * - PersonaNotFoundException → NOT_FOUND (404)
+ * - PersonaVersionConflictException → ABORTED (412): la condición de versión
+ *   falló; el cliente debe releer y reintentar
+ * - ServiceUnavailableException → UNAVAILABLE (503): cola de altas llena
+ * - Cualquier otra → INTERNAL (500)
+ */
+@ApplicationScoped
+public class GrpcExceptionHandler implements ExceptionHandlerProvider {
+
+    @Override
+    public <ReqT, RespT> ExceptionHandler<ReqT, RespT> createHandler(ServerCall.Listener<ReqT> listener,
+                                                                     ServerCall<ReqT, RespT> serverCall,
+                                                                     Metadata metadata) {
+        return new Manejador<>(listener, serverCall, metadata);
+    }
+
+    @Override
+    public Throwable transform(Throwable t) {
+        if (t instanceof StatusException || t instanceof StatusRuntimeException) {
+            return t;
+        }
+        Status status;
+        if (t instanceof PersonaValidationException || t instanceof IllegalArgumentException) {
+            status = Status.INVALID_ARGUMENT;
+        } else if (t instanceof PersonaNotFoundException) {
+            status = Status.NOT_FOUND;
+        } else if (t instanceof PersonaVersionConflictException) {
+            status = Status.ABORTED;
+        } else if (t instanceof ServiceUnavailableException) {
+            status = Status.UNAVAILABLE;
+        } else {
+            status = Status.INTERNAL;
+        }
+        return status.withDescription(t.getMessage()).withCause(t).asRuntimeException();
+    }
+
+    private class Manejador<ReqT, RespT> extends ExceptionHandler<ReqT, RespT> {
+        Manejador(ServerCall.Listener<ReqT> listener, ServerCall<ReqT, RespT> call, Metadata metadata) {
+            super(listener, call, metadata);
+        }
+
+        @Override
+        protected void handleException(Throwable t, ServerCall<ReqT, RespT> call, Metadata metadata) {
+            StatusRuntimeException error = (StatusRuntimeException) transform(
+                    t instanceof StatusException e ? e.getStatus().asRuntimeException(e.getTrailers()) : t);
+            Metadata trailers = error.getTrailers() != null ? error.getTrailers() : metadata;
+            call.close(error.getStatus(), trailers);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.jpurquilla.framework.adapters.input.grpc;
+
+import com.google.protobuf.Timestamp;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
+import org.jpurquilla.framework.adapters.input.grpc.proto.PersonaRequest;
+import org.jpurquilla.framework.adapters.input.mapper.PersonaInputMapper;
+
+import java.time.Instant;
+
+/**
+ * MAPPER gRPC: mensajes protobuf ↔ dominio / vista.
+ *
+ * ¿Por qué no MapStruct como PersonaInputMapper?
+ * - Los mensajes protobuf son inmutables y se arman con Builder
+ * - Sus setters no aceptan null y los campos optional se consultan con hasXxx()
+ * - Escrito a mano queda más claro que configurar MapStruct para eso
+ *
+ * PersonaRequest → PersonaRequestDTO → Persona: la conversión de sexo y sus
+ * errores son los mismos que en REST (PersonaInputMapper).
+ */
+@ApplicationScoped
+public class PersonaGrpcMapper {
+    private final PersonaInputMapper personaInputMapper;
+
+    public PersonaGrpcMapper(PersonaInputMapper personaInputMapper) {
+        this.personaInputMapper = personaInputMapper;
+    }
+
+    /**
+     * @throws IllegalArgumentException si el sexo no es "M" ni "F"
+     */
+    public Persona toPersonaDomain(PersonaRequest request) {
+        PersonaRequestDTO dto = new PersonaRequestDTO(
+                request.hasNombre() ? request.getNombre() : null,
+                request.hasApellido() ? request.getApellido() : null,
+                request.hasEdad() ? request.getEdad() : null,
+                request.hasSexo() ? request.getSexo() : null);
+        return personaInputMapper.toPersonaDomain(dto);
+    }
+
+    public org.jpurquilla.framework.adapters.input.grpc.proto.Persona toProto(Persona persona) {
+        var proto = org.jpurquilla.framework.adapters.input.grpc.proto.Persona.newBuilder();
+        if (persona.getId() != null) {
+            proto.setId(persona.getId());
+        }
+        if (persona.getNombre() != null) {
+            proto.setNombre(persona.getNombre());
+        }
+        if (persona.getApellido() != null) {
+            proto.setApellido(persona.getApellido());
+        }
+        if (persona.getEdad() != null) {
+            proto.setEdad(persona.getEdad());
+        }
+        if (persona.getSexo() != null) {
+            proto.setSexo(personaInputMapper.sexoToString(persona.getSexo()));
+        }
+        if (persona.getVersion() != null) {
+            proto.setVersion(persona.getVersion());
+        }
+        if (persona.getModificado() != null) {
+            proto.setModificado(toTimestamp(persona.getModificado()));
+        }
+        return proto.build();
+    }
+
+    public org.jpurquilla.framework.adapters.input.grpc.proto.Persona toProto(PersonaVista persona) {
+        var proto = org.jpurquilla.framework.adapters.input.grpc.proto.Persona.newBuilder();
+        if (persona.id() != null) {
+            proto.setId(persona.id());
+        }
+        if (persona.nombre() != null) {
+            proto.setNombre(persona.nombre());
+        }
+        if (persona.apellido() != null) {
+            proto.setApellido(persona.apellido());
+        }
+        if (persona.edad() != null) {
+            proto.setEdad(persona.edad());
+        }
+        if (persona.sexo() != null) {
+            proto.setSexo(persona.sexo());
+        }
+        if (persona.version() != null) {
+            proto.setVersion(persona.version());
+        }
+        if (persona.modificado() != null) {
+            proto.setModificado(toTimestamp(persona.modificado()));
+        }
+        return proto.build();
+    }
+
+    private static Timestamp toTimestamp(Instant instante) {
+        return Timestamp.newBuilder()
+                .setSeconds(instante.getEpochSecond())
+                .setNanos(instante.getNano())
+                .build();
+    }
+}
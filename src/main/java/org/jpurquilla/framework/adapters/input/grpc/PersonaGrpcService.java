@@ -0,0 +1,212 @@
+package org.jpurquilla.framework.adapters.input.grpc;
+
+import com.google.protobuf.Empty;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jpurquilla.application.port.input.PersonaInputPort;
+import org.jpurquilla.application.port.input.ResultadoCreacion;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.framework.adapters.input.grpc.proto.ActualizarRequest;
+import org.jpurquilla.framework.adapters.input.grpc.proto.EliminarRequest;
+import org.jpurquilla.framework.adapters.input.grpc.proto.PersonaId;
+import org.jpurquilla.framework.adapters.input.grpc.proto.PersonaRequest;
+import org.jpurquilla.framework.adapters.input.grpc.proto.Personas;
+import org.jpurquilla.framework.adapters.input.grpc.proto.Rechazo;
+import org.jpurquilla.framework.adapters.input.grpc.proto.ResumenLote;
+import org.jpurquilla.framework.adapters.input.grpc.proto.SexoRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ADAPTADOR DE ENTRADA gRPC: PersonaGrpcService
+ *
+ * Otra implementación de la entrada, junto a PersonaController (REST).
+ * Usa el MISMO PersonaInputPort: casos de uso y dominio no cambian.
+ * El contrato está en src/main/proto/persona.proto; Quarkus genera la
+ * interfaz Personas (Mutiny) al compilar.
+ *
+ * STREAMING:
+ * - ObtenerTodas / BuscarPorSexo: server-streaming, una Persona por mensaje
+ * - CrearEnLote: client-streaming, el cliente envía las personas de a una
+ *   y recibe un resumen al cerrar el stream
+ *
+ * HILOS:
+ * Los métodos unarios usan @Blocking (corren en el pool de workers, no en el
+ * event loop). Los que arman un pipeline de streaming mandan cada acceso a la
+ * BD al pool de workers con runSubscriptionOn().
+ *
+ * ERRORES: las excepciones de dominio se traducen a Status en GrpcExceptionHandler.
+ */
+@GrpcService
+public class PersonaGrpcService implements Personas {
+    private final PersonaInputPort personaService;
+    private final PersonaGrpcMapper mapper;
+    private final int tamanioCommitLote;
+    private final int tamanioPagina;
+    private final boolean altasDiferidas;
+
+    public PersonaGrpcService(PersonaInputPort personaService,
+                              PersonaGrpcMapper mapper,
+                              @ConfigProperty(name = "persona.lote.tamanio-commit", defaultValue = "500") int tamanioCommitLote,
+                              @ConfigProperty(name = "persona.grpc.tamanio-pagina", defaultValue = "500") int tamanioPagina,
+                              @ConfigProperty(name = "persona.diferida.habilitada", defaultValue = "false") boolean altasDiferidas) {
+        this.personaService = personaService;
+        this.mapper = mapper;
+        this.tamanioCommitLote = tamanioCommitLote;
+        this.tamanioPagina = tamanioPagina;
+        this.altasDiferidas = altasDiferidas;
+    }
+
+    @Override
+    @Blocking
+    public Uni<org.jpurquilla.framework.adapters.input.grpc.proto.Persona> crear(PersonaRequest request) {
+        Persona persona = mapper.toPersonaDomain(request);
+        // Con altas diferidas la transacción es la del lote (ver PersonaController.crear)
+        Persona guardada = altasDiferidas
+                ? personaService.crear(persona)
+                : QuarkusTransaction.requiringNew().call(() -> personaService.crear(persona));
+        return Uni.createFrom().item(mapper.toProto(guardada));
+    }
+
+    /**
+     * Agrupa lo recibido en sub-lotes de persona.lote.tamanio-commit y guarda
+     * cada uno en su propia transacción, igual que POST /persona/lote.
+     * Solo hay un sub-lote en memoria; el siguiente se pide al cliente
+     * (control de flujo de HTTP/2) cuando el anterior ya se guardó.
+     */
+    @Override
+    public Uni<ResumenLote> crearEnLote(Multi<PersonaRequest> request) {
+        AtomicLong recibidas = new AtomicLong();
+        return request
+                .group().intoLists().of(tamanioCommitLote)
+                .onItem().transformToUniAndConcatenate(lote -> {
+                    long desplazamiento = recibidas.getAndAdd(lote.size());
+                    return Uni.createFrom().item(() -> crearSubLote(lote, desplazamiento))
+                            .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+                })
+                .collect().in(ResumenLote::newBuilder, (resumen, parcial) -> resumen
+                        .setCreadas(resumen.getCreadas() + parcial.getCreadas())
+                        .addAllRechazos(parcial.getRechazosList()))
+                .map(ResumenLote.Builder::build);
+    }
+
+    @Override
+    @Blocking
+    public Uni<org.jpurquilla.framework.adapters.input.grpc.proto.Persona> buscarPorId(PersonaId request) {
+        PersonaVista persona = personaService.consultarPorId(request.getId());
+        return Uni.createFrom().item(mapper.toProto(persona));
+    }
+
+    @Override
+    @Blocking
+    public Uni<org.jpurquilla.framework.adapters.input.grpc.proto.Persona> actualizar(ActualizarRequest request) {
+        Persona datosNuevos = mapper.toPersonaDomain(request.getDatos());
+        datosNuevos.setVersion(request.hasVersionEsperada() ? request.getVersionEsperada() : null);
+        Persona actualizada = QuarkusTransaction.requiringNew()
+                .call(() -> personaService.actualizar(request.getId(), datosNuevos));
+        return Uni.createFrom().item(mapper.toProto(actualizada));
+    }
+
+    /**
+     * Recorre la tabla por páginas de persona.grpc.tamanio-pagina (keyset
+     * sobre el ID, como GET /persona?after=). Cada página se lee en una
+     * transacción corta y solo cuando el cliente pidió más mensajes:
+     * un cliente lento no retiene un cursor abierto ni llena la memoria.
+     */
+    @Override
+    public Multi<org.jpurquilla.framework.adapters.input.grpc.proto.Persona> obtenerTodas(Empty request) {
+        AtomicReference<Long> cursor = new AtomicReference<>();
+        return Multi.createBy().repeating()
+                .uni(() -> Uni.createFrom().item(() -> leerPagina(cursor))
+                        .runSubscriptionOn(Infrastructure.getDefaultWorkerPool()))
+                .whilst(pagina -> pagina.size() == tamanioPagina)
+                .onItem().<PersonaVista>disjoint()
+                .map(mapper::toProto);
+    }
+
+    @Override
+    @Blocking
+    public Multi<org.jpurquilla.framework.adapters.input.grpc.proto.Persona> buscarPorSexo(SexoRequest request) {
+        List<PersonaVista> personas = personaService.consultarPorSexo(request.getSexo());
+        return Multi.createFrom().iterable(personas)
+                .map(mapper::toProto);
+    }
+
+    @Override
+    @Blocking
+    public Uni<Empty> eliminar(EliminarRequest request) {
+        Long versionEsperada = request.hasVersionEsperada() ? request.getVersionEsperada() : null;
+        QuarkusTransaction.requiringNew().run(() -> personaService.eliminar(request.getId(), versionEsperada));
+        return Uni.createFrom().item(Empty.getDefaultInstance());
+    }
+
+    // Lee la página siguiente al cursor y lo avanza
+    private List<PersonaVista> leerPagina(AtomicReference<Long> cursor) {
+        List<PersonaVista> pagina = QuarkusTransaction.requiringNew()
+                .call(() -> personaService.consultarPagina(cursor.get(), tamanioPagina));
+        if (!pagina.isEmpty()) {
+            cursor.set(pagina.get(pagina.size() - 1).id());
+        }
+        return pagina;
+    }
+
+    /**
+     * Mismo criterio que PersonaController.crearSubLote(): un mensaje inválido
+     * se rechaza sin afectar a los demás; si falla el guardado, se rechaza
+     * todo el sub-lote y los anteriores quedan confirmados.
+     */
+    private ResumenLote crearSubLote(List<PersonaRequest> lote, long desplazamiento) {
+        ResumenLote.Builder resumen = ResumenLote.newBuilder();
+        List<Persona> personas = new ArrayList<>(lote.size());
+        List<Long> indices = new ArrayList<>(lote.size());
+
+        // 1. Mapear mensaje → Persona
+        for (int i = 0; i < lote.size(); i++) {
+            try {
+                personas.add(mapper.toPersonaDomain(lote.get(i)));
+                indices.add(desplazamiento + i);
+            } catch (IllegalArgumentException e) {
+                resumen.addRechazos(rechazo(desplazamiento + i, e.getMessage()));
+            }
+        }
+
+        // 2. Validar y guardar en una transacción propia
+        try {
+            List<ResultadoCreacion> resultados = QuarkusTransaction.requiringNew()
+                    .call(() -> personaService.crearEnLote(personas));
+            for (int j = 0; j < resultados.size(); j++) {
+                ResultadoCreacion resultado = resultados.get(j);
+                if (resultado.isCreada()) {
+                    resumen.setCreadas(resumen.getCreadas() + 1);
+                } else {
+                    resumen.addRechazos(rechazo(indices.get(j), resultado.getError()));
+                }
+            }
+        } catch (RuntimeException e) {
+            for (long indice : indices) {
+                resumen.addRechazos(rechazo(indice, "Error al guardar el lote: " + e.getMessage()));
+            }
+        }
+
+        // Rechazos en el orden del stream
+        List<Rechazo> rechazos = new ArrayList<>(resumen.getRechazosList());
+        rechazos.sort((a, b) -> Long.compare(a.getIndice(), b.getIndice()));
+        return resumen.clearRechazos().addAllRechazos(rechazos).build();
+    }
+
+    private static Rechazo rechazo(long indice, String error) {
+        return Rechazo.newBuilder()
+                .setIndice(indice)
+                .setError(error != null ? error : "")
+                .build();
+    }
+}
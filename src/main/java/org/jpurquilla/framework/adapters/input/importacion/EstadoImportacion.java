@@ -0,0 +1,124 @@
+package org.jpurquilla.framework.adapters.input.importacion;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progreso de una importación (lo actualiza el hilo que importa,
+ * lo leen las consultas de estado).
+ *
+ * LÍNEAS: se cuentan solo las líneas de datos (en CSV, sin el encabezado),
+ * empezando en 1. ultimaLineaConfirmada es la línea hasta la cual todo está
+ * resuelto: creadas ya confirmadas en la BD o rechazadas. Para retomar una
+ * importación interrumpida se vuelve a subir el archivo con desdeLinea igual
+ * a ese valor.
+ */
+public class EstadoImportacion {
+    public enum Estado {
+        EN_CURSO, COMPLETADA, FALLIDA
+    }
+
+    // Solo se guardan los primeros errores; el resto solo se cuenta
+    static final int MAX_ERRORES = 100;
+
+    private final String id;
+    private final FormatoImportacion formato;
+    private final long desdeLinea;
+    private final Instant iniciada = Instant.now();
+    private final AtomicLong lineasLeidas = new AtomicLong();
+    private final AtomicLong creadas = new AtomicLong();
+    private final AtomicLong rechazadas = new AtomicLong();
+    private final List<String> errores = new ArrayList<>();
+    private volatile long ultimaLineaConfirmada;
+    private volatile Estado estado = Estado.EN_CURSO;
+    private volatile String motivoFallo;
+    private volatile Instant terminada;
+
+    EstadoImportacion(String id, FormatoImportacion formato, long desdeLinea) {
+        this.id = id;
+        this.formato = formato;
+        this.desdeLinea = desdeLinea;
+        this.ultimaLineaConfirmada = desdeLinea;
+    }
+
+    void lineaLeida(long linea) {
+        lineasLeidas.set(linea);
+    }
+
+    void rechazar(long linea, String motivo) {
+        rechazadas.incrementAndGet();
+        synchronized (errores) {
+            if (errores.size() < MAX_ERRORES) {
+                errores.add("Línea " + linea + ": " + motivo);
+            }
+        }
+    }
+
+    void confirmar(long creadasEnLote, long hastaLinea) {
+        creadas.addAndGet(creadasEnLote);
+        ultimaLineaConfirmada = hastaLinea;
+    }
+
+    void completar() {
+        terminada = Instant.now();
+        estado = Estado.COMPLETADA;
+    }
+
+    void fallar(String motivo) {
+        motivoFallo = motivo;
+        terminada = Instant.now();
+        estado = Estado.FALLIDA;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public FormatoImportacion getFormato() {
+        return formato;
+    }
+
+    public long getDesdeLinea() {
+        return desdeLinea;
+    }
+
+    public Instant getIniciada() {
+        return iniciada;
+    }
+
+    public Instant getTerminada() {
+        return terminada;
+    }
+
+    public Estado getEstado() {
+        return estado;
+    }
+
+    public String getMotivoFallo() {
+        return motivoFallo;
+    }
+
+    public long getLineasLeidas() {
+        return lineasLeidas.get();
+    }
+
+    public long getUltimaLineaConfirmada() {
+        return ultimaLineaConfirmada;
+    }
+
+    public long getCreadas() {
+        return creadas.get();
+    }
+
+    public long getRechazadas() {
+        return rechazadas.get();
+    }
+
+    public List<String> getErrores() {
+        synchronized (errores) {
+            return List.copyOf(errores);
+        }
+    }
+}
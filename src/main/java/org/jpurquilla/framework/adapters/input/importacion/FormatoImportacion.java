@@ -0,0 +1,13 @@
+package org.jpurquilla.framework.adapters.input.importacion;
+
+/**
+ * Formatos aceptados por POST /persona/importaciones.
+ *
+ * - NDJSON: un PersonaRequestDTO en JSON por línea
+ * - CSV: primera línea con los nombres de columna (nombre, apellido, edad, sexo;
+ *   en cualquier orden, las demás se ignoran). Los campos pueden ir entre
+ *   comillas, pero no pueden contener saltos de línea.
+ */
+public enum FormatoImportacion {
+    NDJSON, CSV
+}
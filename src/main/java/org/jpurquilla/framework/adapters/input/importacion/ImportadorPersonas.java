@@ -0,0 +1,235 @@
+package org.jpurquilla.framework.adapters.input.importacion;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jpurquilla.application.port.input.PersonaInputPort;
+import org.jpurquilla.application.port.input.ResultadoCreacion;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.exceptions.PersonaValidationException;
+import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
+import org.jpurquilla.framework.adapters.input.mapper.PersonaInputMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Importa personas desde un archivo NDJSON o CSV leído de a una línea.
+ *
+ * FLUJO:
+ * 1. Lee una línea; las líneas hasta desdeLinea (ya importadas) se saltan
+ * 2. La convierte a PersonaRequestDTO y la valida igual que POST /persona
+ *    (restricciones del DTO + mapeo de sexo); si falla, la rechaza y sigue
+ * 3. Junta las válidas hasta persona.lote.tamanio-commit y las guarda con
+ *    crearEnLote() en una transacción propia (valida reglas de dominio)
+ * 4. Tras cada commit avanza ultimaLineaConfirmada
+ *
+ * MEMORIA: a lo sumo un sub-lote en memoria, sin importar el tamaño del archivo.
+ * CONTRAPRESIÓN: no se lee la siguiente línea hasta terminar el commit;
+ * mientras tanto el body no se consume y el cliente queda frenado por TCP.
+ *
+ * Si un commit falla, la importación queda FALLIDA: lo confirmado se mantiene
+ * y se puede retomar con desdeLinea = ultimaLineaConfirmada.
+ */
+@ApplicationScoped
+public class ImportadorPersonas {
+    static final List<String> COLUMNAS = List.of("nombre", "apellido", "edad", "sexo");
+
+    private final PersonaInputPort personaService;
+    private final PersonaInputMapper personaInputMapper;
+    private final Validator validator;
+    private final Jsonb jsonb;
+    private final int tamanioCommit;
+
+    public ImportadorPersonas(PersonaInputPort personaService,
+                              PersonaInputMapper personaInputMapper,
+                              Validator validator,
+                              Jsonb jsonb,
+                              @ConfigProperty(name = "persona.lote.tamanio-commit", defaultValue = "500") int tamanioCommit) {
+        this.personaService = personaService;
+        this.personaInputMapper = personaInputMapper;
+        this.validator = validator;
+        this.jsonb = jsonb;
+        this.tamanioCommit = tamanioCommit;
+    }
+
+    /**
+     * Importa todo el contenido del lector y deja el resultado en el estado.
+     *
+     * @param lector el body de la petición
+     * @param estado el estado registrado para esta importación
+     * @throws PersonaValidationException si el encabezado CSV no tiene las columnas requeridas
+     */
+    public void importar(BufferedReader lector, EstadoImportacion estado) {
+        try {
+            Map<String, Integer> columnas = estado.getFormato() == FormatoImportacion.CSV
+                    ? leerEncabezado(lector)
+                    : Map.of();
+
+            List<Persona> pendientes = new ArrayList<>(tamanioCommit);
+            List<Long> lineasPendientes = new ArrayList<>(tamanioCommit);
+            long linea = 0;
+            String texto;
+            while ((texto = lector.readLine()) != null) {
+                linea++;
+                if (linea <= estado.getDesdeLinea()) {
+                    continue;
+                }
+                estado.lineaLeida(linea);
+                if (texto.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    PersonaRequestDTO dto = estado.getFormato() == FormatoImportacion.CSV
+                            ? desdeCsv(texto, columnas)
+                            : jsonb.fromJson(texto, PersonaRequestDTO.class);
+                    validar(dto);
+                    pendientes.add(personaInputMapper.toPersonaDomain(dto));
+                    lineasPendientes.add(linea);
+                } catch (PersonaValidationException | IllegalArgumentException | JsonbException e) {
+                    estado.rechazar(linea, e.getMessage());
+                }
+
+                if (pendientes.size() >= tamanioCommit) {
+                    confirmar(pendientes, lineasPendientes, linea, estado);
+                }
+            }
+            confirmar(pendientes, lineasPendientes, Math.max(linea, estado.getDesdeLinea()), estado);
+            estado.completar();
+        } catch (PersonaValidationException e) {
+            estado.fallar(e.getMessage());
+            throw e;
+        } catch (IOException e) {
+            estado.fallar("Error al leer el archivo: " + e.getMessage());
+        } catch (RuntimeException e) {
+            estado.fallar("Error al guardar el lote: " + e.getMessage());
+        }
+    }
+
+    // Guarda el sub-lote pendiente en su propia transacción y avanza el progreso
+    private void confirmar(List<Persona> pendientes, List<Long> lineasPendientes,
+                           long hastaLinea, EstadoImportacion estado) {
+        if (pendientes.isEmpty()) {
+            estado.confirmar(0, hastaLinea);
+            return;
+        }
+        List<Persona> lote = List.copyOf(pendientes);
+        List<ResultadoCreacion> resultados = QuarkusTransaction.requiringNew()
+                .call(() -> personaService.crearEnLote(lote));
+
+        long creadas = 0;
+        for (int i = 0; i < resultados.size(); i++) {
+            ResultadoCreacion resultado = resultados.get(i);
+            if (resultado.isCreada()) {
+                creadas++;
+            } else {
+                estado.rechazar(lineasPendientes.get(i), resultado.getError());
+            }
+        }
+        estado.confirmar(creadas, hastaLinea);
+        pendientes.clear();
+        lineasPendientes.clear();
+    }
+
+    // Mismas restricciones que @Valid en POST /persona
+    private void validar(PersonaRequestDTO dto) {
+        if (dto == null) {
+            throw new PersonaValidationException("Línea sin datos");
+        }
+        Set<ConstraintViolation<PersonaRequestDTO>> violaciones = validator.validate(dto);
+        if (!violaciones.isEmpty()) {
+            throw new PersonaValidationException(violaciones.stream()
+                    .map(v -> "Validación fallida en '" + v.getPropertyPath() + "': " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    // Posición de cada columna requerida según la primera línea del CSV
+    private Map<String, Integer> leerEncabezado(BufferedReader lector) throws IOException {
+        String encabezado = lector.readLine();
+        if (encabezado == null) {
+            throw new PersonaValidationException("El archivo CSV está vacío");
+        }
+        List<String> nombres = separarCsv(encabezado.strip());
+        Map<String, Integer> columnas = new HashMap<>();
+        for (int i = 0; i < nombres.size(); i++) {
+            columnas.putIfAbsent(nombres.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> faltantes = COLUMNAS.stream().filter(c -> !columnas.containsKey(c)).toList();
+        if (!faltantes.isEmpty()) {
+            throw new PersonaValidationException("Faltan columnas en el encabezado CSV: " + faltantes);
+        }
+        return columnas;
+    }
+
+    private PersonaRequestDTO desdeCsv(String texto, Map<String, Integer> columnas) {
+        List<String> campos = separarCsv(texto);
+        PersonaRequestDTO dto = new PersonaRequestDTO();
+        dto.setNombre(campo(campos, columnas, "nombre"));
+        dto.setApellido(campo(campos, columnas, "apellido"));
+        dto.setSexo(campo(campos, columnas, "sexo"));
+        String edad = campo(campos, columnas, "edad");
+        if (edad != null && !edad.isBlank()) {
+            try {
+                dto.setEdad(Integer.valueOf(edad.strip()));
+            } catch (NumberFormatException e) {
+                throw new PersonaValidationException("edad", "No es un número: " + edad);
+            }
+        }
+        return dto;
+    }
+
+    private static String campo(List<String> campos, Map<String, Integer> columnas, String nombre) {
+        int posicion = columnas.get(nombre);
+        return posicion < campos.size() ? campos.get(posicion) : null;
+    }
+
+    /**
+     * Separa una línea CSV en campos (RFC 4180 sin saltos de línea dentro de comillas).
+     *
+     * Ejemplo: Juan,"Pérez, Jr.",30,M → [Juan, Pérez, Jr., 30, M]
+     */
+    static List<String> separarCsv(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder actual = new StringBuilder();
+        boolean entreComillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (entreComillas) {
+                if (c == '"' && i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    actual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreComillas = false;
+                } else {
+                    actual.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(actual.toString());
+                actual.setLength(0);
+            } else {
+                actual.append(c);
+            }
+        }
+        if (entreComillas) {
+            throw new PersonaValidationException("Comillas sin cerrar");
+        }
+        campos.add(actual.toString());
+        return campos;
+    }
+}
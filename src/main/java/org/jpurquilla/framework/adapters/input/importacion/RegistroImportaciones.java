@@ -0,0 +1,66 @@
+package org.jpurquilla.framework.adapters.input.importacion;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Importaciones recientes en memoria, para consultar su estado.
+ *
+ * Guarda las que están en curso y las últimas MAX_TERMINADAS terminadas.
+ * No sobrevive a un reinicio: para retomar alcanza con ultimaLineaConfirmada,
+ * que el cliente recibe en la respuesta de la importación.
+ */
+@ApplicationScoped
+public class RegistroImportaciones {
+    static final int MAX_TERMINADAS = 100;
+
+    private final Map<String, EstadoImportacion> importaciones = new LinkedHashMap<>();
+
+    /**
+     * Registra una importación nueva.
+     *
+     * @param id el ID elegido por el cliente, o null para generar uno
+     * @throws IllegalStateException si ya hay una importación en curso con ese ID
+     */
+    public synchronized EstadoImportacion iniciar(String id, FormatoImportacion formato, long desdeLinea) {
+        String idImportacion = id != null && !id.isBlank() ? id : UUID.randomUUID().toString();
+        EstadoImportacion existente = importaciones.get(idImportacion);
+        if (existente != null && existente.getEstado() == EstadoImportacion.Estado.EN_CURSO) {
+            throw new IllegalStateException("Ya hay una importación en curso con ID " + idImportacion);
+        }
+        EstadoImportacion estado = new EstadoImportacion(idImportacion, formato, desdeLinea);
+        importaciones.remove(idImportacion);
+        importaciones.put(idImportacion, estado);
+        descartarTerminadas();
+        return estado;
+    }
+
+    public synchronized Optional<EstadoImportacion> buscar(String id) {
+        return Optional.ofNullable(importaciones.get(id));
+    }
+
+    public synchronized List<EstadoImportacion> todas() {
+        return new ArrayList<>(importaciones.values());
+    }
+
+    // Descarta las terminadas más viejas (el mapa está en orden de inicio)
+    private void descartarTerminadas() {
+        long terminadas = importaciones.values().stream()
+                .filter(estado -> estado.getEstado() != EstadoImportacion.Estado.EN_CURSO)
+                .count();
+        Iterator<EstadoImportacion> it = importaciones.values().iterator();
+        while (terminadas > MAX_TERMINADAS && it.hasNext()) {
+            if (it.next().getEstado() != EstadoImportacion.Estado.EN_CURSO) {
+                it.remove();
+                terminadas--;
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package org.jpurquilla.framework.adapters.input.json;
+
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.framework.adapters.exceptions.ErrorResponseDTO;
+import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Escritura JSON escrita a mano para las respuestas de personas y de error.
+ *
+ * ¿Por qué no JSON-B?
+ * - Yasson resuelve propiedades y getters por reflexión en cada objeto
+ * - Acá cada campo se copia a un char[] propio, sin objetos intermedios
+ *   (números y fechas se formatean a mano, ver FechaIso), y el Writer recibe un solo
+ *   write() por bloque en lugar de uno por token
+ *
+ * MISMA SALIDA que JSON-B con la configuración por defecto:
+ * - Propiedades en orden alfabético (PropertyOrderStrategy.LEXICOGRAPHICAL)
+ * - Los campos null se omiten
+ * - Instant y LocalDateTime en ISO-8601
+ * Si se agrega un campo a un DTO, hay que agregarlo también acá.
+ *
+ * No es thread-safe: una instancia por respuesta.
+ */
+public final class EscritorJson {
+    private static final int VACIAR_DESDE = 8192;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer destino;
+    private char[] buffer = new char[512];
+    private int posicion;
+    // true desde '{' hasta el primer campo no nulo (que no lleva ',' adelante)
+    private boolean primerCampo;
+
+    public EscritorJson(Writer destino) {
+        this.destino = destino;
+    }
+
+    /**
+     * {"apellido":..,"edad":..,"id":..,"modificado":..,"nombre":..,"sexo":..,"version":..}
+     */
+    public void escribir(PersonaResponseDTO persona) throws IOException {
+        abrir();
+        texto("apellido", persona.getApellido());
+        numero("edad", persona.getEdad());
+        numero("id", persona.getId());
+        instante("modificado", persona.getModificado());
+        texto("nombre", persona.getNombre());
+        texto("sexo", persona.getSexo());
+        numero("version", persona.getVersion());
+        cerrar();
+    }
+
+    /**
+     * Mismo formato que PersonaResponseDTO.
+     */
+    public void escribir(PersonaVista persona) throws IOException {
+        abrir();
+        texto("apellido", persona.apellido());
+        numero("edad", persona.edad());
+        numero("id", persona.id());
+        instante("modificado", persona.modificado());
+        texto("nombre", persona.nombre());
+        texto("sexo", persona.sexo());
+        numero("version", persona.version());
+        cerrar();
+    }
+
+    /**
+     * {"details":[..],"error":..,"message":..,"path":..,"status":..,"timestamp":..}
+     */
+    public void escribir(ErrorResponseDTO error) throws IOException {
+        abrir();
+        if (error.getDetails() != null) {
+            nombre("details");
+            textos(error.getDetails());
+        }
+        texto("error", error.getError());
+        texto("message", error.getMessage());
+        texto("path", error.getPath());
+        numero("status", error.getStatus());
+        if (error.getTimestamp() != null) {
+            texto("timestamp", formatear(error.getTimestamp()));
+        }
+        cerrar();
+    }
+
+    /**
+     * Agrega un carácter suelto ('[', ',', ']', '\n') entre objetos.
+     */
+    public void caracter(char c) {
+        asegurar(1);
+        buffer[posicion++] = c;
+    }
+
+    /**
+     * Pasa lo acumulado al Writer (no hace flush del Writer).
+     */
+    public void vaciar() throws IOException {
+        if (posicion > 0) {
+            destino.write(buffer, 0, posicion);
+            posicion = 0;
+        }
+    }
+
+    private void abrir() {
+        caracter('{');
+        primerCampo = true;
+    }
+
+    private void cerrar() throws IOException {
+        caracter('}');
+        if (posicion >= VACIAR_DESDE) {
+            vaciar();
+        }
+    }
+
+    // Los nombres de propiedad son constantes ASCII: no necesitan escape
+    private void nombre(String nombre) {
+        asegurar(nombre.length() + 4);
+        if (!primerCampo) {
+            buffer[posicion++] = ',';
+        }
+        primerCampo = false;
+        buffer[posicion++] = '"';
+        nombre.getChars(0, nombre.length(), buffer, posicion);
+        posicion += nombre.length();
+        buffer[posicion++] = '"';
+        buffer[posicion++] = ':';
+    }
+
+    private void texto(String nombre, String valor) {
+        if (valor != null) {
+            nombre(nombre);
+            texto(valor);
+        }
+    }
+
+    private void numero(String nombre, Number valor) {
+        if (valor != null) {
+            nombre(nombre);
+            entero(valor.longValue());
+        }
+    }
+
+    private void numero(String nombre, int valor) {
+        nombre(nombre);
+        entero(valor);
+    }
+
+    private void instante(String nombre, Instant valor) {
+        if (valor != null) {
+            nombre(nombre);
+            instante(valor);
+        }
+    }
+
+    private void textos(List<String> textos) {
+        caracter('[');
+        for (int i = 0; i < textos.size(); i++) {
+            if (i > 0) {
+                caracter(',');
+            }
+            String texto = textos.get(i);
+            if (texto == null) {
+                crudo("null");
+            } else {
+                texto(texto);
+            }
+        }
+        caracter(']');
+    }
+
+    /**
+     * Escribe un String JSON: escapa comillas, barra invertida y caracteres de control.
+     * Los tramos sin nada que escapar se copian de una vez.
+     */
+    private void texto(String valor) {
+        // Peor caso: cada carácter como \\u00XX
+        asegurar(valor.length() * 6 + 2);
+        buffer[posicion++] = '"';
+        int inicio = 0;
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            valor.getChars(inicio, i, buffer, posicion);
+            posicion += i - inicio;
+            buffer[posicion++] = '\\';
+            switch (c) {
+                case '"' -> buffer[posicion++] = '"';
+                case '\\' -> buffer[posicion++] = '\\';
+                case '\n' -> buffer[posicion++] = 'n';
+                case '\r' -> buffer[posicion++] = 'r';
+                case '\t' -> buffer[posicion++] = 't';
+                case '\b' -> buffer[posicion++] = 'b';
+                case '\f' -> buffer[posicion++] = 'f';
+                default -> {
+                    buffer[posicion++] = 'u';
+                    buffer[posicion++] = '0';
+                    buffer[posicion++] = '0';
+                    buffer[posicion++] = HEX[c >> 4];
+                    buffer[posicion++] = HEX[c & 0xF];
+                }
+            }
+            inicio = i + 1;
+        }
+        valor.getChars(inicio, valor.length(), buffer, posicion);
+        posicion += valor.length() - inicio;
+        buffer[posicion++] = '"';
+    }
+
+    private void entero(long valor) {
+        if (valor == Long.MIN_VALUE) {
+            crudo(Long.toString(valor));
+            return;
+        }
+        asegurar(20);
+        if (valor < 0) {
+            buffer[posicion++] = '-';
+            valor = -valor;
+        }
+        int digitos = 1;
+        for (long resto = valor / 10; resto > 0; resto /= 10) {
+            digitos++;
+        }
+        for (int i = posicion + digitos - 1; i >= posicion; i--) {
+            buffer[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+        posicion += digitos;
+    }
+
+    // ISO-8601 en UTC, igual que DateTimeFormatter.ISO_INSTANT (ver FechaIso)
+    private void instante(Instant valor) {
+        asegurar(FechaIso.LARGO_MAXIMO + 2);
+        buffer[posicion] = '"';
+        int fin = FechaIso.escribir(valor, buffer, posicion + 1);
+        if (fin < 0) {
+            texto(DateTimeFormatter.ISO_INSTANT.format(valor));
+            return;
+        }
+        posicion = fin;
+        buffer[posicion++] = '"';
+    }
+
+    // Copia el valor tal cual, sin comillas ni escape
+    private void crudo(String valor) {
+        asegurar(valor.length());
+        valor.getChars(0, valor.length(), buffer, posicion);
+        posicion += valor.length();
+    }
+
+    private void asegurar(int espacio) {
+        if (posicion + espacio > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, posicion + espacio));
+        }
+    }
+
+    private static String formatear(LocalDateTime valor) {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(valor);
+    }
+}
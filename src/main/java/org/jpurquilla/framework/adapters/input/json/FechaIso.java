@@ -0,0 +1,69 @@
+package org.jpurquilla.framework.adapters.input.json;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Formato de Instant igual a DateTimeFormatter.ISO_INSTANT, escrito en un char[]
+ * sin crear Strings (lo usan EscritorJson y EscritorCbor en cada fila).
+ *
+ * Ejemplos: 2025-01-01T12:00:00Z, 2025-01-01T12:00:00.123Z, 2025-01-01T12:00:00.123456Z
+ * (la fracción se omite si es cero o va en grupos de 3 dígitos).
+ */
+public final class FechaIso {
+    /**
+     * Largo máximo escrito: yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ
+     */
+    public static final int LARGO_MAXIMO = 30;
+
+    private FechaIso() {
+    }
+
+    /**
+     * @param valor el instante
+     * @param destino dónde escribir (con al menos LARGO_MAXIMO lugares desde posicion)
+     * @param posicion desde dónde escribir
+     * @return la posición siguiente al último carácter, o -1 si el año no es de
+     *         4 dígitos (en ese caso usar DateTimeFormatter.ISO_INSTANT)
+     */
+    public static int escribir(Instant valor, char[] destino, int posicion) {
+        LocalDateTime fecha = LocalDateTime.ofEpochSecond(valor.getEpochSecond(), 0, ZoneOffset.UTC);
+        if (fecha.getYear() < 0 || fecha.getYear() > 9999) {
+            return -1;
+        }
+        posicion = digitos(fecha.getYear(), 4, destino, posicion);
+        destino[posicion++] = '-';
+        posicion = digitos(fecha.getMonthValue(), 2, destino, posicion);
+        destino[posicion++] = '-';
+        posicion = digitos(fecha.getDayOfMonth(), 2, destino, posicion);
+        destino[posicion++] = 'T';
+        posicion = digitos(fecha.getHour(), 2, destino, posicion);
+        destino[posicion++] = ':';
+        posicion = digitos(fecha.getMinute(), 2, destino, posicion);
+        destino[posicion++] = ':';
+        posicion = digitos(fecha.getSecond(), 2, destino, posicion);
+        int nanos = valor.getNano();
+        if (nanos > 0) {
+            destino[posicion++] = '.';
+            if (nanos % 1_000_000 == 0) {
+                posicion = digitos(nanos / 1_000_000, 3, destino, posicion);
+            } else if (nanos % 1_000 == 0) {
+                posicion = digitos(nanos / 1_000, 6, destino, posicion);
+            } else {
+                posicion = digitos(nanos, 9, destino, posicion);
+            }
+        }
+        destino[posicion++] = 'Z';
+        return posicion;
+    }
+
+    // Entero no negativo con ceros a la izquierda
+    private static int digitos(int valor, int ancho, char[] destino, int posicion) {
+        for (int i = posicion + ancho - 1; i >= posicion; i--) {
+            destino[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+        return posicion + ancho;
+    }
+}
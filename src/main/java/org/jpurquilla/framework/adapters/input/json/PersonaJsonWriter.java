@@ -0,0 +1,105 @@
+package org.jpurquilla.framework.adapters.input.json;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.framework.adapters.exceptions.ErrorResponseDTO;
+import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * MessageBodyWriter para PersonaResponseDTO, PersonaVista, ErrorResponseDTO
+ * y colecciones de los dos primeros, en application/json.
+ *
+ * JAX-RS prefiere los providers de la aplicación sobre el de JSON-B,
+ * así que en modo DIRECTO estos tipos pasan por EscritorJson.
+ * En modo JSONB isWriteable() devuelve false y todo sigue por Yasson.
+ *
+ * Las colecciones se reconocen por su tipo genérico: el método debe devolver
+ * List<PersonaVista> (o similar) o envolverla en un GenericEntity si usa Response.
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class PersonaJsonWriter implements MessageBodyWriter<Object> {
+    private final SerializadorJson serializador;
+
+    public PersonaJsonWriter(SerializadorJson serializador) {
+        this.serializador = serializador;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        if (!serializador.isDirecto() || !esJson(mediaType)) {
+            return false;
+        }
+        if (esSoportado(type)) {
+            return true;
+        }
+        return Collection.class.isAssignableFrom(type)
+                && genericType instanceof ParameterizedType parametrizado
+                && parametrizado.getActualTypeArguments()[0] instanceof Class<?> elemento
+                && (elemento == PersonaVista.class || elemento == PersonaResponseDTO.class);
+    }
+
+    @Override
+    public void writeTo(Object entidad, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> headers,
+                        OutputStream salida) throws IOException {
+        // EscritorJson ya acumula en su propio buffer: no hace falta BufferedWriter
+        Writer writer = new OutputStreamWriter(salida, StandardCharsets.UTF_8);
+        EscritorJson escritor = new EscritorJson(writer);
+        if (entidad instanceof Collection<?> elementos) {
+            escritor.caracter('[');
+            boolean primero = true;
+            for (Object elemento : elementos) {
+                if (!primero) {
+                    escritor.caracter(',');
+                }
+                escribir(escritor, elemento);
+                primero = false;
+            }
+            escritor.caracter(']');
+        } else {
+            escribir(escritor, entidad);
+        }
+        escritor.vaciar();
+        // flush sin close: el stream de la respuesta lo cierra el runtime
+        writer.flush();
+    }
+
+    private static void escribir(EscritorJson escritor, Object elemento) throws IOException {
+        if (elemento instanceof PersonaVista vista) {
+            escritor.escribir(vista);
+        } else if (elemento instanceof PersonaResponseDTO dto) {
+            escritor.escribir(dto);
+        } else if (elemento instanceof ErrorResponseDTO error) {
+            escritor.escribir(error);
+        } else {
+            throw new IllegalArgumentException("Tipo no soportado: "
+                    + (elemento == null ? "null" : elemento.getClass().getName()));
+        }
+    }
+
+    private static boolean esSoportado(Class<?> type) {
+        return type == PersonaVista.class || type == PersonaResponseDTO.class || type == ErrorResponseDTO.class;
+    }
+
+    // application/json exacto o con parámetros (charset); no application/x-ndjson ni */*
+    private static boolean esJson(MediaType mediaType) {
+        return mediaType != null
+                && "application".equalsIgnoreCase(mediaType.getType())
+                && "json".equalsIgnoreCase(mediaType.getSubtype());
+    }
+}
@@ -0,0 +1,60 @@
+package org.jpurquilla.framework.adapters.input.json;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.json.bind.Jsonb;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jpurquilla.application.port.output.PersonaVista;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Elige cómo se serializan las personas (persona.json.serializador).
+ *
+ * - DIRECTO (por defecto): EscritorJson, sin reflexión, directo a la salida
+ * - JSONB: el proveedor de quarkus-rest-jsonb (Yasson), como antes
+ *
+ * Ambos producen el mismo JSON; JSONB queda para comparar o como respaldo.
+ * En modo DIRECTO también se activa PersonaJsonWriter para las respuestas REST.
+ */
+@ApplicationScoped
+public class SerializadorJson {
+    public enum Modo {
+        DIRECTO, JSONB
+    }
+
+    private final Jsonb jsonb;
+    private final Modo modo;
+
+    public SerializadorJson(Jsonb jsonb,
+                            @ConfigProperty(name = "persona.json.serializador", defaultValue = "directo") Modo modo) {
+        this.jsonb = jsonb;
+        this.modo = modo;
+    }
+
+    public boolean isDirecto() {
+        return modo == Modo.DIRECTO;
+    }
+
+    /**
+     * Escritor de personas sobre un Writer (para streaming y exportación).
+     *
+     * Cada persona se pasa completa al Writer, así que se puede intercalar
+     * con escrituras propias (separadores, saltos de línea).
+     */
+    public EscritorPersona escritor(Writer writer) {
+        if (isDirecto()) {
+            EscritorJson escritorJson = new EscritorJson(writer);
+            return persona -> {
+                escritorJson.escribir(persona);
+                escritorJson.vaciar();
+            };
+        }
+        return persona -> writer.write(jsonb.toJson(persona));
+    }
+
+    @FunctionalInterface
+    public interface EscritorPersona {
+        void escribir(PersonaVista persona) throws IOException;
+    }
+}
@@ -1,13 +1,22 @@
 package org.jpurquilla.framework.adapters.input.mapper;
 
+import org.jpurquilla.application.port.input.ResultadoBusqueda;
+import org.jpurquilla.application.port.input.ResultadoCreacion;
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
 import org.jpurquilla.domain.entity.Persona;
 import org.jpurquilla.domain.vo.Sexo;
+import org.jpurquilla.framework.adapters.input.dto.EstadisticasResponseDTO;
 import org.jpurquilla.framework.adapters.input.dto.PersonaRequestDTO;
 import org.jpurquilla.framework.adapters.input.dto.PersonaResponseDTO;
+import org.jpurquilla.framework.adapters.input.dto.ResultadoBusquedaResponseDTO;
+import org.jpurquilla.framework.adapters.input.dto.ResultadoLoteResponseDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 
 /**
  * MAPPER DE ENTRADA: PersonaInputMapper
@@ -48,6 +57,9 @@ public interface PersonaInputMapper {
      * @return una Persona de dominio
      */
     @Mapping(target = "sexo", source = "sexo", qualifiedByName = "stringToSexo")
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "modificado", ignore = true)
     Persona toPersonaDomain(PersonaRequestDTO dto);
 
     /**
@@ -63,6 +75,59 @@ public interface PersonaInputMapper {
     @Mapping(target = "sexo", source = "sexo", qualifiedByName = "sexoToString")
     PersonaResponseDTO toDtoResponse(Persona persona);
 
+    /**
+     * Convierte el resultado de un elemento del lote a DTO de respuesta.
+     *
+     * Ejemplo:
+     * Input:  ResultadoCreacion { indice: 3, error: "Validación fallida en 'edad'..." }
+     * Output: { indice: 3, estado: "RECHAZADA", error: "Validación fallida en 'edad'..." }
+     *
+     * @param resultado el resultado del caso de uso
+     * @return un DTO de respuesta
+     */
+    default ResultadoLoteResponseDTO toResultadoLoteResponse(ResultadoCreacion resultado) {
+        if (resultado.isCreada()) {
+            return new ResultadoLoteResponseDTO(resultado.getIndice(), ResultadoLoteResponseDTO.CREADA,
+                    toDtoResponse(resultado.getPersona()), null);
+        }
+        return new ResultadoLoteResponseDTO(resultado.getIndice(), ResultadoLoteResponseDTO.RECHAZADA,
+                null, resultado.getError());
+    }
+
+    /**
+     * Convierte el resultado de un ID de la búsqueda por IDs a DTO de respuesta.
+     *
+     * Ejemplo:
+     * Input:  ResultadoBusqueda { id: 7, persona: null }
+     * Output: { id: 7, estado: "NO_ENCONTRADA" }
+     *
+     * @param resultado el resultado del caso de uso
+     * @return un DTO de respuesta
+     */
+    default ResultadoBusquedaResponseDTO toResultadoBusquedaResponse(ResultadoBusqueda resultado) {
+        return new ResultadoBusquedaResponseDTO(resultado.id(),
+                resultado.isEncontrada() ? ResultadoBusquedaResponseDTO.ENCONTRADA : ResultadoBusquedaResponseDTO.NO_ENCONTRADA,
+                resultado.persona());
+    }
+
+    /**
+     * Convierte los totales demográficos a DTO de respuesta.
+     *
+     * Ejemplo:
+     * Input:  EstadisticasPersonas { total: 10, porSexo: {MASCULINO: 5, ...}, ... }
+     * Output: { total: 10, porSexo: { M: 5, F: 5 }, porRangoEdad: { "18-29": 3, ... }, edadPromedio: 33.4 }
+     *
+     * @param estadisticas los totales del caso de uso
+     * @return un DTO de respuesta
+     */
+    default EstadisticasResponseDTO toEstadisticasResponse(EstadisticasPersonas estadisticas) {
+        Map<String, Long> porSexo = new LinkedHashMap<>();
+        estadisticas.porSexo().forEach((sexo, cantidad) -> porSexo.put(sexoToString(sexo), cantidad));
+        Map<String, Long> porRangoEdad = new LinkedHashMap<>();
+        estadisticas.porRangoEdad().forEach((rango, cantidad) -> porRangoEdad.put(rango.getEtiqueta(), cantidad));
+        return new EstadisticasResponseDTO(estadisticas.total(), porSexo, porRangoEdad, estadisticas.edadPromedio());
+    }
+
     /**
      * Convierte String a Sexo (Enum).
      *
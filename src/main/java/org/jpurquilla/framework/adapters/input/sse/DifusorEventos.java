@@ -0,0 +1,204 @@
+package org.jpurquilla.framework.adapters.input.sse;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.jpurquilla.application.port.input.PersonaInputPort;
+import org.jpurquilla.application.port.output.EventoPersona;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reparte el flujo de cambios (GET /persona/eventos) a todos los suscriptores
+ * SSE con UNA lectura del outbox por intervalo, sin importar cuántos haya.
+ *
+ * - "cabeza" es el último offset que leyó el lector compartido
+ * - Un suscriptor al día (su offset >= cabeza) recibe lo que lee el lector
+ *   compartido: no consulta la BD
+ * - Un suscriptor atrasado (p. ej. reconecta con un Last-Event-ID viejo) lee
+ *   su propio lote por intervalo hasta alcanzar la cabeza, y ahí se suma
+ *   al lector compartido
+ * - El lector arranca con el primer suscriptor (cabeza = su offset) y se
+ *   detiene cuando no queda ninguno
+ *
+ * Cada intervalo se procesa en un worker, en tres pasos:
+ * 1. Con el cerrojo: foto de los suscriptores, sus cursores y la cabeza
+ * 2. Sin el cerrojo: lecturas del outbox (JDBC). Así un suscribir() no
+ *    espera una consulta, y un hilo virtual que se suscribe no queda
+ *    fijado a su carrier esperando un monitor ocupado por una lectura
+ * 3. Con el cerrojo: se envía a cada suscriptor de la foto y avanza la cabeza
+ * Un intervalo no empieza hasta que termina el anterior (repartiendo), y
+ * los envíos van siempre con el cerrojo: un suscriptor nunca recibe eventos
+ * fuera de orden. Los que se suman durante la lectura entran en el siguiente.
+ * Si falla la lectura se cierran las conexiones; los clientes reconectan
+ * con Last-Event-ID y retoman donde quedaron.
+ */
+@ApplicationScoped
+public class DifusorEventos {
+    private static final Logger LOG = Logger.getLogger(DifusorEventos.class);
+
+    private final PersonaInputPort personaService;
+    private final Duration intervalo;
+    private final int lote;
+
+    // ReentrantLock y no synchronized: un hilo virtual que espera un monitor queda fijado a su carrier
+    private final ReentrantLock cerrojo = new ReentrantLock();
+    private final AtomicBoolean repartiendo = new AtomicBoolean();
+
+    // protegidos por cerrojo
+    private final List<Suscriptor> suscriptores = new ArrayList<>();
+    private Cancellable lector;
+    private long cabeza;
+
+    public DifusorEventos(PersonaInputPort personaService,
+                          @ConfigProperty(name = "persona.eventos.intervalo", defaultValue = "500ms") Duration intervalo,
+                          @ConfigProperty(name = "persona.eventos.lote", defaultValue = "500") int lote) {
+        this.personaService = personaService;
+        this.intervalo = intervalo;
+        this.lote = lote;
+    }
+
+    /**
+     * Agrega un suscriptor. Retorna enseguida: los eventos se envían desde el lector.
+     *
+     * @param desde el último offset que ya procesó el cliente
+     */
+    public void suscribir(long desde, SseEventSink sink, Sse sse) {
+        cerrojo.lock();
+        try {
+            suscriptores.add(new Suscriptor(sink, sse, desde));
+            if (lector == null) {
+                cabeza = desde;
+                lector = Multi.createFrom().ticks().every(intervalo)
+                        .onOverflow().drop()
+                        .emitOn(Infrastructure.getDefaultWorkerPool())
+                        .subscribe().with(tick -> repartir());
+            }
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    private void repartir() {
+        if (!repartiendo.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // 1. Foto
+            List<Suscriptor> foto;
+            long desde;
+            Map<Suscriptor, Long> atrasados = new HashMap<>();
+            cerrojo.lock();
+            try {
+                suscriptores.removeIf(suscriptor -> suscriptor.sink.isClosed());
+                if (suscriptores.isEmpty()) {
+                    detener();
+                    return;
+                }
+                foto = new ArrayList<>(suscriptores);
+                desde = cabeza;
+                for (Suscriptor suscriptor : foto) {
+                    if (suscriptor.cursor < desde) {
+                        atrasados.put(suscriptor, suscriptor.cursor);
+                    }
+                }
+            } finally {
+                cerrojo.unlock();
+            }
+
+            // 2. Lecturas, sin el cerrojo
+            List<EventoPersona> nuevos;
+            Map<Suscriptor, List<EventoPersona>> propios = new HashMap<>();
+            try {
+                nuevos = leer(desde);
+                for (Map.Entry<Suscriptor, Long> atrasado : atrasados.entrySet()) {
+                    propios.put(atrasado.getKey(), leer(atrasado.getValue()));
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("No se pudo leer el outbox de personas: se cierran las conexiones SSE", e);
+                cerrarTodo();
+                return;
+            }
+
+            // 3. Envíos
+            cerrojo.lock();
+            try {
+                for (Suscriptor suscriptor : foto) {
+                    suscriptor.enviar(propios.getOrDefault(suscriptor, nuevos));
+                }
+                if (!nuevos.isEmpty()) {
+                    cabeza = nuevos.get(nuevos.size() - 1).offset();
+                }
+            } finally {
+                cerrojo.unlock();
+            }
+        } finally {
+            repartiendo.set(false);
+        }
+    }
+
+    private void cerrarTodo() {
+        cerrojo.lock();
+        try {
+            suscriptores.forEach(suscriptor -> suscriptor.sink.close());
+            suscriptores.clear();
+            detener();
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    // Con el cerrojo tomado
+    private void detener() {
+        if (lector != null) {
+            lector.cancel();
+            lector = null;
+        }
+    }
+
+    private List<EventoPersona> leer(long despuesDeOffset) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> personaService.obtenerEventos(despuesDeOffset, lote));
+    }
+
+    private static final class Suscriptor {
+        private final SseEventSink sink;
+        private final Sse sse;
+        private long cursor;
+
+        Suscriptor(SseEventSink sink, Sse sse, long cursor) {
+            this.sink = sink;
+            this.sse = sse;
+            this.cursor = cursor;
+        }
+
+        // Envía en orden los eventos que el cliente todavía no tiene
+        void enviar(List<EventoPersona> eventos) {
+            for (EventoPersona evento : eventos) {
+                if (evento.offset() <= cursor) {
+                    continue;
+                }
+                sink.send(sse.newEventBuilder()
+                        .id(String.valueOf(evento.offset()))
+                        .name(evento.tipo().name())
+                        .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                        .data(EventoPersona.class, evento)
+                        .build());
+                cursor = evento.offset();
+            }
+        }
+    }
+}
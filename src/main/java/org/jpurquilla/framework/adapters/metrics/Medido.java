@@ -0,0 +1,23 @@
+package org.jpurquilla.framework.adapters.metrics;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un bean para medir la latencia de cada método (MedidoInterceptor).
+ *
+ * value = la capa a la que pertenece ("repositorio", ...),
+ * se exporta como tag "capa" de la métrica persona.latencia.
+ */
+@InterceptorBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Medido {
+    @Nonbinding
+    String value();
+}
@@ -0,0 +1,37 @@
+package org.jpurquilla.framework.adapters.metrics;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Interceptor de @Medido: mide cada método del bean anotado.
+ *
+ * El componente es el nombre simple de la clase que declara el método.
+ */
+@Medido("")
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class MedidoInterceptor {
+    private final MetricasPersona metricas;
+
+    public MedidoInterceptor(MetricasPersona metricas) {
+        this.metricas = metricas;
+    }
+
+    @AroundInvoke
+    Object medir(InvocationContext contexto) throws Exception {
+        return metricas.medir(capa(contexto), componente(contexto), contexto.getMethod().getName(),
+                contexto::proceed);
+    }
+
+    private static String capa(InvocationContext contexto) {
+        Medido medido = contexto.getInterceptorBinding(Medido.class);
+        return medido != null ? medido.value() : "desconocida";
+    }
+
+    private static String componente(InvocationContext contexto) {
+        return contexto.getMethod().getDeclaringClass().getSimpleName();
+    }
+}
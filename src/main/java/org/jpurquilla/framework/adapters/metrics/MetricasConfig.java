@@ -0,0 +1,39 @@
+package org.jpurquilla.framework.adapters.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+/**
+ * Histogramas con percentiles para las métricas de latencia.
+ *
+ * Aplica a persona.* (casos de uso, repositorio, mapeo por lote) y a
+ * http.server.requests (un timer por endpoint, lo registra Quarkus).
+ * Se publican p50/p95/p99 y los buckets del histograma, para poder
+ * agregar percentiles entre instancias en Prometheus.
+ */
+@Singleton
+public class MetricasConfig {
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    @Produces
+    @Singleton
+    public MeterFilter histogramas() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                String nombre = id.getName();
+                if (nombre.startsWith("persona.") || nombre.startsWith("http.server.requests")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentiles(PERCENTILES)
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package org.jpurquilla.framework.adapters.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registra las métricas de latencia y tamaño de resultados.
+ *
+ * MÉTRICAS (Prometheus en /q/metrics):
+ * - persona.latencia{capa, componente, metodo}: Timer con percentiles
+ * - persona.resultado.filas{capa, componente, metodo}: cantidad de elementos
+ *   devueltos (solo métodos que devuelven Collection u Optional)
+ *
+ * La usan MedidoInterceptor (beans CDI), PersonaInputPortMedido
+ * (PersonaService, que no es un bean sino que lo crea ApplicationConfig) y
+ * PersonaController para el mapeo (capa "mapeo").
+ *
+ * Los mappers se llaman una vez por fila: no se mide cada llamada, sino la
+ * lista entera (validación de /persona/lote, respuesta de /persona/buscar).
+ * Cada Timer/DistributionSummary se busca en el registry una sola vez por
+ * combinación de tags y queda en un mapa.
+ */
+@ApplicationScoped
+public class MetricasPersona {
+    static final String LATENCIA = "persona.latencia";
+    static final String FILAS = "persona.resultado.filas";
+
+    private final MeterRegistry registry;
+    private final Map<Clave, Timer> latencias = new ConcurrentHashMap<>();
+    private final Map<Clave, DistributionSummary> filas = new ConcurrentHashMap<>();
+
+    public MetricasPersona(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public <T> T medir(String capa, String componente, String metodo, Callable<T> operacion) throws Exception {
+        Timer.Sample inicio = Timer.start(registry);
+        String resultado = "ok";
+        try {
+            T valor = operacion.call();
+            registrarFilas(capa, componente, metodo, valor);
+            return valor;
+        } catch (Exception e) {
+            resultado = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            inicio.stop(latencias.computeIfAbsent(new Clave(capa, componente, metodo, resultado),
+                    clave -> Timer.builder(LATENCIA)
+                            .tag("capa", clave.capa())
+                            .tag("componente", clave.componente())
+                            .tag("metodo", clave.metodo())
+                            .tag("resultado", clave.resultado())
+                            .register(registry)));
+        }
+    }
+
+    /**
+     * Igual que medir(), para operaciones que no lanzan excepciones chequeadas.
+     */
+    public <T> T medirSinChequeadas(String capa, String componente, String metodo, Callable<T> operacion) {
+        try {
+            return medir(capa, componente, metodo, operacion);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void registrarFilas(String capa, String componente, String metodo, Object valor) {
+        int cantidad;
+        if (valor instanceof Collection<?> coleccion) {
+            cantidad = coleccion.size();
+        } else if (valor instanceof Optional<?> opcional) {
+            cantidad = opcional.isPresent() ? 1 : 0;
+        } else {
+            return;
+        }
+        filas.computeIfAbsent(new Clave(capa, componente, metodo, null),
+                        clave -> DistributionSummary.builder(FILAS)
+                                .tag("capa", clave.capa())
+                                .tag("componente", clave.componente())
+                                .tag("metodo", clave.metodo())
+                                .register(registry))
+                .record(cantidad);
+    }
+
+    // Tags de una métrica (resultado es null en persona.resultado.filas)
+    private record Clave(String capa, String componente, String metodo, String resultado) {
+    }
+}
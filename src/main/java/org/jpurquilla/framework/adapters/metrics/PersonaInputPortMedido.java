@@ -0,0 +1,127 @@
+package org.jpurquilla.framework.adapters.metrics;
+
+import org.jpurquilla.application.port.input.PersonaInputPort;
+import org.jpurquilla.application.port.input.ResultadoBusqueda;
+import org.jpurquilla.application.port.input.ResultadoCreacion;
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.application.port.output.VersionColeccion;
+import org.jpurquilla.domain.entity.Persona;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de PersonaInputPort que mide cada caso de uso.
+ *
+ * ¿Por qué un decorador y no @Medido?
+ * - PersonaService no es un bean CDI (lo crea ApplicationConfig con new),
+ *   así que los interceptores no se le aplican
+ * - Cada método del puerto corresponde a un Use Case, por eso el tag
+ *   "componente" es el nombre del Use Case
+ */
+public class PersonaInputPortMedido implements PersonaInputPort {
+    private static final String CAPA = "caso_uso";
+
+    private final PersonaInputPort delegado;
+    private final MetricasPersona metricas;
+
+    public PersonaInputPortMedido(PersonaInputPort delegado, MetricasPersona metricas) {
+        this.delegado = delegado;
+        this.metricas = metricas;
+    }
+
+    @Override
+    public Persona crear(Persona persona) {
+        return metricas.medirSinChequeadas(CAPA, "CrearPersonaUseCase", "crear",
+                () -> delegado.crear(persona));
+    }
+
+    @Override
+    public List<ResultadoCreacion> crearEnLote(List<Persona> personas) {
+        return metricas.medirSinChequeadas(CAPA, "CrearPersonasEnLoteUseCase", "crearEnLote",
+                () -> delegado.crearEnLote(personas));
+    }
+
+    @Override
+    public Persona actualizar(Long id, Persona datosNuevos) {
+        return metricas.medirSinChequeadas(CAPA, "ActualizarPersonaUseCase", "actualizar",
+                () -> delegado.actualizar(id, datosNuevos));
+    }
+
+    @Override
+    public List<Persona> buscar(FiltroPersona filtro) {
+        return metricas.medirSinChequeadas(CAPA, "BuscarPersonasPorFiltroUseCase", "buscar",
+                () -> delegado.buscar(filtro));
+    }
+
+    @Override
+    public PersonaVista consultarPorId(Long id) {
+        return metricas.medirSinChequeadas(CAPA, "BuscarPersonaPorIdUseCase", "consultarPorId",
+                () -> delegado.consultarPorId(id));
+    }
+
+    @Override
+    public List<ResultadoBusqueda> consultarPorIds(List<Long> ids) {
+        return metricas.medirSinChequeadas(CAPA, "BuscarPersonaPorIdUseCase", "consultarPorIds",
+                () -> delegado.consultarPorIds(ids));
+    }
+
+    @Override
+    public List<PersonaVista> consultarPagina(Long despuesDeId, int limite) {
+        return metricas.medirSinChequeadas(CAPA, "BuscarPersonasPaginadasUseCase", "consultarPagina",
+                () -> delegado.consultarPagina(despuesDeId, limite));
+    }
+
+    @Override
+    public Stream<PersonaVista> consultarTodasEnStream() {
+        return metricas.medirSinChequeadas(CAPA, "BuscarTodasLasPersonasUseCase", "consultarTodasEnStream",
+                delegado::consultarTodasEnStream);
+    }
+
+    @Override
+    public List<PersonaVista> consultarPorSexo(String sexoString) {
+        return metricas.medirSinChequeadas(CAPA, "BuscarPersonaPorSexoUseCase", "consultarPorSexo",
+                () -> delegado.consultarPorSexo(sexoString));
+    }
+
+    @Override
+    public List<PersonaVista> consultarPorNombre(String texto, int limite) {
+        return metricas.medirSinChequeadas(CAPA, "BuscarPersonasPorNombreUseCase", "consultarPorNombre",
+                () -> delegado.consultarPorNombre(texto, limite));
+    }
+
+    @Override
+    public VersionColeccion versionDeTodas() {
+        return metricas.medirSinChequeadas(CAPA, "BuscarTodasLasPersonasUseCase", "versionDeTodas",
+                delegado::versionDeTodas);
+    }
+
+    @Override
+    public VersionColeccion versionPorSexo(String sexoString) {
+        return metricas.medirSinChequeadas(CAPA, "BuscarPersonaPorSexoUseCase", "versionPorSexo",
+                () -> delegado.versionPorSexo(sexoString));
+    }
+
+    @Override
+    public EstadisticasPersonas obtenerEstadisticas() {
+        return metricas.medirSinChequeadas(CAPA, "ObtenerEstadisticasUseCase", "obtenerEstadisticas",
+                delegado::obtenerEstadisticas);
+    }
+
+    @Override
+    public List<EventoPersona> obtenerEventos(long despuesDeOffset, int limite) {
+        return metricas.medirSinChequeadas(CAPA, "ObtenerEventosUseCase", "obtenerEventos",
+                () -> delegado.obtenerEventos(despuesDeOffset, limite));
+    }
+
+    @Override
+    public void eliminar(Long id, Long versionEsperada) {
+        metricas.medirSinChequeadas(CAPA, "EliminarPersonaUseCase", "eliminar", () -> {
+            delegado.eliminar(id, versionEsperada);
+            return null;
+        });
+    }
+}
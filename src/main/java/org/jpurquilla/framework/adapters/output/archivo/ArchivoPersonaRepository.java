@@ -0,0 +1,470 @@
+package org.jpurquilla.framework.adapters.output.archivo;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.jboss.logging.Logger;
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaActualizada;
+import org.jpurquilla.application.port.output.PersonaRepository;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+import org.jpurquilla.framework.adapters.output.columnar.TablaPersonas;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * ADAPTADOR DE SALIDA: ArchivoPersonaRepository
+ *
+ * Persistencia embebida, sin BD: las personas se guardan en una bitácora de
+ * registros fijos en archivos mapeados en memoria (BitacoraPersonas) y se
+ * consultan desde una TablaPersonas en memoria (índice por ID, filtros,
+ * paginación y estadísticas sin tocar el disco).
+ *
+ * - ARRANQUE: abrir() mapea los segmentos y repasa la bitácora para armar la
+ *   tabla (sin consultas ni deserialización de objetos: 256 bytes por registro)
+ * - ESCRITURAS: se agregan a la bitácora en el momento (con el número de la
+ *   transacción) y a la tabla al confirmar, igual que ColumnarPersonaRepository.
+ *   Antes del commit se fuerzan al disco (persona.archivo.sincronizar); al
+ *   confirmarse, se agrega y se fuerza el registro de confirmación y se
+ *   aplican los cambios a la tabla. Una transacción revertida solo deja
+ *   registros sin confirmación, que se descartan al volver a abrir la
+ *   bitácora (igual que los de una caída)
+ * - COMPACTACIÓN: compactar() reescribe solo las personas vivas en una
+ *   generación nueva de segmentos (ver MantenimientoAlmacenArchivo). No
+ *   corre con transacciones abiertas: copiaría sus cambios como confirmados
+ *
+ * AISLAMIENTO: las consultas ven solo lo confirmado. Las condiciones de
+ * update/delete ven además los cambios pendientes de la propia transacción.
+ * Una persona con un cambio sin confirmar queda reservada para su
+ * transacción: otra que quiera cambiarla espera a que termine (como el
+ * SELECT ... FOR UPDATE del adaptador JPA), hasta ESPERA_RESERVA.
+ *
+ * Los IDs los asigna el adaptador (mayor ID usado + 1, guardado en la
+ * cabecera de cada generación), no la secuencia de la BD.
+ *
+ * EVENTOS: el outbox (persona_eventos) sigue en la BD. Con la H2 en memoria
+ * por defecto, al reiniciar se pierden los eventos y los offsets vuelven a
+ * empezar mientras las personas siguen en el archivo: los consumidores de
+ * GET /persona/cambios deben empezar de cero. Para conservarlos, usar una
+ * BD persistente (ver MantenimientoAlmacenArchivo).
+ */
+public class ArchivoPersonaRepository implements PersonaRepository {
+    private static final Logger LOG = Logger.getLogger(ArchivoPersonaRepository.class);
+    // filas que lee cada página de streamAll()/streamVistas()
+    private static final int PAGINA_STREAM = 1024;
+    // espera máxima por una persona reservada por otra transacción
+    private static final long ESPERA_RESERVA = TimeUnit.SECONDS.toNanos(10);
+
+    private final Path directorio;
+    private final long tamanioSegmento;
+    private final boolean sincronizar;
+    private final TransactionSynchronizationRegistry transacciones;
+    private final TablaPersonas tabla = new TablaPersonas();
+    private final ReentrantLock escritura = new ReentrantLock();
+    // se avisa al terminar una transacción que tenía personas reservadas
+    private final Condition liberadas = escritura.newCondition();
+    // persona con un cambio sin confirmar → su transacción (con el candado de escritura)
+    private final Map<Long, Cambios> reservadas = new HashMap<>();
+    private final AtomicLong siguienteId = new AtomicLong(1);
+    private final AtomicLong siguienteTransaccion = new AtomicLong(1);
+    // transacciones con registros escritos y todavía sin terminar
+    private final AtomicInteger transaccionesAbiertas = new AtomicInteger();
+    // clave de los cambios pendientes de la transacción en el registro de sincronizaciones
+    private final Object cambiosClave = new Object();
+    private BitacoraPersonas bitacora;
+
+    public ArchivoPersonaRepository(Path directorio, long tamanioSegmento, boolean sincronizar,
+                                    TransactionSynchronizationRegistry transacciones) {
+        this.directorio = directorio;
+        this.tamanioSegmento = tamanioSegmento;
+        this.sincronizar = sincronizar;
+        this.transacciones = transacciones;
+    }
+
+    /**
+     * Abre la bitácora y arma la tabla en memoria. Se llama una vez al arrancar.
+     */
+    public void abrir() {
+        long inicio = System.nanoTime();
+        escritura.lock();
+        try {
+            bitacora = BitacoraPersonas.abrir(directorio, tamanioSegmento, tabla::guardar, tabla::eliminar);
+            siguienteId.set(bitacora.siguienteId());
+            siguienteTransaccion.set(bitacora.siguienteTransaccion());
+            LOG.infof("Bitácora abierta en %s: %d registros, %d personas en %d ms", directorio,
+                    bitacora.registros(), tabla.cantidad(), (System.nanoTime() - inicio) / 1_000_000);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Reescribe la bitácora con solo las personas vivas, si los registros
+     * reemplazados o dados de baja superan la proporción indicada.
+     * Las escrituras esperan mientras dura; las lecturas no. Si hay
+     * transacciones abiertas no compacta (se reintenta en la próxima).
+     *
+     * @param proporcionMinima proporción de registros muertos (0..1) a partir de la cual compactar
+     * @return true si compactó
+     */
+    public boolean compactar(double proporcionMinima) {
+        escritura.lock();
+        try {
+            long registros = bitacora.registros();
+            long muertos = registros - tabla.cantidad();
+            if (muertos == 0 || muertos < registros * proporcionMinima) {
+                return false;
+            }
+            if (transaccionesAbiertas.get() > 0) {
+                LOG.debugf("Compactación pospuesta: %d transacciones abiertas", transaccionesAbiertas.get());
+                return false;
+            }
+            long inicio = System.nanoTime();
+            try (Stream<Persona> vivas = tabla.recorrer(TablaPersonas.PERSONA, Persona::getId, PAGINA_STREAM)) {
+                bitacora = bitacora.reescribir(vivas.iterator(), tamanioSegmento,
+                        siguienteId.get(), siguienteTransaccion.get());
+            }
+            LOG.infof("Bitácora compactada: %d registros → %d en %d ms", registros, bitacora.registros(),
+                    (System.nanoTime() - inicio) / 1_000_000);
+            return true;
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Tamaño de los segmentos en disco, en bytes.
+     */
+    public long bytes() {
+        escritura.lock();
+        try {
+            return bitacora.bytes();
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    @Override
+    public Persona save(Persona persona) {
+        return saveAll(List.of(persona)).get(0);
+    }
+
+    @Override
+    public List<Persona> saveAll(List<Persona> personas) {
+        personas.forEach(RegistroPersona::verificar);
+        Instant modificado = Instant.now();
+        List<Persona> guardadas = new ArrayList<>(personas.size());
+        Cambios cambios = cambios();
+        escritura.lock();
+        try {
+            for (Persona persona : personas) {
+                Persona guardada = copia(persona, siguienteId.getAndIncrement(), 0L, modificado);
+                bitacora.agregar(guardada, transaccion(cambios));
+                aplicar(cambios, guardada.getId(), guardada);
+                guardadas.add(guardada);
+            }
+        } finally {
+            escritura.unlock();
+        }
+        sinTransaccion(cambios);
+        return guardadas.stream().map(guardada -> copia(guardada, guardada.getId(), guardada.getVersion(),
+                guardada.getModificado())).toList();
+    }
+
+    @Override
+    public Optional<PersonaActualizada> update(Persona persona) {
+        RegistroPersona.verificar(persona);
+        Persona anterior;
+        Persona nueva;
+        Cambios cambios = cambios();
+        escritura.lock();
+        try {
+            anterior = actual(persona.getId(), cambios);
+            if (anterior == null || persona.getVersion() != null && !persona.getVersion().equals(anterior.getVersion())) {
+                return Optional.empty();
+            }
+            nueva = copia(persona, anterior.getId(), anterior.getVersion() + 1, Instant.now());
+            bitacora.agregar(nueva, transaccion(cambios));
+            aplicar(cambios, nueva.getId(), nueva);
+        } finally {
+            escritura.unlock();
+        }
+        sinTransaccion(cambios);
+        return Optional.of(new PersonaActualizada(vista(anterior),
+                copia(nueva, nueva.getId(), nueva.getVersion(), nueva.getModificado())));
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteById(Long id) {
+        return eliminar(id, null);
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteByIdAndVersion(Long id, Long version) {
+        return eliminar(id, version);
+    }
+
+    @Override
+    public Optional<Persona> findById(Long id) {
+        return Optional.ofNullable(tabla.buscar(id, TablaPersonas.PERSONA));
+    }
+
+    @Override
+    public List<Persona> findAllById(Collection<Long> ids) {
+        return tabla.buscar(ids, TablaPersonas.PERSONA);
+    }
+
+    @Override
+    public List<Persona> findAll() {
+        return tabla.todas(null, TablaPersonas.PERSONA);
+    }
+
+    @Override
+    public List<Persona> findPage(Long despuesDeId, int limite) {
+        return tabla.pagina(despuesDeId, limite, TablaPersonas.PERSONA);
+    }
+
+    @Override
+    public Stream<Persona> streamAll() {
+        return tabla.recorrer(TablaPersonas.PERSONA, Persona::getId, PAGINA_STREAM);
+    }
+
+    @Override
+    public List<Persona> findBySexo(Sexo sexo) {
+        return tabla.todas(sexo, TablaPersonas.PERSONA);
+    }
+
+    @Override
+    public List<Persona> findByFiltro(FiltroPersona filtro) {
+        return tabla.filtrar(filtro, TablaPersonas.PERSONA);
+    }
+
+    @Override
+    public Optional<PersonaVista> findVistaById(Long id) {
+        return Optional.ofNullable(tabla.buscar(id, TablaPersonas.VISTA));
+    }
+
+    @Override
+    public List<PersonaVista> findVistasById(Collection<Long> ids) {
+        return tabla.buscar(ids, TablaPersonas.VISTA);
+    }
+
+    @Override
+    public List<PersonaVista> findVistaPage(Long despuesDeId, int limite) {
+        return tabla.pagina(despuesDeId, limite, TablaPersonas.VISTA);
+    }
+
+    @Override
+    public Stream<PersonaVista> streamVistas() {
+        return tabla.recorrer(TablaPersonas.VISTA, PersonaVista::id, PAGINA_STREAM);
+    }
+
+    @Override
+    public List<PersonaVista> findVistasBySexo(Sexo sexo) {
+        return tabla.todas(sexo, TablaPersonas.VISTA);
+    }
+
+    @Override
+    public List<PersonaVista> findVistasByNombre(String texto, int limite) {
+        return tabla.buscarPorNombre(texto, limite, TablaPersonas.VISTA);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return tabla.buscar(id, TablaPersonas.VISTA) != null;
+    }
+
+    @Override
+    public EstadisticasPersonas estadisticasDemograficas() {
+        return tabla.estadisticas();
+    }
+
+    @Override
+    public long count() {
+        return tabla.cantidad();
+    }
+
+    private Optional<PersonaVista> eliminar(Long id, Long version) {
+        Persona anterior;
+        Cambios cambios = cambios();
+        escritura.lock();
+        try {
+            anterior = actual(id, cambios);
+            if (anterior == null || version != null && !version.equals(anterior.getVersion())) {
+                return Optional.empty();
+            }
+            bitacora.agregarBaja(id, transaccion(cambios));
+            aplicar(cambios, id, null);
+        } finally {
+            escritura.unlock();
+        }
+        sinTransaccion(cambios);
+        return Optional.of(vista(anterior));
+    }
+
+    private static PersonaVista vista(Persona persona) {
+        return new PersonaVista(persona.getId(), persona.getNombre(), persona.getApellido(), persona.getEdad(),
+                persona.getSexo() != null ? persona.getSexo().getCodigo() : null,
+                persona.getVersion(), persona.getModificado());
+    }
+
+    /**
+     * La persona como la ve la transacción (con el candado de escritura): su
+     * propio cambio sin confirmar (null = dada de baja) o lo confirmado.
+     * Si otra transacción la tiene reservada, espera a que termine.
+     */
+    private Persona actual(Long id, Cambios cambios) {
+        long espera = ESPERA_RESERVA;
+        Cambios duenia;
+        while ((duenia = reservadas.get(id)) != null && duenia != cambios) {
+            if (espera <= 0) {
+                throw new IllegalStateException("Persona " + id + " reservada por otra transacción");
+            }
+            try {
+                espera = liberadas.awaitNanos(espera);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Espera por la persona " + id + " interrumpida", e);
+            }
+        }
+        if (duenia != null) {
+            return duenia.personas.get(id);
+        }
+        return tabla.buscar(id, TablaPersonas.PERSONA);
+    }
+
+    /**
+     * Aplica un cambio ya escrito en la bitácora (persona null = baja): a la
+     * tabla si no hay transacción, o a los cambios pendientes de la
+     * transacción, que reserva la persona hasta que termine.
+     */
+    private void aplicar(Cambios cambios, Long id, Persona persona) {
+        if (cambios == null) {
+            if (persona == null) {
+                tabla.eliminar(id);
+            } else {
+                tabla.guardar(persona);
+            }
+            return;
+        }
+        cambios.personas.put(id, persona);
+        reservadas.put(id, cambios);
+    }
+
+    // Fuerza al disco lo escrito, si persona.archivo.sincronizar
+    private void forzar() {
+        if (sincronizar) {
+            escritura.lock();
+            try {
+                bitacora.sincronizar();
+            } finally {
+                escritura.unlock();
+            }
+        }
+    }
+
+    /**
+     * Los cambios de la transacción activa (null = sin transacción). La
+     * primera escritura le asigna un número y registra la sincronización:
+     * antes del commit se fuerza la bitácora al disco; después, se agrega
+     * y se fuerza la confirmación y se aplican los cambios a la tabla, o
+     * se descartan. En los dos casos se liberan sus personas.
+     */
+    private Cambios cambios() {
+        if (transacciones == null || transacciones.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            return null;
+        }
+        Cambios cambios = (Cambios) transacciones.getResource(cambiosClave);
+        if (cambios == null) {
+            Cambios nuevos = new Cambios(siguienteTransaccion.getAndIncrement());
+            transacciones.putResource(cambiosClave, nuevos);
+            transaccionesAbiertas.incrementAndGet();
+            transacciones.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                    forzar();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    try {
+                        terminar(nuevos, status == Status.STATUS_COMMITTED);
+                    } finally {
+                        transaccionesAbiertas.decrementAndGet();
+                    }
+                }
+            });
+            cambios = nuevos;
+        }
+        return cambios;
+    }
+
+    private static long transaccion(Cambios cambios) {
+        return cambios != null ? cambios.transaccion : BitacoraPersonas.SIN_TRANSACCION;
+    }
+
+    // Sin transacción no hay confirmación: la bitácora se fuerza ya
+    private void sinTransaccion(Cambios cambios) {
+        if (cambios == null) {
+            forzar();
+        }
+    }
+
+    private void terminar(Cambios cambios, boolean confirmada) {
+        escritura.lock();
+        try {
+            if (confirmada) {
+                confirmar(cambios.transaccion);
+                cambios.personas.forEach((id, persona) -> aplicar(null, id, persona));
+            }
+            cambios.personas.keySet().forEach(reservadas::remove);
+            liberadas.signalAll();
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    private void confirmar(long transaccion) {
+        try {
+            bitacora.confirmar(transaccion);
+            forzar();
+        } catch (RuntimeException e) {
+            // La transacción ya se confirmó (outbox incluido): sin el registro, se pierde al reiniciar
+            LOG.errorf(e, "No se pudo escribir la confirmación de la transacción %d", transaccion);
+        }
+    }
+
+    // Número de la transacción en la bitácora y sus cambios sin confirmar por ID (null = baja)
+    private static final class Cambios {
+        private final long transaccion;
+        private final Map<Long, Persona> personas = new LinkedHashMap<>();
+
+        Cambios(long transaccion) {
+            this.transaccion = transaccion;
+        }
+    }
+
+    private static Persona copia(Persona persona, Long id, Long version, Instant modificado) {
+        Persona copia = new Persona(id, persona.getNombre(), persona.getApellido(), persona.getSexo(), persona.getEdad());
+        copia.setVersion(version);
+        copia.setModificado(modificado);
+        return copia;
+    }
+}
@@ -0,0 +1,349 @@
+package org.jpurquilla.framework.adapters.output.archivo;
+
+import org.jboss.logging.Logger;
+import org.jpurquilla.domain.entity.Persona;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Bitácora de personas: registros de tamaño fijo (RegistroPersona) que solo
+ * se agregan al final, repartidos en segmentos mapeados en memoria (mmap).
+ *
+ * ARCHIVOS (en el directorio configurado):
+ * - personas-GGGGGG-SSSSSS.seg: segmento SSSSSS de la generación GGGGGG,
+ *   todos del mismo tamaño (múltiplo de 256 bytes)
+ * - GENERACION: la generación vigente. Se reemplaza con un move atómico al
+ *   terminar una compactación; los segmentos de otras generaciones son
+ *   restos de una compactación interrumpida y se borran al abrir
+ *
+ * Cada registro es el estado completo de una persona (alta o modificación)
+ * o una baja. El último registro de un ID es el que vale.
+ *
+ * TRANSACCIONES:
+ * Los registros escritos dentro de una transacción llevan su número, y al
+ * confirmarse se agrega un registro de confirmación. Al abrir, los registros
+ * de transacciones sin confirmación (revertidas, o en curso cuando se cayó
+ * la aplicación) se descartan: no hace falta escribir registros inversos.
+ * Los escritos fuera de una transacción (número 0) valen siempre.
+ *
+ * CABECERA:
+ * La compactación solo copia personas vivas: sin las bajas ni los registros
+ * descartados, el mayor ID visto podría bajar y se volverían a asignar IDs
+ * ya usados. Por eso cada generación nueva empieza con una cabecera con el
+ * próximo ID y el próximo número de transacción.
+ *
+ * Escribir es copiar 256 bytes en el buffer mapeado (el sistema operativo
+ * los lleva al disco); sincronizar() los fuerza (fsync) antes de confirmar.
+ *
+ * No es seguro entre hilos: lo protege el candado de escritura de
+ * ArchivoPersonaRepository.
+ */
+class BitacoraPersonas {
+    private static final Logger LOG = Logger.getLogger(BitacoraPersonas.class);
+    private static final String GENERACION = "GENERACION";
+    static final long SIN_TRANSACCION = 0;
+
+    private final Path directorio;
+    private final long generacion;
+    private final int registrosPorSegmento;
+    private final List<MappedByteBuffer> segmentos = new ArrayList<>();
+    // número (global) del próximo registro, y del primero que falta sincronizar
+    private long siguiente;
+    private long sinSincronizar;
+    // leídos al abrir: el mayor ID y número de transacción usados, más uno
+    private long siguienteId = 1;
+    private long siguienteTransaccion = 1;
+
+    private BitacoraPersonas(Path directorio, long generacion, long tamanioSegmento) {
+        this.directorio = directorio;
+        this.generacion = generacion;
+        this.registrosPorSegmento = (int) Math.min(Integer.MAX_VALUE / RegistroPersona.TAMANIO,
+                Math.max(1, tamanioSegmento / RegistroPersona.TAMANIO));
+    }
+
+    /**
+     * Abre la generación vigente del directorio y recorre todos sus registros.
+     *
+     * Si encuentra un registro dañado (CRC distinto), la bitácora termina
+     * ahí: se limpia el resto y se siguen agregando registros desde ese punto.
+     *
+     * @param persona recibe cada alta o modificación confirmada, en orden
+     * @param baja recibe el ID de cada baja confirmada, en orden
+     */
+    static BitacoraPersonas abrir(Path directorio, long tamanioSegmento,
+                                  Consumer<Persona> persona, LongConsumer baja) {
+        try {
+            Files.createDirectories(directorio);
+            Path archivoGeneracion = directorio.resolve(GENERACION);
+            long generacion = Files.exists(archivoGeneracion)
+                    ? Long.parseLong(Files.readString(archivoGeneracion, StandardCharsets.US_ASCII).trim())
+                    : 0;
+            // Los segmentos existentes mandan: cambiar el tamaño configurado aplica a la próxima generación
+            Path primero = directorio.resolve(nombre(generacion, 0));
+            BitacoraPersonas bitacora = new BitacoraPersonas(directorio, generacion,
+                    Files.exists(primero) ? Files.size(primero) : tamanioSegmento);
+            bitacora.borrarOtrasGeneraciones();
+            bitacora.recorrer(persona, baja);
+            return bitacora;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir la bitácora en " + directorio, e);
+        }
+    }
+
+    void agregar(Persona persona, long transaccion) {
+        MappedByteBuffer segmento = segmentoPara(siguiente);
+        RegistroPersona.escribir(segmento, posicion(siguiente), persona, transaccion);
+        siguiente++;
+    }
+
+    void agregarBaja(long id, long transaccion) {
+        MappedByteBuffer segmento = segmentoPara(siguiente);
+        RegistroPersona.escribirBaja(segmento, posicion(siguiente), id, transaccion);
+        siguiente++;
+    }
+
+    /**
+     * Marca confirmados los registros de la transacción (hay que sincronizar
+     * después para que la confirmación sobreviva a una caída).
+     */
+    void confirmar(long transaccion) {
+        MappedByteBuffer segmento = segmentoPara(siguiente);
+        RegistroPersona.escribirConfirmacion(segmento, posicion(siguiente), transaccion);
+        siguiente++;
+    }
+
+    private void agregarCabecera(long siguienteId, long siguienteTransaccion) {
+        MappedByteBuffer segmento = segmentoPara(siguiente);
+        RegistroPersona.escribirCabecera(segmento, posicion(siguiente), siguienteId, siguienteTransaccion);
+        siguiente++;
+    }
+
+    /**
+     * Fuerza al disco los registros agregados desde la última llamada.
+     */
+    void sincronizar() {
+        while (sinSincronizar < siguiente) {
+            int segmento = (int) (sinSincronizar / registrosPorSegmento);
+            long finDelSegmento = (long) (segmento + 1) * registrosPorSegmento;
+            long hasta = Math.min(siguiente, finDelSegmento);
+            int desde = posicion(sinSincronizar);
+            segmentos.get(segmento).force(desde, posicion(hasta - 1) + RegistroPersona.TAMANIO - desde);
+            sinSincronizar = hasta;
+        }
+    }
+
+    /**
+     * Compactación: escribe las personas vivas en una generación nueva,
+     * la declara vigente y borra los segmentos de esta.
+     * Si falla antes de declararla vigente, esta generación sigue intacta.
+     *
+     * @param vivas el último estado confirmado de cada persona
+     * @param tamanioSegmento el tamaño de los segmentos nuevos
+     * @param siguienteId el próximo ID a asignar (va en la cabecera)
+     * @param siguienteTransaccion el próximo número de transacción (va en la cabecera)
+     * @return la bitácora de la generación nueva
+     */
+    BitacoraPersonas reescribir(Iterator<Persona> vivas, long tamanioSegmento,
+                                long siguienteId, long siguienteTransaccion) {
+        BitacoraPersonas nueva = new BitacoraPersonas(directorio, generacion + 1, tamanioSegmento);
+        try {
+            nueva.agregarCabecera(siguienteId, siguienteTransaccion);
+            while (vivas.hasNext()) {
+                nueva.agregar(vivas.next(), SIN_TRANSACCION);
+            }
+            nueva.sincronizar();
+            Path temporal = directorio.resolve(GENERACION + ".tmp");
+            Files.writeString(temporal, Long.toString(nueva.generacion), StandardCharsets.US_ASCII,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.SYNC);
+            Files.move(temporal, directorio.resolve(GENERACION), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            nueva.borrarArchivos();
+            throw e instanceof IOException io
+                    ? new UncheckedIOException("No se pudo compactar la bitácora", io)
+                    : (RuntimeException) e;
+        }
+        // Los buffers mapeados se liberan con el GC; en Linux el archivo borrado sigue válido hasta entonces
+        borrarArchivos();
+        return nueva;
+    }
+
+    /**
+     * @return registros escritos en esta generación (vivos, reemplazados y bajas)
+     */
+    long registros() {
+        return siguiente;
+    }
+
+    long bytes() {
+        return (long) segmentos.size() * registrosPorSegmento * RegistroPersona.TAMANIO;
+    }
+
+    /**
+     * @return el próximo ID a asignar según lo leído al abrir (incluye IDs de
+     *         bajas, de transacciones descartadas y el de la cabecera)
+     */
+    long siguienteId() {
+        return siguienteId;
+    }
+
+    /**
+     * @return el próximo número de transacción según lo leído al abrir
+     */
+    long siguienteTransaccion() {
+        return siguienteTransaccion;
+    }
+
+    // Dos pasadas: la primera encuentra el final y las transacciones sin confirmar
+    // (la confirmación está después de sus registros), la segunda entrega el resto
+    private void recorrer(Consumer<Persona> persona, LongConsumer baja) throws IOException {
+        Set<Long> sinConfirmar = buscarFin();
+        for (long registro = 0; registro < siguiente; registro++) {
+            MappedByteBuffer segmento = segmentos.get((int) (registro / registrosPorSegmento));
+            int posicion = posicion(registro);
+            byte tipo = RegistroPersona.tipo(segmento, posicion);
+            if (tipo != RegistroPersona.PERSONA && tipo != RegistroPersona.BAJA
+                    || sinConfirmar.contains(RegistroPersona.transaccion(segmento, posicion))) {
+                continue;
+            }
+            if (tipo == RegistroPersona.BAJA) {
+                baja.accept(RegistroPersona.id(segmento, posicion));
+            } else {
+                persona.accept(RegistroPersona.leer(segmento, posicion));
+            }
+        }
+        if (!sinConfirmar.isEmpty()) {
+            LOG.infof("Bitácora: %d transacciones sin confirmar descartadas", sinConfirmar.size());
+        }
+    }
+
+    private Set<Long> buscarFin() throws IOException {
+        Set<Long> sinConfirmar = new HashSet<>();
+        for (int numero = 0; Files.exists(archivo(numero)); numero++) {
+            MappedByteBuffer segmento = mapear(numero);
+            for (int registro = 0; registro < registrosPorSegmento; registro++) {
+                int posicion = registro * RegistroPersona.TAMANIO;
+                byte tipo = RegistroPersona.tipo(segmento, posicion);
+                if (tipo == RegistroPersona.VACIO || !RegistroPersona.valido(segmento, posicion)) {
+                    if (tipo != RegistroPersona.VACIO) {
+                        LOG.warnf("Registro dañado en %s, posición %d: la bitácora termina ahí",
+                                archivo(numero).getFileName(), posicion);
+                    }
+                    truncar(numero, posicion);
+                    return sinConfirmar;
+                }
+                long id = RegistroPersona.id(segmento, posicion);
+                long transaccion = RegistroPersona.transaccion(segmento, posicion);
+                switch (tipo) {
+                    case RegistroPersona.PERSONA, RegistroPersona.BAJA -> {
+                        siguienteId = Math.max(siguienteId, id + 1);
+                        if (transaccion != SIN_TRANSACCION) {
+                            sinConfirmar.add(transaccion);
+                        }
+                    }
+                    case RegistroPersona.CONFIRMACION -> sinConfirmar.remove(transaccion);
+                    case RegistroPersona.CABECERA -> siguienteId = Math.max(siguienteId, id);
+                    default -> throw new IllegalStateException("Tipo de registro desconocido " + tipo + " en "
+                            + archivo(numero).getFileName() + ", posición " + posicion);
+                }
+                // La cabecera ya guarda el próximo número; los demás, el usado
+                siguienteTransaccion = Math.max(siguienteTransaccion,
+                        tipo == RegistroPersona.CABECERA ? transaccion : transaccion + 1);
+                siguiente++;
+            }
+        }
+        sinSincronizar = siguiente;
+        return sinConfirmar;
+    }
+
+    // Limpia los registros no vacíos desde la posición y borra los segmentos siguientes
+    private void truncar(int numero, int posicion) throws IOException {
+        MappedByteBuffer segmento = segmentos.get(numero);
+        byte[] ceros = new byte[RegistroPersona.TAMANIO];
+        int fin = posicion;
+        while (fin < segmento.capacity() && RegistroPersona.tipo(segmento, fin) != RegistroPersona.VACIO) {
+            segmento.put(fin, ceros);
+            fin += RegistroPersona.TAMANIO;
+        }
+        if (fin > posicion) {
+            segmento.force(posicion, fin - posicion);
+        }
+        for (int siguienteNumero = numero + 1; Files.deleteIfExists(archivo(siguienteNumero)); siguienteNumero++) {
+            LOG.warnf("Segmento %s descartado (posterior a un registro dañado)", archivo(siguienteNumero).getFileName());
+        }
+        sinSincronizar = siguiente;
+    }
+
+    private MappedByteBuffer segmentoPara(long registro) {
+        int numero = (int) (registro / registrosPorSegmento);
+        if (numero == segmentos.size()) {
+            try {
+                mapear(numero);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo crear el segmento " + archivo(numero), e);
+            }
+        }
+        return segmentos.get(numero);
+    }
+
+    private int posicion(long registro) {
+        return (int) (registro % registrosPorSegmento) * RegistroPersona.TAMANIO;
+    }
+
+    // El canal se puede cerrar: el mapeo sigue vigente hasta que el buffer se libera
+    private MappedByteBuffer mapear(int numero) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo(numero), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer segmento = canal.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (long) registrosPorSegmento * RegistroPersona.TAMANIO);
+            segmentos.add(segmento);
+            return segmento;
+        }
+    }
+
+    private Path archivo(int numero) {
+        return directorio.resolve(nombre(generacion, numero));
+    }
+
+    private static String nombre(long generacion, int numero) {
+        return String.format(Locale.ROOT, "personas-%06d-%06d.seg", generacion, numero);
+    }
+
+    private void borrarOtrasGeneraciones() throws IOException {
+        String propia = String.format(Locale.ROOT, "personas-%06d-", generacion);
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            for (Path archivo : archivos.toList()) {
+                String nombre = archivo.getFileName().toString();
+                if (nombre.startsWith("personas-") && nombre.endsWith(".seg") && !nombre.startsWith(propia)) {
+                    Files.delete(archivo);
+                }
+            }
+        }
+    }
+
+    private void borrarArchivos() {
+        for (int numero = 0; numero < segmentos.size(); numero++) {
+            try {
+                Files.deleteIfExists(archivo(numero));
+            } catch (IOException e) {
+                LOG.warnf("No se pudo borrar %s: %s", archivo(numero), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package org.jpurquilla.framework.adapters.output.archivo;
+
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.exceptions.PersonaValidationException;
+import org.jpurquilla.domain.vo.Sexo;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+/**
+ * Formato fijo de un registro de la bitácora: 256 bytes por persona.
+ *
+ * DISPOSICIÓN (big-endian, desplazamientos en bytes):
+ *   0  int    CRC32C de los bytes 4..255
+ *   4  byte   tipo: 0 vacío (fin de la bitácora), 1 persona, 2 baja,
+ *             3 confirmación, 4 cabecera
+ *   5  byte   sexo (ordinal de Sexo, -1 = null)
+ *   6  short  edad (-1 = null)
+ *   8  long   id
+ *  16  long   version (Long.MIN_VALUE = null)
+ *  24  long   modificado: segundos desde 1970
+ *  32  int    modificado: nanos (-1 = null)
+ *  36  long   transacción (0 = escrito fuera de una transacción)
+ *  44  byte   largo del nombre en UTF-8 (0xFF = null)
+ *  45  byte   largo del apellido en UTF-8 (0xFF = null)
+ *  46  105    nombre
+ * 151  105    apellido
+ *
+ * Una confirmación solo usa "transacción": la transacción que confirmó.
+ * La cabecera usa "id" (el próximo ID a asignar) y "transacción" (la próxima
+ * a numerar): lo que la compactación no puede deducir de los registros vivos.
+ *
+ * Un archivo nuevo está en ceros: el primer registro con tipo 0 marca el final.
+ * El CRC detecta un registro a medio escribir (caída durante la escritura).
+ *
+ * Todas las operaciones usan posiciones absolutas: no cambian la posición
+ * del buffer y varios hilos pueden leer el mismo buffer a la vez.
+ */
+final class RegistroPersona {
+    static final int TAMANIO = 256;
+    static final int MAXIMO_TEXTO = 105;
+
+    static final byte VACIO = 0;
+    static final byte PERSONA = 1;
+    static final byte BAJA = 2;
+    static final byte CONFIRMACION = 3;
+    static final byte CABECERA = 4;
+
+    private static final int CRC = 0;
+    private static final int TIPO = 4;
+    private static final int SEXO = 5;
+    private static final int EDAD = 6;
+    private static final int ID = 8;
+    private static final int VERSION = 16;
+    private static final int SEGUNDOS = 24;
+    private static final int NANOS = 32;
+    private static final int TRANSACCION = 36;
+    private static final int LARGO_NOMBRE = 44;
+    private static final int LARGO_APELLIDO = 45;
+    private static final int NOMBRE = 46;
+    private static final int APELLIDO = NOMBRE + MAXIMO_TEXTO;
+
+    private static final int SIN_TEXTO = 0xFF;
+    private static final Sexo[] SEXOS = Sexo.values();
+
+    private RegistroPersona() {
+    }
+
+    /**
+     * Verifica que la persona entre en un registro (antes de aceptar la escritura).
+     *
+     * @throws PersonaValidationException si el nombre o el apellido superan MAXIMO_TEXTO bytes
+     */
+    static void verificar(Persona persona) {
+        verificarTexto("nombre", persona.getNombre());
+        verificarTexto("apellido", persona.getApellido());
+    }
+
+    static void escribir(ByteBuffer buffer, int posicion, Persona persona, long transaccion) {
+        limpiar(buffer, posicion);
+        buffer.putLong(posicion + TRANSACCION, transaccion);
+        buffer.put(posicion + SEXO, persona.getSexo() != null ? (byte) persona.getSexo().ordinal() : -1);
+        buffer.putShort(posicion + EDAD, persona.getEdad() != null ? persona.getEdad().shortValue() : -1);
+        buffer.putLong(posicion + ID, persona.getId());
+        buffer.putLong(posicion + VERSION, persona.getVersion() != null ? persona.getVersion() : Long.MIN_VALUE);
+        Instant modificado = persona.getModificado();
+        buffer.putLong(posicion + SEGUNDOS, modificado != null ? modificado.getEpochSecond() : 0);
+        buffer.putInt(posicion + NANOS, modificado != null ? modificado.getNano() : -1);
+        escribirTexto(buffer, posicion + LARGO_NOMBRE, posicion + NOMBRE, persona.getNombre());
+        escribirTexto(buffer, posicion + LARGO_APELLIDO, posicion + APELLIDO, persona.getApellido());
+        cerrar(buffer, posicion, PERSONA);
+    }
+
+    static void escribirBaja(ByteBuffer buffer, int posicion, long id, long transaccion) {
+        limpiar(buffer, posicion);
+        buffer.putLong(posicion + ID, id);
+        buffer.putLong(posicion + TRANSACCION, transaccion);
+        cerrar(buffer, posicion, BAJA);
+    }
+
+    static void escribirConfirmacion(ByteBuffer buffer, int posicion, long transaccion) {
+        limpiar(buffer, posicion);
+        buffer.putLong(posicion + TRANSACCION, transaccion);
+        cerrar(buffer, posicion, CONFIRMACION);
+    }
+
+    static void escribirCabecera(ByteBuffer buffer, int posicion, long siguienteId, long siguienteTransaccion) {
+        limpiar(buffer, posicion);
+        buffer.putLong(posicion + ID, siguienteId);
+        buffer.putLong(posicion + TRANSACCION, siguienteTransaccion);
+        cerrar(buffer, posicion, CABECERA);
+    }
+
+    static byte tipo(ByteBuffer buffer, int posicion) {
+        return buffer.get(posicion + TIPO);
+    }
+
+    static boolean valido(ByteBuffer buffer, int posicion) {
+        return buffer.getInt(posicion + CRC) == crc(buffer, posicion);
+    }
+
+    static long id(ByteBuffer buffer, int posicion) {
+        return buffer.getLong(posicion + ID);
+    }
+
+    static long transaccion(ByteBuffer buffer, int posicion) {
+        return buffer.getLong(posicion + TRANSACCION);
+    }
+
+    static Persona leer(ByteBuffer buffer, int posicion) {
+        byte sexo = buffer.get(posicion + SEXO);
+        short edad = buffer.getShort(posicion + EDAD);
+        long version = buffer.getLong(posicion + VERSION);
+        int nanos = buffer.getInt(posicion + NANOS);
+
+        Persona persona = new Persona(id(buffer, posicion),
+                leerTexto(buffer, posicion + LARGO_NOMBRE, posicion + NOMBRE),
+                leerTexto(buffer, posicion + LARGO_APELLIDO, posicion + APELLIDO),
+                sexo >= 0 ? SEXOS[sexo] : null,
+                edad >= 0 ? (int) edad : null);
+        persona.setVersion(version != Long.MIN_VALUE ? version : null);
+        persona.setModificado(nanos >= 0 ? Instant.ofEpochSecond(buffer.getLong(posicion + SEGUNDOS), nanos) : null);
+        return persona;
+    }
+
+    private static void verificarTexto(String campo, String texto) {
+        if (texto != null && texto.getBytes(StandardCharsets.UTF_8).length > MAXIMO_TEXTO) {
+            throw new PersonaValidationException(campo,
+                    "No puede superar " + MAXIMO_TEXTO + " bytes en el almacén en archivo");
+        }
+    }
+
+    private static void escribirTexto(ByteBuffer buffer, int largo, int inicio, String texto) {
+        if (texto == null) {
+            buffer.put(largo, (byte) SIN_TEXTO);
+            return;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        buffer.put(largo, (byte) bytes.length);
+        buffer.put(inicio, bytes);
+    }
+
+    private static String leerTexto(ByteBuffer buffer, int largo, int inicio) {
+        int bytes = buffer.get(largo) & 0xFF;
+        if (bytes == SIN_TEXTO) {
+            return null;
+        }
+        byte[] texto = new byte[bytes];
+        buffer.get(inicio, texto);
+        return new String(texto, StandardCharsets.UTF_8);
+    }
+
+    private static void limpiar(ByteBuffer buffer, int posicion) {
+        buffer.put(posicion, new byte[TAMANIO]);
+    }
+
+    // Tipo y CRC al final, sobre los datos ya escritos
+    private static void cerrar(ByteBuffer buffer, int posicion, byte tipo) {
+        buffer.put(posicion + TIPO, tipo);
+        buffer.putInt(posicion + CRC, crc(buffer, posicion));
+    }
+
+    private static int crc(ByteBuffer buffer, int posicion) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(posicion + TIPO, TAMANIO - TIPO));
+        return (int) crc.getValue();
+    }
+}
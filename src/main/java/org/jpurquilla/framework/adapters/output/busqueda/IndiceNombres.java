@@ -0,0 +1,535 @@
+package org.jpurquilla.framework.adapters.output.busqueda;
+
+import org.jpurquilla.framework.adapters.output.columnar.MapaIdSlot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria sobre nombre y apellido (texto plegado,
+ * ver TextoPlegado), para búsquedas "empieza con" o "contiene".
+ *
+ * TRES NIVELES (nombres y apellidos se repiten mucho: con un millón de
+ * personas hay unos pocos miles de valores y palabras distintos):
+ * - palabra: "jose" → los valores que la contienen. En un TreeMap, así el
+ *   prefijo es un subMap; y un índice de trigramas (palabras de 3+ letras
+ *   que contienen "ern") para "contiene"
+ * - valor: el campo completo plegado ("maria jose") → los IDs de las
+ *   personas con ese nombre o apellido, ordenados (long[])
+ * - persona: ID → valor del nombre y valor del apellido (dos MapaIdSlot),
+ *   para quitarla o reemplazarla sin recorrer las listas
+ *
+ * RANKING: por cada palabra de la búsqueda, la coincidencia con una palabra
+ * del nombre o del apellido vale EXACTA (3) > PREFIJO (2) > CONTIENE (1);
+ * una persona debe coincidir en todas las palabras y su puntaje es la suma.
+ * Empates: ID ascendente.
+ *
+ * Como en Diccionario, lo que nadie usa sale del índice: un valor se libera
+ * cuando se queda sin IDs (su lista de IDs es la cuenta de referencias), una
+ * palabra cuando se queda sin valores, y con ella sus bits en los trigramas.
+ * Los códigos liberados se reutilizan antes de crecer: con altas, cambios de
+ * nombre y bajas continuas el índice no crece más que los textos en uso.
+ *
+ * HILOS: un ReentrantReadWriteLock. Las búsquedas corren en paralelo.
+ */
+class IndiceNombres {
+    static final int EXACTA = 3;
+    static final int PREFIJO = 2;
+    static final int CONTIENE = 1;
+
+    private static final int NINGUNA = 0;
+    private static final int[] CLASES = {EXACTA, PREFIJO, CONTIENE};
+
+    private final ReentrantReadWriteLock candado = new ReentrantReadWriteLock();
+    private final Lock lectura = candado.readLock();
+    private final Lock escritura = candado.writeLock();
+
+    private final Map<String, Integer> codigosValor = new HashMap<>();
+    private final List<Valor> valores = new ArrayList<>();
+    private final TreeMap<String, Palabra> palabras = new TreeMap<>();
+    private final List<Palabra> palabrasPorCodigo = new ArrayList<>();
+    private final Map<String, BitSet> trigramas = new HashMap<>();
+    private final MapaIdSlot nombreDe = new MapaIdSlot(1024);
+    private final MapaIdSlot apellidoDe = new MapaIdSlot(1024);
+    // códigos liberados, para reutilizar antes de crecer
+    private final ListaEnteros valoresLibres = new ListaEnteros();
+    private final ListaEnteros palabrasLibres = new ListaEnteros();
+    private int personas;
+
+    // ==================== ESCRITURA ====================
+
+    /**
+     * Agrega una persona, o la reemplaza si ya estaba (nombre o apellido cambiados).
+     */
+    void agregar(long id, String nombre, String apellido) {
+        escritura.lock();
+        try {
+            int anteriorNombre = nombreDe.obtener(id);
+            int anteriorApellido = apellidoDe.obtener(id);
+            quitarSinCandado(id);
+            int codigoNombre = codificar(nombre);
+            int codigoApellido = codificar(apellido);
+            if (codigoNombre != MapaIdSlot.AUSENTE) {
+                valores.get(codigoNombre).ids.agregar(id);
+                nombreDe.poner(id, codigoNombre);
+            }
+            if (codigoApellido != MapaIdSlot.AUSENTE) {
+                if (codigoApellido != codigoNombre) {
+                    valores.get(codigoApellido).ids.agregar(id);
+                }
+                apellidoDe.poner(id, codigoApellido);
+            }
+            if (codigoNombre != MapaIdSlot.AUSENTE || codigoApellido != MapaIdSlot.AUSENTE) {
+                personas++;
+            }
+            // Después de agregar: si el nombre no cambió, su valor no llega a liberarse
+            liberarSinUso(anteriorNombre);
+            liberarSinUso(anteriorApellido);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    void quitar(long id) {
+        escritura.lock();
+        try {
+            int nombre = nombreDe.obtener(id);
+            int apellido = apellidoDe.obtener(id);
+            quitarSinCandado(id);
+            liberarSinUso(nombre);
+            liberarSinUso(apellido);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    // ==================== LECTURA ====================
+
+    /**
+     * @param texto lo que escribió el usuario (se pliega aquí)
+     * @param limite el máximo de IDs a devolver
+     * @return los IDs de las mejores coincidencias, de mayor a menor puntaje
+     */
+    List<Long> buscar(String texto, int limite) {
+        List<String> buscadas = TextoPlegado.palabras(texto);
+        if (buscadas.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        lectura.lock();
+        try {
+            return buscadas.size() == 1
+                    ? buscarPalabra(buscadas.get(0), limite)
+                    : buscarPalabras(buscadas, limite);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    int cantidad() {
+        lectura.lock();
+        try {
+            return personas;
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    int palabras() {
+        lectura.lock();
+        try {
+            return palabras.size();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    // ==================== INTERNOS ====================
+
+    /**
+     * Una palabra: las clases se recorren de mayor a menor y en cada una se
+     * toman los IDs menores (mezcla de listas ordenadas), así se corta
+     * apenas hay "limite" resultados, sin puntuar todas las coincidencias.
+     */
+    private List<Long> buscarPalabra(String buscada, int limite) {
+        List<Long> resultado = new ArrayList<>(Math.min(limite, 64));
+        Set<Long> incluidos = new HashSet<>();
+        BitSet usados = new BitSet(valores.size());
+        for (int clase : CLASES) {
+            BitSet deLaClase = valoresConClase(buscada, clase);
+            deLaClase.andNot(usados);
+            usados.or(deLaClase);
+            tomarMenores(deLaClase, limite, resultado, incluidos);
+            if (resultado.size() == limite) {
+                break;
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Varias palabras: se recorren las personas de la palabra con menos IDs
+     * y se puntúa cada una contra las demás; se guardan las "limite" mejores.
+     * La clase de cada valor por palabra va en un byte[] indexado por código:
+     * puntuar una persona son dos búsquedas en los MapaIdSlot y lecturas de arreglos.
+     */
+    private List<Long> buscarPalabras(List<String> buscadas, int limite) {
+        byte[][] clases = new byte[buscadas.size()][];
+        int[] coincidentesDeLaGuia = null;
+        long menor = Long.MAX_VALUE;
+        for (int palabra = 0; palabra < clases.length; palabra++) {
+            clases[palabra] = new byte[valores.size()];
+            int[] coincidentes = clasesPorValor(buscadas.get(palabra), clases[palabra]);
+            if (coincidentes.length == 0) {
+                return List.of();
+            }
+            long ids = 0;
+            for (int valor : coincidentes) {
+                ids += valores.get(valor).ids.tamanio;
+            }
+            if (ids < menor) {
+                menor = ids;
+                coincidentesDeLaGuia = coincidentes;
+            }
+        }
+
+        // Peor candidato arriba: mayor ID entre los de menor puntaje
+        PriorityQueue<long[]> mejores = new PriorityQueue<>(limite + 1,
+                (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(b[1], a[1]));
+        BitSet deLaGuia = new BitSet(valores.size());
+        for (int valor : coincidentesDeLaGuia) {
+            deLaGuia.set(valor);
+        }
+        for (int valor : coincidentesDeLaGuia) {
+            ListaIds ids = valores.get(valor).ids;
+            for (int i = 0; i < ids.tamanio; i++) {
+                long id = ids.ids[i];
+                int nombre = nombreDe.obtener(id);
+                int apellido = apellidoDe.obtener(id);
+                // Si nombre y apellido coinciden con la guía, la persona se evalúa desde el nombre
+                if (valor == apellido && nombre != apellido && nombre >= 0 && deLaGuia.get(nombre)) {
+                    continue;
+                }
+                int puntaje = puntaje(clases, nombre, apellido);
+                if (puntaje == NINGUNA) {
+                    continue;
+                }
+                long[] peor = mejores.size() == limite ? mejores.peek() : null;
+                if (peor != null && (puntaje < peor[0] || (puntaje == peor[0] && id > peor[1]))) {
+                    continue;
+                }
+                mejores.offer(new long[]{puntaje, id});
+                if (mejores.size() > limite) {
+                    mejores.poll();
+                }
+            }
+        }
+
+        Long[] resultado = new Long[mejores.size()];
+        for (int i = resultado.length - 1; i >= 0; i--) {
+            resultado[i] = mejores.poll()[1];
+        }
+        return Arrays.asList(resultado);
+    }
+
+    private static int puntaje(byte[][] clases, int nombre, int apellido) {
+        int puntaje = 0;
+        for (byte[] deLaPalabra : clases) {
+            int clase = Math.max(nombre >= 0 ? deLaPalabra[nombre] : NINGUNA,
+                    apellido >= 0 ? deLaPalabra[apellido] : NINGUNA);
+            if (clase == NINGUNA) {
+                return NINGUNA;
+            }
+            puntaje += clase;
+        }
+        return puntaje;
+    }
+
+    // Mezcla las listas de los valores y agrega los IDs menores que falten, hasta el límite
+    private void tomarMenores(BitSet codigos, int limite, List<Long> resultado, Set<Long> incluidos) {
+        PriorityQueue<int[]> cursores = new PriorityQueue<>((a, b) ->
+                Long.compare(valores.get(a[0]).ids.ids[a[1]], valores.get(b[0]).ids.ids[b[1]]));
+        for (int codigo = codigos.nextSetBit(0); codigo >= 0; codigo = codigos.nextSetBit(codigo + 1)) {
+            if (valores.get(codigo).ids.tamanio > 0) {
+                cursores.offer(new int[]{codigo, 0});
+            }
+        }
+        while (resultado.size() < limite && !cursores.isEmpty()) {
+            int[] cursor = cursores.poll();
+            ListaIds ids = valores.get(cursor[0]).ids;
+            long id = ids.ids[cursor[1]];
+            if (incluidos.add(id)) {
+                resultado.add(id);
+            }
+            if (++cursor[1] < ids.tamanio) {
+                cursores.offer(cursor);
+            }
+        }
+    }
+
+    // Valores con al menos una palabra de esa clase (un valor puede estar en varias clases)
+    private BitSet valoresConClase(String buscada, int clase) {
+        BitSet codigos = new BitSet(valores.size());
+        for (Palabra palabra : palabrasConClase(buscada, clase)) {
+            palabra.valores.agregarA(codigos);
+        }
+        return codigos;
+    }
+
+    /**
+     * Anota en "clases" (por código de valor) la mejor clase en que cada valor
+     * coincide con la palabra buscada.
+     *
+     * @return los códigos de los valores que coinciden
+     */
+    private int[] clasesPorValor(String buscada, byte[] clases) {
+        BitSet coincidentes = new BitSet(valores.size());
+        for (int clase : CLASES) {
+            BitSet deLaClase = valoresConClase(buscada, clase);
+            deLaClase.andNot(coincidentes);
+            coincidentes.or(deLaClase);
+            for (int valor = deLaClase.nextSetBit(0); valor >= 0; valor = deLaClase.nextSetBit(valor + 1)) {
+                clases[valor] = (byte) clase;
+            }
+        }
+        return coincidentes.stream().toArray();
+    }
+
+    private List<Palabra> palabrasConClase(String buscada, int clase) {
+        if (clase == EXACTA) {
+            Palabra palabra = palabras.get(buscada);
+            return palabra != null ? List.of(palabra) : List.of();
+        }
+        if (clase == PREFIJO) {
+            NavigableMap<String, Palabra> conPrefijo =
+                    palabras.subMap(buscada, false, buscada + Character.MAX_VALUE, false);
+            return new ArrayList<>(conPrefijo.values());
+        }
+        List<Palabra> contienen = new ArrayList<>();
+        if (buscada.length() < 3) {
+            for (Palabra palabra : palabrasPorCodigo) {
+                if (palabra != null && palabra.texto.indexOf(buscada, 1) > 0) {
+                    contienen.add(palabra);
+                }
+            }
+            return contienen;
+        }
+        BitSet candidatas = null;
+        for (int i = 0; i + 3 <= buscada.length(); i++) {
+            BitSet conTrigrama = trigramas.get(buscada.substring(i, i + 3));
+            if (conTrigrama == null) {
+                return contienen;
+            }
+            if (candidatas == null) {
+                candidatas = (BitSet) conTrigrama.clone();
+            } else {
+                candidatas.and(conTrigrama);
+            }
+        }
+        for (int codigo = candidatas.nextSetBit(0); codigo >= 0; codigo = candidatas.nextSetBit(codigo + 1)) {
+            Palabra palabra = palabrasPorCodigo.get(codigo);
+            // Los trigramas pueden coincidir sin que la palabra contenga el texto completo
+            if (palabra.texto.indexOf(buscada, 1) > 0) {
+                contienen.add(palabra);
+            }
+        }
+        return contienen;
+    }
+
+    private void quitarSinCandado(long id) {
+        int codigoNombre = nombreDe.obtener(id);
+        int codigoApellido = apellidoDe.obtener(id);
+        if (codigoNombre != MapaIdSlot.AUSENTE) {
+            valores.get(codigoNombre).ids.quitar(id);
+            nombreDe.quitar(id);
+        }
+        if (codigoApellido != MapaIdSlot.AUSENTE) {
+            if (codigoApellido != codigoNombre) {
+                valores.get(codigoApellido).ids.quitar(id);
+            }
+            apellidoDe.quitar(id);
+        }
+        if (codigoNombre != MapaIdSlot.AUSENTE || codigoApellido != MapaIdSlot.AUSENTE) {
+            personas--;
+        }
+    }
+
+    // Libera el valor si se quedó sin IDs, y las palabras que se quedaron sin valores
+    private void liberarSinUso(int codigo) {
+        if (codigo == MapaIdSlot.AUSENTE) {
+            return;
+        }
+        Valor valor = valores.get(codigo);
+        // null: ya liberado (nombre y apellido con el mismo valor)
+        if (valor == null || valor.ids.tamanio > 0) {
+            return;
+        }
+        codigosValor.remove(valor.texto);
+        for (Palabra palabra : valor.palabras) {
+            palabra.valores.quitar(codigo);
+            if (palabra.valores.tamanio == 0) {
+                liberar(palabra);
+            }
+        }
+        valores.set(codigo, null);
+        valoresLibres.agregar(codigo);
+    }
+
+    private void liberar(Palabra palabra) {
+        palabras.remove(palabra.texto);
+        palabrasPorCodigo.set(palabra.codigo, null);
+        for (int i = 0; i + 3 <= palabra.texto.length(); i++) {
+            String trigrama = palabra.texto.substring(i, i + 3);
+            BitSet conTrigrama = trigramas.get(trigrama);
+            if (conTrigrama != null) {
+                conTrigrama.clear(palabra.codigo);
+                if (conTrigrama.isEmpty()) {
+                    trigramas.remove(trigrama);
+                }
+            }
+        }
+        palabrasLibres.agregar(palabra.codigo);
+    }
+
+    // Código del valor plegado; si es nuevo, registra sus palabras
+    private int codificar(String texto) {
+        String plegado = TextoPlegado.plegar(texto);
+        if (plegado == null || plegado.isEmpty()) {
+            return MapaIdSlot.AUSENTE;
+        }
+        Integer codigo = codigosValor.get(plegado);
+        if (codigo != null) {
+            return codigo;
+        }
+        List<Palabra> enValor = new ArrayList<>(2);
+        int nuevo = valoresLibres.tamanio > 0 ? valoresLibres.sacar() : valores.size();
+        for (String parte : new LinkedHashSet<>(Arrays.asList(plegado.split(" ")))) {
+            Palabra palabra = palabra(parte);
+            palabra.valores.agregar(nuevo);
+            enValor.add(palabra);
+        }
+        Valor valor = new Valor(plegado, enValor);
+        if (nuevo == valores.size()) {
+            valores.add(valor);
+        } else {
+            valores.set(nuevo, valor);
+        }
+        codigosValor.put(plegado, nuevo);
+        return nuevo;
+    }
+
+    private Palabra palabra(String texto) {
+        Palabra palabra = palabras.get(texto);
+        if (palabra != null) {
+            return palabra;
+        }
+        int codigo = palabrasLibres.tamanio > 0 ? palabrasLibres.sacar() : palabrasPorCodigo.size();
+        palabra = new Palabra(codigo, texto);
+        palabras.put(texto, palabra);
+        if (codigo == palabrasPorCodigo.size()) {
+            palabrasPorCodigo.add(palabra);
+        } else {
+            palabrasPorCodigo.set(codigo, palabra);
+        }
+        for (int i = 0; i + 3 <= texto.length(); i++) {
+            trigramas.computeIfAbsent(texto.substring(i, i + 3), t -> new BitSet()).set(palabra.codigo);
+        }
+        return palabra;
+    }
+
+    private record Palabra(int codigo, String texto, ListaEnteros valores) {
+        Palabra(int codigo, String texto) {
+            this(codigo, texto, new ListaEnteros());
+        }
+    }
+
+    // Un valor plegado: sus IDs y las palabras que lo contienen (para liberarlas con él)
+    private static final class Valor {
+        private final String texto;
+        private final List<Palabra> palabras;
+        private final ListaIds ids = new ListaIds();
+
+        Valor(String texto, List<Palabra> palabras) {
+            this.texto = texto;
+            this.palabras = palabras;
+        }
+    }
+
+    /**
+     * IDs ordenados en un long[]. Los de la secuencia llegan en orden:
+     * agregar es casi siempre poner al final.
+     */
+    private static final class ListaIds {
+        private long[] ids = new long[4];
+        private int tamanio;
+
+        void agregar(long id) {
+            int posicion = tamanio == 0 || id > ids[tamanio - 1]
+                    ? -tamanio - 1
+                    : Arrays.binarySearch(ids, 0, tamanio, id);
+            if (posicion >= 0) {
+                return;
+            }
+            posicion = -posicion - 1;
+            if (tamanio == ids.length) {
+                ids = Arrays.copyOf(ids, tamanio + (tamanio >> 1) + 1);
+            }
+            System.arraycopy(ids, posicion, ids, posicion + 1, tamanio - posicion);
+            ids[posicion] = id;
+            tamanio++;
+        }
+
+        void quitar(long id) {
+            int posicion = Arrays.binarySearch(ids, 0, tamanio, id);
+            if (posicion >= 0) {
+                System.arraycopy(ids, posicion + 1, ids, posicion, tamanio - posicion - 1);
+                tamanio--;
+            }
+        }
+    }
+
+    // Códigos de valor de una palabra (sin repetidos: cada valor registra sus palabras una vez),
+    // o códigos libres (como pila)
+    private static final class ListaEnteros {
+        private int[] enteros = new int[2];
+        private int tamanio;
+
+        void agregar(int entero) {
+            if (tamanio == enteros.length) {
+                enteros = Arrays.copyOf(enteros, tamanio * 2);
+            }
+            enteros[tamanio++] = entero;
+        }
+
+        // Sin orden: el último ocupa el lugar del quitado
+        void quitar(int entero) {
+            for (int i = 0; i < tamanio; i++) {
+                if (enteros[i] == entero) {
+                    enteros[i] = enteros[--tamanio];
+                    return;
+                }
+            }
+        }
+
+        int sacar() {
+            return enteros[--tamanio];
+        }
+
+        void agregarA(BitSet destino) {
+            for (int i = 0; i < tamanio; i++) {
+                destino.set(enteros[i]);
+            }
+        }
+    }
+}
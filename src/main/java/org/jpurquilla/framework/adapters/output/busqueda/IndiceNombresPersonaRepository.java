@@ -0,0 +1,238 @@
+package org.jpurquilla.framework.adapters.output.busqueda;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.jboss.logging.Logger;
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaActualizada;
+import org.jpurquilla.application.port.output.PersonaRepository;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * ADAPTADOR DE SALIDA (decorador): IndiceNombresPersonaRepository
+ *
+ * Envuelve otro PersonaRepository y responde findVistasByNombre() con un
+ * índice en memoria (IndiceNombres): sin acentos ni mayúsculas, con ranking
+ * (palabra exacta > prefijo > contiene) y sin recorrer la tabla.
+ *
+ * - El índice solo da los IDs; las vistas se leen del delegado por ID
+ *   (findVistasById) y se devuelven en el orden del ranking. No se guardan
+ *   edad, sexo ni versión en el índice (duplicaría la tabla en memoria):
+ *   con persona.almacen=jpa el delegado es la caché, que responde los IDs
+ *   que ya tiene y guarda los que lee (una sola consulta "IN" por los
+ *   faltantes); con columnar o archivo la lectura ya es en memoria
+ * - save/saveAll/update agregan o reemplazan la persona en el índice y
+ *   deleteById(AndVersion) la quitan, al confirmar la transacción
+ *   (un rollback no cambia el índice)
+ * - Se reconstruye completo al arrancar (ReconstruccionIndiceNombres)
+ *
+ * Como los contadores, no ve cambios hechos por otras instancias, fuera de
+ * la aplicación ni por los endpoints reactivos (/reactivo/persona no pasa
+ * por esta cadena de repositorios), y dos actualizaciones concurrentes de
+ * la misma persona pueden aplicarse en cualquier orden: se corrige al
+ * reconstruir. Una persona que otra instancia dio de baja se descarta al
+ * leer su vista; una alta de otra instancia no aparece hasta reconstruir.
+ */
+public class IndiceNombresPersonaRepository implements PersonaRepository {
+    private static final Logger LOG = Logger.getLogger(IndiceNombresPersonaRepository.class);
+
+    private final PersonaRepository delegado;
+    private final TransactionSynchronizationRegistry transacciones;
+    private volatile IndiceNombres indice = new IndiceNombres();
+
+    public IndiceNombresPersonaRepository(PersonaRepository delegado,
+                                          TransactionSynchronizationRegistry transacciones) {
+        this.delegado = delegado;
+        this.transacciones = transacciones;
+    }
+
+    /**
+     * Arma un índice nuevo recorriendo todas las personas (cursor proyectado)
+     * y reemplaza el actual: las búsquedas siguen respondiendo mientras tanto.
+     * Necesita una transacción abierta.
+     */
+    public void reconstruir() {
+        long inicio = System.nanoTime();
+        IndiceNombres nuevo = new IndiceNombres();
+        try (Stream<PersonaVista> personas = delegado.streamVistas()) {
+            personas.forEach(persona -> nuevo.agregar(persona.id(), persona.nombre(), persona.apellido()));
+        }
+        indice = nuevo;
+        LOG.infof("Índice de nombres reconstruido: %d personas, %d palabras en %d ms", nuevo.cantidad(),
+                nuevo.palabras(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Desde el índice: IDs con ranking, y las vistas por ID.
+     */
+    @Override
+    public List<PersonaVista> findVistasByNombre(String texto, int limite) {
+        List<Long> ids = indice.buscar(texto, limite);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PersonaVista> porId = new HashMap<>();
+        for (PersonaVista vista : delegado.findVistasById(ids)) {
+            porId.put(vista.id(), vista);
+        }
+        // Una persona eliminada desde que se consultó el índice no aparece
+        List<PersonaVista> vistas = new ArrayList<>(porId.size());
+        for (Long id : ids) {
+            PersonaVista vista = porId.get(id);
+            if (vista != null) {
+                vistas.add(vista);
+            }
+        }
+        return vistas;
+    }
+
+    @Override
+    public Persona save(Persona persona) {
+        Persona guardada = delegado.save(persona);
+        alConfirmar(() -> indexar(guardada));
+        return guardada;
+    }
+
+    @Override
+    public List<Persona> saveAll(List<Persona> personas) {
+        List<Persona> guardadas = delegado.saveAll(personas);
+        alConfirmar(() -> guardadas.forEach(this::indexar));
+        return guardadas;
+    }
+
+    @Override
+    public Optional<Persona> findById(Long id) {
+        return delegado.findById(id);
+    }
+
+    @Override
+    public List<Persona> findAllById(Collection<Long> ids) {
+        return delegado.findAllById(ids);
+    }
+
+    @Override
+    public Optional<PersonaActualizada> update(Persona persona) {
+        Optional<PersonaActualizada> actualizada = delegado.update(persona);
+        actualizada.ifPresent(cambio -> alConfirmar(() -> indexar(cambio.persona())));
+        return actualizada;
+    }
+
+    @Override
+    public List<Persona> findAll() {
+        return delegado.findAll();
+    }
+
+    @Override
+    public List<Persona> findPage(Long despuesDeId, int limite) {
+        return delegado.findPage(despuesDeId, limite);
+    }
+
+    @Override
+    public Stream<Persona> streamAll() {
+        return delegado.streamAll();
+    }
+
+    @Override
+    public List<Persona> findBySexo(Sexo sexo) {
+        return delegado.findBySexo(sexo);
+    }
+
+    @Override
+    public List<Persona> findByFiltro(FiltroPersona filtro) {
+        return delegado.findByFiltro(filtro);
+    }
+
+    @Override
+    public Optional<PersonaVista> findVistaById(Long id) {
+        return delegado.findVistaById(id);
+    }
+
+    @Override
+    public List<PersonaVista> findVistasById(Collection<Long> ids) {
+        return delegado.findVistasById(ids);
+    }
+
+    @Override
+    public List<PersonaVista> findVistaPage(Long despuesDeId, int limite) {
+        return delegado.findVistaPage(despuesDeId, limite);
+    }
+
+    @Override
+    public Stream<PersonaVista> streamVistas() {
+        return delegado.streamVistas();
+    }
+
+    @Override
+    public List<PersonaVista> findVistasBySexo(Sexo sexo) {
+        return delegado.findVistasBySexo(sexo);
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteById(Long id) {
+        Optional<PersonaVista> eliminada = delegado.deleteById(id);
+        if (eliminada.isPresent()) {
+            alConfirmar(() -> indice.quitar(id));
+        }
+        return eliminada;
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteByIdAndVersion(Long id, Long version) {
+        Optional<PersonaVista> eliminada = delegado.deleteByIdAndVersion(id, version);
+        if (eliminada.isPresent()) {
+            alConfirmar(() -> indice.quitar(id));
+        }
+        return eliminada;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegado.existsById(id);
+    }
+
+    @Override
+    public EstadisticasPersonas estadisticasDemograficas() {
+        return delegado.estadisticasDemograficas();
+    }
+
+    @Override
+    public long count() {
+        return delegado.count();
+    }
+
+    private void indexar(Persona persona) {
+        indice.agregar(persona.getId(), persona.getNombre(), persona.getApellido());
+    }
+
+    // Aplica el cambio al confirmar la transacción activa, o en el momento si no hay
+    private void alConfirmar(Runnable cambio) {
+        if (transacciones == null || transacciones.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            cambio.run();
+            return;
+        }
+        transacciones.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    cambio.run();
+                }
+            }
+        });
+    }
+}
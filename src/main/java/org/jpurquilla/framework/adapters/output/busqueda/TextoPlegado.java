@@ -0,0 +1,77 @@
+package org.jpurquilla.framework.adapters.output.busqueda;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plegado de texto para la búsqueda por nombre: "Hernández" y "hernandez"
+ * se comparan igual.
+ *
+ * - Minúsculas (Locale.ROOT, independiente del idioma del servidor)
+ * - Sin acentos ni diéresis: NFD separa la letra de su marca y se quita la
+ *   marca (á → a, ü → u, ñ → n)
+ * - Lo que no es letra ni dígito separa palabras ("Pérez-Soto" → "perez soto")
+ *
+ * El caso común (ASCII) no pasa por Normalizer.
+ */
+public final class TextoPlegado {
+
+    private TextoPlegado() {
+    }
+
+    /**
+     * @return el texto plegado, con las palabras separadas por un espacio
+     *         ("" si no tiene letras ni dígitos, null si es null)
+     */
+    public static String plegar(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        String base = ascii(texto) ? texto : Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder plegado = new StringBuilder(base.length());
+        boolean separar = false;
+        for (int i = 0; i < base.length(); i++) {
+            char c = base.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (separar && !plegado.isEmpty()) {
+                    plegado.append(' ');
+                }
+                plegado.append(Character.toLowerCase(c));
+                separar = false;
+            } else {
+                separar = true;
+            }
+        }
+        return plegado.toString();
+    }
+
+    /**
+     * @return las palabras del texto plegado (vacía si no tiene ninguna)
+     */
+    public static List<String> palabras(String texto) {
+        String plegado = plegar(texto);
+        List<String> palabras = new ArrayList<>(2);
+        if (plegado == null || plegado.isEmpty()) {
+            return palabras;
+        }
+        int inicio = 0;
+        for (int espacio; (espacio = plegado.indexOf(' ', inicio)) >= 0; inicio = espacio + 1) {
+            palabras.add(plegado.substring(inicio, espacio));
+        }
+        palabras.add(plegado.substring(inicio));
+        return palabras;
+    }
+
+    private static boolean ascii(String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,307 @@
+package org.jpurquilla.framework.adapters.output.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaActualizada;
+import org.jpurquilla.application.port.output.PersonaRepository;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * ADAPTADOR DE SALIDA (decorador): CachingPersonaRepository
+ *
+ * Envuelve otro PersonaRepository y guarda en memoria las lecturas calientes:
+ * - findById, findVistaById, findAllById, findVistasById → cache por ID
+ *
+ * Las listas por sexo NO se guardan: cada una es cerca de la mitad de la
+ * tabla, así que persona.cache.max-entradas no acotaría la memoria y se
+ * volvería a materializar la tabla completa en el heap.
+ *
+ * ¿Por qué un decorador y no caché de 2° nivel de Hibernate?
+ * - Funciona con cualquier adaptador que implemente el puerto
+ * - La invalidación es por clave (Hibernate invalida la región completa
+ *   ante un UPDATE/DELETE masivo)
+ * - Caffeine expone aciertos, fallos y desalojos
+ *
+ * INVALIDACIÓN:
+ * update/deleteById(AndVersion) invalidan el ID afectado en el momento
+ * y otra vez al terminar la transacción, para descartar lo que otra
+ * petición haya leído de la BD antes del commit.
+ *
+ * Las Personas se copian al entrar y salir de la caché porque el dominio
+ * es mutable (ActualizarPersonaUseCase modifica la persona que lee).
+ *
+ * Las lecturas proyectadas (findVista*) usan las mismas cachés: en un
+ * acierto arman la vista desde la Persona guardada y en un fallo leen la
+ * vista del delegado y la guardan como Persona (la vista trae todos los
+ * campos). Las invalidaciones son las mismas que para findById.
+ *
+ * Las lecturas de varios IDs (findAllById, findVistasById) guardan lo que
+ * leyeron solo si no hubo ninguna invalidación mientras tanto (contador
+ * "invalidaciones"): una lectura anterior a un commit no puede dejar en la
+ * caché un valor ya reemplazado.
+ */
+public class CachingPersonaRepository implements PersonaRepository {
+    private final PersonaRepository delegado;
+    private final TransactionSynchronizationRegistry transacciones;
+    private final Cache<Long, Persona> porId;
+    private final AtomicLong invalidaciones = new AtomicLong();
+
+    public CachingPersonaRepository(PersonaRepository delegado,
+                                    TransactionSynchronizationRegistry transacciones,
+                                    long maxEntradas,
+                                    Duration ttl) {
+        this.delegado = delegado;
+        this.transacciones = transacciones;
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // Un ID nuevo no puede estar en la caché (un fallo no se guarda): no hay nada que invalidar
+    @Override
+    public Persona save(Persona persona) {
+        return delegado.save(persona);
+    }
+
+    @Override
+    public List<Persona> saveAll(List<Persona> personas) {
+        return delegado.saveAll(personas);
+    }
+
+    @Override
+    public Optional<Persona> findById(Long id) {
+        Persona persona = porId.get(id, clave -> delegado.findById(clave).orElse(null));
+        return Optional.ofNullable(persona).map(CachingPersonaRepository::copiar);
+    }
+
+    /**
+     * Los IDs en caché se responden desde la caché; el resto va a la BD en
+     * un solo findAllById y se guarda (ver guardarLeidas).
+     */
+    @Override
+    public List<Persona> findAllById(Collection<Long> ids) {
+        List<Persona> personas = new ArrayList<>(ids.size());
+        List<Long> faltantes = new ArrayList<>();
+        for (Long id : ids) {
+            Persona persona = porId.getIfPresent(id);
+            if (persona != null) {
+                personas.add(copiar(persona));
+            } else {
+                faltantes.add(id);
+            }
+        }
+        if (!faltantes.isEmpty()) {
+            long antes = invalidaciones.get();
+            List<Persona> leidas = delegado.findAllById(faltantes);
+            guardarLeidas(antes, leidas.stream().map(CachingPersonaRepository::copiar).toList());
+            personas.addAll(leidas);
+        }
+        return personas;
+    }
+
+    @Override
+    public Optional<PersonaActualizada> update(Persona persona) {
+        Optional<PersonaActualizada> actualizada = delegado.update(persona);
+        actualizada.ifPresent(cambio -> invalidarPersona(cambio.persona().getId()));
+        return actualizada;
+    }
+
+    @Override
+    public List<Persona> findAll() {
+        return delegado.findAll();
+    }
+
+    @Override
+    public List<Persona> findPage(Long despuesDeId, int limite) {
+        return delegado.findPage(despuesDeId, limite);
+    }
+
+    @Override
+    public Stream<Persona> streamAll() {
+        return delegado.streamAll();
+    }
+
+    @Override
+    public List<Persona> findBySexo(Sexo sexo) {
+        return delegado.findBySexo(sexo);
+    }
+
+    @Override
+    public List<Persona> findByFiltro(FiltroPersona filtro) {
+        return delegado.findByFiltro(filtro);
+    }
+
+    @Override
+    public Optional<PersonaVista> findVistaById(Long id) {
+        Persona persona = porId.get(id, clave -> delegado.findVistaById(clave)
+                .map(CachingPersonaRepository::persona)
+                .orElse(null));
+        return Optional.ofNullable(persona).map(CachingPersonaRepository::vista);
+    }
+
+    @Override
+    public List<PersonaVista> findVistasById(Collection<Long> ids) {
+        List<PersonaVista> personas = new ArrayList<>(ids.size());
+        List<Long> faltantes = new ArrayList<>();
+        for (Long id : ids) {
+            Persona persona = porId.getIfPresent(id);
+            if (persona != null) {
+                personas.add(vista(persona));
+            } else {
+                faltantes.add(id);
+            }
+        }
+        if (!faltantes.isEmpty()) {
+            long antes = invalidaciones.get();
+            List<PersonaVista> leidas = delegado.findVistasById(faltantes);
+            guardarLeidas(antes, leidas.stream().map(CachingPersonaRepository::persona).toList());
+            personas.addAll(leidas);
+        }
+        return personas;
+    }
+
+    @Override
+    public List<PersonaVista> findVistaPage(Long despuesDeId, int limite) {
+        return delegado.findVistaPage(despuesDeId, limite);
+    }
+
+    @Override
+    public Stream<PersonaVista> streamVistas() {
+        return delegado.streamVistas();
+    }
+
+    @Override
+    public List<PersonaVista> findVistasBySexo(Sexo sexo) {
+        return delegado.findVistasBySexo(sexo);
+    }
+
+    @Override
+    public List<PersonaVista> findVistasByNombre(String texto, int limite) {
+        return delegado.findVistasByNombre(texto, limite);
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteById(Long id) {
+        Optional<PersonaVista> eliminada = delegado.deleteById(id);
+        eliminada.ifPresent(anterior -> invalidarPersona(id));
+        return eliminada;
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteByIdAndVersion(Long id, Long version) {
+        Optional<PersonaVista> eliminada = delegado.deleteByIdAndVersion(id, version);
+        eliminada.ifPresent(anterior -> invalidarPersona(id));
+        return eliminada;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegado.existsById(id);
+    }
+
+    @Override
+    public EstadisticasPersonas estadisticasDemograficas() {
+        return delegado.estadisticasDemograficas();
+    }
+
+    @Override
+    public long count() {
+        return delegado.count();
+    }
+
+    /**
+     * Aciertos, fallos y desalojos acumulados de la caché.
+     */
+    public CacheStats estadisticas() {
+        return porId.stats();
+    }
+
+    /**
+     * Número aproximado de entradas en caché.
+     */
+    public long entradas() {
+        return porId.estimatedSize();
+    }
+
+    private void invalidarPersona(Long id) {
+        invalidar(() -> porId.invalidate(id));
+    }
+
+    /**
+     * Guarda personas leídas del delegado fuera de porId.get(): si hubo una
+     * invalidación desde "antes" pueden estar viejas y no se guardan. Se
+     * vuelve a mirar el contador después de guardar porque una invalidación
+     * puede empezar entre la comprobación y el put (invalidar() incrementa
+     * el contador ANTES de invalidar).
+     */
+    private void guardarLeidas(long antes, List<Persona> leidas) {
+        if (leidas.isEmpty() || invalidaciones.get() != antes) {
+            return;
+        }
+        for (Persona persona : leidas) {
+            porId.put(persona.getId(), persona);
+        }
+        if (invalidaciones.get() != antes) {
+            leidas.forEach(persona -> porId.invalidate(persona.getId()));
+        }
+    }
+
+    private void invalidar(Runnable cambio) {
+        Runnable invalidacion = () -> {
+            invalidaciones.incrementAndGet();
+            cambio.run();
+        };
+        invalidacion.run();
+        if (transacciones != null && transacciones.getTransactionStatus() == Status.STATUS_ACTIVE) {
+            transacciones.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    invalidacion.run();
+                }
+            });
+        }
+    }
+
+    private static PersonaVista vista(Persona persona) {
+        return new PersonaVista(persona.getId(), persona.getNombre(), persona.getApellido(),
+                persona.getEdad(), persona.getSexo().getCodigo(), persona.getVersion(), persona.getModificado());
+    }
+
+    private static Persona persona(PersonaVista vista) {
+        Persona persona = new Persona(vista.id(), vista.nombre(), vista.apellido(),
+                Sexo.fromCodigo(vista.sexo()), vista.edad());
+        persona.setVersion(vista.version());
+        persona.setModificado(vista.modificado());
+        return persona;
+    }
+
+    private static Persona copiar(Persona persona) {
+        Persona copia = new Persona(persona.getId(), persona.getNombre(), persona.getApellido(),
+                persona.getSexo(), persona.getEdad());
+        copia.setVersion(persona.getVersion());
+        copia.setModificado(persona.getModificado());
+        return copia;
+    }
+}
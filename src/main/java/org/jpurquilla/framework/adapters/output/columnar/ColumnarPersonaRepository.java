@@ -0,0 +1,211 @@
+package org.jpurquilla.framework.adapters.output.columnar;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.jboss.logging.Logger;
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaActualizada;
+import org.jpurquilla.application.port.output.PersonaRepository;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * ADAPTADOR DE SALIDA (decorador): ColumnarPersonaRepository
+ *
+ * Para nodos de lectura intensiva (analítica): toda la tabla en memoria,
+ * guardada por columnas en TablaPersonas, sin un objeto Persona por fila.
+ *
+ * - LECTURAS: se responden desde la tabla en memoria, sin ir a la BD
+ * - ESCRITURAS: van al adaptador JPA (la BD sigue siendo la fuente de verdad:
+ *   IDs, versiones, outbox) y se aplican a la tabla al confirmar la transacción
+ * - existsById va a la BD: solo se usa para explicar un UPDATE/DELETE
+ *   condicionado que no afectó filas, y debe ver el estado confirmado
+ *
+ * Se carga completa al arrancar (CargaAlmacenColumnar). Los cambios hechos
+ * por otras instancias o fuera de la aplicación no se ven hasta recargar.
+ *
+ * Reemplaza a CachingPersonaRepository en la cadena (ver ApplicationConfig):
+ * una caché de Personas sobre datos que ya están en memoria no aporta nada.
+ */
+public class ColumnarPersonaRepository implements PersonaRepository {
+    private static final Logger LOG = Logger.getLogger(ColumnarPersonaRepository.class);
+    // filas que lee cada página de streamAll()/streamVistas()
+    private static final int PAGINA_STREAM = 1024;
+
+    private final PersonaRepository delegado;
+    private final TransactionSynchronizationRegistry transacciones;
+    private final TablaPersonas tabla = new TablaPersonas();
+
+    public ColumnarPersonaRepository(PersonaRepository delegado,
+                                     TransactionSynchronizationRegistry transacciones) {
+        this.delegado = delegado;
+        this.transacciones = transacciones;
+    }
+
+    /**
+     * Lee toda la tabla de la BD (cursor proyectado) y reemplaza el contenido.
+     * Necesita una transacción abierta.
+     */
+    public void cargar() {
+        long inicio = System.nanoTime();
+        try (Stream<PersonaVista> personas = delegado.streamVistas()) {
+            tabla.cargar(personas.iterator());
+        }
+        LOG.infof("Tabla columnar cargada: %d personas, %d KB en %d ms", tabla.cantidad(),
+                tabla.bytes() / 1024, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Memoria ocupada por la tabla, en bytes.
+     */
+    public long bytes() {
+        return tabla.bytes();
+    }
+
+    @Override
+    public Persona save(Persona persona) {
+        Persona guardada = delegado.save(persona);
+        alConfirmar(() -> tabla.guardar(guardada));
+        return guardada;
+    }
+
+    @Override
+    public List<Persona> saveAll(List<Persona> personas) {
+        List<Persona> guardadas = delegado.saveAll(personas);
+        alConfirmar(() -> guardadas.forEach(tabla::guardar));
+        return guardadas;
+    }
+
+    @Override
+    public Optional<Persona> findById(Long id) {
+        return Optional.ofNullable(tabla.buscar(id, TablaPersonas.PERSONA));
+    }
+
+    @Override
+    public List<Persona> findAllById(Collection<Long> ids) {
+        return tabla.buscar(ids, TablaPersonas.PERSONA);
+    }
+
+    @Override
+    public Optional<PersonaActualizada> update(Persona persona) {
+        Optional<PersonaActualizada> actualizada = delegado.update(persona);
+        actualizada.ifPresent(cambio -> alConfirmar(() -> tabla.actualizar(cambio.persona())));
+        return actualizada;
+    }
+
+    @Override
+    public List<Persona> findAll() {
+        return tabla.todas(null, TablaPersonas.PERSONA);
+    }
+
+    @Override
+    public List<Persona> findPage(Long despuesDeId, int limite) {
+        return tabla.pagina(despuesDeId, limite, TablaPersonas.PERSONA);
+    }
+
+    @Override
+    public Stream<Persona> streamAll() {
+        return tabla.recorrer(TablaPersonas.PERSONA, Persona::getId, PAGINA_STREAM);
+    }
+
+    @Override
+    public List<Persona> findBySexo(Sexo sexo) {
+        return tabla.todas(sexo, TablaPersonas.PERSONA);
+    }
+
+    @Override
+    public List<Persona> findByFiltro(FiltroPersona filtro) {
+        return tabla.filtrar(filtro, TablaPersonas.PERSONA);
+    }
+
+    @Override
+    public Optional<PersonaVista> findVistaById(Long id) {
+        return Optional.ofNullable(tabla.buscar(id, TablaPersonas.VISTA));
+    }
+
+    @Override
+    public List<PersonaVista> findVistasById(Collection<Long> ids) {
+        return tabla.buscar(ids, TablaPersonas.VISTA);
+    }
+
+    @Override
+    public List<PersonaVista> findVistaPage(Long despuesDeId, int limite) {
+        return tabla.pagina(despuesDeId, limite, TablaPersonas.VISTA);
+    }
+
+    @Override
+    public Stream<PersonaVista> streamVistas() {
+        return tabla.recorrer(TablaPersonas.VISTA, PersonaVista::id, PAGINA_STREAM);
+    }
+
+    @Override
+    public List<PersonaVista> findVistasBySexo(Sexo sexo) {
+        return tabla.todas(sexo, TablaPersonas.VISTA);
+    }
+
+    @Override
+    public List<PersonaVista> findVistasByNombre(String texto, int limite) {
+        return tabla.buscarPorNombre(texto, limite, TablaPersonas.VISTA);
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteById(Long id) {
+        Optional<PersonaVista> eliminada = delegado.deleteById(id);
+        if (eliminada.isPresent()) {
+            alConfirmar(() -> tabla.eliminar(id));
+        }
+        return eliminada;
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteByIdAndVersion(Long id, Long version) {
+        Optional<PersonaVista> eliminada = delegado.deleteByIdAndVersion(id, version);
+        if (eliminada.isPresent()) {
+            alConfirmar(() -> tabla.eliminar(id));
+        }
+        return eliminada;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegado.existsById(id);
+    }
+
+    @Override
+    public EstadisticasPersonas estadisticasDemograficas() {
+        return tabla.estadisticas();
+    }
+
+    @Override
+    public long count() {
+        return tabla.cantidad();
+    }
+
+    // Aplica el cambio al confirmar la transacción activa, o en el momento si no hay
+    private void alConfirmar(Runnable cambio) {
+        if (transacciones == null || transacciones.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            cambio.run();
+            return;
+        }
+        transacciones.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    cambio.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,168 @@
+package org.jpurquilla.framework.adapters.output.columnar;
+
+import org.jpurquilla.framework.adapters.output.busqueda.TextoPlegado;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Codificación por diccionario de textos (nombres y apellidos).
+ *
+ * Cada texto distinto se guarda una sola vez y las filas guardan su código
+ * (int). Nombres y apellidos se repiten mucho: con un millón de personas
+ * hay unos pocos miles de textos distintos, no un millón de String.
+ *
+ * Cada código lleva la cuenta de las filas que lo usan (codificar suma,
+ * liberar resta). Al llegar a 0 el texto sale del diccionario y el código
+ * queda libre para el próximo texto nuevo: con altas, cambios de nombre y
+ * bajas continuas el diccionario no crece más que los textos en uso.
+ *
+ * No es seguro entre hilos: lo protege el candado de TablaPersonas.
+ */
+class Diccionario {
+    static final int NULO = -1;
+
+    private final Map<String, Integer> codigos = new HashMap<>();
+    private String[] valores = new String[256];
+    // sin acentos ni mayúsculas, para la búsqueda por nombre
+    private String[] plegados = new String[256];
+    // filas que usan cada código (0 = libre)
+    private int[] referencias = new int[256];
+    // códigos liberados, para reutilizar antes de crecer
+    private int[] libres = new int[16];
+    private int cantidadLibres;
+    // códigos usados alguna vez: los válidos están en [0, tamanio)
+    private int tamanio;
+
+    int codificar(String texto) {
+        if (texto == null) {
+            return NULO;
+        }
+        Integer existente = codigos.get(texto);
+        if (existente != null) {
+            referencias[existente]++;
+            return existente;
+        }
+        int codigo;
+        if (cantidadLibres > 0) {
+            codigo = libres[--cantidadLibres];
+        } else {
+            if (tamanio == valores.length) {
+                valores = Arrays.copyOf(valores, tamanio * 2);
+                plegados = Arrays.copyOf(plegados, tamanio * 2);
+                referencias = Arrays.copyOf(referencias, tamanio * 2);
+            }
+            codigo = tamanio++;
+        }
+        valores[codigo] = texto;
+        plegados[codigo] = TextoPlegado.plegar(texto);
+        referencias[codigo] = 1;
+        codigos.put(texto, codigo);
+        return codigo;
+    }
+
+    /**
+     * Una fila deja de usar el código (la fila se eliminó o cambió el texto).
+     */
+    void liberar(int codigo) {
+        if (codigo < 0 || --referencias[codigo] > 0) {
+            return;
+        }
+        codigos.remove(valores[codigo]);
+        valores[codigo] = null;
+        plegados[codigo] = null;
+        if (cantidadLibres == libres.length) {
+            libres = Arrays.copyOf(libres, cantidadLibres * 2);
+        }
+        libres[cantidadLibres++] = codigo;
+    }
+
+    String valor(int codigo) {
+        return codigo == NULO ? null : valores[codigo];
+    }
+
+    /**
+     * Códigos de los textos que empiezan con el prefijo.
+     * Se recorre el diccionario (textos distintos), no las filas.
+     */
+    BitSet conPrefijo(String prefijo) {
+        BitSet coincidencias = new BitSet(tamanio);
+        for (int codigo = 0; codigo < tamanio; codigo++) {
+            if (valores[codigo] != null && valores[codigo].startsWith(prefijo)) {
+                coincidencias.set(codigo);
+            }
+        }
+        return coincidencias;
+    }
+
+    /**
+     * Códigos de los textos que, plegados, contienen la palabra (ya plegada).
+     */
+    BitSet contienen(String palabra) {
+        BitSet coincidencias = new BitSet(tamanio);
+        for (int codigo = 0; codigo < tamanio; codigo++) {
+            if (plegados[codigo] != null && plegados[codigo].contains(palabra)) {
+                coincidencias.set(codigo);
+            }
+        }
+        return coincidencias;
+    }
+
+    /**
+     * Posición de cada código en el orden de los textos (String.compareTo).
+     * Ordenar filas por rango (int) equivale a ordenarlas por el texto.
+     * Los códigos libres no tienen rango (-1): ninguna fila los usa.
+     */
+    int[] rangos() {
+        Integer[] orden = new Integer[tamanio - cantidadLibres];
+        int usados = 0;
+        for (int codigo = 0; codigo < tamanio; codigo++) {
+            if (valores[codigo] != null) {
+                orden[usados++] = codigo;
+            }
+        }
+        Arrays.sort(orden, (a, b) -> valores[a].compareTo(valores[b]));
+        int[] rangos = new int[tamanio];
+        Arrays.fill(rangos, -1);
+        for (int posicion = 0; posicion < orden.length; posicion++) {
+            rangos[orden[posicion]] = posicion;
+        }
+        return rangos;
+    }
+
+    /**
+     * @return textos distintos en uso
+     */
+    int tamanio() {
+        return tamanio - cantidadLibres;
+    }
+
+    /**
+     * Estimación: String + byte[] (Latin-1 o UTF-16), entrada del HashMap e Integer,
+     * más el texto plegado (siempre Latin-1 salvo letras fuera de él) y los contadores.
+     */
+    long bytes() {
+        long bytes = (long) valores.length * (8 + 8 + Integer.BYTES) + (long) libres.length * Integer.BYTES;
+        for (int codigo = 0; codigo < tamanio; codigo++) {
+            String valor = valores[codigo];
+            if (valor == null) {
+                continue;
+            }
+            boolean latin1 = valor.chars().allMatch(c -> c < 256);
+            bytes += 24 + 16 + (long) valor.length() * (latin1 ? 1 : 2) + 32 + 16 + 4;
+            bytes += 24 + 16 + plegados[codigo].length();
+        }
+        return bytes;
+    }
+
+    void vaciar() {
+        codigos.clear();
+        Arrays.fill(valores, 0, tamanio, null);
+        Arrays.fill(plegados, 0, tamanio, null);
+        Arrays.fill(referencias, 0, tamanio, 0);
+        cantidadLibres = 0;
+        tamanio = 0;
+    }
+}
@@ -0,0 +1,138 @@
+package org.jpurquilla.framework.adapters.output.columnar;
+
+import java.util.Arrays;
+
+/**
+ * Mapa ID → fila con claves long y valores int primitivos.
+ *
+ * Direccionamiento abierto con sondeo lineal: dos arreglos paralelos, sin
+ * Long/Integer ni nodos por entrada (un HashMap<Long, Integer> usa ~80 bytes
+ * por entrada; este, entre 16 y 32).
+ * Al quitar se corren las claves siguientes (backward shift), sin lápidas.
+ *
+ * No es seguro entre hilos: lo protege el candado de quien lo usa
+ * (TablaPersonas, IndiceNombres).
+ */
+public class MapaIdSlot {
+    public static final int AUSENTE = -1;
+
+    private static final long VACIO = Long.MIN_VALUE;
+    private static final long FIBONACCI = 0x9E3779B97F4A7C15L;
+
+    private long[] claves;
+    private int[] valores;
+    private int desplazamiento;
+    private int tamanio;
+
+    public MapaIdSlot(int capacidadInicial) {
+        reservar(Math.max(16, Integer.highestOneBit(Math.max(1, capacidadInicial - 1)) << 1));
+    }
+
+    public int obtener(long clave) {
+        int mascara = claves.length - 1;
+        for (int i = indice(clave); ; i = (i + 1) & mascara) {
+            long actual = claves[i];
+            if (actual == clave) {
+                return valores[i];
+            }
+            if (actual == VACIO) {
+                return AUSENTE;
+            }
+        }
+    }
+
+    public void poner(long clave, int valor) {
+        if (clave == VACIO) {
+            throw new IllegalArgumentException("ID no soportado: " + clave);
+        }
+        if ((tamanio + 1) * 4L > claves.length * 3L) {
+            crecer();
+        }
+        int mascara = claves.length - 1;
+        for (int i = indice(clave); ; i = (i + 1) & mascara) {
+            long actual = claves[i];
+            if (actual == clave) {
+                valores[i] = valor;
+                return;
+            }
+            if (actual == VACIO) {
+                claves[i] = clave;
+                valores[i] = valor;
+                tamanio++;
+                return;
+            }
+        }
+    }
+
+    public void quitar(long clave) {
+        int mascara = claves.length - 1;
+        for (int i = indice(clave); claves[i] != VACIO; i = (i + 1) & mascara) {
+            if (claves[i] == clave) {
+                correrSiguientes(i);
+                tamanio--;
+                return;
+            }
+        }
+    }
+
+    public void vaciar() {
+        Arrays.fill(claves, VACIO);
+        tamanio = 0;
+    }
+
+    public int tamanio() {
+        return tamanio;
+    }
+
+    public long bytes() {
+        return (long) claves.length * (Long.BYTES + Integer.BYTES);
+    }
+
+    // Llena el hueco con las claves siguientes del mismo grupo que no quedarían alcanzables
+    private void correrSiguientes(int hueco) {
+        int mascara = claves.length - 1;
+        int i = hueco;
+        while (true) {
+            i = (i + 1) & mascara;
+            long clave = claves[i];
+            if (clave == VACIO) {
+                break;
+            }
+            int ideal = indice(clave);
+            // ¿"ideal" está fuera del tramo cíclico (hueco, i]? Entonces puede ocupar el hueco
+            boolean mover = hueco <= i
+                    ? ideal <= hueco || ideal > i
+                    : ideal <= hueco && ideal > i;
+            if (mover) {
+                claves[hueco] = clave;
+                valores[hueco] = valores[i];
+                hueco = i;
+            }
+        }
+        claves[hueco] = VACIO;
+    }
+
+    private void crecer() {
+        long[] clavesAnteriores = claves;
+        int[] valoresAnteriores = valores;
+        reservar(clavesAnteriores.length * 2);
+        for (int i = 0; i < clavesAnteriores.length; i++) {
+            if (clavesAnteriores[i] != VACIO) {
+                poner(clavesAnteriores[i], valoresAnteriores[i]);
+            }
+        }
+    }
+
+    private void reservar(int capacidad) {
+        claves = new long[capacidad];
+        valores = new int[capacidad];
+        Arrays.fill(claves, VACIO);
+        desplazamiento = Long.numberOfLeadingZeros(capacidad - 1);
+        tamanio = 0;
+    }
+
+    // Hash de Fibonacci: los IDs de la secuencia son consecutivos, se dispersan por los bits altos
+    private int indice(long clave) {
+        return (int) ((clave * FIBONACCI) >>> desplazamiento);
+    }
+}
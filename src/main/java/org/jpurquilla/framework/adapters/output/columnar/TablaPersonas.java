@@ -0,0 +1,599 @@
+package org.jpurquilla.framework.adapters.output.columnar;
+
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+import org.jpurquilla.framework.adapters.output.busqueda.TextoPlegado;
+import org.jpurquilla.framework.adapters.output.estadisticas.ContadoresPersona;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Tabla de personas en memoria, por columnas de tipos primitivos.
+ *
+ * COLUMNAS (una posición por fila, filas ordenadas por ID):
+ * - ids          long[]  (8 bytes)
+ * - sexos        byte[]  (1 byte: ordinal de Sexo)
+ * - edades       byte[]  (1 byte: 0..254 sin signo, el dominio admite 0..150)
+ * - nombres      int[]   (4 bytes: código en el Diccionario)
+ * - apellidos    int[]   (4 bytes: código en el Diccionario)
+ * - versiones    long[]  (8 bytes)
+ * - modificados  long[]  (8 bytes: nanosegundos desde 1970)
+ * Más el MapaIdSlot (ID → fila): ~34 bytes por fila más 16..32 del mapa,
+ * contra ~150-250 de una Persona con sus Long, Integer y String propios.
+ *
+ * Los filtros recorren las columnas sin crear objetos; Persona / PersonaVista
+ * se arman solo para las filas que se devuelven.
+ *
+ * ORDEN: las filas se mantienen ordenadas por ID (los IDs de la secuencia
+ * casi siempre llegan en orden: se agregan al final). Así la paginación keyset
+ * es una búsqueda binaria y recorrer en orden de fila es recorrer por ID.
+ *
+ * ELIMINACIÓN: la fila queda marcada (código de nombre ELIMINADA) y se
+ * compacta la tabla cuando las marcadas pasan de un cuarto.
+ *
+ * HILOS: un ReentrantReadWriteLock. Las lecturas corren en paralelo y
+ * devuelven objetos ya armados (nunca posiciones de fila, que cambian al
+ * insertar o compactar).
+ */
+public class TablaPersonas {
+    /**
+     * Forma en que se arma cada fila devuelta.
+     */
+    public interface Forma<T> {
+        T leer(TablaPersonas tabla, int fila);
+    }
+
+    public static final Forma<PersonaVista> VISTA = TablaPersonas::vista;
+    public static final Forma<Persona> PERSONA = TablaPersonas::persona;
+
+    private static final int CAPACIDAD_INICIAL = 1024;
+    private static final int ELIMINADA = -2;
+    private static final byte SIN_SEXO = -1;
+    private static final int SIN_EDAD = 0xFF;
+    private static final long SIN_VALOR = Long.MIN_VALUE;
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+    private static final Sexo[] SEXOS = Sexo.values();
+
+    private final ReentrantReadWriteLock candado = new ReentrantReadWriteLock();
+    private final Lock lectura = candado.readLock();
+    private final Lock escritura = candado.writeLock();
+    private final Diccionario textos = new Diccionario();
+    private final MapaIdSlot filasPorId = new MapaIdSlot(CAPACIDAD_INICIAL);
+
+    private long[] ids = new long[CAPACIDAD_INICIAL];
+    private byte[] sexos = new byte[CAPACIDAD_INICIAL];
+    private byte[] edades = new byte[CAPACIDAD_INICIAL];
+    private int[] nombres = new int[CAPACIDAD_INICIAL];
+    private int[] apellidos = new int[CAPACIDAD_INICIAL];
+    private long[] versiones = new long[CAPACIDAD_INICIAL];
+    private long[] modificados = new long[CAPACIDAD_INICIAL];
+    private int filas;
+    private int eliminadas;
+
+    // ==================== ESCRITURA ====================
+
+    /**
+     * Reemplaza todo el contenido por las personas dadas.
+     */
+    public void cargar(Iterator<PersonaVista> personas) {
+        escritura.lock();
+        try {
+            filas = 0;
+            eliminadas = 0;
+            filasPorId.vaciar();
+            textos.vaciar();
+            while (personas.hasNext()) {
+                PersonaVista persona = personas.next();
+                escribir(ubicar(persona.id()), persona.nombre(), persona.apellido(),
+                        persona.sexo() != null ? Sexo.fromCodigo(persona.sexo()) : null,
+                        persona.edad(), persona.version(), persona.modificado());
+            }
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Agrega una persona nueva, o la reemplaza si ya existe.
+     */
+    public void guardar(Persona persona) {
+        escritura.lock();
+        try {
+            escribir(ubicar(persona.getId()), persona);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Reemplaza una persona existente, salvo que la tabla ya tenga una
+     * versión igual o más nueva (los cambios pueden llegar desordenados
+     * desde transacciones concurrentes). Si ya no existe, no hace nada:
+     * una actualización nunca revive una persona eliminada.
+     */
+    public void actualizar(Persona persona) {
+        escritura.lock();
+        try {
+            int fila = filasPorId.obtener(persona.getId());
+            if (fila == MapaIdSlot.AUSENTE) {
+                return;
+            }
+            if (persona.getVersion() != null && versiones[fila] != SIN_VALOR
+                    && versiones[fila] >= persona.getVersion()) {
+                return;
+            }
+            escribir(fila, persona);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    public boolean eliminar(long id) {
+        escritura.lock();
+        try {
+            int fila = filasPorId.obtener(id);
+            if (fila == MapaIdSlot.AUSENTE) {
+                return false;
+            }
+            filasPorId.quitar(id);
+            textos.liberar(nombres[fila]);
+            textos.liberar(apellidos[fila]);
+            nombres[fila] = ELIMINADA;
+            eliminadas++;
+            if (eliminadas > CAPACIDAD_INICIAL && eliminadas * 4 > filas) {
+                compactar();
+            }
+            return true;
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    // ==================== LECTURA ====================
+
+    public <T> T buscar(long id, Forma<T> forma) {
+        lectura.lock();
+        try {
+            int fila = filasPorId.obtener(id);
+            return fila == MapaIdSlot.AUSENTE ? null : forma.leer(this, fila);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * @return las personas que existen, en el orden de los IDs pedidos
+     */
+    public <T> List<T> buscar(Collection<Long> ids, Forma<T> forma) {
+        List<T> personas = new ArrayList<>(ids.size());
+        lectura.lock();
+        try {
+            for (Long id : ids) {
+                int fila = filasPorId.obtener(id);
+                if (fila != MapaIdSlot.AUSENTE) {
+                    personas.add(forma.leer(this, fila));
+                }
+            }
+        } finally {
+            lectura.unlock();
+        }
+        return personas;
+    }
+
+    /**
+     * Paginación keyset: búsqueda binaria del cursor y recorrido en orden.
+     */
+    public <T> List<T> pagina(Long despuesDeId, int limite, Forma<T> forma) {
+        List<T> pagina = new ArrayList<>(Math.min(limite, 1024));
+        lectura.lock();
+        try {
+            int fila = 0;
+            if (despuesDeId != null) {
+                int posicion = Arrays.binarySearch(ids, 0, filas, despuesDeId);
+                fila = posicion >= 0 ? posicion + 1 : -posicion - 1;
+            }
+            for (; fila < filas && pagina.size() < limite; fila++) {
+                if (nombres[fila] != ELIMINADA) {
+                    pagina.add(forma.leer(this, fila));
+                }
+            }
+        } finally {
+            lectura.unlock();
+        }
+        return pagina;
+    }
+
+    /**
+     * Recorre la tabla por páginas keyset: el candado de lectura se toma
+     * por página, no durante todo el recorrido (un stream lento no frena
+     * las escrituras).
+     *
+     * @param id el ID de un elemento devuelto (cursor de la página siguiente)
+     */
+    public <T> Stream<T> recorrer(Forma<T> forma, Function<T, Long> id, int tamanioPagina) {
+        Iterator<T> iterador = new Iterator<>() {
+            private List<T> pagina = pagina(null, tamanioPagina, forma);
+            private int posicion;
+
+            @Override
+            public boolean hasNext() {
+                if (posicion < pagina.size()) {
+                    return true;
+                }
+                if (pagina.size() < tamanioPagina) {
+                    return false;
+                }
+                pagina = pagina(id.apply(pagina.get(pagina.size() - 1)), tamanioPagina, forma);
+                posicion = 0;
+                return !pagina.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return pagina.get(posicion++);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterador,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * @param sexo el sexo, o null para todas
+     */
+    public <T> List<T> todas(Sexo sexo, Forma<T> forma) {
+        lectura.lock();
+        try {
+            List<T> personas = new ArrayList<>(filas - eliminadas);
+            for (int fila = 0; fila < filas; fila++) {
+                if (nombres[fila] != ELIMINADA && (sexo == null || sexos[fila] == sexo.ordinal())) {
+                    personas.add(forma.leer(this, fila));
+                }
+            }
+            return personas;
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Misma semántica que PersonaJpaRepository.buscarPorFiltro(): prefijos
+     * (distingue mayúsculas), rango de edad inclusivo, sexo, orden con el ID
+     * como desempate ascendente y límite.
+     *
+     * Los prefijos se evalúan una vez sobre el diccionario; las filas solo
+     * comparan códigos y bytes.
+     */
+    public <T> List<T> filtrar(FiltroPersona filtro, Forma<T> forma) {
+        lectura.lock();
+        try {
+            BitSet nombresValidos = filtro.getPrefijoNombre() != null
+                    ? textos.conPrefijo(filtro.getPrefijoNombre()) : null;
+            BitSet apellidosValidos = filtro.getPrefijoApellido() != null
+                    ? textos.conPrefijo(filtro.getPrefijoApellido()) : null;
+            int sexo = filtro.getSexo() != null ? filtro.getSexo().ordinal() : SIN_SEXO;
+            int edadMinima = filtro.getEdadMinima() != null ? filtro.getEdadMinima() : Integer.MIN_VALUE;
+            int edadMaxima = filtro.getEdadMaxima() != null ? filtro.getEdadMaxima() : Integer.MAX_VALUE;
+            boolean porEdad = filtro.getEdadMinima() != null || filtro.getEdadMaxima() != null;
+
+            int[] coincidencias = new int[64];
+            int cantidad = 0;
+            for (int fila = 0; fila < filas; fila++) {
+                int nombre = nombres[fila];
+                if (nombre == ELIMINADA
+                        || (sexo != SIN_SEXO && sexos[fila] != sexo)
+                        || (nombresValidos != null && (nombre < 0 || !nombresValidos.get(nombre)))
+                        || (apellidosValidos != null && (apellidos[fila] < 0 || !apellidosValidos.get(apellidos[fila])))) {
+                    continue;
+                }
+                if (porEdad) {
+                    int edad = edades[fila] & 0xFF;
+                    if (edad == SIN_EDAD || edad < edadMinima || edad > edadMaxima) {
+                        continue;
+                    }
+                }
+                if (cantidad == coincidencias.length) {
+                    coincidencias = Arrays.copyOf(coincidencias, cantidad * 2);
+                }
+                coincidencias[cantidad++] = fila;
+            }
+
+            int[] ordenadas = ordenar(coincidencias, cantidad, filtro.getOrden(), filtro.isDescendente());
+            int limite = Math.min(filtro.getLimite(), cantidad);
+            List<T> personas = new ArrayList<>(limite);
+            for (int i = 0; i < limite; i++) {
+                personas.add(forma.leer(this, ordenadas[i]));
+            }
+            return personas;
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Búsqueda por nombre sin índice: cada palabra (plegada, ver TextoPlegado)
+     * debe estar contenida en el nombre o en el apellido. Sin ranking: en
+     * orden de ID hasta el límite.
+     *
+     * Como en filtrar(), las palabras se evalúan sobre el diccionario y las
+     * filas solo comparan códigos.
+     */
+    public <T> List<T> buscarPorNombre(String texto, int limite, Forma<T> forma) {
+        List<String> palabras = TextoPlegado.palabras(texto);
+        if (palabras.isEmpty()) {
+            return List.of();
+        }
+        List<T> personas = new ArrayList<>(Math.min(limite, 64));
+        lectura.lock();
+        try {
+            BitSet[] validos = new BitSet[palabras.size()];
+            for (int i = 0; i < validos.length; i++) {
+                validos[i] = textos.contienen(palabras.get(i));
+            }
+            for (int fila = 0; fila < filas && personas.size() < limite; fila++) {
+                if (nombres[fila] != ELIMINADA && contieneTodas(validos, nombres[fila], apellidos[fila])) {
+                    personas.add(forma.leer(this, fila));
+                }
+            }
+        } finally {
+            lectura.unlock();
+        }
+        return personas;
+    }
+
+    /**
+     * Cantidad por (sexo, edad) en una pasada, igual que el GROUP BY del adaptador JPA.
+     */
+    public EstadisticasPersonas estadisticas() {
+        long[][] grupos = new long[SEXOS.length + 1][SIN_EDAD + 1];
+        lectura.lock();
+        try {
+            for (int fila = 0; fila < filas; fila++) {
+                if (nombres[fila] != ELIMINADA) {
+                    grupos[sexos[fila] + 1][edades[fila] & 0xFF]++;
+                }
+            }
+        } finally {
+            lectura.unlock();
+        }
+
+        ContadoresPersona contadores = new ContadoresPersona();
+        for (int sexo = 0; sexo < grupos.length; sexo++) {
+            for (int edad = 0; edad <= SIN_EDAD; edad++) {
+                if (grupos[sexo][edad] > 0) {
+                    contadores.sumar(sexo > 0 ? SEXOS[sexo - 1] : null, edad != SIN_EDAD ? edad : null,
+                            grupos[sexo][edad]);
+                }
+            }
+        }
+        return contadores.instantanea();
+    }
+
+    public int cantidad() {
+        lectura.lock();
+        try {
+            return filas - eliminadas;
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Memoria ocupada (columnas con su capacidad, mapa y diccionario), en bytes.
+     */
+    public long bytes() {
+        lectura.lock();
+        try {
+            long porFila = Long.BYTES + 1 + 1 + Integer.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES;
+            return ids.length * porFila + filasPorId.bytes() + textos.bytes();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    // ==================== INTERNOS ====================
+
+    private PersonaVista vista(int fila) {
+        int edad = edades[fila] & 0xFF;
+        return new PersonaVista(ids[fila], textos.valor(nombres[fila]), textos.valor(apellidos[fila]),
+                edad != SIN_EDAD ? edad : null,
+                sexos[fila] != SIN_SEXO ? SEXOS[sexos[fila]].getCodigo() : null,
+                versiones[fila] != SIN_VALOR ? versiones[fila] : null,
+                instante(modificados[fila]));
+    }
+
+    private Persona persona(int fila) {
+        int edad = edades[fila] & 0xFF;
+        Persona persona = new Persona(ids[fila], textos.valor(nombres[fila]), textos.valor(apellidos[fila]),
+                sexos[fila] != SIN_SEXO ? SEXOS[sexos[fila]] : null,
+                edad != SIN_EDAD ? edad : null);
+        persona.setVersion(versiones[fila] != SIN_VALOR ? versiones[fila] : null);
+        persona.setModificado(instante(modificados[fila]));
+        return persona;
+    }
+
+    /**
+     * Fila para el ID: la existente, una marcada como eliminada con ese ID,
+     * o una nueva en su posición (al final si el ID es el mayor).
+     */
+    private int ubicar(long id) {
+        int fila = filasPorId.obtener(id);
+        if (fila != MapaIdSlot.AUSENTE) {
+            return fila;
+        }
+
+        int posicion = filas == 0 || id > ids[filas - 1]
+                ? -filas - 1
+                : Arrays.binarySearch(ids, 0, filas, id);
+        if (posicion >= 0) {
+            // Misma fila de una persona eliminada con este ID
+            eliminadas--;
+            filasPorId.poner(id, posicion);
+            return posicion;
+        }
+
+        int nueva = -posicion - 1;
+        if (filas == ids.length) {
+            crecer();
+        }
+        if (nueva < filas) {
+            correr(nueva);
+        }
+        ids[nueva] = id;
+        // todavía sin textos: escribir() no libera los códigos viejos que quedaron en la fila
+        nombres[nueva] = ELIMINADA;
+        filas++;
+        filasPorId.poner(id, nueva);
+        return nueva;
+    }
+
+    private void escribir(int fila, Persona persona) {
+        escribir(fila, persona.getNombre(), persona.getApellido(), persona.getSexo(), persona.getEdad(),
+                persona.getVersion(), persona.getModificado());
+    }
+
+    private void escribir(int fila, String nombre, String apellido, Sexo sexo, Integer edad,
+                          Long version, Instant modificado) {
+        if (edad != null && (edad < 0 || edad >= SIN_EDAD)) {
+            throw new IllegalArgumentException("Edad fuera del rango de la tabla columnar: " + edad);
+        }
+        int nombreAnterior = nombres[fila];
+        int apellidoAnterior = apellidos[fila];
+        nombres[fila] = textos.codificar(nombre);
+        apellidos[fila] = textos.codificar(apellido);
+        // se libera después de codificar: si el texto no cambió, el código no pasa por 0
+        if (nombreAnterior != ELIMINADA) {
+            textos.liberar(nombreAnterior);
+            textos.liberar(apellidoAnterior);
+        }
+        sexos[fila] = sexo != null ? (byte) sexo.ordinal() : SIN_SEXO;
+        edades[fila] = (byte) (edad != null ? edad : SIN_EDAD);
+        versiones[fila] = version != null ? version : SIN_VALOR;
+        modificados[fila] = modificado != null
+                ? Math.addExact(Math.multiplyExact(modificado.getEpochSecond(), NANOS_POR_SEGUNDO), modificado.getNano())
+                : SIN_VALOR;
+    }
+
+    private static boolean contieneTodas(BitSet[] validos, int nombre, int apellido) {
+        for (BitSet valido : validos) {
+            if ((nombre < 0 || !valido.get(nombre)) && (apellido < 0 || !valido.get(apellido))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Instant instante(long nanos) {
+        return nanos != SIN_VALOR
+                ? Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_POR_SEGUNDO), Math.floorMod(nanos, NANOS_POR_SEGUNDO))
+                : null;
+    }
+
+    // Abre un lugar en "posicion" corriendo una fila todas las siguientes (ID fuera de orden)
+    private void correr(int posicion) {
+        int cantidad = filas - posicion;
+        System.arraycopy(ids, posicion, ids, posicion + 1, cantidad);
+        System.arraycopy(sexos, posicion, sexos, posicion + 1, cantidad);
+        System.arraycopy(edades, posicion, edades, posicion + 1, cantidad);
+        System.arraycopy(nombres, posicion, nombres, posicion + 1, cantidad);
+        System.arraycopy(apellidos, posicion, apellidos, posicion + 1, cantidad);
+        System.arraycopy(versiones, posicion, versiones, posicion + 1, cantidad);
+        System.arraycopy(modificados, posicion, modificados, posicion + 1, cantidad);
+        for (int fila = posicion + 1; fila <= filas; fila++) {
+            if (nombres[fila] != ELIMINADA) {
+                filasPorId.poner(ids[fila], fila);
+            }
+        }
+    }
+
+    // Quita las filas marcadas conservando el orden y rehace el mapa
+    private void compactar() {
+        int destino = 0;
+        filasPorId.vaciar();
+        for (int origen = 0; origen < filas; origen++) {
+            if (nombres[origen] == ELIMINADA) {
+                continue;
+            }
+            ids[destino] = ids[origen];
+            sexos[destino] = sexos[origen];
+            edades[destino] = edades[origen];
+            nombres[destino] = nombres[origen];
+            apellidos[destino] = apellidos[origen];
+            versiones[destino] = versiones[origen];
+            modificados[destino] = modificados[origen];
+            filasPorId.poner(ids[destino], destino);
+            destino++;
+        }
+        filas = destino;
+        eliminadas = 0;
+    }
+
+    // Crece un 50%: menos memoria sobrante que duplicar con millones de filas
+    private void crecer() {
+        int capacidad = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, capacidad);
+        sexos = Arrays.copyOf(sexos, capacidad);
+        edades = Arrays.copyOf(edades, capacidad);
+        nombres = Arrays.copyOf(nombres, capacidad);
+        apellidos = Arrays.copyOf(apellidos, capacidad);
+        versiones = Arrays.copyOf(versiones, capacidad);
+        modificados = Arrays.copyOf(modificados, capacidad);
+    }
+
+    /**
+     * Ordena las filas por el campo pedido, con la fila (= ID) como desempate
+     * ascendente. Cada fila se codifica en un long: clave en los 32 bits altos,
+     * fila en los bajos, y se ordena el arreglo de primitivos.
+     */
+    private int[] ordenar(int[] coincidencias, int cantidad, FiltroPersona.Orden orden, boolean descendente) {
+        if (orden == FiltroPersona.Orden.ID) {
+            int[] ordenadas = Arrays.copyOf(coincidencias, cantidad);
+            if (descendente) {
+                for (int i = 0, j = cantidad - 1; i < j; i++, j--) {
+                    int fila = ordenadas[i];
+                    ordenadas[i] = ordenadas[j];
+                    ordenadas[j] = fila;
+                }
+            }
+            return ordenadas;
+        }
+
+        int[] rangos = orden == FiltroPersona.Orden.EDAD ? null : textos.rangos();
+        long[] claves = new long[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            int fila = coincidencias[i];
+            int clave = switch (orden) {
+                case NOMBRE -> nombres[fila] >= 0 ? rangos[nombres[fila]] : -1;
+                case APELLIDO -> apellidos[fila] >= 0 ? rangos[apellidos[fila]] : -1;
+                default -> (edades[fila] & 0xFF) != SIN_EDAD ? edades[fila] & 0xFF : -1;
+            };
+            claves[i] = ((long) (descendente ? -clave : clave) << 32) | fila;
+        }
+        Arrays.sort(claves);
+
+        int[] ordenadas = new int[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            ordenadas[i] = (int) claves[i];
+        }
+        return ordenadas;
+    }
+}
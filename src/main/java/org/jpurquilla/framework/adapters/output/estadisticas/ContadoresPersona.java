@@ -0,0 +1,86 @@
+package org.jpurquilla.framework.adapters.output.estadisticas;
+
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.domain.vo.RangoEdad;
+import org.jpurquilla.domain.vo.Sexo;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contadores demográficos en memoria (seguros entre hilos).
+ *
+ * Cada persona suma 1 a su sexo, 1 a su rango de edad y su edad a la suma.
+ * Leer los totales es O(1): no depende del tamaño de la tabla.
+ */
+public class ContadoresPersona {
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sumaEdades = new AtomicLong();
+    private final AtomicLongArray porSexo = new AtomicLongArray(Sexo.values().length);
+    private final AtomicLongArray porRangoEdad = new AtomicLongArray(RangoEdad.values().length);
+
+    /**
+     * Suma (o resta, con cantidad negativa) personas con ese sexo y edad.
+     *
+     * @param sexo el sexo
+     * @param edad la edad
+     * @param cantidad cuántas personas: 1 al crear, -1 al eliminar, N al reconciliar
+     */
+    public void sumar(Sexo sexo, Integer edad, long cantidad) {
+        total.addAndGet(cantidad);
+        if (sexo != null) {
+            porSexo.addAndGet(sexo.ordinal(), cantidad);
+        }
+        if (edad != null) {
+            sumaEdades.addAndGet(cantidad * edad);
+            porRangoEdad.addAndGet(RangoEdad.de(edad).ordinal(), cantidad);
+        }
+    }
+
+    /**
+     * Suma a cada contador la diferencia (hasta - desde), contador por contador.
+     * A diferencia de reemplazar los contadores, no pisa los cambios que otros
+     * hilos suman mientras tanto.
+     *
+     * @return true si había alguna diferencia
+     */
+    public boolean ajustar(EstadisticasPersonas desde, EstadisticasPersonas hasta) {
+        if (desde.equals(hasta)) {
+            return false;
+        }
+        total.addAndGet(hasta.total() - desde.total());
+        sumaEdades.addAndGet(hasta.sumaEdades() - desde.sumaEdades());
+        for (Sexo sexo : Sexo.values()) {
+            porSexo.addAndGet(sexo.ordinal(),
+                    hasta.porSexo().getOrDefault(sexo, 0L) - desde.porSexo().getOrDefault(sexo, 0L));
+        }
+        for (RangoEdad rango : RangoEdad.values()) {
+            porRangoEdad.addAndGet(rango.ordinal(),
+                    hasta.porRangoEdad().getOrDefault(rango, 0L) - desde.porRangoEdad().getOrDefault(rango, 0L));
+        }
+        return true;
+    }
+
+    public long total() {
+        return total.get();
+    }
+
+    /**
+     * Copia de los totales actuales.
+     * Cada contador es exacto, pero la copia no es atómica entre contadores
+     * (una escritura concurrente puede verse en unos y no en otros).
+     */
+    public EstadisticasPersonas instantanea() {
+        Map<Sexo, Long> sexos = new EnumMap<>(Sexo.class);
+        for (Sexo sexo : Sexo.values()) {
+            sexos.put(sexo, porSexo.get(sexo.ordinal()));
+        }
+        Map<RangoEdad, Long> rangos = new EnumMap<>(RangoEdad.class);
+        for (RangoEdad rango : RangoEdad.values()) {
+            rangos.put(rango, porRangoEdad.get(rango.ordinal()));
+        }
+        return new EstadisticasPersonas(total.get(), sumaEdades.get(), sexos, rangos);
+    }
+}
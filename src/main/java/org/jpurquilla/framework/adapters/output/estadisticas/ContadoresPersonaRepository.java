@@ -0,0 +1,276 @@
+package org.jpurquilla.framework.adapters.output.estadisticas;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.jboss.logging.Logger;
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaActualizada;
+import org.jpurquilla.application.port.output.PersonaRepository;
+import org.jpurquilla.application.port.output.PersonaVista;
+import org.jpurquilla.application.port.output.VersionColeccion;
+import org.jpurquilla.application.port.output.VersionesPersonas;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * ADAPTADOR DE SALIDA (decorador): ContadoresPersonaRepository
+ *
+ * Envuelve otro PersonaRepository y mantiene los totales demográficos
+ * en memoria (ContadoresPersona), así estadisticasDemograficas() y count() son O(1).
+ *
+ * MANTENIMIENTO INCREMENTAL:
+ * - save/saveAll suman las personas creadas
+ * - update resta la fila anterior y suma la nueva
+ * - deleteById(AndVersion) resta la fila eliminada
+ * La fila anterior la devuelve el delegado junto con el cambio, leída con la
+ * fila bloqueada (PersonaActualizada, Optional<PersonaVista>): no se lee antes.
+ * Los cambios se aplican al confirmar la transacción (un rollback no cuenta).
+ *
+ * RECONCILIACIÓN:
+ * reconciliar() recalcula los totales en la BD (GROUP BY) y suma a cada
+ * contador la diferencia con lo que había en memoria (no los reemplaza:
+ * un cambio confirmado mientras tanto no se pierde). Corrige lo que el
+ * mantenimiento incremental no ve: cambios hechos fuera de la aplicación.
+ *
+ * VERSIÓN DE LAS COLECCIONES (VersionesPersonas, para los ETag):
+ * - Un contador de cambios por sexo y uno total, que suben al confirmar
+ *   cada escritura (igual que los totales): leer la versión es O(1)
+ * - "origen" es aleatorio en cada arranque: un ETag de otro proceso no coincide
+ * - Las escrituras de otros nodos o hechas fuera de la aplicación no suben
+ *   el contador hasta que reconciliar() encuentra un desvío en los totales
+ *   (entonces sube todos); un cambio que no altera los totales (p. ej. un
+ *   nombre) no se ve. Con varios nodos, el ETag de colección es por nodo.
+ */
+public class ContadoresPersonaRepository implements PersonaRepository, VersionesPersonas {
+    private static final Logger LOG = Logger.getLogger(ContadoresPersonaRepository.class);
+    private static final int INTENTOS_RECONCILIACION = 3;
+
+    private final PersonaRepository delegado;
+    private final TransactionSynchronizationRegistry transacciones;
+    private final ContadoresPersona contadores = new ContadoresPersona();
+    private final long origen = ThreadLocalRandom.current().nextLong();
+    // cambios confirmados: uno por sexo (por ordinal) y el total en la última posición
+    private final AtomicLongArray cambios = new AtomicLongArray(Sexo.values().length + 1);
+
+    public ContadoresPersonaRepository(PersonaRepository delegado,
+                                       TransactionSynchronizationRegistry transacciones) {
+        this.delegado = delegado;
+        this.transacciones = transacciones;
+    }
+
+    /**
+     * Recalcula los totales en la BD y ajusta los contadores por la diferencia.
+     * Necesita una sesión de BD (transacción o contexto de petición).
+     *
+     * La diferencia se calcula contra una copia tomada antes de la consulta;
+     * si la copia cambió mientras tanto (se aplicó un commit), se vuelve a
+     * intentar, así ese cambio no se cuenta dos veces.
+     */
+    public void reconciliar() {
+        for (int intento = 1; ; intento++) {
+            EstadisticasPersonas antes = contadores.instantanea();
+            EstadisticasPersonas reales = delegado.estadisticasDemograficas();
+            if (!antes.equals(contadores.instantanea()) && intento < INTENTOS_RECONCILIACION) {
+                continue;
+            }
+            if (contadores.ajustar(antes, reales)) {
+                cambio(Sexo.values());
+                LOG.infof("Contadores de personas reconciliados: total en memoria desviado en %d",
+                        antes.total() - reales.total());
+            }
+            return;
+        }
+    }
+
+    @Override
+    public Persona save(Persona persona) {
+        Persona guardada = delegado.save(persona);
+        alConfirmar(() -> {
+            sumar(guardada, 1);
+            cambio(guardada.getSexo());
+        });
+        return guardada;
+    }
+
+    @Override
+    public List<Persona> saveAll(List<Persona> personas) {
+        List<Persona> guardadas = delegado.saveAll(personas);
+        alConfirmar(() -> guardadas.forEach(guardada -> {
+            sumar(guardada, 1);
+            cambio(guardada.getSexo());
+        }));
+        return guardadas;
+    }
+
+    @Override
+    public Optional<Persona> findById(Long id) {
+        return delegado.findById(id);
+    }
+
+    @Override
+    public List<Persona> findAllById(Collection<Long> ids) {
+        return delegado.findAllById(ids);
+    }
+
+    @Override
+    public Optional<PersonaActualizada> update(Persona persona) {
+        Optional<PersonaActualizada> actualizada = delegado.update(persona);
+        actualizada.ifPresent(actualizacion -> alConfirmar(() -> {
+            restar(actualizacion.anterior());
+            sumar(actualizacion.persona(), 1);
+            cambio(Sexo.fromCodigo(actualizacion.anterior().sexo()), actualizacion.persona().getSexo());
+        }));
+        return actualizada;
+    }
+
+    @Override
+    public List<Persona> findAll() {
+        return delegado.findAll();
+    }
+
+    @Override
+    public List<Persona> findPage(Long despuesDeId, int limite) {
+        return delegado.findPage(despuesDeId, limite);
+    }
+
+    @Override
+    public Stream<Persona> streamAll() {
+        return delegado.streamAll();
+    }
+
+    @Override
+    public List<Persona> findBySexo(Sexo sexo) {
+        return delegado.findBySexo(sexo);
+    }
+
+    @Override
+    public List<Persona> findByFiltro(FiltroPersona filtro) {
+        return delegado.findByFiltro(filtro);
+    }
+
+    @Override
+    public Optional<PersonaVista> findVistaById(Long id) {
+        return delegado.findVistaById(id);
+    }
+
+    @Override
+    public List<PersonaVista> findVistasById(Collection<Long> ids) {
+        return delegado.findVistasById(ids);
+    }
+
+    @Override
+    public List<PersonaVista> findVistaPage(Long despuesDeId, int limite) {
+        return delegado.findVistaPage(despuesDeId, limite);
+    }
+
+    @Override
+    public Stream<PersonaVista> streamVistas() {
+        return delegado.streamVistas();
+    }
+
+    @Override
+    public List<PersonaVista> findVistasBySexo(Sexo sexo) {
+        return delegado.findVistasBySexo(sexo);
+    }
+
+    @Override
+    public List<PersonaVista> findVistasByNombre(String texto, int limite) {
+        return delegado.findVistasByNombre(texto, limite);
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteById(Long id) {
+        Optional<PersonaVista> eliminada = delegado.deleteById(id);
+        eliminada.ifPresent(anterior -> alConfirmar(() -> {
+            restar(anterior);
+            cambio(Sexo.fromCodigo(anterior.sexo()));
+        }));
+        return eliminada;
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteByIdAndVersion(Long id, Long version) {
+        Optional<PersonaVista> eliminada = delegado.deleteByIdAndVersion(id, version);
+        eliminada.ifPresent(anterior -> alConfirmar(() -> {
+            restar(anterior);
+            cambio(Sexo.fromCodigo(anterior.sexo()));
+        }));
+        return eliminada;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegado.existsById(id);
+    }
+
+    /**
+     * Versión desde los contadores de cambios en memoria (O(1)).
+     */
+    @Override
+    public VersionColeccion versionColeccion(Sexo sexo) {
+        return new VersionColeccion(origen, cambios.get(sexo != null ? sexo.ordinal() : Sexo.values().length));
+    }
+
+    /**
+     * Totales desde los contadores en memoria (O(1)).
+     */
+    @Override
+    public EstadisticasPersonas estadisticasDemograficas() {
+        return contadores.instantanea();
+    }
+
+    /**
+     * Total desde los contadores en memoria (O(1)).
+     */
+    @Override
+    public long count() {
+        return contadores.total();
+    }
+
+    private void sumar(Persona persona, long cantidad) {
+        contadores.sumar(persona.getSexo(), persona.getEdad(), cantidad);
+    }
+
+    private void restar(PersonaVista persona) {
+        contadores.sumar(Sexo.fromCodigo(persona.sexo()), persona.edad(), -1);
+    }
+
+    // Sube la versión de las colecciones de esos sexos (y la total, una vez)
+    private void cambio(Sexo... sexos) {
+        for (Sexo sexo : sexos) {
+            if (sexo != null) {
+                cambios.incrementAndGet(sexo.ordinal());
+            }
+        }
+        cambios.incrementAndGet(Sexo.values().length);
+    }
+
+    // Aplica el cambio al confirmar la transacción activa, o en el momento si no hay
+    private void alConfirmar(Runnable cambio) {
+        if (transacciones == null || transacciones.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            cambio.run();
+            return;
+        }
+        transacciones.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    cambio.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package org.jpurquilla.framework.adapters.output.eventos;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Fila del outbox de eventos de personas.
+ *
+ * El ID (posicion) es el offset del evento, de la secuencia persona_eventos_seq.
+ * No se llama "offset" porque es palabra reservada en SQL/HQL.
+ * Los datos de la persona van en columnas, no como JSON: el outbox
+ * no depende del formato que use cada consumidor.
+ * Índice en ocurrido: para borrar los eventos vencidos.
+ */
+@Entity
+@Table(name = "persona_eventos", indexes = {
+        @Index(name = "idx_persona_eventos_ocurrido", columnList = "ocurrido")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoPersonaJpaEntity {
+    /**
+     * allocationSize = 1: cada offset se pide a la BD en el momento del INSERT.
+     * Con un pool (como en personas) cada nodo reservaría un bloque y los
+     * offsets dejarían de crecer en el orden en que se generan los eventos.
+     * Los huecos que deja un rollback los resuelve PersonaEventosAdapter al leer.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "persona_eventos_seq")
+    @SequenceGenerator(name = "persona_eventos_seq", sequenceName = "persona_eventos_seq", allocationSize = 1)
+    private Long posicion;
+    private String tipo;
+    private Long personaId;
+    private Instant ocurrido;
+
+    // Estado de la persona después del cambio (null si fue eliminada)
+    private String nombre;
+    private String apellido;
+    private Integer edad;
+    private String sexo;
+    private Long version;
+    private Instant modificado;
+}
@@ -0,0 +1,28 @@
+package org.jpurquilla.framework.adapters.output.eventos;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Instant;
+import java.util.List;
+
+@ApplicationScoped
+public class EventoPersonaJpaRepository implements PanacheRepositoryBase<EventoPersonaJpaEntity, Long> {
+
+    /**
+     * "WHERE posicion > ?1 ORDER BY posicion LIMIT n" sobre la PK.
+     */
+    public List<EventoPersonaJpaEntity> buscarDespuesDe(long offset, int limite) {
+        return find("posicion > ?1", Sort.by("posicion"), offset).range(0, limite - 1).list();
+    }
+
+    /**
+     * Borra los eventos generados antes de un instante.
+     *
+     * @return eventos borrados
+     */
+    public long eliminarAnterioresA(Instant limite) {
+        return delete("ocurrido < ?1", limite);
+    }
+}
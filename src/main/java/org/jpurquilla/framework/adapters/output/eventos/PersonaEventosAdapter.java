@@ -0,0 +1,95 @@
+package org.jpurquilla.framework.adapters.output.eventos;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.PersonaEventos;
+import org.jpurquilla.application.port.output.PersonaVista;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ADAPTADOR DE SALIDA: PersonaEventosAdapter
+ *
+ * Implementa PersonaEventos con un outbox transaccional (tabla persona_eventos).
+ *
+ * PUBLICAR:
+ * Inserta los eventos en la transacción del cambio; el offset sale de la
+ * secuencia persona_eventos_seq. No hay bloqueo compartido: dos transacciones
+ * que publican eventos se confirman en paralelo.
+ *
+ * LEER:
+ * Solo ve eventos confirmados, en orden de offset. Como el offset se asigna
+ * al insertar y no al confirmar, un offset menor puede confirmarse DESPUÉS
+ * de uno mayor, o no confirmarse nunca (rollback). Por eso la lectura se
+ * corta en el primer hueco: el consumidor no avanza más allá de un offset
+ * que todavía puede aparecer. Un hueco se saltea cuando el evento que le
+ * sigue es más viejo que el timeout de transacción: para entonces la
+ * transacción que tenía ese offset ya confirmó o se revirtió.
+ */
+@ApplicationScoped
+public class PersonaEventosAdapter implements PersonaEventos {
+    private final EventoPersonaJpaRepository eventoRepository;
+    private final Duration esperaHuecos;
+
+    public PersonaEventosAdapter(EventoPersonaJpaRepository eventoRepository,
+                                 @ConfigProperty(name = "quarkus.transaction-manager.default-transaction-timeout", defaultValue = "60s") Duration esperaHuecos) {
+        this.eventoRepository = eventoRepository;
+        this.esperaHuecos = esperaHuecos;
+    }
+
+    @Override
+    public void publicar(EventoPersona evento) {
+        publicarTodos(List.of(evento));
+    }
+
+    @Override
+    public void publicarTodos(List<EventoPersona> eventos) {
+        for (EventoPersona evento : eventos) {
+            eventoRepository.persist(toJpaEntity(evento));
+        }
+    }
+
+    @Override
+    public List<EventoPersona> leerDesde(long despuesDeOffset, int limite) {
+        Instant huecosResueltos = Instant.now().minus(esperaHuecos);
+        List<EventoPersona> eventos = new ArrayList<>();
+        long anterior = despuesDeOffset;
+        for (EventoPersonaJpaEntity entidad : eventoRepository.buscarDespuesDe(despuesDeOffset, limite)) {
+            if (entidad.getPosicion() != anterior + 1 && entidad.getOcurrido().isAfter(huecosResueltos)) {
+                break;
+            }
+            eventos.add(toEvento(entidad));
+            anterior = entidad.getPosicion();
+        }
+        return eventos;
+    }
+
+    private static EventoPersonaJpaEntity toJpaEntity(EventoPersona evento) {
+        EventoPersonaJpaEntity entidad = new EventoPersonaJpaEntity();
+        entidad.setTipo(evento.tipo().name());
+        entidad.setPersonaId(evento.personaId());
+        entidad.setOcurrido(evento.ocurrido());
+        PersonaVista persona = evento.persona();
+        if (persona != null) {
+            entidad.setNombre(persona.nombre());
+            entidad.setApellido(persona.apellido());
+            entidad.setEdad(persona.edad());
+            entidad.setSexo(persona.sexo());
+            entidad.setVersion(persona.version());
+            entidad.setModificado(persona.modificado());
+        }
+        return entidad;
+    }
+
+    private static EventoPersona toEvento(EventoPersonaJpaEntity entidad) {
+        PersonaVista persona = entidad.getNombre() == null ? null
+                : new PersonaVista(entidad.getPersonaId(), entidad.getNombre(), entidad.getApellido(),
+                entidad.getEdad(), entidad.getSexo(), entidad.getVersion(), entidad.getModificado());
+        return new EventoPersona(entidad.getPosicion(), EventoPersona.Tipo.valueOf(entidad.getTipo()),
+                entidad.getPersonaId(), entidad.getOcurrido(), persona);
+    }
+}
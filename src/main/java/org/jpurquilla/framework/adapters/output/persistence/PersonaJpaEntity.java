@@ -7,18 +7,55 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
+
+/**
+ * Índices para GET /persona/buscar:
+ * - nombre / apellido: búsqueda por prefijo (LIKE 'abc%')
+ * - sexo + edad: filtro por sexo con o sin rango de edad (y findBySexo)
+ * - edad: rango de edad sin sexo
+ */
 @Entity
-@Table(name = "personas")
+@Table(name = "personas", indexes = {
+        @Index(name = "idx_personas_nombre", columnList = "nombre"),
+        @Index(name = "idx_personas_apellido", columnList = "apellido"),
+        @Index(name = "idx_personas_sexo_edad", columnList = "sexo, edad"),
+        @Index(name = "idx_personas_edad", columnList = "edad")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class PersonaJpaEntity {
+    /**
+     * Secuencia con pool de IDs (allocationSize): Hibernate reserva 50 IDs
+     * por viaje a la BD y puede agrupar los INSERT en batches JDBC.
+     * Con IDENTITY cada INSERT debía ejecutarse solo para conocer su ID.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "personas_seq")
+    @SequenceGenerator(name = "personas_seq", sequenceName = "personas_seq", allocationSize = 50)
     private Long id;
     private String nombre;
     private String apellido;
     private Integer edad;
     private String sexo;
+
+    /**
+     * Control de concurrencia optimista: Hibernate la pone en 0 al insertar.
+     * Los UPDATE masivos de PersonaJpaRepository la incrementan a mano
+     * (un UPDATE HQL no pasa por el versionado automático).
+     */
+    @Version
+    private Long version;
+
+    // Última modificación: se asigna al insertar y en cada UPDATE
+    private Instant modificado;
+
+    @PrePersist
+    void alInsertar() {
+        if (modificado == null) {
+            modificado = Instant.now();
+        }
+    }
 }
@@ -1,14 +1,308 @@
 package org.jpurquilla.framework.adapters.output.persistence;
 
-import org.jpurquilla.domain.entity.Persona;
+import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import org.hibernate.jpa.AvailableHints;
+import org.hibernate.query.NativeQuery;
+import org.jpurquilla.application.port.output.PersonaVista;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class PersonaJpaRepository implements PanacheRepositoryBase<PersonaJpaEntity,Long>{
+    // filas que el driver JDBC trae por cada viaje al recorrer en stream
+    private static final int FETCH_SIZE = 500;
+    private static final char ESCAPE = '\\';
+    // IDs por cada "IN (...)": acota el tamaño de la sentencia y la cantidad de parámetros
+    private static final int TAMANIO_IN = 500;
+
     public List<PersonaJpaEntity> buscarPersonasPorSexo (String sexo) {
         return list("sexo = ?1",sexo);
     }
+
+    /**
+     * PROYECCIONES: project(PersonaVista.class) genera
+     * "SELECT new PersonaVista(id, nombre, apellido, edad, sexo, version, modificado) ...".
+     * Hibernate no crea entities ni las registra en el contexto de persistencia
+     * (sin snapshot para dirty-checking), así que no hace falta detach.
+     */
+    public Optional<PersonaVista> buscarVistaPorId(Long id) {
+        return find("id = ?1", id).project(PersonaVista.class).firstResultOptional();
+    }
+
+    /**
+     * "WHERE id IN (...)" por tramos de TAMANIO_IN IDs.
+     * Con hibernate.query.in_clause_parameter_padding los tramos se rellenan
+     * a potencias de 2, así la BD reutiliza pocos planes distintos.
+     */
+    public List<PersonaJpaEntity> buscarPorIds(Collection<Long> ids) {
+        List<PersonaJpaEntity> personas = new ArrayList<>(ids.size());
+        for (List<Long> tramo : tramos(ids)) {
+            personas.addAll(list("id in ?1", tramo));
+        }
+        return personas;
+    }
+
+    public List<PersonaVista> buscarVistasPorIds(Collection<Long> ids) {
+        List<PersonaVista> personas = new ArrayList<>(ids.size());
+        for (List<Long> tramo : tramos(ids)) {
+            personas.addAll(find("id in ?1", tramo).project(PersonaVista.class).list());
+        }
+        return personas;
+    }
+
+    private static List<List<Long>> tramos(Collection<Long> ids) {
+        List<Long> lista = List.copyOf(ids);
+        List<List<Long>> tramos = new ArrayList<>((lista.size() + TAMANIO_IN - 1) / TAMANIO_IN);
+        for (int desde = 0; desde < lista.size(); desde += TAMANIO_IN) {
+            tramos.add(lista.subList(desde, Math.min(desde + TAMANIO_IN, lista.size())));
+        }
+        return tramos;
+    }
+
+    public List<PersonaVista> buscarVistasPorSexo(String sexo) {
+        return find("sexo = ?1", sexo).project(PersonaVista.class).list();
+    }
+
+    public List<PersonaVista> buscarPaginaVistasDespuesDe(Long despuesDeId, int limite) {
+        if (despuesDeId == null) {
+            return findAll(Sort.by("id")).project(PersonaVista.class).range(0, limite - 1).list();
+        }
+        return find("id > ?1", Sort.by("id"), despuesDeId).project(PersonaVista.class)
+                .range(0, limite - 1).list();
+    }
+
+    public Stream<PersonaVista> streamVistas() {
+        return findAll(Sort.by("id"))
+                .withHint(AvailableHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .project(PersonaVista.class)
+                .stream();
+    }
+
+    /**
+     * Búsqueda con filtros opcionales combinados con AND (Criteria API).
+     *
+     * Solo se agregan al WHERE los filtros presentes, así la BD puede usar
+     * el índice adecuado (ver @Table en PersonaJpaEntity). El prefijo se
+     * resuelve con LIKE 'prefijo%' escapando los comodines del usuario.
+     * El ID se agrega como desempate para que el orden sea estable.
+     */
+    public List<PersonaJpaEntity> buscarPorFiltro(String prefijoNombre, String prefijoApellido,
+                                                  Integer edadMinima, Integer edadMaxima, String sexo,
+                                                  String campoOrden, boolean descendente, int limite) {
+        CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
+        CriteriaQuery<PersonaJpaEntity> query = cb.createQuery(PersonaJpaEntity.class);
+        Root<PersonaJpaEntity> persona = query.from(PersonaJpaEntity.class);
+
+        List<Predicate> filtros = new ArrayList<>();
+        if (prefijoNombre != null) {
+            filtros.add(cb.like(persona.<String>get("nombre"), prefijoLike(prefijoNombre), ESCAPE));
+        }
+        if (prefijoApellido != null) {
+            filtros.add(cb.like(persona.<String>get("apellido"), prefijoLike(prefijoApellido), ESCAPE));
+        }
+        if (sexo != null) {
+            filtros.add(cb.equal(persona.get("sexo"), sexo));
+        }
+        if (edadMinima != null) {
+            filtros.add(cb.greaterThanOrEqualTo(persona.<Integer>get("edad"), edadMinima));
+        }
+        if (edadMaxima != null) {
+            filtros.add(cb.lessThanOrEqualTo(persona.<Integer>get("edad"), edadMaxima));
+        }
+
+        Path<Object> campo = persona.get(campoOrden);
+        query.select(persona)
+                .where(filtros.toArray(Predicate[]::new))
+                .orderBy(descendente ? cb.desc(campo) : cb.asc(campo), cb.asc(persona.get("id")));
+
+        return getEntityManager().createQuery(query)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    private static String prefijoLike(String prefijo) {
+        return escaparLike(prefijo) + "%";
+    }
+
+    /**
+     * Búsqueda por nombre sin índice: cada palabra debe estar contenida en
+     * lower(nombre) o lower(apellido), ordenado por ID.
+     *
+     * LIKE '%palabra%' no usa los índices de nombre/apellido (recorre la
+     * tabla) y no pliega acentos: es el respaldo cuando el índice de
+     * nombres está deshabilitado.
+     *
+     * @param palabras las palabras ya en minúsculas
+     */
+    public List<PersonaVista> buscarVistasPorPalabras(List<String> palabras, int limite) {
+        CriteriaBuilder cb = getEntityManager().getCriteriaBuilder();
+        CriteriaQuery<PersonaVista> query = cb.createQuery(PersonaVista.class);
+        Root<PersonaJpaEntity> persona = query.from(PersonaJpaEntity.class);
+
+        List<Predicate> filtros = new ArrayList<>();
+        for (String palabra : palabras) {
+            String contiene = "%" + escaparLike(palabra) + "%";
+            filtros.add(cb.or(
+                    cb.like(cb.lower(persona.get("nombre")), contiene, ESCAPE),
+                    cb.like(cb.lower(persona.get("apellido")), contiene, ESCAPE)));
+        }
+
+        query.select(cb.construct(PersonaVista.class, persona.get("id"), persona.get("nombre"),
+                        persona.get("apellido"), persona.get("edad"), persona.get("sexo"),
+                        persona.get("version"), persona.get("modificado")))
+                .where(filtros.toArray(Predicate[]::new))
+                .orderBy(cb.asc(persona.get("id")));
+
+        return getEntityManager().createQuery(query)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    private static String escaparLike(String texto) {
+        return texto.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    /**
+     * Cantidad de personas por (sexo, edad): GROUP BY sobre idx_personas_sexo_edad.
+     * Devuelve a lo sumo 2 x 151 filas, sin importar el tamaño de la tabla.
+     *
+     * @return filas [sexo (String), edad (Integer), cantidad (Long)]
+     */
+    public List<Object[]> contarPorSexoYEdad() {
+        return getEntityManager()
+                .createQuery("select p.sexo, p.edad, count(p) from PersonaJpaEntity p group by p.sexo, p.edad",
+                        Object[].class)
+                .getResultList();
+    }
+
+    /**
+     * UPDATE sin cargar la entity en el contexto de persistencia.
+     * Incrementa la versión y la fecha de modificación.
+     *
+     * Si la entidad trae versión, solo actualiza si la fila sigue en esa versión
+     * (concurrencia optimista en la misma condición).
+     *
+     * @return la fila como estaba antes (vacío si el ID no existe o la versión no coincide)
+     */
+    public Optional<PersonaVista> actualizar(PersonaJpaEntity entidad, Instant modificado) {
+        String update = "update personas set nombre = ?, apellido = ?, edad = ?, sexo = ?,"
+                + " version = version + 1, modificado = ? where ";
+        Object[] valores = {entidad.getNombre(), entidad.getApellido(), entidad.getEdad(), entidad.getSexo(), modificado};
+        if (entidad.getVersion() == null) {
+            return filaAnterior(update, valores, "id = ?", entidad.getId());
+        }
+        return filaAnterior(update, valores, "id = ? and version = ?", entidad.getId(), entidad.getVersion());
+    }
+
+    /**
+     * DELETE sin cargar la entity (deleteById de Panache la carga en el contexto).
+     *
+     * @return la fila eliminada, vacío si el ID no existe
+     */
+    public Optional<PersonaVista> eliminarPorId(Long id) {
+        return filaAnterior("delete from personas where ", new Object[0], "id = ?", id);
+    }
+
+    /**
+     * DELETE condicionado a la versión.
+     *
+     * @return la fila eliminada, vacío si el ID no existe o la versión no coincide
+     */
+    public Optional<PersonaVista> eliminarPorIdYVersion(Long id, Long version) {
+        return filaAnterior("delete from personas where ", new Object[0], "id = ? and version = ?", id, version);
+    }
+
+    /**
+     * Ejecuta un UPDATE/DELETE de a lo sumo una fila y devuelve esa fila como
+     * estaba ANTES. Así los decoradores (contadores, caché) no necesitan leerla.
+     *
+     * 1. SELECT ... WHERE <condición> FOR UPDATE: lee la fila y la bloquea
+     *    hasta el commit (H2, PostgreSQL, MySQL y Oracle lo aceptan igual)
+     * 2. UPDATE/DELETE ... WHERE <condición>: con la fila bloqueada, nadie
+     *    pudo cambiarla entre las dos sentencias
+     * Son dos viajes a la BD en vez de uno, pero sin SQL propio de un motor
+     * (como "OLD TABLE (...)" de H2 o "RETURNING" de PostgreSQL).
+     *
+     * addSynchronizedEntityClass hace que Hibernate vacíe antes los cambios
+     * pendientes de PersonaJpaEntity, igual que con un UPDATE/DELETE HQL.
+     *
+     * @param sentencia el UPDATE/DELETE hasta el WHERE
+     * @param valores los parámetros de la sentencia antes de la condición
+     * @param condicion la condición sobre personas (id y, si hay, versión)
+     * @param valoresCondicion los parámetros de la condición
+     */
+    private Optional<PersonaVista> filaAnterior(String sentencia, Object[] valores,
+                                                String condicion, Object... valoresCondicion) {
+        NativeQuery<?> select = getEntityManager()
+                .createNativeQuery("select id, nombre, apellido, edad, sexo, version, modificado"
+                        + " from personas where " + condicion + " for update")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(PersonaJpaEntity.class)
+                .addScalar("id", Long.class)
+                .addScalar("nombre", String.class)
+                .addScalar("apellido", String.class)
+                .addScalar("edad", Integer.class)
+                .addScalar("sexo", String.class)
+                .addScalar("version", Long.class)
+                .addScalar("modificado", Instant.class);
+        for (int i = 0; i < valoresCondicion.length; i++) {
+            select.setParameter(i + 1, valoresCondicion[i]);
+        }
+        List<?> filas = select.getResultList();
+        if (filas.isEmpty()) {
+            return Optional.empty();
+        }
+
+        NativeQuery<?> cambio = getEntityManager()
+                .createNativeQuery(sentencia + condicion)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(PersonaJpaEntity.class);
+        for (int i = 0; i < valores.length; i++) {
+            cambio.setParameter(i + 1, valores[i]);
+        }
+        for (int i = 0; i < valoresCondicion.length; i++) {
+            cambio.setParameter(valores.length + i + 1, valoresCondicion[i]);
+        }
+        cambio.executeUpdate();
+
+        Object[] columnas = (Object[]) filas.get(0);
+        return Optional.of(new PersonaVista((Long) columnas[0], (String) columnas[1], (String) columnas[2],
+                (Integer) columnas[3], (String) columnas[4], (Long) columnas[5], (Instant) columnas[6]));
+    }
+
+    /**
+     * Paginación keyset: "WHERE id > ?1 ORDER BY id LIMIT n".
+     * Usa el índice de la PK, no recorre las filas de páginas anteriores.
+     */
+    public List<PersonaJpaEntity> buscarPaginaDespuesDe(Long despuesDeId, int limite) {
+        if (despuesDeId == null) {
+            return findAll(Sort.by("id")).range(0, limite - 1).list();
+        }
+        return find("id > ?1", Sort.by("id"), despuesDeId).range(0, limite - 1).list();
+    }
+
+    /**
+     * Cursor forward-only sobre toda la tabla ordenada por ID.
+     * Las entidades se cargan en modo solo lectura (sin snapshot de dirty-checking).
+     */
+    public Stream<PersonaJpaEntity> streamAll() {
+        return findAll(Sort.by("id"))
+                .withHint(AvailableHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .withHint(AvailableHints.HINT_READ_ONLY, true)
+                .stream();
+    }
 }
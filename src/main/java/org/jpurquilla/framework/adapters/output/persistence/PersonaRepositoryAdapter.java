@@ -1,14 +1,28 @@
 package org.jpurquilla.framework.adapters.output.persistence;
 
+import org.jpurquilla.application.port.output.EstadisticasPersonas;
+import org.jpurquilla.application.port.output.FiltroPersona;
+import org.jpurquilla.application.port.output.PersonaActualizada;
 import org.jpurquilla.application.port.output.PersonaRepository;
+import org.jpurquilla.application.port.output.PersonaVista;
 import org.jpurquilla.domain.entity.Persona;
 import org.jpurquilla.domain.vo.Sexo;
+import org.jpurquilla.framework.adapters.metrics.Medido;
+import org.jpurquilla.framework.adapters.output.estadisticas.ContadoresPersona;
 import org.jpurquilla.framework.adapters.output.mapper.PersonaOutputMapper;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @ApplicationScoped
+@Medido("repositorio")
 public class PersonaRepositoryAdapter implements PersonaRepository {
     private final PersonaJpaRepository personaJpaRepository;
     private final PersonaOutputMapper personaOutputMapper;
@@ -26,6 +40,21 @@ public class PersonaRepositoryAdapter implements PersonaRepository {
         return personaOutputMapper.toDomain(personaJpaEntity);
     }
 
+    @Override
+    public List<Persona> saveAll(List<Persona> personas) {
+        List<PersonaJpaEntity> entidades = personas.stream()
+                .map(personaOutputMapper::toJpaEntity)
+                .toList();
+
+        // Los IDs salen del pool de la secuencia, así Hibernate puede agrupar los INSERT
+        personaJpaRepository.persist(entidades);
+        personaJpaRepository.flush();
+
+        return entidades.stream()
+                .map(personaOutputMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Persona> findById(Long id) {
         return this.personaJpaRepository.findByIdOptional(id)
@@ -34,15 +63,34 @@ public class PersonaRepositoryAdapter implements PersonaRepository {
     }
 
     @Override
-    public Persona update(Persona persona) {
+    public List<Persona> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return personaJpaRepository.buscarPorIds(ids)
+                .stream()
+                .map(personaOutputMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<PersonaActualizada> update(Persona persona) {
         // Paso 1: Convertir
-         PersonaJpaEntity jpaEntity = personaOutputMapper.toJpaEntity(persona);
+        PersonaJpaEntity jpaEntity = personaOutputMapper.toJpaEntity(persona);
+
+        // Paso 2: UPDATE ... WHERE id = ? [AND version = ?] (sin cargar la entity antes)
+        Instant modificado = Instant.now();
+        Optional<PersonaVista> anterior = this.personaJpaRepository.actualizar(jpaEntity, modificado);
+        if (anterior.isEmpty()) {
+            return Optional.empty();
+        }
 
-        // Paso 2: Persistir (detecta que tiene ID y hace UPDATE)
-        this.personaJpaRepository.persist(jpaEntity);
+        // Paso 3: Nueva versión: la anterior + 1 (actualizar() devuelve la fila anterior, bloqueada)
+        jpaEntity.setModificado(modificado);
+        jpaEntity.setVersion(anterior.get().version() + 1);
 
-        // Paso 3: Convertir de vuelta
-        return personaOutputMapper.toDomain(jpaEntity);
+        // Paso 4: Convertir de vuelta
+        return Optional.of(new PersonaActualizada(anterior.get(), personaOutputMapper.toDomain(jpaEntity)));
     }
 
     @Override
@@ -54,6 +102,26 @@ public class PersonaRepositoryAdapter implements PersonaRepository {
                 .toList();
     }
 
+    @Override
+    public List<Persona> findPage(Long despuesDeId, int limite) {
+        return personaJpaRepository.buscarPaginaDespuesDe(despuesDeId, limite)
+                .stream()
+                .map(personaOutputMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Stream<Persona> streamAll() {
+        EntityManager entityManager = personaJpaRepository.getEntityManager();
+        return personaJpaRepository.streamAll()
+                .map(entity -> {
+                    Persona persona = personaOutputMapper.toDomain(entity);
+                    // Se saca del contexto de persistencia para que el heap no crezca con la tabla
+                    entityManager.detach(entity);
+                    return persona;
+                });
+    }
+
     @Override
     public List<Persona> findBySexo(Sexo sexo) {
         String codigo = sexo.getCodigo();
@@ -63,14 +131,80 @@ public class PersonaRepositoryAdapter implements PersonaRepository {
     }
 
     @Override
-    public boolean deleteById(Long id) {
-        return personaJpaRepository.findByIdOptional(id)
-                .map(entity -> {
-                    // Si existe, eliminar
-                    personaJpaRepository.delete(entity);
-                    return true;
-                })
-                .orElse(false);
+    public List<Persona> findByFiltro(FiltroPersona filtro) {
+        String sexo = filtro.getSexo() != null ? filtro.getSexo().getCodigo() : null;
+        return personaJpaRepository.buscarPorFiltro(filtro.getPrefijoNombre(), filtro.getPrefijoApellido(),
+                        filtro.getEdadMinima(), filtro.getEdadMaxima(), sexo,
+                        filtro.getOrden().name().toLowerCase(Locale.ROOT), filtro.isDescendente(), filtro.getLimite())
+                .stream()
+                .map(personaOutputMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<PersonaVista> findVistaById(Long id) {
+        // Proyección directa: sin PersonaJpaEntity ni PersonaOutputMapper
+        return personaJpaRepository.buscarVistaPorId(id);
+    }
+
+    @Override
+    public List<PersonaVista> findVistasById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return personaJpaRepository.buscarVistasPorIds(ids);
+    }
+
+    @Override
+    public List<PersonaVista> findVistaPage(Long despuesDeId, int limite) {
+        return personaJpaRepository.buscarPaginaVistasDespuesDe(despuesDeId, limite);
+    }
+
+    @Override
+    public Stream<PersonaVista> streamVistas() {
+        return personaJpaRepository.streamVistas();
+    }
+
+    @Override
+    public List<PersonaVista> findVistasBySexo(Sexo sexo) {
+        return personaJpaRepository.buscarVistasPorSexo(sexo.getCodigo());
+    }
+
+    @Override
+    public List<PersonaVista> findVistasByNombre(String texto, int limite) {
+        List<String> palabras = Arrays.stream(texto.toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(palabra -> !palabra.isEmpty())
+                .toList();
+        if (palabras.isEmpty()) {
+            return List.of();
+        }
+        return personaJpaRepository.buscarVistasPorPalabras(palabras, limite);
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteById(Long id) {
+        // DELETE ... WHERE id = ? (sin cargar la entity antes)
+        return personaJpaRepository.eliminarPorId(id);
+    }
+
+    @Override
+    public Optional<PersonaVista> deleteByIdAndVersion(Long id, Long version) {
+        return personaJpaRepository.eliminarPorIdYVersion(id, version);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return personaJpaRepository.count("id = ?1", id) > 0;
+    }
+
+    @Override
+    public EstadisticasPersonas estadisticasDemograficas() {
+        ContadoresPersona contadores = new ContadoresPersona();
+        for (Object[] fila : personaJpaRepository.contarPorSexoYEdad()) {
+            Sexo sexo = fila[0] != null ? Sexo.fromCodigo((String) fila[0]) : null;
+            contadores.sumar(sexo, (Integer) fila[1], (Long) fila[2]);
+        }
+        return contadores.instantanea();
     }
 
     @Override
@@ -0,0 +1,165 @@
+package org.jpurquilla.framework.adapters.output.reactive;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jpurquilla.application.port.output.EventoPersona;
+import org.jpurquilla.application.port.output.PersonaReactiveRepository;
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+
+import java.time.OffsetDateTime;
+
+/**
+ * ADAPTADOR DE SALIDA (no bloqueante): PersonaReactiveRepositoryAdapter
+ *
+ * Implementa PersonaReactiveRepository con el cliente SQL reactivo de Vert.x
+ * sobre la MISMA BD PostgreSQL que el adaptador JPA (datasource por defecto,
+ * perfil "reactivo"): misma tabla "personas", misma secuencia "personas_seq".
+ * Lo que se escribe por /reactivo/persona se lee por /persona y viceversa.
+ *
+ * ESCRITURAS:
+ * Cada alta, actualización o baja va en una transacción junto con su evento
+ * en el outbox (persona_eventos), igual que los Use Cases bloqueantes: el
+ * flujo SSE ve los cambios de los dos caminos.
+ * El ID sale de nextval('personas_seq') sin optimizador: Hibernate usa cada
+ * valor de la secuencia como límite de un bloque de allocationSize IDs, así
+ * que un valor que toma este adaptador no cae en ningún bloque de JPA
+ * (se gasta un bloque por alta reactiva, pero no hay IDs repetidos).
+ *
+ * LISTADOS:
+ * findAll/findBySexo no traen todo el resultado a memoria: abren un cursor
+ * (PostgreSQL lo exige dentro de una transacción) y piden filas de a
+ * persona.reactivo.filas-por-lectura a medida que el suscriptor consume.
+ * La conexión vuelve al pool al terminar, fallar o cancelar el Multi.
+ *
+ * Solo existe si se compila con el perfil Maven "reactivo" (este archivo
+ * está en src/reactivo/java y el cliente PostgreSQL reactivo es una
+ * dependencia de ese perfil).
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "persona.reactivo.habilitado", stringValue = "true")
+public class PersonaReactiveRepositoryAdapter implements PersonaReactiveRepository {
+    private static final String COLUMNAS = "id, nombre, apellido, edad, sexo, version, modificado";
+    private static final String EVENTO_COLUMNAS =
+            "posicion, tipo, personaId, ocurrido, nombre, apellido, edad, sexo, version, modificado";
+
+    private final Pool pool;
+    private final int filasPorLectura;
+
+    public PersonaReactiveRepositoryAdapter(Pool pool,
+                                            @ConfigProperty(name = "persona.reactivo.filas-por-lectura", defaultValue = "500") int filasPorLectura) {
+        this.pool = pool;
+        this.filasPorLectura = filasPorLectura;
+    }
+
+    @Override
+    public Uni<Persona> save(Persona persona) {
+        return pool.withTransaction(conexion -> conexion
+                .preparedQuery("INSERT INTO personas (" + COLUMNAS + ")"
+                        + " VALUES (nextval('personas_seq'), $1, $2, $3, $4, 0, now()) RETURNING " + COLUMNAS)
+                .execute(Tuple.of(persona.getNombre(), persona.getApellido(), persona.getEdad(),
+                        persona.getSexo().getCodigo()))
+                .map(filas -> toDomain(filas.iterator().next()))
+                .call(guardada -> publicar(conexion, EventoPersona.Tipo.CREADA, guardada.getId())));
+    }
+
+    @Override
+    public Uni<Persona> findById(Long id) {
+        return pool.preparedQuery("SELECT " + COLUMNAS + " FROM personas WHERE id = $1")
+                .execute(Tuple.of(id))
+                .map(filas -> filas.iterator().hasNext() ? toDomain(filas.iterator().next()) : null);
+    }
+
+    @Override
+    public Uni<Boolean> update(Persona persona) {
+        // Misma semántica de versión que el adaptador JPA
+        return pool.withTransaction(conexion -> conexion
+                .preparedQuery("UPDATE personas SET nombre = $1, apellido = $2, edad = $3, sexo = $4,"
+                        + " version = version + 1, modificado = now() WHERE id = $5")
+                .execute(Tuple.of(persona.getNombre(), persona.getApellido(), persona.getEdad(),
+                        persona.getSexo().getCodigo(), persona.getId()))
+                .chain(filas -> filas.rowCount() == 0 ? Uni.createFrom().item(false)
+                        : publicar(conexion, EventoPersona.Tipo.ACTUALIZADA, persona.getId()).replaceWith(true)));
+    }
+
+    @Override
+    public Multi<Persona> findAll() {
+        return enCursor("SELECT " + COLUMNAS + " FROM personas ORDER BY id", Tuple.tuple());
+    }
+
+    @Override
+    public Multi<Persona> findBySexo(Sexo sexo) {
+        return enCursor("SELECT " + COLUMNAS + " FROM personas WHERE sexo = $1 ORDER BY id",
+                Tuple.of(sexo.getCodigo()));
+    }
+
+    @Override
+    public Uni<Boolean> deleteById(Long id) {
+        return pool.withTransaction(conexion -> conexion
+                .preparedQuery("DELETE FROM personas WHERE id = $1")
+                .execute(Tuple.of(id))
+                .chain(filas -> filas.rowCount() == 0 ? Uni.createFrom().item(false)
+                        : publicar(conexion, EventoPersona.Tipo.ELIMINADA, id).replaceWith(true)));
+    }
+
+    @Override
+    public Uni<Long> count() {
+        return pool.query("SELECT count(*) FROM personas")
+                .execute()
+                .map(filas -> filas.iterator().next().getLong(0));
+    }
+
+    /**
+     * Recorre la consulta con un cursor, en una conexión propia del pool.
+     *
+     * Sin commit explícito en caso de error o cancelación: al cerrar la
+     * conexión se revierte la transacción (solo lectura) y se libera el cursor.
+     */
+    private Multi<Persona> enCursor(String sql, Tuple parametros) {
+        return Multi.createFrom().resourceFromUni(pool::getConnection,
+                        (SqlConnection conexion) -> conexion.begin().onItem().transformToMulti(transaccion -> conexion
+                                .prepare(sql)
+                                .onItem().transformToMulti(sentencia ->
+                                        sentencia.createStream(filasPorLectura, parametros).toMulti())
+                                .onCompletion().call(transaccion::commit)))
+                .withFinalizer((SqlConnection conexion) -> conexion.close())
+                .map(PersonaReactiveRepositoryAdapter::toDomain);
+    }
+
+    /**
+     * Inserta el evento en el outbox con el estado de la fila después del cambio
+     * (o sin datos de persona si fue una baja), en la transacción de la conexión.
+     */
+    private static Uni<Void> publicar(SqlConnection conexion, EventoPersona.Tipo tipo, Long id) {
+        String sql = tipo == EventoPersona.Tipo.ELIMINADA
+                ? "INSERT INTO persona_eventos (posicion, tipo, personaId, ocurrido)"
+                        + " VALUES (nextval('persona_eventos_seq'), $1, $2, now())"
+                : "INSERT INTO persona_eventos (" + EVENTO_COLUMNAS + ")"
+                        + " SELECT nextval('persona_eventos_seq'), $1, id, now(), nombre, apellido, edad, sexo,"
+                        + " version, modificado FROM personas WHERE id = $2";
+        return conexion.preparedQuery(sql)
+                .execute(Tuple.of(tipo.name(), id))
+                .replaceWithVoid();
+    }
+
+    private static Persona toDomain(Row fila) {
+        Persona persona = new Persona(
+                fila.getLong("id"),
+                fila.getString("nombre"),
+                fila.getString("apellido"),
+                Sexo.fromCodigo(fila.getString("sexo")),
+                fila.getInteger("edad")
+        );
+        persona.setVersion(fila.getLong("version"));
+        OffsetDateTime modificado = fila.getOffsetDateTime("modificado");
+        persona.setModificado(modificado != null ? modificado.toInstant() : null);
+        return persona;
+    }
+}
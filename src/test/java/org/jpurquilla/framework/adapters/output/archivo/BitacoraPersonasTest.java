@@ -0,0 +1,215 @@
+package org.jpurquilla.framework.adapters.output.archivo;
+
+import org.jpurquilla.domain.entity.Persona;
+import org.jpurquilla.domain.vo.Sexo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Recuperación de la bitácora al abrir: transacciones sin confirmar,
+ * registros dañados o a medio escribir y compactaciones interrumpidas.
+ *
+ * Cada prueba escribe con una instancia y vuelve a abrir el directorio con
+ * otra, como al reiniciar la aplicación.
+ */
+class BitacoraPersonasTest {
+    // 4 registros por segmento: pocas personas alcanzan para tener varios segmentos
+    private static final long TAMANIO_SEGMENTO = 4L * RegistroPersona.TAMANIO;
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void reabreLasAltasModificacionesYBajas() {
+        BitacoraPersonas bitacora = abrir(new TreeMap<>());
+        bitacora.agregar(persona(1, "Ana", 0), BitacoraPersonas.SIN_TRANSACCION);
+        bitacora.agregar(persona(2, "Luis", 0), BitacoraPersonas.SIN_TRANSACCION);
+        bitacora.agregar(persona(1, "Ana María", 1), BitacoraPersonas.SIN_TRANSACCION);
+        bitacora.agregarBaja(2, BitacoraPersonas.SIN_TRANSACCION);
+        bitacora.agregar(persona(3, "Eva", 0), BitacoraPersonas.SIN_TRANSACCION);
+        bitacora.sincronizar();
+
+        Map<Long, Persona> tabla = new TreeMap<>();
+        BitacoraPersonas reabierta = abrir(tabla);
+
+        assertEquals(List.of(1L, 3L), List.copyOf(tabla.keySet()));
+        assertEquals("Ana María", tabla.get(1L).getNombre());
+        assertEquals(1L, tabla.get(1L).getVersion());
+        assertEquals(5, reabierta.registros());
+        assertEquals(4, reabierta.siguienteId());
+    }
+
+    @Test
+    void descartaLasTransaccionesSinConfirmacion() {
+        BitacoraPersonas bitacora = abrir(new TreeMap<>());
+        bitacora.agregar(persona(1, "Ana", 0), 1);
+        bitacora.confirmar(1);
+        // Revertida: sus registros quedan sin confirmación
+        bitacora.agregar(persona(2, "Luis", 0), 2);
+        bitacora.agregarBaja(1, 2);
+        // Confirmada después de una que sigue abierta
+        bitacora.agregar(persona(3, "Eva", 0), 3);
+        bitacora.agregar(persona(4, "Juan", 0), 4);
+        bitacora.confirmar(4);
+        // En curso al caerse la aplicación
+        bitacora.agregar(persona(1, "Ana María", 1), 5);
+        bitacora.sincronizar();
+
+        Map<Long, Persona> tabla = new TreeMap<>();
+        BitacoraPersonas reabierta = abrir(tabla);
+
+        assertEquals(List.of(1L, 4L), List.copyOf(tabla.keySet()));
+        assertEquals("Ana", tabla.get(1L).getNombre());
+        // Los IDs y números de transacción descartados no se vuelven a usar
+        assertEquals(5, reabierta.siguienteId());
+        assertEquals(6, reabierta.siguienteTransaccion());
+    }
+
+    @Test
+    void registroDaniadoTerminaLaBitacoraYSeSigueEscribiendoDesdeAhi() throws IOException {
+        BitacoraPersonas bitacora = abrir(new TreeMap<>());
+        for (long id = 1; id <= 6; id++) {
+            bitacora.agregar(persona(id, "Persona " + id, 0), BitacoraPersonas.SIN_TRANSACCION);
+        }
+        bitacora.sincronizar();
+        Path segundo = segmento(0, 1);
+        assertTrue(Files.exists(segundo));
+
+        // Un bit cambiado en el nombre del tercer registro (primer segmento)
+        Path primero = segmento(0, 0);
+        int posicion = 2 * RegistroPersona.TAMANIO + 50;
+        byte[] contenido = Files.readAllBytes(primero);
+        escribir(primero, posicion, new byte[]{(byte) (contenido[posicion] ^ 1)});
+
+        Map<Long, Persona> tabla = new TreeMap<>();
+        BitacoraPersonas reabierta = abrir(tabla);
+
+        assertEquals(List.of(1L, 2L), List.copyOf(tabla.keySet()));
+        assertEquals(2, reabierta.registros());
+        assertFalse(Files.exists(segundo), "el segmento posterior al registro dañado se descarta");
+
+        reabierta.agregar(persona(7, "Eva", 0), BitacoraPersonas.SIN_TRANSACCION);
+        reabierta.sincronizar();
+        Map<Long, Persona> despues = new TreeMap<>();
+        BitacoraPersonas otraVez = abrir(despues);
+
+        assertEquals(List.of(1L, 2L, 7L), List.copyOf(despues.keySet()));
+        assertEquals(3, otraVez.registros());
+        assertEquals(8, otraVez.siguienteId());
+    }
+
+    @Test
+    void registroAMedioEscribirSeDescarta() throws IOException {
+        BitacoraPersonas bitacora = abrir(new TreeMap<>());
+        bitacora.agregar(persona(1, "Ana", 0), 1);
+        bitacora.confirmar(1);
+        bitacora.agregar(persona(2, "Luis", 0), 2);
+        bitacora.confirmar(2);
+        bitacora.sincronizar();
+
+        // La confirmación de la transacción 2 quedó a medias: desde el byte 32 (antes del número) sin escribir
+        escribir(segmento(0, 0), 3 * RegistroPersona.TAMANIO + 32, new byte[RegistroPersona.TAMANIO - 32]);
+
+        Map<Long, Persona> tabla = new TreeMap<>();
+        BitacoraPersonas reabierta = abrir(tabla);
+
+        assertEquals(List.of(1L), List.copyOf(tabla.keySet()));
+        assertEquals(3, reabierta.registros());
+        assertEquals(3, reabierta.siguienteId());
+        assertEquals(3, reabierta.siguienteTransaccion());
+    }
+
+    @Test
+    void compactacionConservaElSiguienteId() throws IOException {
+        Map<Long, Persona> tabla = new TreeMap<>();
+        BitacoraPersonas bitacora = abrir(tabla);
+        for (long id = 1; id <= 5; id++) {
+            bitacora.agregar(persona(id, "Persona " + id, 0), BitacoraPersonas.SIN_TRANSACCION);
+            tabla.put(id, persona(id, "Persona " + id, 0));
+        }
+        bitacora.agregar(persona(2, "Persona 2", 1), 1);
+        bitacora.confirmar(1);
+        bitacora.agregarBaja(5, BitacoraPersonas.SIN_TRANSACCION);
+        tabla.put(2L, persona(2, "Persona 2", 1));
+        tabla.remove(5L);
+
+        BitacoraPersonas compactada = bitacora.reescribir(tabla.values().iterator(), TAMANIO_SEGMENTO, 6, 2);
+
+        assertEquals(5, compactada.registros());
+        assertEquals("1", Files.readString(directorio.resolve("GENERACION"), StandardCharsets.US_ASCII));
+        assertFalse(Files.exists(segmento(0, 0)));
+
+        Map<Long, Persona> reabierta = new TreeMap<>();
+        BitacoraPersonas otraVez = abrir(reabierta);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), List.copyOf(reabierta.keySet()));
+        assertEquals(1L, reabierta.get(2L).getVersion());
+        // El 5 se dio de baja: sin la cabecera se volvería a asignar
+        assertEquals(6, otraVez.siguienteId());
+        assertEquals(2, otraVez.siguienteTransaccion());
+    }
+
+    @Test
+    void compactacionInterrumpidaAntesDeCambiarLaGeneracion(@TempDir Path otro) throws IOException {
+        BitacoraPersonas bitacora = abrir(new TreeMap<>());
+        bitacora.agregar(persona(1, "Ana", 0), BitacoraPersonas.SIN_TRANSACCION);
+        bitacora.agregar(persona(2, "Luis", 0), BitacoraPersonas.SIN_TRANSACCION);
+        bitacora.agregarBaja(2, BitacoraPersonas.SIN_TRANSACCION);
+        bitacora.sincronizar();
+
+        // Segmentos de la generación 1 ya escritos (otra bitácora compactada) y
+        // GENERACION.tmp sin mover: la caída fue justo antes del move
+        BitacoraPersonas ajena = BitacoraPersonas.abrir(otro, TAMANIO_SEGMENTO, p -> { }, id -> { });
+        ajena.agregar(persona(9, "Otra", 0), BitacoraPersonas.SIN_TRANSACCION);
+        ajena.reescribir(List.of(persona(9, "Otra", 0)).iterator(), TAMANIO_SEGMENTO, 10, 1);
+        Path restoNuevo = segmento(1, 0);
+        Files.copy(otro.resolve(restoNuevo.getFileName()), restoNuevo, StandardCopyOption.REPLACE_EXISTING);
+        Files.writeString(directorio.resolve("GENERACION.tmp"), "1", StandardCharsets.US_ASCII);
+
+        Map<Long, Persona> tabla = new TreeMap<>();
+        BitacoraPersonas reabierta = abrir(tabla);
+
+        assertEquals(List.of(1L), List.copyOf(tabla.keySet()));
+        assertEquals(3, reabierta.siguienteId());
+        assertFalse(Files.exists(restoNuevo), "los segmentos de la generación no vigente se borran");
+        assertTrue(Files.exists(segmento(0, 0)));
+    }
+
+    private BitacoraPersonas abrir(Map<Long, Persona> tabla) {
+        return BitacoraPersonas.abrir(directorio, TAMANIO_SEGMENTO,
+                persona -> tabla.put(persona.getId(), persona), tabla::remove);
+    }
+
+    private Path segmento(long generacion, int numero) {
+        return directorio.resolve(String.format("personas-%06d-%06d.seg", generacion, numero));
+    }
+
+    private static void escribir(Path archivo, int posicion, byte[] bytes) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(bytes), posicion);
+            canal.force(false);
+        }
+    }
+
+    private static Persona persona(long id, String nombre, long version) {
+        Persona persona = new Persona(id, nombre, "Pérez", Sexo.FEMENINO, 30);
+        persona.setVersion(version);
+        return persona;
+    }
+}